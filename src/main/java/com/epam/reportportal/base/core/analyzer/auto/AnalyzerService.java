@@ -37,6 +37,17 @@ public interface AnalyzerService {
    */
   void runAnalyzers(Launch launch, List<Long> testItemIds, AnalyzerConfig analyzerConfig);
 
+  /**
+   * Run analyzers for items finished during the launch reporting. Unlike
+   * {@link #runAnalyzers(Launch, List, AnalyzerConfig)} the launch analysis isn't locked, so the items are analyzed
+   * even while an analysis of the whole launch is in progress.
+   *
+   * @param launch         Launch
+   * @param testItemIds    Ids of items to be analyzed
+   * @param analyzerConfig Analyzer Configuration
+   */
+  void runItemAnalyzers(Launch launch, List<Long> testItemIds, AnalyzerConfig analyzerConfig);
+
   /**
    * Checks if any analyzer is available
    *
@@ -28,4 +28,12 @@ public interface RabbitMqManagementClient {
 
   List<ExchangeInfo> getAnalyzerExchangesInfo();
 
+  /**
+   * Drops the known analyzer exchanges info if it is kept by the implementation, so it is reloaded on the next
+   * {@link #getAnalyzerExchangesInfo()} call. Should be called when interaction with an analyzer has failed.
+   */
+  default void invalidate() {
+    //nothing to invalidate by default
+  }
+
 }
@@ -42,6 +42,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -95,31 +97,39 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
             ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
             "There are no analyzer services with search logs support deployed."
         ));
-    return rabbitTemplate.convertSendAndReceiveAsType(exchangeName, SEARCH_ROUTE, rq,
-        new ParameterizedTypeReference<>() {
-        }
-    );
+    return invalidateOnFailure(
+        () -> rabbitTemplate.convertSendAndReceiveAsType(exchangeName, SEARCH_ROUTE, rq,
+            new ParameterizedTypeReference<>() {
+            }
+        ));
   }
 
   @Override
   public void removeSuggest(Long projectId) {
     resolveExchangeName(DOES_SUPPORT_SUGGEST).ifPresent(
-        suggestExchange -> rabbitTemplate.convertAndSend(suggestExchange, REMOVE_SUGGEST_ROUTE,
-            projectId
-        ));
+        suggestExchange -> invalidateOnFailure(() -> {
+          rabbitTemplate.convertAndSend(suggestExchange, REMOVE_SUGGEST_ROUTE, projectId);
+          return null;
+        }));
   }
 
   @Override
   public List<SuggestInfo> searchSuggests(SuggestRq rq) {
-    return rabbitTemplate.convertSendAndReceiveAsType(getSuggestExchangeName(), SUGGEST_ROUTE, rq,
-        new ParameterizedTypeReference<>() {
-        }
-    );
+    String exchangeName = getSuggestExchangeName();
+    return invalidateOnFailure(
+        () -> rabbitTemplate.convertSendAndReceiveAsType(exchangeName, SUGGEST_ROUTE, rq,
+            new ParameterizedTypeReference<>() {
+            }
+        ));
   }
 
   @Override
   public void handleSuggestChoice(List<SuggestInfo> suggestInfos) {
-    rabbitTemplate.convertAndSend(getSuggestExchangeName(), SUGGEST_INFO_ROUTE, suggestInfos);
+    String exchangeName = getSuggestExchangeName();
+    invalidateOnFailure(() -> {
+      rabbitTemplate.convertAndSend(exchangeName, SUGGEST_INFO_ROUTE, suggestInfos);
+      return null;
+    });
   }
 
   @Override
@@ -129,10 +139,11 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
             ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
             "There are no analyzer services with clusters creation support deployed."
         ));
-    return rabbitTemplate.convertSendAndReceiveAsType(exchangeName, CLUSTER_ROUTE,
-        generateClustersRq, new ParameterizedTypeReference<>() {
-        }
-    );
+    return invalidateOnFailure(
+        () -> rabbitTemplate.convertSendAndReceiveAsType(exchangeName, CLUSTER_ROUTE,
+            generateClustersRq, new ParameterizedTypeReference<>() {
+            }
+        ));
   }
 
   private Optional<String> resolveExchangeName(Predicate<ExchangeInfo> supportCondition) {
@@ -149,11 +160,11 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 
   private void analyze(IndexLaunch rq, Map<String, List<AnalyzedItemRs>> resultMap,
       ExchangeInfo exchangeInfo) {
-    List<AnalyzedItemRs> result =
-        rabbitTemplate.convertSendAndReceiveAsType(exchangeInfo.getName(), ANALYZE_ROUTE,
+    List<AnalyzedItemRs> result = invalidateOnFailure(
+        () -> rabbitTemplate.convertSendAndReceiveAsType(exchangeInfo.getName(), ANALYZE_ROUTE,
             Collections.singletonList(rq), new ParameterizedTypeReference<>() {
             }
-        );
+        ));
     if (!CollectionUtils.isEmpty(result)) {
       resultMap.put(
           (String) exchangeInfo.getArguments().getOrDefault(virtualHost, exchangeInfo.getName()),
@@ -163,6 +174,18 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
     }
   }
 
+  /**
+   * Drops known analyzer exchanges if the call has failed, as the failure may be caused by the outdated topology.
+   */
+  private <T> T invalidateOnFailure(Supplier<T> call) {
+    try {
+      return call.get();
+    } catch (AmqpException e) {
+      rabbitMqManagementClient.invalidate();
+      throw e;
+    }
+  }
+
   /**
    * Removes form rq analyzed items to make rq for the next analyzer.
    *
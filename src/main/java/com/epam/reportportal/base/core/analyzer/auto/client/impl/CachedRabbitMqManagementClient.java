@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.analyzer.auto.client.impl;
+
+import com.epam.reportportal.base.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Analyzer topology registry that keeps the analyzer exchanges info received from the RabbitMQ management API in
+ * memory, so analyzer and indexer clients don't call the management plugin on every request.
+ *
+ * <p>The exchanges list is reloaded in background after {@code refreshInterval} on the first access, the previous
+ * value stays available while reloading and on reloading failure. The value is dropped after {@code expiration} or
+ * on {@link #invalidate()} call, so the next access loads it synchronously.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class CachedRabbitMqManagementClient implements RabbitMqManagementClient {
+
+  static final String CACHE_NAME = "analyzerExchanges";
+
+  private static final String EXCHANGES_KEY = "exchanges";
+
+  private final LoadingCache<String, List<ExchangeInfo>> exchangesCache;
+
+  public CachedRabbitMqManagementClient(RabbitMqManagementClient delegate,
+      Duration refreshInterval, Duration expiration, MeterRegistry meterRegistry) {
+    this.exchangesCache = Caffeine.newBuilder()
+        .maximumSize(1)
+        .refreshAfterWrite(refreshInterval)
+        .expireAfterWrite(expiration)
+        .recordStats()
+        .build(key -> List.copyOf(delegate.getAnalyzerExchangesInfo()));
+    CaffeineCacheMetrics.monitor(meterRegistry, exchangesCache, CACHE_NAME);
+  }
+
+  @Override
+  public List<ExchangeInfo> getAnalyzerExchangesInfo() {
+    return exchangesCache.get(EXCHANGES_KEY);
+  }
+
+  @Override
+  public void invalidate() {
+    exchangesCache.invalidateAll();
+  }
+}
@@ -33,9 +33,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
@@ -72,48 +74,53 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
   @Override
   public void index(List<IndexLaunch> rq) {
     rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX)
-        .forEach(exchange -> {
+        .forEach(exchange -> invalidateOnFailure(() -> {
           rabbitTemplate.convertAndSend(exchange.getName(), NAMESPACE_FINDER_ROUTE, rq);
           rabbitTemplate.convertAndSend(exchange.getName(), INDEX_ROUTE, rq);
-        });
+          return null;
+        }));
   }
 
   @Override
   public List<Long> indexDefectsUpdate(Long projectId, Map<Long, String> itemsForIndexUpdate) {
     return rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX)
-        .flatMap(exchange -> ofNullable(
-            rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(), DEFECT_UPDATE_ROUTE,
-                new IndexDefectsUpdate(projectId, itemsForIndexUpdate),
+        .flatMap(exchange -> ofNullable(invalidateOnFailure(
+            () -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(),
+                DEFECT_UPDATE_ROUTE, new IndexDefectsUpdate(projectId, itemsForIndexUpdate),
                 new ParameterizedTypeReference<List<Long>>() {
                 }
-            )).orElse(Collections.emptyList()).stream()).collect(toList());
+            ))).orElse(Collections.emptyList()).stream()).collect(toList());
   }
 
   @Override
   public Integer indexItemsRemove(Long projectId, Collection<Long> itemsForIndexRemove) {
     return rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX)
-        .map(exchange -> ofNullable(
-            rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(), ITEM_REMOVE_ROUTE,
-                new IndexItemsRemove(projectId, itemsForIndexRemove),
+        .map(exchange -> ofNullable(invalidateOnFailure(
+            () -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(),
+                ITEM_REMOVE_ROUTE, new IndexItemsRemove(projectId, itemsForIndexRemove),
                 new ParameterizedTypeReference<Integer>() {
                 }
-            )).orElse(0)).mapToInt(Integer::intValue).sum();
+            ))).orElse(0)).mapToInt(Integer::intValue).sum();
   }
 
   @Override
   public void indexItemsRemoveAsync(Long projectId, Collection<Long> itemsForIndexRemove) {
     rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX).forEach(
-        exchange -> rabbitTemplate.convertAndSend(exchange.getName(), ITEM_REMOVE_ROUTE,
-            new IndexItemsRemove(projectId, itemsForIndexRemove)
-        ));
+        exchange -> invalidateOnFailure(() -> {
+          rabbitTemplate.convertAndSend(exchange.getName(), ITEM_REMOVE_ROUTE,
+              new IndexItemsRemove(projectId, itemsForIndexRemove));
+          return null;
+        }));
   }
 
   @Override
   public void indexLaunchesRemove(Long projectId, Collection<Long> launchesForIndexRemove) {
     rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX).forEach(
-        exchange -> rabbitTemplate.convertAndSend(exchange.getName(), LAUNCH_REMOVE_ROUTE,
-            new IndexLaunchRemove(projectId, launchesForIndexRemove)
-        ));
+        exchange -> invalidateOnFailure(() -> {
+          rabbitTemplate.convertAndSend(exchange.getName(), LAUNCH_REMOVE_ROUTE,
+              new IndexLaunchRemove(projectId, launchesForIndexRemove));
+          return null;
+        }));
   }
 
   @Override
@@ -121,10 +128,12 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
     Map<Integer, Long> priorityToCleanedLogsCountMapping =
         rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().collect(
             Collectors.toMap(EXCHANGE_PRIORITY::applyAsInt,
-                exchange -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(),
-                    CLEAN_ROUTE, new CleanIndexRq(index, ids), new ParameterizedTypeReference<>() {
-                    }
-                )
+                exchange -> invalidateOnFailure(
+                    () -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(),
+                        CLEAN_ROUTE, new CleanIndexRq(index, ids),
+                        new ParameterizedTypeReference<Long>() {
+                        }
+                    ))
             ));
     return priorityToCleanedLogsCountMapping.entrySet().stream().min(Map.Entry.comparingByKey())
         .orElseGet(() -> new AbstractMap.SimpleEntry<>(0, 0L)).getValue();
@@ -133,10 +142,11 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
   @Override
   public void deleteIndex(Long index) {
     rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().map(
-        exchange -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(), DELETE_ROUTE,
-            index, new ParameterizedTypeReference<Integer>() {
-            }
-        )).forEach(it -> {
+        exchange -> invalidateOnFailure(
+            () -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(), DELETE_ROUTE,
+                index, new ParameterizedTypeReference<Integer>() {
+                }
+            ))).forEach(it -> {
       if (DELETE_INDEX_SUCCESS_CODE.equals(it)) {
         LOGGER.info("Successfully deleted index '{}'", index);
       } else {
@@ -144,4 +154,16 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
       }
     });
   }
+
+  /**
+   * Drops known analyzer exchanges if the call has failed, as the failure may be caused by the outdated topology.
+   */
+  private <T> T invalidateOnFailure(Supplier<T> call) {
+    try {
+      return call.get();
+    } catch (AmqpException e) {
+      rabbitMqManagementClient.invalidate();
+      throw e;
+    }
+  }
 }
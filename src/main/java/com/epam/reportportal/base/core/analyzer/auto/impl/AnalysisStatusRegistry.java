@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.analyzer.auto.impl;
+
+import static com.epam.reportportal.base.infrastructure.persistence.jooq.Tables.SHEDLOCK;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Cluster-wide registry of running launch analyses. Every running analysis holds a lease row in the {@code shedlock}
+ * table, so a launch can't be analyzed by the same analyzer on several API instances in parallel.
+ *
+ * <p>Leases are acquired and released in separate transactions. The owning instance prolongs its leases by a
+ * heartbeat for as long as the analysis runs, however long it takes, and a lease expires after {@code ttl} only if the
+ * instance is gone.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Service
+public class AnalysisStatusRegistry {
+
+  public static final String AUTO_ANALYZER_KEY = "autoAnalyzer";
+  public static final String PATTERN_ANALYZER_KEY = "patternAnalyzer";
+  public static final String CLUSTER_KEY = "cluster";
+
+  private static final Set<String> ANALYZERS = Set.of(AUTO_ANALYZER_KEY, PATTERN_ANALYZER_KEY,
+      CLUSTER_KEY);
+
+  private static final String LEASE_PREFIX = "analysis";
+  private static final String SEPARATOR = ":";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AnalysisStatusRegistry.class);
+
+  private final DSLContext dsl;
+
+  private final Duration ttl;
+
+  private final String instanceId = UUID.randomUUID().toString();
+
+  private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+  public AnalysisStatusRegistry(DSLContext dsl,
+      @Value("${rp.analysis.lease.ttl:PT2M}") Duration ttl) {
+    this.dsl = dsl;
+    this.ttl = ttl;
+  }
+
+  /**
+   * Acquires the analysis lease of the launch if it isn't held by a running analysis.
+   *
+   * @param analyzerKey Analyzer key
+   * @param launchId    Launch id
+   * @param projectId   Project id of the launch
+   * @return <code>true</code> if the lease was acquired
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public boolean analyzeStarted(String analyzerKey, Long launchId, Long projectId) {
+    if (!ANALYZERS.contains(analyzerKey)) {
+      return false;
+    }
+    String name = leaseName(analyzerKey, launchId, projectId);
+    Instant now = Instant.now();
+    boolean acquired = dsl.insertInto(SHEDLOCK)
+        .set(SHEDLOCK.NAME, name)
+        .set(SHEDLOCK.LOCK_UNTIL, now.plus(ttl))
+        .set(SHEDLOCK.LOCKED_AT, now)
+        .set(SHEDLOCK.LOCKED_BY, instanceId)
+        .onConflict(SHEDLOCK.NAME)
+        .doUpdate()
+        .set(SHEDLOCK.LOCK_UNTIL, now.plus(ttl))
+        .set(SHEDLOCK.LOCKED_AT, now)
+        .set(SHEDLOCK.LOCKED_BY, instanceId)
+        .where(SHEDLOCK.LOCK_UNTIL.le(now))
+        .execute() > 0;
+    if (acquired) {
+      heldLeases.add(name);
+    }
+    return acquired;
+  }
+
+  /**
+   * Releases the analysis lease of the launch held by the current instance. A lease taken over by another instance is
+   * left to its owner.
+   *
+   * @param analyzerKey Analyzer key
+   * @param launchId    Launch id
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void analyzeFinished(String analyzerKey, Long launchId) {
+    String prefix = launchLeasePrefix(analyzerKey, launchId);
+    heldLeases.removeIf(name -> name.startsWith(prefix));
+    dsl.deleteFrom(SHEDLOCK)
+        .where(SHEDLOCK.NAME.startsWith(prefix))
+        .and(SHEDLOCK.LOCKED_BY.eq(instanceId))
+        .execute();
+  }
+
+  public boolean containsLaunchId(String analyzerKey, Long launchId) {
+    return dsl.fetchExists(SHEDLOCK,
+        SHEDLOCK.NAME.startsWith(launchLeasePrefix(analyzerKey, launchId))
+            .and(SHEDLOCK.LOCK_UNTIL.gt(Instant.now())));
+  }
+
+  public boolean containsProjectId(String analyzerKey, Long projectId) {
+    return dsl.fetchExists(SHEDLOCK,
+        SHEDLOCK.NAME.startsWith(String.join(SEPARATOR, LEASE_PREFIX, analyzerKey, ""))
+            .and(SHEDLOCK.NAME.endsWith(SEPARATOR + projectId))
+            .and(SHEDLOCK.LOCK_UNTIL.gt(Instant.now())));
+  }
+
+  public Set<String> getStartedAnalyzers(Long launchId) {
+    return dsl.select(SHEDLOCK.NAME)
+        .from(SHEDLOCK)
+        .where(SHEDLOCK.NAME.startsWith(LEASE_PREFIX + SEPARATOR))
+        .and(SHEDLOCK.NAME.contains(SEPARATOR + launchId + SEPARATOR))
+        .and(SHEDLOCK.LOCK_UNTIL.gt(Instant.now()))
+        .fetch(SHEDLOCK.NAME)
+        .stream()
+        .map(name -> name.split(SEPARATOR))
+        .filter(parts -> parts.length == 4 && parts[2].equals(String.valueOf(launchId)))
+        .map(parts -> parts[1])
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Loads started analyzers of several launches by a single query.
+   *
+   * @param launchIds Launch ids
+   * @return Keys of the started analyzers mapped by launch id, launches without running analyses are absent
+   */
+  public Map<Long, Set<String>> getStartedAnalyzers(Collection<Long> launchIds) {
+    if (launchIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return dsl.select(SHEDLOCK.NAME)
+        .from(SHEDLOCK)
+        .where(SHEDLOCK.NAME.startsWith(LEASE_PREFIX + SEPARATOR))
+        .and(DSL.splitPart(SHEDLOCK.NAME, SEPARATOR, 3)
+            .in(launchIds.stream().map(String::valueOf).collect(Collectors.toSet())))
+        .and(SHEDLOCK.LOCK_UNTIL.gt(Instant.now()))
+        .fetch(SHEDLOCK.NAME)
+        .stream()
+        .map(name -> name.split(SEPARATOR))
+        .filter(parts -> parts.length == 4)
+        .collect(Collectors.groupingBy(parts -> Long.valueOf(parts[2]),
+            Collectors.mapping(parts -> parts[1], Collectors.toSet())));
+  }
+
+  public Set<String> getAnalyzers() {
+    return ANALYZERS;
+  }
+
+  /**
+   * Prolongs the leases of the analyses running on the current instance. Leases taken over by another instance are
+   * forgotten.
+   */
+  @Scheduled(fixedDelayString = "${rp.analysis.lease.heartbeat:PT30S}")
+  @Transactional
+  public void heartbeat() {
+    Set<String> leases = Set.copyOf(heldLeases);
+    if (leases.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    Set<String> prolonged = Set.copyOf(dsl.update(SHEDLOCK)
+        .set(SHEDLOCK.LOCK_UNTIL, now.plus(ttl))
+        .where(SHEDLOCK.NAME.in(leases))
+        .and(SHEDLOCK.LOCKED_BY.eq(instanceId))
+        .returningResult(SHEDLOCK.NAME)
+        .fetch(SHEDLOCK.NAME));
+    leases.stream().filter(name -> !prolonged.contains(name)).forEach(heldLeases::remove);
+    LOGGER.debug("Prolonged {} analysis leases", prolonged.size());
+  }
+
+  private String leaseName(String analyzerKey, Long launchId, Long projectId) {
+    return String.join(SEPARATOR, LEASE_PREFIX, analyzerKey, String.valueOf(launchId),
+        String.valueOf(projectId));
+  }
+
+  private String launchLeasePrefix(String analyzerKey, Long launchId) {
+    return String.join(SEPARATOR, LEASE_PREFIX, analyzerKey, String.valueOf(launchId), "");
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.analyzer.auto.impl;
+
+import static com.epam.reportportal.base.ws.converter.converters.TestItemConverter.TO_ACTIVITY_RESOURCE;
+import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import com.epam.reportportal.base.core.events.domain.ItemIssueTypeDefinedEvent;
+import com.epam.reportportal.base.core.events.domain.LinkTicketEvent;
+import com.epam.reportportal.base.core.item.impl.IssueTypeHandler;
+import com.epam.reportportal.base.core.project.ProjectService;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueEntity;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueType;
+import com.epam.reportportal.base.infrastructure.persistence.entity.project.Project;
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.epam.reportportal.base.model.activity.TestItemActivityResource;
+import com.epam.reportportal.base.model.analyzer.AnalyzedItemRs;
+import com.epam.reportportal.base.model.analyzer.RelevantItemInfo;
+import com.epam.reportportal.base.ws.converter.builders.IssueEntityBuilder;
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies issues found by analyzers to the analyzed test items. Items, their retry parents and relevant items are
+ * loaded with a couple of queries for the whole analyzer response, issue types are resolved once per locator and
+ * the changed items are saved together.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Service
+public class AnalyzerIssueApplicationService {
+
+  private static final Logger LOGGER = LogManager.getLogger(
+      AnalyzerIssueApplicationService.class.getName());
+
+  private final TestItemRepository testItemRepository;
+
+  private final IssueTypeHandler issueTypeHandler;
+
+  private final ProjectService projectService;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public AnalyzerIssueApplicationService(TestItemRepository testItemRepository,
+      IssueTypeHandler issueTypeHandler, ProjectService projectService,
+      ApplicationEventPublisher eventPublisher) {
+    this.testItemRepository = testItemRepository;
+    this.issueTypeHandler = issueTypeHandler;
+    this.projectService = projectService;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Update issue types for analyzed items and publish events for the updated ones
+   *
+   * @param projectId   Project id
+   * @param analyzedMap Results of analyzing grouped by analyzer instance
+   * @return List of updated items
+   */
+  @Transactional
+  public List<TestItem> applyIssues(Long projectId, Map<String, List<AnalyzedItemRs>> analyzedMap) {
+    List<AnalyzedItemRs> analyzedItems = analyzedMap.values().stream()
+        .flatMap(Collection::stream)
+        .toList();
+    if (analyzedItems.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, TestItem> itemsById = loadItems(analyzedItems);
+    Map<String, IssueType> issueTypesByLocator = new HashMap<>();
+    Project project = projectService.findProjectById(projectId);
+
+    List<TestItem> updated = new ArrayList<>();
+    List<ApplicationEvent> events = new ArrayList<>();
+    analyzedMap.forEach((analyzerInstance, rs) -> rs.forEach(analyzed -> {
+      TestItem testItem = itemsById.get(analyzed.getItemId());
+      if (testItem == null) {
+        return;
+      }
+      LOGGER.debug("Analysis has found a match: {}", analyzed);
+      if (testItem.getRetryOf() != null) {
+        LOGGER.info("Analyzed item is retry {}, replacing with original {} for update",
+            testItem.getItemId(), testItem.getRetryOf());
+        testItem = ofNullable(itemsById.get(testItem.getRetryOf()))
+            .orElseThrow(() -> new ReportPortalException(ErrorType.NOT_FOUND));
+      }
+      if (!testItem.getItemResults().getIssue().getIssueType().getLocator()
+          .equals(analyzed.getLocator())) {
+        TestItemActivityResource before = TO_ACTIVITY_RESOURCE.apply(testItem, projectId);
+        IssueType issueType = issueTypesByLocator.computeIfAbsent(analyzed.getLocator(),
+            locator -> issueTypeHandler.defineIssueType(projectId, locator));
+        RelevantItemInfo relevantItemInfo = updateTestItemIssue(issueType, analyzed, testItem,
+            itemsById);
+        TestItemActivityResource after = TO_ACTIVITY_RESOURCE.apply(testItem, projectId);
+        updated.add(testItem);
+
+        events.add(new ItemIssueTypeDefinedEvent(before, after, analyzerInstance, relevantItemInfo,
+            project.getOrganizationId()));
+        if (after.getTickets() != null) {
+          events.add(new LinkTicketEvent(before, after, analyzerInstance,
+              project.getOrganizationId()));
+        }
+      }
+    }));
+
+    testItemRepository.saveAll(updated);
+    events.forEach(eventPublisher::publishEvent);
+    return updated;
+  }
+
+  /**
+   * Loads analyzed and relevant items with their retry parents.
+   */
+  private Map<Long, TestItem> loadItems(List<AnalyzedItemRs> analyzedItems) {
+    Set<Long> ids = analyzedItems.stream()
+        .flatMap(rs -> Stream.of(rs.getItemId(), rs.getRelevantItemId()))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<Long, TestItem> itemsById = testItemRepository.findAllById(ids).stream()
+        .collect(toMap(TestItem::getItemId, identity()));
+
+    Set<Long> retryParentIds = itemsById.values().stream()
+        .map(TestItem::getRetryOf)
+        .filter(Objects::nonNull)
+        .filter(id -> !itemsById.containsKey(id))
+        .collect(Collectors.toSet());
+    if (!retryParentIds.isEmpty()) {
+      testItemRepository.findAllById(retryParentIds)
+          .forEach(item -> itemsById.put(item.getItemId(), item));
+    }
+    return itemsById;
+  }
+
+  /**
+   * Updates issue for a specified test item
+   *
+   * @param issueType - Issue type found by analyzer
+   * @param rs        - Response from an analyzer
+   * @param testItem  - Test item to be updated
+   * @param itemsById - Loaded items
+   * @return Info about the relevant item
+   */
+  private RelevantItemInfo updateTestItemIssue(IssueType issueType, AnalyzedItemRs rs,
+      TestItem testItem, Map<Long, TestItem> itemsById) {
+    IssueEntity issueEntity = new IssueEntityBuilder(
+        testItem.getItemResults().getIssue()).addIssueType(issueType)
+        .addIgnoreFlag(testItem.getItemResults().getIssue().getIgnoreAnalyzer())
+        .addAutoAnalyzedFlag(true)
+        .get();
+    issueEntity.setIssueId(testItem.getItemId());
+    issueEntity.setTestItemResults(testItem.getItemResults());
+    testItem.getItemResults().setIssue(issueEntity);
+
+    RelevantItemInfo relevantItemInfo = null;
+    if (rs.getRelevantItemId() != null) {
+      TestItem relevantItem = itemsById.get(rs.getRelevantItemId());
+      if (relevantItem != null) {
+        if (relevantItem.getRetryOf() != null) {
+          relevantItem = itemsById.getOrDefault(relevantItem.getRetryOf(), relevantItem);
+        }
+        relevantItemInfo = updateIssueFromRelevantItem(issueEntity, relevantItem);
+      } else {
+        LOGGER.error(ErrorType.TEST_ITEM_NOT_FOUND.getDescription(), rs.getRelevantItemId());
+      }
+    }
+
+    return relevantItemInfo;
+  }
+
+  /**
+   * Updates issue with values are taken from most relevant item
+   *
+   * @param issue        Issue to update
+   * @param relevantItem Relevant item
+   */
+  private RelevantItemInfo updateIssueFromRelevantItem(IssueEntity issue, TestItem relevantItem) {
+    ofNullable(relevantItem.getItemResults().getIssue()).ifPresent(relevantIssue -> {
+      issue.setIssueDescription(relevantIssue.getIssueDescription());
+      issue.setTickets(Sets.newHashSet(relevantIssue.getTickets()));
+    });
+
+    return AnalyzerUtils.TO_RELEVANT_ITEM_INFO.apply(relevantItem);
+  }
+}
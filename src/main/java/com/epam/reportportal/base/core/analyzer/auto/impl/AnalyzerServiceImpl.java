@@ -16,99 +16,130 @@
 
 package com.epam.reportportal.base.core.analyzer.auto.impl;
 
-import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.AUTO_ANALYZER_KEY;
 import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum.SKIPPED;
-import static com.epam.reportportal.base.ws.converter.converters.TestItemConverter.TO_ACTIVITY_RESOURCE;
-import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 
 import com.epam.reportportal.base.core.analytics.DefectUpdateStatisticsService;
 import com.epam.reportportal.base.core.analyzer.auto.AnalyzerService;
 import com.epam.reportportal.base.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.reportportal.base.core.analyzer.auto.impl.preparer.LaunchPreparerService;
-import com.epam.reportportal.base.core.events.domain.ItemIssueTypeDefinedEvent;
-import com.epam.reportportal.base.core.events.domain.LinkTicketEvent;
-import com.epam.reportportal.base.core.item.impl.IssueTypeHandler;
-import com.epam.reportportal.base.core.project.ProjectService;
 import com.epam.reportportal.base.infrastructure.model.analyzer.IndexLaunch;
 import com.epam.reportportal.base.infrastructure.model.project.AnalyzerConfig;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.AnalyzeMode;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueEntity;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueType;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
-import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
-import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
-import com.epam.reportportal.base.model.activity.TestItemActivityResource;
 import com.epam.reportportal.base.model.analyzer.AnalyzedItemRs;
-import com.epam.reportportal.base.model.analyzer.RelevantItemInfo;
-import com.epam.reportportal.base.ws.converter.builders.IssueEntityBuilder;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Sets;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.collections.MapUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
- * Default implementation of {@link AnalyzerService}.
+ * Default implementation of {@link AnalyzerService}. Items are prepared and analyzer results are applied in separate
+ * transactions, so no database connection is held while waiting for the analyzer.
  *
  * @author Ivan Sharamet
  * @author Pavel Bortnik
  */
 @Service
-@Transactional
 public class AnalyzerServiceImpl implements AnalyzerService {
 
   private static final Logger LOGGER = LogManager.getLogger(AnalyzerServiceImpl.class.getName());
 
-  private final AnalyzerStatusCache analyzerStatusCache;
+  private final AnalysisStatusRegistry analysisStatusRegistry;
 
   private final LaunchPreparerService launchPreparerService;
 
   private final AnalyzerServiceClient analyzerServicesClient;
 
-  private final IssueTypeHandler issueTypeHandler;
-
   private final TestItemRepository testItemRepository;
 
   private final LaunchRepository launchRepository;
 
-  private final ApplicationEventPublisher eventPublisher;
-
   private final Integer itemsBatchSize;
 
   private final DefectUpdateStatisticsService defectUpdateStatisticsService;
-  private final ProjectService projectService;
+  private final AnalyzerIssueApplicationService analyzerIssueApplicationService;
+
+  private final TaskExecutor analyzerRequestTaskExecutor;
+
+  private final Duration permitTimeout;
+
+  /**
+   * Weak values let semaphores of idle or deleted projects be collected, a semaphore in use is referenced by its
+   * pending request.
+   */
+  private final LoadingCache<Long, Semaphore> projectPermits;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final TransactionTemplate readOnlyTransactionTemplate;
+
+  private final MeterRegistry meterRegistry;
+  private final Timer prepareTimer;
+  private final Timer analyzeTimer;
+  private final Timer updateTimer;
 
   @Autowired
   public AnalyzerServiceImpl(
       @Value("${rp.environment.variable.item-analyze.batch-size}") Integer itemsBatchSize,
-      AnalyzerStatusCache analyzerStatusCache, LaunchPreparerService launchPreparerService,
-      AnalyzerServiceClient analyzerServicesClient, IssueTypeHandler issueTypeHandler,
-      TestItemRepository testItemRepository,
-      ApplicationEventPublisher eventPublisher, LaunchRepository launchRepository,
-      DefectUpdateStatisticsService defectUpdateStatisticsService, ProjectService projectService) {
+      @Value("${rp.environment.variable.item-analyze.project-concurrency}")
+      Integer projectConcurrency,
+      @Value("${rp.environment.variable.item-analyze.permit-timeout}") Duration permitTimeout,
+      AnalysisStatusRegistry analysisStatusRegistry, LaunchPreparerService launchPreparerService,
+      AnalyzerServiceClient analyzerServicesClient, TestItemRepository testItemRepository,
+      LaunchRepository launchRepository, DefectUpdateStatisticsService defectUpdateStatisticsService,
+      AnalyzerIssueApplicationService analyzerIssueApplicationService,
+      @Qualifier("analyzerRequestTaskExecutor") TaskExecutor analyzerRequestTaskExecutor,
+      MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+    this.permitTimeout = permitTimeout;
+    this.projectPermits = Caffeine.newBuilder()
+        .weakValues()
+        .build(projectId -> new Semaphore(projectConcurrency));
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+    this.analyzerRequestTaskExecutor = analyzerRequestTaskExecutor;
+    this.meterRegistry = meterRegistry;
+    this.prepareTimer = stageTimer("prepare", meterRegistry);
+    this.analyzeTimer = stageTimer("analyze", meterRegistry);
+    this.updateTimer = stageTimer("update", meterRegistry);
     this.itemsBatchSize = itemsBatchSize;
-    this.analyzerStatusCache = analyzerStatusCache;
+    this.analysisStatusRegistry = analysisStatusRegistry;
     this.launchPreparerService = launchPreparerService;
     this.analyzerServicesClient = analyzerServicesClient;
-    this.issueTypeHandler = issueTypeHandler;
     this.testItemRepository = testItemRepository;
-    this.eventPublisher = eventPublisher;
     this.launchRepository = launchRepository;
     this.defectUpdateStatisticsService = defectUpdateStatisticsService;
-    this.projectService = projectService;
+    this.analyzerIssueApplicationService = analyzerIssueApplicationService;
+  }
+
+  private static Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+    return Timer.builder("rp.analyzer.partition")
+        .description("Auto-analysis partition processing time by stage")
+        .tag("stage", stage)
+        .register(meterRegistry);
   }
 
   @Override
@@ -118,148 +149,127 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 
   @Override
   public void runAnalyzers(Launch launch, List<Long> testItemIds, AnalyzerConfig analyzerConfig) {
+    if (!analysisStatusRegistry.analyzeStarted(AUTO_ANALYZER_KEY, launch.getId(),
+        launch.getProjectId())) {
+      LOGGER.warn("Auto-analysis of launch with id '{}' is already in progress", launch.getId());
+      return;
+    }
+    try {
+      analyzeItems(launch, testItemIds, analyzerConfig);
+    } finally {
+      analysisStatusRegistry.analyzeFinished(AUTO_ANALYZER_KEY, launch.getId());
+    }
+  }
+
+  @Override
+  public void runItemAnalyzers(Launch launch, List<Long> testItemIds,
+      AnalyzerConfig analyzerConfig) {
+    analyzeItems(launch, testItemIds, analyzerConfig);
+  }
+
+  private void analyzeItems(Launch launch, List<Long> testItemIds, AnalyzerConfig analyzerConfig) {
     try {
-      analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, launch.getId(), launch.getProjectId());
       Optional<Long> previousLaunchId = findPreviousLaunchId(launch, analyzerConfig);
-      Iterables.partition(testItemIds, itemsBatchSize)
-          .forEach(partition -> analyzeItemsPartition(launch, partition, analyzerConfig,
-              previousLaunchId));
+      Optional<AnalysisPartition> inFlight = Optional.empty();
+      for (List<Long> partition : Iterables.partition(testItemIds, itemsBatchSize)) {
+        Optional<AnalysisPartition> next = sendPartition(launch, partition, analyzerConfig,
+            previousLaunchId);
+        inFlight.ifPresent(it -> applyPartitionResults(launch, it));
+        inFlight = next;
+      }
+      inFlight.ifPresent(it -> applyPartitionResults(launch, it));
     } catch (Exception e) {
       LOGGER.error(e.getMessage(), e);
-    } finally {
-      analyzerStatusCache.analyzeFinished(AUTO_ANALYZER_KEY, launch.getId());
     }
   }
 
   /**
-   * Prepare and analyze the number of provided test item ids.
+   * Prepare the number of provided test item ids and send them to analyzer. Results of the previous partition are
+   * applied while the analyzer processes the current one.
    *
    * @param launch         Launch
    * @param testItemIds    Item ids for analyzing
    * @param analyzerConfig Analyzer config
+   * @return Partition with pending analyzer response if there is something to analyze
    */
-  private void analyzeItemsPartition(Launch launch, List<Long> testItemIds,
+  private Optional<AnalysisPartition> sendPartition(Launch launch, List<Long> testItemIds,
       AnalyzerConfig analyzerConfig, Optional<Long> previousLaunchId) {
     LOGGER.info("Start analysis of '{}' items for launch with id '{}'", testItemIds.size(),
         launch.getId());
-    List<TestItem> toAnalyze = testItemRepository.findAllById(testItemIds);
-    Optional<IndexLaunch> rqLaunch = launchPreparerService.prepare(launch, toAnalyze,
-        analyzerConfig);
-    rqLaunch.ifPresent(rq -> {
-      int amountToAnalyze = rq.getTestItems().size();
-      previousLaunchId.ifPresent(rq::setPreviousLaunchId);
-      Map<String, List<AnalyzedItemRs>> analyzedMap = analyzerServicesClient.analyze(rq);
-
-      if (!MapUtils.isEmpty(analyzedMap)) {
-        analyzedMap.forEach(
-            (key, value) -> updateTestItems(key, value, toAnalyze, launch.getProjectId()));
-      }
-
-      // save data for analytics
+    Timer.Sample prepareSample = Timer.start(meterRegistry);
+    Optional<PreparedPartition> prepared = readOnlyTransactionTemplate.execute(status -> {
+      List<TestItem> toAnalyze = testItemRepository.findAllById(testItemIds);
       int skipped = (int) toAnalyze.stream()
           .filter(ti -> ti.getItemResults().getStatus().equals(SKIPPED))
           .count();
-      int analyzedAmount = (int) analyzedMap.values().stream()
-          .mapToLong(Collection::size)
-          .sum();
-
-      defectUpdateStatisticsService
-          .saveAutoAnalyzedDefectStatistics(amountToAnalyze, analyzedAmount, skipped,
-              rq.getProjectId());
+      return launchPreparerService.prepare(launch, toAnalyze, analyzerConfig)
+          .map(rq -> new PreparedPartition(rq, skipped));
+    });
+    prepareSample.stop(prepareTimer);
+    return prepared.flatMap(partition -> {
+      previousLaunchId.ifPresent(partition.rq()::setPreviousLaunchId);
+      return analyze(partition.rq()).map(
+          response -> new AnalysisPartition(partition.rq(), partition.skipped(), response));
     });
   }
 
-
   /**
-   * Update issue types for analyzed items and posted events for updated
+   * Sends the request to analyzer without blocking the caller. The number of requests in flight is limited per
+   * project, so a huge launch can't occupy the analyzer on behalf of the whole instance.
    *
-   * @param rs        Results of analyzing
-   * @param testItems items to be updated
-   * @return List of updated items
+   * @param rq Prepared launch
+   * @return Analyzer response, empty if the project permit isn't acquired within the timeout
    */
-  private List<TestItem> updateTestItems(String analyzerInstance, List<AnalyzedItemRs> rs,
-      List<TestItem> testItems, Long projectId) {
-    return rs.stream().map(analyzed -> {
-      Optional<TestItem> toUpdate = testItemRepository.findById(analyzed.getItemId());
-      toUpdate.ifPresent(testItem -> {
-        LOGGER.debug("Analysis has found a match: {}", analyzed);
-        if (testItem.getRetryOf() != null) {
-          LOGGER.info("Analyzed item is retry {}, replacing with original {} for update",
-              testItem.getItemId(), testItem.getRetryOf());
-          testItem = testItemRepository.findById(testItem.getRetryOf())
-              .orElseThrow(() -> new ReportPortalException(ErrorType.NOT_FOUND));
-        }
-        if (!testItem.getItemResults().getIssue().getIssueType().getLocator()
-            .equals(analyzed.getLocator())) {
-          TestItemActivityResource before = TO_ACTIVITY_RESOURCE.apply(testItem, projectId);
-          RelevantItemInfo relevantItemInfo = updateTestItemIssue(projectId, analyzed, testItem);
-          TestItemActivityResource after = TO_ACTIVITY_RESOURCE.apply(testItem, projectId);
-
-          testItemRepository.save(testItem);
-          var project = projectService.findProjectById(projectId);
-          eventPublisher.publishEvent(
-              new ItemIssueTypeDefinedEvent(before, after, analyzerInstance, relevantItemInfo,
-                  project.getOrganizationId()));
-          ofNullable(after.getTickets()).ifPresent(
-              it -> eventPublisher.publishEvent(
-                  new LinkTicketEvent(before, after, analyzerInstance,
-                      project.getOrganizationId())));
-        }
-      });
-      return toUpdate;
-    }).filter(Optional::isPresent).map(Optional::get).collect(toList());
+  private Optional<CompletableFuture<Map<String, List<AnalyzedItemRs>>>> analyze(IndexLaunch rq) {
+    Semaphore permits = projectPermits.get(rq.getProjectId());
+    if (!tryAcquire(permits)) {
+      LOGGER.warn("Analyzer is busy with other requests of project '{}', skip '{}' items of launch '{}'",
+          rq.getProjectId(), rq.getTestItems().size(), rq.getLaunchId());
+      return Optional.empty();
+    }
+    Timer.Sample analyzeSample = Timer.start(meterRegistry);
+    try {
+      return Optional.of(CompletableFuture.supplyAsync(() -> analyzerServicesClient.analyze(rq),
+          analyzerRequestTaskExecutor).whenComplete((rs, e) -> {
+        analyzeSample.stop(analyzeTimer);
+        permits.release();
+      }));
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
   }
 
-  /**
-   * Updates issue for a specified test item
-   *
-   * @param projectId - Project id
-   * @param rs        - Response from an analyzer
-   * @param testItem  - Test item to be updated
-   * @return Updated issue entity
-   */
-  private RelevantItemInfo updateTestItemIssue(Long projectId, AnalyzedItemRs rs,
-      TestItem testItem) {
-    IssueType issueType = issueTypeHandler.defineIssueType(projectId, rs.getLocator());
-    IssueEntity issueEntity = new IssueEntityBuilder(
-        testItem.getItemResults().getIssue()).addIssueType(issueType)
-        .addIgnoreFlag(testItem.getItemResults().getIssue().getIgnoreAnalyzer())
-        .addAutoAnalyzedFlag(true)
-        .get();
-    issueEntity.setIssueId(testItem.getItemId());
-    issueEntity.setTestItemResults(testItem.getItemResults());
-    testItem.getItemResults().setIssue(issueEntity);
-
-    RelevantItemInfo relevantItemInfo = null;
-    if (rs.getRelevantItemId() != null) {
-      Optional<TestItem> relevantItemOptional = testItemRepository.findById(rs.getRelevantItemId());
-      if (relevantItemOptional.isPresent()) {
-        if (relevantItemOptional.get().getRetryOf() != null) {
-          relevantItemOptional = testItemRepository.findById(
-              relevantItemOptional.get().getRetryOf());
-        }
-        relevantItemInfo = updateIssueFromRelevantItem(issueEntity, relevantItemOptional.get());
-      } else {
-        LOGGER.error(ErrorType.TEST_ITEM_NOT_FOUND.getDescription(), rs.getRelevantItemId());
-      }
+  private boolean tryAcquire(Semaphore permits) {
+    try {
+      return permits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
-
-    return relevantItemInfo;
   }
 
-  /**
-   * Updates issue with values are taken from most relevant item
-   *
-   * @param issue        Issue to update
-   * @param relevantItem Relevant item
-   */
-  private RelevantItemInfo updateIssueFromRelevantItem(IssueEntity issue, TestItem relevantItem) {
-    ofNullable(relevantItem.getItemResults().getIssue()).ifPresent(relevantIssue -> {
-      issue.setIssueDescription(relevantIssue.getIssueDescription());
-      issue.setTickets(Sets.newHashSet(relevantIssue.getTickets()));
-    });
+  private void applyPartitionResults(Launch launch, AnalysisPartition partition) {
+    Map<String, List<AnalyzedItemRs>> analyzedMap = partition.response().join();
+    Timer.Sample updateSample = Timer.start(meterRegistry);
+    IndexLaunch rq = partition.rq();
+    int amountToAnalyze = rq.getTestItems().size();
 
-    return AnalyzerUtils.TO_RELEVANT_ITEM_INFO.apply(relevantItem);
+    transactionTemplate.executeWithoutResult(status -> {
+      if (!MapUtils.isEmpty(analyzedMap)) {
+        analyzerIssueApplicationService.applyIssues(launch.getProjectId(), analyzedMap);
+      }
+
+      // save data for analytics
+      int analyzedAmount = (int) analyzedMap.values().stream()
+          .mapToLong(Collection::size)
+          .sum();
+
+      defectUpdateStatisticsService
+          .saveAutoAnalyzedDefectStatistics(amountToAnalyze, analyzedAmount, partition.skipped(),
+              rq.getProjectId());
+    });
+    updateSample.stop(updateTimer);
   }
 
   /**
@@ -273,4 +283,13 @@ public class AnalyzerServiceImpl implements AnalyzerService {
     }
     return Optional.empty();
   }
+
+  private record PreparedPartition(IndexLaunch rq, int skipped) {
+
+  }
+
+  private record AnalysisPartition(IndexLaunch rq, int skipped,
+                                   CompletableFuture<Map<String, List<AnalyzedItemRs>>> response) {
+
+  }
 }
@@ -29,10 +29,12 @@ import java.util.List;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
- * Gathers test item candidates and invokes the analysis service.
+ * Gathers test item candidates and invokes the analysis service. Candidates are collected in a read-only transaction
+ * which is closed before the analysis starts, so waiting for the analyzer doesn't hold a database connection.
  *
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -44,23 +46,27 @@ public class CollectingAutoAnalysisStarter implements LaunchAutoAnalysisStarter
   private final AnalyzeCollectorFactory analyzeCollectorFactory;
   private final AnalyzerService analyzerService;
   private final LogIndexer logIndexer;
+  private final TransactionTemplate readOnlyTransactionTemplate;
 
   public CollectingAutoAnalysisStarter(GetLaunchHandler getLaunchHandler,
       AnalyzeCollectorFactory analyzeCollectorFactory,
-      AnalyzerService analyzerService, LogIndexer logIndexer) {
+      AnalyzerService analyzerService, LogIndexer logIndexer,
+      PlatformTransactionManager transactionManager) {
     this.getLaunchHandler = getLaunchHandler;
     this.analyzeCollectorFactory = analyzeCollectorFactory;
     this.analyzerService = analyzerService;
     this.logIndexer = logIndexer;
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
   }
 
   @Override
-  @Transactional
   public void start(StartLaunchAutoAnalysisConfig config) {
     final Launch launch = getLaunchHandler.get(config.getLaunchId());
 
-    final List<Long> itemIds = collectItemsByModes(launch, config.getAnalyzeItemsModes(), config.getUserId(),
-        config.getUserLogin());
+    final List<Long> itemIds = readOnlyTransactionTemplate.execute(
+        status -> collectItemsByModes(launch, config.getAnalyzeItemsModes(), config.getUserId(),
+            config.getUserLogin()));
 
     analyzerService.runAnalyzers(launch, itemIds, config.getAnalyzerConfig());
     logIndexer.indexItemsLogs(launch.getProjectId(), launch.getId(), itemIds,
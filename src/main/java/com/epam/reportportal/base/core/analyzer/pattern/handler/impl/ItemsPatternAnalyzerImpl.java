@@ -16,24 +16,35 @@
 
 package com.epam.reportportal.base.core.analyzer.pattern.handler.impl;
 
+import com.epam.reportportal.base.core.analyzer.pattern.matcher.MultiPatternMatcher;
 import com.epam.reportportal.base.core.analyzer.pattern.selector.PatternAnalysisSelector;
 import com.epam.reportportal.base.core.events.domain.PatternMatchedEvent;
 import com.epam.reportportal.base.core.project.ProjectService;
 import com.epam.reportportal.base.infrastructure.persistence.dao.PatternTemplateRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.LogLevel;
 import com.epam.reportportal.base.infrastructure.persistence.entity.pattern.PatternTemplate;
 import com.epam.reportportal.base.infrastructure.persistence.entity.pattern.PatternTemplateTestItemPojo;
 import com.epam.reportportal.base.infrastructure.persistence.entity.pattern.PatternTemplateType;
 import com.epam.reportportal.base.model.activity.PatternTemplateActivityResource;
 import com.epam.reportportal.base.ws.converter.converters.PatternTemplateConverter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -54,6 +65,8 @@ public class ItemsPatternAnalyzerImpl {
 
   private final ApplicationEventPublisher eventPublisher;
 
+  private final PlatformTransactionManager transactionManager;
+
   public void analyzeByPattern(PatternTemplate pattern, Long launchId, List<Long> itemIds) {
     List<Long> filtered = filterAlreadyMatched(pattern, itemIds);
     PatternAnalysisSelector patternAnalysisSelector = patternAnalysisSelectorMapping.get(
@@ -66,6 +79,43 @@ public class ItemsPatternAnalyzerImpl {
     }
   }
 
+  /**
+   * Analyzes items by all the provided patterns with a single read of their logs. Messages are evaluated by a
+   * {@link MultiPatternMatcher}, so every message is scanned once for all the STRING patterns.
+   *
+   * @param patterns Pattern templates of the project
+   * @param launchId Launch id
+   * @param itemIds  Item ids to analyze
+   */
+  public void analyzeByPatterns(List<PatternTemplate> patterns, Long launchId, List<Long> itemIds) {
+    Map<Long, Set<Long>> candidates = new HashMap<>();
+    patterns.forEach(pattern -> candidates.put(pattern.getId(),
+        new HashSet<>(filterAlreadyMatched(pattern, itemIds))));
+    Set<Long> toAnalyze = candidates.values().stream()
+        .flatMap(Collection::stream)
+        .collect(Collectors.toSet());
+    if (toAnalyze.isEmpty()) {
+      return;
+    }
+
+    MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+    Map<Long, Set<Long>> matches = new LinkedHashMap<>();
+    // logs are streamed by a cursor only inside a transaction
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    readOnlyTransaction.executeWithoutResult(status -> testItemRepository.streamLogMessagesUnder(
+        launchId, toAnalyze, LogLevel.ERROR_INT, (itemId, message) -> matcher.match(message).stream()
+            .filter(pattern -> candidates.get(pattern.getId()).contains(itemId))
+            .forEach(pattern -> matches.computeIfAbsent(pattern.getId(), id -> new LinkedHashSet<>())
+                .add(itemId))));
+
+    patterns.stream().filter(pattern -> matches.containsKey(pattern.getId())).forEach(pattern -> {
+      List<PatternTemplateTestItemPojo> patternTemplateTestItems = saveMatches(pattern,
+          new ArrayList<>(matches.get(pattern.getId())));
+      publishEvents(pattern, patternTemplateTestItems);
+    });
+  }
+
   private List<Long> filterAlreadyMatched(PatternTemplate pattern, List<Long> itemIds) {
     List<Long> alreadyMatched = patternTemplateRepository.findMatchedItemIdsIn(pattern.getId(),
         itemIds);
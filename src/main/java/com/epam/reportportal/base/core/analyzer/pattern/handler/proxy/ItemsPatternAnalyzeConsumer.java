@@ -16,14 +16,15 @@
 
 package com.epam.reportportal.base.core.analyzer.pattern.handler.proxy;
 
-import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache.PATTERN_ANALYZER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.PATTERN_ANALYZER_KEY;
 import static com.epam.reportportal.base.core.analyzer.config.PatternAnalysisRabbitConfiguration.PATTERN_ANALYSIS_REGEX;
 import static com.epam.reportportal.base.core.analyzer.config.PatternAnalysisRabbitConfiguration.PATTERN_ANALYSIS_STRING;
 
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.analyzer.pattern.handler.impl.ItemsPatternAnalyzerImpl;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
 
 /**
  * Consumes items for pattern analysis from the queue
@@ -35,19 +36,22 @@ public class ItemsPatternAnalyzeConsumer {
 
   private final ItemsPatternAnalyzerImpl itemsPatternsAnalyzer;
 
-  private final AnalyzerStatusCache analyzerStatusCache;
+  private final AnalysisStatusRegistry analysisStatusRegistry;
 
   public ItemsPatternAnalyzeConsumer(ItemsPatternAnalyzerImpl itemsPatternsAnalyzer,
-      AnalyzerStatusCache analyzerStatusCache) {
+      AnalysisStatusRegistry analysisStatusRegistry) {
     this.itemsPatternsAnalyzer = itemsPatternsAnalyzer;
-    this.analyzerStatusCache = analyzerStatusCache;
+    this.analysisStatusRegistry = analysisStatusRegistry;
   }
 
   @RabbitListener(queues = {PATTERN_ANALYSIS_REGEX,
       PATTERN_ANALYSIS_STRING}, containerFactory = "patternAnalysisContainerFactory")
   public void handleEvent(ItemsPatternAnalyzeDto event) {
     if (event.isLastItem()) {
-      analyzerStatusCache.analyzeFinished(PATTERN_ANALYZER_KEY, event.getLaunchId());
+      analysisStatusRegistry.analyzeFinished(PATTERN_ANALYZER_KEY, event.getLaunchId());
+    } else if (!CollectionUtils.isEmpty(event.getPatternTemplates())) {
+      itemsPatternsAnalyzer.analyzeByPatterns(event.getPatternTemplates(), event.getLaunchId(),
+          event.getItemIds());
     } else {
       itemsPatternsAnalyzer.analyzeByPattern(event.getPatternTemplate(), event.getLaunchId(),
           event.getItemIds());
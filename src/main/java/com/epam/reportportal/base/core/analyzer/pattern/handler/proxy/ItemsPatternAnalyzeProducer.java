@@ -42,12 +42,15 @@ public class ItemsPatternAnalyzeProducer implements ItemsPatternsAnalyzer {
 
   private final PatternTemplateRepository patternTemplateRepository;
   private final boolean isSingleItem;
+  private final boolean isSinglePass;
   private final MessageBus messageBus;
 
   public ItemsPatternAnalyzeProducer(
       @Value("${rp.environment.variable.pattern-analysis.single-item:true}") boolean isSingleItem,
+      @Value("${rp.environment.variable.pattern-analysis.single-pass}") boolean isSinglePass,
       MessageBus messageBus, PatternTemplateRepository patternTemplateRepository) {
     this.isSingleItem = isSingleItem;
+    this.isSinglePass = isSinglePass;
     this.messageBus = messageBus;
     this.patternTemplateRepository = patternTemplateRepository;
   }
@@ -56,7 +59,11 @@ public class ItemsPatternAnalyzeProducer implements ItemsPatternsAnalyzer {
   public void analyze(long projectId, long launchId, List<Long> itemIds) {
     List<PatternTemplate> patternTemplates = patternTemplateRepository.findAllByProjectIdAndEnabled(
         projectId, true);
-    patternTemplates.forEach(pattern -> publishMessage(pattern, projectId, launchId, itemIds));
+    if (isSinglePass) {
+      publishMessage(patternTemplates, projectId, launchId, itemIds);
+    } else {
+      patternTemplates.forEach(pattern -> publishMessage(pattern, projectId, launchId, itemIds));
+    }
     if (CollectionUtils.isEmpty(itemIds)) {
       sendFinishedEvent(projectId, launchId);
     }
@@ -73,6 +80,24 @@ public class ItemsPatternAnalyzeProducer implements ItemsPatternsAnalyzer {
     }
   }
 
+  /**
+   * Publishes all the patterns with the items, so their logs are read once for all the patterns. The message is
+   * routed to the STRING queue, as it handles STRING patterns in a single scan of a log message.
+   */
+  private void publishMessage(List<PatternTemplate> patterns, long projectId, long launchId,
+      List<Long> itemIds) {
+    if (CollectionUtils.isEmpty(patterns) || CollectionUtils.isEmpty(itemIds)) {
+      return;
+    }
+    if (isSingleItem) {
+      itemIds.forEach(id -> messageBus.publish(PATTERN_ANALYSIS, PatternTemplateType.STRING.name(),
+          new ItemsPatternAnalyzeDto(projectId, launchId, Collections.singletonList(id), patterns)));
+    } else {
+      messageBus.publish(PATTERN_ANALYSIS, PatternTemplateType.STRING.name(),
+          new ItemsPatternAnalyzeDto(projectId, launchId, itemIds, patterns));
+    }
+  }
+
   public void sendFinishedEvent(long projectId, long launchId) {
     messageBus.publish(PATTERN_ANALYSIS, PatternTemplateType.REGEX.name(),
         new ItemsPatternAnalyzeDto(projectId, launchId, Collections.emptyList(), true));
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.analyzer.pattern.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton that finds all of the provided keywords contained in a text with a single scan of the text.
+ * Matching is case-sensitive, the same as the {@code LIKE} based STRING pattern search.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class AhoCorasickAutomaton {
+
+  private static final int ROOT = 0;
+
+  private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+  private final List<BitSet> outputs = new ArrayList<>();
+  private final int[] failures;
+  private final int keywordsCount;
+
+  /**
+   * @param keywords Keywords to search, the index of a keyword in the list identifies it in the search results
+   */
+  public AhoCorasickAutomaton(List<String> keywords) {
+    this.keywordsCount = keywords.size();
+    addState();
+    for (int i = 0; i < keywords.size(); i++) {
+      addKeyword(keywords.get(i), i);
+    }
+    this.failures = new int[transitions.size()];
+    buildFailures();
+  }
+
+  /**
+   * Finds keywords contained in the text
+   *
+   * @param text Text to scan
+   * @return Indexes of the found keywords
+   */
+  public BitSet findAll(String text) {
+    BitSet found = new BitSet(keywordsCount);
+    found.or(outputs.get(ROOT));
+    int state = ROOT;
+    for (int i = 0; i < text.length() && found.cardinality() < keywordsCount; i++) {
+      char c = text.charAt(i);
+      Integer next = transitions.get(state).get(c);
+      while (next == null && state != ROOT) {
+        state = failures[state];
+        next = transitions.get(state).get(c);
+      }
+      state = next == null ? ROOT : next;
+      found.or(outputs.get(state));
+    }
+    return found;
+  }
+
+  private int addState() {
+    transitions.add(new HashMap<>());
+    outputs.add(new BitSet());
+    return transitions.size() - 1;
+  }
+
+  private void addKeyword(String keyword, int index) {
+    int state = ROOT;
+    for (int i = 0; i < keyword.length(); i++) {
+      Integer next = transitions.get(state).get(keyword.charAt(i));
+      if (next == null) {
+        next = addState();
+        transitions.get(state).put(keyword.charAt(i), next);
+      }
+      state = next;
+    }
+    outputs.get(state).set(index);
+  }
+
+  private void buildFailures() {
+    Queue<Integer> queue = new ArrayDeque<>();
+    transitions.get(ROOT).values().forEach(state -> {
+      failures[state] = ROOT;
+      queue.add(state);
+    });
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      transitions.get(state).forEach((c, next) -> {
+        int failure = failures[state];
+        while (failure != ROOT && !transitions.get(failure).containsKey(c)) {
+          failure = failures[failure];
+        }
+        Integer failureNext = transitions.get(failure).get(c);
+        failures[next] = failureNext == null || failureNext == next ? ROOT : failureNext;
+        outputs.get(next).or(outputs.get(failures[next]));
+        queue.add(next);
+      });
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.analyzer.pattern.matcher;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.pattern.PatternTemplate;
+import com.epam.reportportal.base.infrastructure.persistence.entity.pattern.PatternTemplateType;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates all the provided pattern templates against a log message at once. STRING templates are searched with an
+ * {@link AhoCorasickAutomaton}, REGEX templates are compiled once and evaluated one by one.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class MultiPatternMatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultiPatternMatcher.class);
+
+  private final List<PatternTemplate> stringTemplates = new ArrayList<>();
+  private final List<PatternTemplate> regexTemplates = new ArrayList<>();
+  private final List<Pattern> regexPatterns = new ArrayList<>();
+  private final AhoCorasickAutomaton automaton;
+
+  public MultiPatternMatcher(Collection<PatternTemplate> templates) {
+    templates.forEach(template -> {
+      if (PatternTemplateType.STRING == template.getTemplateType()) {
+        stringTemplates.add(template);
+      } else {
+        compile(template);
+      }
+    });
+    automaton = new AhoCorasickAutomaton(
+        stringTemplates.stream().map(PatternTemplate::getValue).toList());
+  }
+
+  /**
+   * @param message Log message
+   * @return Templates matched by the message
+   */
+  public List<PatternTemplate> match(String message) {
+    if (message == null) {
+      return List.of();
+    }
+    List<PatternTemplate> matched = new ArrayList<>();
+    BitSet found = automaton.findAll(message);
+    found.stream().mapToObj(stringTemplates::get).forEach(matched::add);
+    for (int i = 0; i < regexPatterns.size(); i++) {
+      if (regexPatterns.get(i).matcher(message).find()) {
+        matched.add(regexTemplates.get(i));
+      }
+    }
+    return matched;
+  }
+
+  private void compile(PatternTemplate template) {
+    try {
+      regexPatterns.add(Pattern.compile(template.getValue()));
+      regexTemplates.add(template);
+    } catch (PatternSyntaxException e) {
+      LOGGER.warn("Pattern template '{}' is skipped, invalid regex: {}", template.getName(),
+          e.getMessage());
+    }
+  }
+}
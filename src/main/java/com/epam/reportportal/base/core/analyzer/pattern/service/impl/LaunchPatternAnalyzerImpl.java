@@ -16,10 +16,9 @@
 
 package com.epam.reportportal.base.core.analyzer.pattern.service.impl;
 
-import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache.PATTERN_ANALYZER_KEY;
-import static com.epam.reportportal.base.infrastructure.persistence.commons.Predicates.not;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.PATTERN_ANALYZER_KEY;
 
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.analyzer.auto.strategy.analyze.AnalyzeItemsMode;
 import com.epam.reportportal.base.core.analyzer.pattern.handler.ItemsPatternsAnalyzer;
 import com.epam.reportportal.base.core.analyzer.pattern.selector.condition.PatternConditionProviderChain;
@@ -35,6 +34,7 @@ import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalExc
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,7 +57,7 @@ public class LaunchPatternAnalyzerImpl implements LaunchPatternAnalyzer {
   private final TestItemRepository testItemRepository;
   private final PatternConditionProviderChain patternConditionProviderChain;
 
-  private final AnalyzerStatusCache analyzerStatusCache;
+  private final AnalysisStatusRegistry analysisStatusRegistry;
 
   private final ItemsPatternsAnalyzer itemsPatternsAnalyzer;
 
@@ -66,26 +66,25 @@ public class LaunchPatternAnalyzerImpl implements LaunchPatternAnalyzer {
       @Value("${rp.environment.variable.pattern-analysis.batch-size}") Integer batchSize,
       TestItemRepository testItemRepository,
       PatternConditionProviderChain patternConditionProviderChain,
-      AnalyzerStatusCache analyzerStatusCache, ItemsPatternsAnalyzer itemsPatternsAnalyzer) {
+      AnalysisStatusRegistry analysisStatusRegistry, ItemsPatternsAnalyzer itemsPatternsAnalyzer) {
     this.batchSize = batchSize;
     this.testItemRepository = testItemRepository;
     this.patternConditionProviderChain = patternConditionProviderChain;
-    this.analyzerStatusCache = analyzerStatusCache;
+    this.analysisStatusRegistry = analysisStatusRegistry;
     this.itemsPatternsAnalyzer = itemsPatternsAnalyzer;
   }
 
   @Override
   public void analyzeLaunch(Launch launch, Set<AnalyzeItemsMode> analyzeModes) {
-    BusinessRule.expect(analyzerStatusCache.getStartedAnalyzers(launch.getId()),
-            not(started -> started.contains(PATTERN_ANALYZER_KEY)))
+    BusinessRule.expect(analysisStatusRegistry.analyzeStarted(PATTERN_ANALYZER_KEY, launch.getId(),
+            launch.getProjectId()), Predicate.isEqual(true))
         .verify(ErrorType.PATTERN_ANALYSIS_ERROR, "Pattern analysis is still in progress.");
-    analyzerStatusCache.analyzeStarted(PATTERN_ANALYZER_KEY, launch.getId(), launch.getProjectId());
     try {
       analyze(launch, buildItemsCondition(analyzeModes));
     } catch (Exception e) {
       LOGGER.error(e.getMessage(), e);
     } finally {
-      analyzerStatusCache.analyzeFinished(PATTERN_ANALYZER_KEY, launch.getId());
+      analysisStatusRegistry.analyzeFinished(PATTERN_ANALYZER_KEY, launch.getId());
     }
   }
 
@@ -16,6 +16,7 @@
 
 package com.epam.reportportal.base.core.configs;
 
+import com.epam.reportportal.base.core.configs.executor.BulkheadExecutorFactory;
 import com.epam.reportportal.base.infrastructure.commons.template.TemplateEngine;
 import com.epam.reportportal.base.infrastructure.commons.template.TemplateEngineProvider;
 import com.epam.reportportal.base.util.email.strategy.EmailNotificationStrategy;
@@ -46,14 +47,12 @@ public class EmailConfiguration {
 
   @Bean
   public ThreadPoolTaskExecutor emailExecutorService(
+      BulkheadExecutorFactory bulkheadExecutorFactory,
       @Value("${rp.environment.variable.executor.pool.user-email.core}") Integer corePoolSize,
       @Value("${rp.environment.variable.executor.pool.user-email.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.user-email.queue}") Integer queueCapacity) {
-    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-    threadPoolTaskExecutor.setCorePoolSize(corePoolSize);
-    threadPoolTaskExecutor.setMaxPoolSize(maxPoolSize);
-    threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
-    threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = bulkheadExecutorFactory.create("user-email",
+        corePoolSize, maxPoolSize, queueCapacity);
     threadPoolTaskExecutor.setAwaitTerminationSeconds(20);
     threadPoolTaskExecutor.setThreadNamePrefix("email-sending-exec");
     return threadPoolTaskExecutor;
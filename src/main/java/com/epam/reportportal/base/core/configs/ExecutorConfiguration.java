@@ -16,8 +16,9 @@
 
 package com.epam.reportportal.base.core.configs;
 
+import com.epam.reportportal.base.core.configs.executor.BulkheadExecutorFactory;
 import com.epam.reportportal.base.core.log.impl.SaveLogBinaryDataTaskAsync;
-import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -38,8 +39,11 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
  */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class ExecutorConfiguration {
 
+  private final BulkheadExecutorFactory bulkheadExecutorFactory;
+
   @Bean
   @Primary
   public TaskScheduler taskScheduler() {
@@ -55,14 +59,9 @@ public class ExecutorConfiguration {
       @Value("${rp.environment.variable.executor.pool.save-logs.core}") Integer corePoolSize,
       @Value("${rp.environment.variable.executor.pool.save-logs.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.save-logs.queue}") Integer queueCapacity) {
-    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setCorePoolSize(corePoolSize);
-    executor.setMaxPoolSize(maxPoolSize);
-    executor.setQueueCapacity(queueCapacity);
-    executor.setAllowCoreThreadTimeOut(true);
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("save-logs", corePoolSize,
+        maxPoolSize, queueCapacity);
     executor.setThreadNamePrefix("logs-task-exec");
-    executor.setRejectedExecutionHandler(
-        new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
     return executor;
   }
 
@@ -82,14 +81,10 @@ public class ExecutorConfiguration {
       @Value("${rp.environment.variable.executor.pool.log-index.core}") Integer corePoolSize,
       @Value("${rp.environment.variable.executor.pool.log-index.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.log-index.queue}") Integer queueCapacity) {
-    final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-    threadPoolTaskExecutor.setCorePoolSize(corePoolSize);
-    threadPoolTaskExecutor.setMaxPoolSize(maxPoolSize);
-    threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
-    threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
-    threadPoolTaskExecutor.setThreadNamePrefix("log-index-exec");
-    threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
-    return threadPoolTaskExecutor;
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("log-index", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setThreadNamePrefix("log-index-exec");
+    return executor;
   }
 
   @Bean(name = "autoAnalyzeTaskExecutor")
@@ -97,14 +92,47 @@ public class ExecutorConfiguration {
       @Value("${rp.environment.variable.executor.pool.auto-analyze.core}") Integer corePoolSize,
       @Value("${rp.environment.variable.executor.pool.auto-analyze.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.auto-analyze.queue}") Integer queueCapacity) {
-    final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-    threadPoolTaskExecutor.setCorePoolSize(corePoolSize);
-    threadPoolTaskExecutor.setMaxPoolSize(maxPoolSize);
-    threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
-    threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
-    threadPoolTaskExecutor.setThreadNamePrefix("auto-analyze-exec");
-    threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
-    return threadPoolTaskExecutor;
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("auto-analyze", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setThreadNamePrefix("auto-analyze-exec");
+    return executor;
+  }
+
+  @Bean(name = "analyzerRequestTaskExecutor")
+  public TaskExecutor analyzerRequestTaskExecutor(
+      @Value("${rp.environment.variable.executor.pool.analyzer-request.core}") Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.analyzer-request.max}") Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.analyzer-request.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("analyzer-request", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setThreadNamePrefix("analyzer-request-exec");
+    return executor;
+  }
+
+  @Bean(name = "attachmentPrefetchExecutor")
+  public TaskExecutor attachmentPrefetchExecutor(
+      @Value("${rp.environment.variable.executor.pool.attachment-prefetch.core}")
+      Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.attachment-prefetch.max}") Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.attachment-prefetch.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("attachment-prefetch", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setThreadNamePrefix("attachment-prefetch-exec");
+    return executor;
+  }
+
+  @Bean(name = "launchDeletionExecutor")
+  public TaskExecutor launchDeletionExecutor(
+      @Value("${rp.environment.variable.executor.pool.launch-deletion.core}") Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.launch-deletion.max}") Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.launch-deletion.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("launch-deletion", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setThreadNamePrefix("launch-deletion-exec");
+    return executor;
   }
 
   @Bean(name = "demoDataTaskExecutor")
@@ -112,15 +140,11 @@ public class ExecutorConfiguration {
       @Value("${rp.environment.variable.executor.pool.demo-data.core}") Integer corePoolSize,
       @Value("${rp.environment.variable.executor.pool.demo-data.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.demo-data.queue}") Integer queueCapacity) {
-    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-    threadPoolTaskExecutor.setCorePoolSize(corePoolSize);
-    threadPoolTaskExecutor.setMaxPoolSize(maxPoolSize);
-    threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
-    threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
-    threadPoolTaskExecutor.setAwaitTerminationSeconds(60);
-    threadPoolTaskExecutor.setThreadNamePrefix("demo-data-exec");
-    threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
-    return threadPoolTaskExecutor;
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("demo-data", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setAwaitTerminationSeconds(60);
+    executor.setThreadNamePrefix("demo-data-exec");
+    return executor;
   }
 
   @Bean(name = "widgetViewExecutor")
@@ -128,13 +152,9 @@ public class ExecutorConfiguration {
       @Value("${rp.environment.variable.executor.pool.widget-view.core}") Integer corePoolSize,
       @Value("${rp.environment.variable.executor.pool.widget-view.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.widget-view.queue}") Integer queueCapacity) {
-    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setCorePoolSize(corePoolSize);
-    executor.setMaxPoolSize(maxPoolSize);
-    executor.setQueueCapacity(queueCapacity);
-    executor.setAllowCoreThreadTimeOut(true);
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("widget-view", corePoolSize,
+        maxPoolSize, queueCapacity);
     executor.setThreadNamePrefix("generate-widget-view-task");
-    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
     return executor;
   }
 
@@ -143,14 +163,10 @@ public class ExecutorConfiguration {
       @Value("${rp.environment.variable.executor.pool.log-cluster.core}") Integer corePoolSize,
       @Value("${rp.environment.variable.executor.pool.log-cluster.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.log-cluster.queue}") Integer queueCapacity) {
-    final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-    threadPoolTaskExecutor.setCorePoolSize(corePoolSize);
-    threadPoolTaskExecutor.setMaxPoolSize(maxPoolSize);
-    threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
-    threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
-    threadPoolTaskExecutor.setThreadNamePrefix("log-cluster-exec");
-    threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
-    return threadPoolTaskExecutor;
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("log-cluster", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setThreadNamePrefix("log-cluster-exec");
+    return executor;
   }
 
   @Bean(name = "eventListenerExecutor")
@@ -159,14 +175,17 @@ public class ExecutorConfiguration {
       @Value("${rp.environment.variable.executor.pool.event-listener.max}") Integer maxPoolSize,
       @Value("${rp.environment.variable.executor.pool.event-listener.queue}")
       Integer queueCapacity) {
-    final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-    threadPoolTaskExecutor.setCorePoolSize(corePoolSize);
-    threadPoolTaskExecutor.setMaxPoolSize(maxPoolSize);
-    threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
-    threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
-    threadPoolTaskExecutor.setThreadNamePrefix("event-listener-exec");
-    threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
-    return threadPoolTaskExecutor;
+    ThreadPoolTaskExecutor executor = bulkheadExecutorFactory.create("event-listener", corePoolSize,
+        maxPoolSize, queueCapacity);
+    executor.setThreadNamePrefix("event-listener-exec");
+    return executor;
+  }
+
+  @Bean(name = "reportingLaneExecutor")
+  public TaskExecutor reportingLaneExecutor(
+      @Value("${rp.environment.variable.executor.pool.reporting-lane.max}") Integer maxPoolSize) {
+    // lanes mostly wait for the database, the limit keeps them within the connection pool
+    return bulkheadExecutorFactory.create("reporting-lane", maxPoolSize, maxPoolSize, 0);
   }
 
 }
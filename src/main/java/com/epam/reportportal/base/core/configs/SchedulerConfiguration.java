@@ -23,7 +23,9 @@ import com.epam.reportportal.base.job.FlushingDataJob;
 import com.epam.reportportal.base.job.InterruptBrokenLaunchesJob;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import javax.sql.DataSource;
 import org.quartz.Job;
@@ -75,6 +77,12 @@ public class SchedulerConfiguration {
   @Autowired
   private TmsAttachmentCleanupJob tmsAttachmentCleanupJob;
 
+  @Value("${com.ta.reportportal.job.interrupt.broken.launches.cron}")
+  private String interruptLaunchesCron;
+
+  @Value("${com.ta.reportportal.job.interrupt.broken.launches.shards}")
+  private int interruptLaunchesShards;
+
   @Bean
   @Primary
   public SchedulerFactoryBean schedulerFactoryBean() {
@@ -98,8 +106,13 @@ public class SchedulerConfiguration {
     scheduler.setJobFactory(beanJobFactory());
 
     // Here we will set all the trigger beans we have defined.
-    if (null != listOfTrigger && !listOfTrigger.isEmpty()) {
-      scheduler.setTriggers(listOfTrigger.toArray(new Trigger[listOfTrigger.size()]));
+    List<Trigger> triggers = new ArrayList<>();
+    if (null != listOfTrigger) {
+      triggers.addAll(listOfTrigger);
+    }
+    triggers.addAll(interruptLaunchesShardTriggers());
+    if (!triggers.isEmpty()) {
+      scheduler.setTriggers(triggers.toArray(new Trigger[0]));
     }
 
     return scheduler;
@@ -119,11 +132,39 @@ public class SchedulerConfiguration {
 
   @Bean
   public SimpleTriggerFactoryBean interruptLaunchesTrigger(
-      @Named("interruptLaunchesJobBean") JobDetail jobDetail,
-      @Value("${com.ta.reportportal.job.interrupt.broken.launches.cron}") String interruptLaunchesCron) {
+      @Named("interruptLaunchesJobBean") JobDetail jobDetail) {
     return createTriggerDelayed(jobDetail, Duration.parse(interruptLaunchesCron).toMillis());
   }
 
+  /**
+   * Jobs and triggers for the rest shards of the interrupt broken launches job, the first shard is handled by
+   * {@code interruptLaunchesJobBean}. Shard jobs have own keys, so the clustered scheduler runs them on different
+   * instances.
+   *
+   * @return {@link List} of {@link Trigger}
+   */
+  private List<Trigger> interruptLaunchesShardTriggers() {
+    List<Trigger> triggers = new ArrayList<>();
+    for (int shard = 1; shard < interruptLaunchesShards; shard++) {
+      JobDetailFactoryBean jobDetail = createJobDetail(InterruptBrokenLaunchesJob.class);
+      jobDetail.setName("interruptLaunchesJobBean-" + shard);
+      jobDetail.setJobDataAsMap(interruptLaunchesShardData(shard));
+      jobDetail.afterPropertiesSet();
+
+      SimpleTriggerFactoryBean trigger = createTriggerDelayed(jobDetail.getObject(),
+          Duration.parse(interruptLaunchesCron).toMillis());
+      trigger.setName("interruptLaunchesTrigger-" + shard);
+      trigger.afterPropertiesSet();
+      triggers.add(trigger.getObject());
+    }
+    return triggers;
+  }
+
+  private Map<String, Integer> interruptLaunchesShardData(int shard) {
+    return Map.of(InterruptBrokenLaunchesJob.SHARD, shard, InterruptBrokenLaunchesJob.SHARDS,
+        Math.max(interruptLaunchesShards, 1));
+  }
+
   @Bean
   public SimpleTriggerFactoryBean cleanExpiredCreationBidsTrigger(
       @Named("cleanExpiredCreationBidsJobBean") JobDetail jobDetail,
@@ -140,7 +181,9 @@ public class SchedulerConfiguration {
 
   @Bean("interruptLaunchesJobBean")
   public JobDetailFactoryBean interruptLaunchesJob() {
-    return createJobDetail(InterruptBrokenLaunchesJob.class);
+    JobDetailFactoryBean jobDetail = createJobDetail(InterruptBrokenLaunchesJob.class);
+    jobDetail.setJobDataAsMap(interruptLaunchesShardData(0));
+    return jobDetail;
   }
 
   @Bean("cleanExpiredCreationBidsJobBean")
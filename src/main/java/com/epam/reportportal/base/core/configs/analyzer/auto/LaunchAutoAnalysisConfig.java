@@ -30,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Throttling and toggles for automatic launch analysis.
@@ -48,16 +49,19 @@ public class LaunchAutoAnalysisConfig {
 
   private final TaskExecutor autoAnalyzeTaskExecutor;
 
+  private final PlatformTransactionManager transactionManager;
+
   @Autowired
   public LaunchAutoAnalysisConfig(GetLaunchHandler getLaunchHandler,
       AnalyzeCollectorFactory analyzeCollectorFactory,
       AnalyzerService analyzerService, LogIndexer logIndexer,
-      TaskExecutor autoAnalyzeTaskExecutor) {
+      TaskExecutor autoAnalyzeTaskExecutor, PlatformTransactionManager transactionManager) {
     this.getLaunchHandler = getLaunchHandler;
     this.analyzeCollectorFactory = analyzeCollectorFactory;
     this.analyzerService = analyzerService;
     this.logIndexer = logIndexer;
     this.autoAnalyzeTaskExecutor = autoAnalyzeTaskExecutor;
+    this.transactionManager = transactionManager;
   }
 
   @Bean
@@ -73,7 +77,7 @@ public class LaunchAutoAnalysisConfig {
   @Bean
   public CollectingAutoAnalysisStarter collectingAutoAnalysisStarter() {
     return new CollectingAutoAnalysisStarter(getLaunchHandler, analyzeCollectorFactory,
-        analyzerService, logIndexer);
+        analyzerService, logIndexer, transactionManager);
   }
 
   @Bean
@@ -29,7 +29,7 @@ import com.epam.reportportal.base.core.events.handler.launch.LaunchNotificationR
 import com.epam.reportportal.base.core.events.handler.launch.LaunchPatternAnalysisRunner;
 import com.epam.reportportal.base.core.events.handler.launch.LaunchUniqueErrorAnalysisRunner;
 import com.epam.reportportal.base.core.events.subscriber.impl.delegate.ProjectConfigDelegatingSubscriber;
-import com.epam.reportportal.base.core.project.config.ProjectConfigProvider;
+import com.epam.reportportal.base.core.project.config.ProjectConfigCache;
 import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -44,13 +44,13 @@ public class EventSubscriberConfig {
 
   @Bean
   public ProjectConfigDelegatingSubscriber<LaunchFinishedEvent> launchFinishedDelegatingSubscriber(
-      ProjectConfigProvider projectConfigProvider,
+      ProjectConfigCache projectConfigCache,
       LaunchAutoAnalysisRunner autoAnalysisEventHandler,
       LaunchUniqueErrorAnalysisRunner uniqueErrorAnalysisEventHandler,
       LaunchAnalysisFinishEventPublisher launchAnalysisFinishEventPublisher,
       LaunchPatternAnalysisRunner patternAnalysisEventHandler,
       LaunchNotificationRunner notificationEventHandler) {
-    return new ProjectConfigDelegatingSubscriber<>(projectConfigProvider,
+    return new ProjectConfigDelegatingSubscriber<>(projectConfigCache,
         List.of(patternAnalysisEventHandler,
             autoAnalysisEventHandler,
             uniqueErrorAnalysisEventHandler,
@@ -62,19 +62,19 @@ public class EventSubscriberConfig {
 
   @Bean
   public ProjectConfigDelegatingSubscriber<IssueResolvedEvent> itemIssueResolvedDelegatingSubscriber(
-      ProjectConfigProvider projectConfigProvider, TestItemIndexRunner testItemIndexRunner,
+      ProjectConfigCache projectConfigCache, TestItemIndexRunner testItemIndexRunner,
       TestItemUniqueErrorAnalysisRunner testItemUniqueErrorAnalysisRunner) {
-    return new ProjectConfigDelegatingSubscriber<>(projectConfigProvider,
+    return new ProjectConfigDelegatingSubscriber<>(projectConfigCache,
         List.of(testItemIndexRunner, testItemUniqueErrorAnalysisRunner)
     );
   }
 
   @Bean
   public ProjectConfigDelegatingSubscriber<TestItemFinishedEvent> testItemFinishedDelegatingSubscriber(
-      ProjectConfigProvider projectConfigProvider,
+      ProjectConfigCache projectConfigCache,
       TestItemPatternAnalysisRunner testItemPatternAnalysisRunner,
       TestItemAutoAnalysisRunner testItemAutoAnalysisRunner) {
-    return new ProjectConfigDelegatingSubscriber<>(projectConfigProvider,
+    return new ProjectConfigDelegatingSubscriber<>(projectConfigCache,
         List.of(testItemPatternAnalysisRunner, testItemAutoAnalysisRunner)
     );
   }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.configs.executor;
+
+import io.micrometer.core.instrument.Counter;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RejectedExecutionHandler} that blocks the submitting thread until the executor queue has free space, so a
+ * saturated executor slows down its producers instead of dropping tasks or running them on the producer threads. The
+ * task is rejected with {@link RejectedExecutionException} if the queue has no free space within the max wait time.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class BackpressureRejectedExecutionHandler implements RejectedExecutionHandler {
+
+  private final String executorName;
+  private final long maxWaitNanos;
+  private final Counter rejectedCounter;
+
+  public BackpressureRejectedExecutionHandler(String executorName, Duration maxWait,
+      Counter rejectedCounter) {
+    this.executorName = executorName;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.rejectedCounter = rejectedCounter;
+  }
+
+  @Override
+  public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+    if (!executor.isShutdown()) {
+      try {
+        if (executor.getQueue().offer(task, maxWaitNanos, TimeUnit.NANOSECONDS)) {
+          return;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    rejectedCounter.increment();
+    throw new RejectedExecutionException(
+        "Task is rejected by the '" + executorName + "' executor, its queue is full");
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.configs.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates named bulkhead executors: bounded thread pools with bounded queues that apply backpressure to the submitting
+ * threads when saturated (see {@link BackpressureRejectedExecutionHandler}). Executors listed in
+ * {@code rp.environment.variable.executor.virtual-threads} run their tasks on virtual threads, which suits I/O-bound
+ * tasks, while keeping the same pool and queue bounds.
+ *
+ * <p>Every executor exposes metrics tagged by its name:
+ * <ul>
+ *   <li>{@code rp.executor.queue} - tasks waiting in the queue</li>
+ *   <li>{@code rp.executor.active} - tasks being executed</li>
+ *   <li>{@code rp.executor.rejected} - tasks rejected after the max wait time</li>
+ *   <li>{@code rp.executor.task.wait} - time tasks spent in the queue</li>
+ *   <li>{@code rp.executor.task.execution} - execution time of tasks</li>
+ * </ul>
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+public class BulkheadExecutorFactory {
+
+  private static final String NAME_TAG = "name";
+
+  private final MeterRegistry meterRegistry;
+  private final Duration maxWait;
+  private final Set<String> virtualThreadExecutors;
+
+  public BulkheadExecutorFactory(MeterRegistry meterRegistry,
+      @Value("${rp.environment.variable.executor.backpressure.max-wait}") Duration maxWait,
+      @Value("${rp.environment.variable.executor.virtual-threads}") Set<String> virtualThreadExecutors) {
+    this.meterRegistry = meterRegistry;
+    this.maxWait = maxWait;
+    this.virtualThreadExecutors = virtualThreadExecutors;
+  }
+
+  /**
+   * Creates a not initialized executor, the thread name prefix is {@code <name>-exec} unless changed.
+   *
+   * @param name          name of the executor used for the metrics tag and the virtual threads setting
+   * @param corePoolSize  core pool size
+   * @param maxPoolSize   max pool size
+   * @param queueCapacity queue capacity
+   * @return {@link ThreadPoolTaskExecutor}
+   */
+  public ThreadPoolTaskExecutor create(String name, int corePoolSize, int maxPoolSize,
+      int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix(name + "-exec");
+    executor.setVirtualThreads(virtualThreadExecutors.contains(name));
+    executor.setRejectedExecutionHandler(new BackpressureRejectedExecutionHandler(name, maxWait,
+        Counter.builder("rp.executor.rejected")
+            .description("Tasks rejected by the executor after the max wait time")
+            .tag(NAME_TAG, name)
+            .register(meterRegistry)));
+    executor.setTaskDecorator(new InstrumentedTaskDecorator(
+        Timer.builder("rp.executor.task.wait")
+            .description("Time tasks spent in the executor queue")
+            .tag(NAME_TAG, name)
+            .register(meterRegistry),
+        Timer.builder("rp.executor.task.execution")
+            .description("Execution time of the executor tasks")
+            .tag(NAME_TAG, name)
+            .register(meterRegistry)));
+    Gauge.builder("rp.executor.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+        .description("Tasks waiting in the executor queue")
+        .tag(NAME_TAG, name)
+        .register(meterRegistry);
+    Gauge.builder("rp.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .description("Tasks being executed by the executor")
+        .tag(NAME_TAG, name)
+        .register(meterRegistry);
+    return executor;
+  }
+}
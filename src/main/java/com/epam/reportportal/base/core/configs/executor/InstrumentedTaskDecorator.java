@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.configs.executor;
+
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@link TaskDecorator} that records the time a task waited in the executor queue and the time of its execution.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class InstrumentedTaskDecorator implements TaskDecorator {
+
+  private final Timer waitTimer;
+  private final Timer executionTimer;
+
+  public InstrumentedTaskDecorator(Timer waitTimer, Timer executionTimer) {
+    this.waitTimer = waitTimer;
+    this.executionTimer = executionTimer;
+  }
+
+  @Override
+  public Runnable decorate(Runnable task) {
+    long submitted = System.nanoTime();
+    return () -> {
+      long started = System.nanoTime();
+      waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+      try {
+        task.run();
+      } finally {
+        executionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+      }
+    };
+  }
+}
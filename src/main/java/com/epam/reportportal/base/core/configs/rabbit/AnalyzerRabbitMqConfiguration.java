@@ -17,12 +17,15 @@
 package com.epam.reportportal.base.core.configs.rabbit;
 
 import com.epam.reportportal.base.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.epam.reportportal.base.core.analyzer.auto.client.impl.CachedRabbitMqManagementClient;
 import com.epam.reportportal.base.core.analyzer.auto.client.impl.RabbitMqManagementClientTemplate;
 import com.epam.reportportal.base.core.configs.Conditions;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.rabbitmq.http.client.Client;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URI;
+import java.time.Duration;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -49,7 +52,10 @@ public class AnalyzerRabbitMqConfiguration {
   @Bean
   public RabbitMqManagementClient managementTemplate(
       @Value("${rp.amqp.api-address}") String address,
-      @Value("${rp.amqp.analyzer-vhost}") String virtualHost) {
+      @Value("${rp.amqp.analyzer-vhost}") String virtualHost,
+      @Value("${rp.amqp.analyzer-exchanges.refresh-interval:PT10S}") Duration refreshInterval,
+      @Value("${rp.amqp.analyzer-exchanges.expiration:PT1M}") Duration expiration,
+      MeterRegistry meterRegistry) {
     Client rabbitClient;
     try {
       rabbitClient = new Client(address);
@@ -59,7 +65,10 @@ public class AnalyzerRabbitMqConfiguration {
           "Cannot create a HTTP rabbit client instance. Incorrect api address " + address
       );
     }
-    return new RabbitMqManagementClientTemplate(rabbitClient, virtualHost);
+    return new CachedRabbitMqManagementClient(
+        new RabbitMqManagementClientTemplate(rabbitClient, virtualHost), refreshInterval,
+        expiration, meterRegistry
+    );
   }
 
   @Bean(name = "analyzerConnectionFactory")
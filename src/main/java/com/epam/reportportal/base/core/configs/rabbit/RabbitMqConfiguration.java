@@ -22,6 +22,7 @@ import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalExc
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rabbitmq.http.client.Client;
 import java.net.URI;
+import java.time.Duration;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
@@ -119,4 +120,29 @@ public class RabbitMqConfiguration {
     return factory;
   }
 
+  /**
+   * Listener container factory for consuming messages in batches. A batch is delivered to the listener either when it
+   * reaches the configured size or when no more messages arrive during the configured max latency, and all its messages
+   * are acknowledged together.
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+      @Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory,
+      FallbackEventTypeMapper typeMapper,
+      @Value("${rp.amqp.activity.batch.size}") int batchSize,
+      @Value("${rp.amqp.activity.batch.max-latency}") Duration maxLatency) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setDefaultRequeueRejected(false);
+    factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+    factory.setAutoStartup(true);
+    factory.setMessageConverter(jsonMessageConverterWithFallback(typeMapper));
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(batchSize);
+    factory.setPrefetchCount(batchSize);
+    factory.setReceiveTimeout(maxLatency.toMillis());
+    return factory;
+  }
+
 }
@@ -17,6 +17,7 @@
 package com.epam.reportportal.base.core.configs.security;
 
 import com.epam.reportportal.base.auth.ApiKeyUtils;
+import com.epam.reportportal.base.core.configs.security.ApiKeyPrincipalCache.ApiKeyPrincipal;
 import com.epam.reportportal.base.core.configs.security.converters.ApiKeyReportPortalUserConverter;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ApiKeyRepository;
@@ -37,6 +38,8 @@ import org.springframework.stereotype.Component;
 
 /**
  * Authentication provider for API key authentication. It validates the API key and retrieves the associated user.
+ * Authenticated principals are cached by {@link ApiKeyPrincipalCache} for a short time, the key usage is written by
+ * {@link ApiKeyLastUsedAggregator} out of the authentication path.
  */
 @Component
 public class ApiKeyAuthenticationProvider implements AuthenticationProvider {
@@ -47,13 +50,20 @@ public class ApiKeyAuthenticationProvider implements AuthenticationProvider {
 
   private final UserRepository userRepository;
 
+  private final ApiKeyPrincipalCache apiKeyPrincipalCache;
+
+  private final ApiKeyLastUsedAggregator apiKeyLastUsedAggregator;
+
   /**
    * Constructor for ApiKeyAuthenticationProvider.
    */
   @Autowired
-  public ApiKeyAuthenticationProvider(ApiKeyRepository apiKeyRepository, UserRepository userRepository) {
+  public ApiKeyAuthenticationProvider(ApiKeyRepository apiKeyRepository, UserRepository userRepository,
+      ApiKeyPrincipalCache apiKeyPrincipalCache, ApiKeyLastUsedAggregator apiKeyLastUsedAggregator) {
     this.apiKeyRepository = apiKeyRepository;
     this.userRepository = userRepository;
+    this.apiKeyPrincipalCache = apiKeyPrincipalCache;
+    this.apiKeyLastUsedAggregator = apiKeyLastUsedAggregator;
   }
 
   /**
@@ -66,29 +76,34 @@ public class ApiKeyAuthenticationProvider implements AuthenticationProvider {
   public Authentication authenticate(Authentication authentication) throws AuthenticationException {
     BearerTokenAuthenticationToken bearer = (BearerTokenAuthenticationToken) authentication;
     String apiToken = (String) bearer.getPrincipal();
+    if (!ApiKeyUtils.validateToken(apiToken)) {
+      throw new AuthenticationCredentialsNotFoundException("Invalid access token");
+    }
     String hashedKey = DatatypeConverter.printHexBinary(DigestUtils.sha3_256(apiToken));
-    ApiKey apiKey = apiKeyRepository.findByHash(hashedKey);
-    if (ApiKeyUtils.validateToken(apiToken) && apiKeyRepository.findByHash(hashedKey) != null) {
-      return userRepository.findReportPortalUser(apiKey.getUserId())
-          .filter(ReportPortalUser::isEnabled)
-          .map(user -> {
-            LocalDate today = LocalDate.now();
-            if (apiKey.getLastUsedAt() == null || !apiKey.getLastUsedAt().equals(today)) {
-              apiKeyRepository.updateLastUsedAt(apiKey.getId(), hashedKey, today);
-            }
-            return user;
-          })
-          .map(authenticationConverter::convert)
-          .map(authToken -> {
-            if (authToken.getDetails() == null) {
-              authToken.setDetails(bearer.getDetails());
-            }
-            return authToken;
-          })
-          .orElseThrow();
+    ApiKeyPrincipal principal = apiKeyPrincipalCache.get(hashedKey, this::loadPrincipal)
+        .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("Invalid access token"));
+
+    LocalDate today = LocalDate.now();
+    if (!today.equals(principal.lastUsedAt())) {
+      apiKeyLastUsedAggregator.record(principal.apiKeyId(), hashedKey, today);
     }
 
-    throw new AuthenticationCredentialsNotFoundException("Invalid access token");
+    AbstractAuthenticationToken authToken = authenticationConverter.convert(principal.user());
+    if (authToken.getDetails() == null) {
+      authToken.setDetails(bearer.getDetails());
+    }
+    return authToken;
+  }
+
+  private ApiKeyPrincipal loadPrincipal(String hashedKey) {
+    ApiKey apiKey = apiKeyRepository.findByHash(hashedKey);
+    if (apiKey == null) {
+      return null;
+    }
+    return userRepository.findReportPortalUser(apiKey.getUserId())
+        .filter(ReportPortalUser::isEnabled)
+        .map(user -> new ApiKeyPrincipal(apiKey.getId(), user, apiKey.getLastUsedAt()))
+        .orElse(null);
   }
 
   @Override
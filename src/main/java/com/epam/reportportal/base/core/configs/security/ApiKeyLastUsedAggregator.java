@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.configs.security;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.ApiKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Iterables;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects API key usages and writes their last usage dates in batches, so authentication doesn't write to the
+ * database. Each key is written at most once a day per API instance. Written keys are evicted from the
+ * {@code apiKeyCache}, as the bulk update doesn't refresh it.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Slf4j
+@Component
+public class ApiKeyLastUsedAggregator {
+
+  private static final int MAX_RECORDED_KEYS = 10_000;
+
+  private static final String API_KEY_CACHE = "apiKeyCache";
+
+  private final ApiKeyRepository apiKeyRepository;
+
+  private final CacheManager cacheManager;
+
+  private final int batchSize;
+
+  private final Map<Long, LocalDate> pending = new ConcurrentHashMap<>();
+
+  private final Map<Long, String> hashes = new ConcurrentHashMap<>();
+
+  private final Cache<Long, LocalDate> recorded = Caffeine.newBuilder()
+      .maximumSize(MAX_RECORDED_KEYS)
+      .expireAfterWrite(Duration.ofDays(1))
+      .build();
+
+  public ApiKeyLastUsedAggregator(ApiKeyRepository apiKeyRepository,
+      @Qualifier("caffeineCacheManager") CacheManager cacheManager,
+      @Value("${rp.environment.variable.api-key.last-used.batch-size}") int batchSize) {
+    this.apiKeyRepository = apiKeyRepository;
+    this.cacheManager = cacheManager;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * @param apiKeyId   API key id
+   * @param hash       Hash of the key, the key is cached by
+   * @param lastUsedAt Date the key is used at
+   */
+  public void record(Long apiKeyId, String hash, LocalDate lastUsedAt) {
+    if (lastUsedAt.equals(recorded.getIfPresent(apiKeyId))) {
+      return;
+    }
+    recorded.put(apiKeyId, lastUsedAt);
+    hashes.put(apiKeyId, hash);
+    pending.merge(apiKeyId, lastUsedAt, (prev, next) -> prev.isAfter(next) ? prev : next);
+  }
+
+  @Scheduled(fixedDelayString = "${rp.environment.variable.api-key.last-used.flush-interval}")
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    Map<LocalDate, List<Long>> idsByDate = new HashMap<>();
+    Map<Long, String> flushedHashes = new HashMap<>();
+    for (Long apiKeyId : List.copyOf(pending.keySet())) {
+      LocalDate lastUsedAt = pending.remove(apiKeyId);
+      String hash = hashes.remove(apiKeyId);
+      if (lastUsedAt != null) {
+        idsByDate.computeIfAbsent(lastUsedAt, date -> new ArrayList<>()).add(apiKeyId);
+        if (hash != null) {
+          flushedHashes.put(apiKeyId, hash);
+        }
+      }
+    }
+    idsByDate.forEach((lastUsedAt, ids) -> Iterables.partition(ids, batchSize).forEach(batch -> {
+      try {
+        apiKeyRepository.updateLastUsedAt(batch, lastUsedAt);
+        evictCached(batch, flushedHashes);
+      } catch (Exception e) {
+        log.error("Unable to update last usage date of {} api keys", batch.size(), e);
+        recorded.invalidateAll(batch);
+      }
+    }));
+  }
+
+  private void evictCached(List<Long> apiKeyIds, Map<Long, String> flushedHashes) {
+    org.springframework.cache.Cache cache = cacheManager.getCache(API_KEY_CACHE);
+    if (cache == null) {
+      return;
+    }
+    apiKeyIds.stream().map(flushedHashes::get).filter(Objects::nonNull).forEach(cache::evict);
+  }
+
+  @PreDestroy
+  public void onShutdown() {
+    flush();
+  }
+}
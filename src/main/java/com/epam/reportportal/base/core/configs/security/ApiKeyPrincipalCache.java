@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.configs.security;
+
+import com.epam.reportportal.base.core.events.domain.ChangeUserTypeEvent;
+import com.epam.reportportal.base.core.events.domain.UserDeletedEvent;
+import com.epam.reportportal.base.core.events.domain.UsersDeletedEvent;
+import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
+import com.epam.reportportal.base.model.activity.UserActivityResource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Short-living local cache of principals authenticated by API key, keyed by the key hash. Only successfully
+ * authenticated principals are cached.
+ *
+ * <p>Entries are dropped after the API key is deleted, the user is disabled, deleted or changes the role. Other API
+ * instances don't get these invalidations and rely on the {@code expire} bound instead.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+public class ApiKeyPrincipalCache {
+
+  private final Cache<String, ApiKeyPrincipal> cache;
+
+  public ApiKeyPrincipalCache(@Value("${rp.environment.variable.api-key.cache.size}") long size,
+      @Value("${rp.environment.variable.api-key.cache.expire}") Duration expire) {
+    this.cache = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(expire).build();
+  }
+
+  /**
+   * @param hash   API key hash
+   * @param loader Authenticates the API key if it isn't cached, returns {@code null} if it is not valid
+   * @return Cached principal
+   */
+  public Optional<ApiKeyPrincipal> get(String hash, Function<String, ApiKeyPrincipal> loader) {
+    return Optional.ofNullable(cache.get(hash, loader));
+  }
+
+  public void evictApiKey(Long apiKeyId) {
+    cache.asMap().values().removeIf(principal -> principal.apiKeyId().equals(apiKeyId));
+  }
+
+  public void evictUser(Long userId) {
+    cache.asMap().values().removeIf(principal -> principal.user().getUserId().equals(userId));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onInvalidation(ApiKeyPrincipalInvalidation invalidation) {
+    Optional.ofNullable(invalidation.apiKeyId()).ifPresent(this::evictApiKey);
+    Optional.ofNullable(invalidation.userId()).ifPresent(this::evictUser);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDeleted(UserDeletedEvent event) {
+    Stream.of(event.getBefore(), event.getAfter())
+        .filter(Objects::nonNull)
+        .map(UserActivityResource::getId)
+        .filter(Objects::nonNull)
+        .forEach(this::evictUser);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUsersDeleted(UsersDeletedEvent event) {
+    cache.invalidateAll();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChangeUserType(ChangeUserTypeEvent event) {
+    Optional.ofNullable(event.getTargetUserId()).ifPresent(this::evictUser);
+  }
+
+  /**
+   * @param apiKeyId   API key id
+   * @param user       Authenticated user
+   * @param lastUsedAt Last date the key usage is recorded for
+   */
+  public record ApiKeyPrincipal(Long apiKeyId, ReportPortalUser user, LocalDate lastUsedAt) {
+
+  }
+}
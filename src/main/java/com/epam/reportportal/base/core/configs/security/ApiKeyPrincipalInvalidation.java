@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.configs.security;
+
+/**
+ * Application event dropping cached API key principals. Published within the transaction that revokes access and
+ * applied by {@link ApiKeyPrincipalCache} after its commit.
+ *
+ * @param apiKeyId Id of the revoked API key, may be {@code null}
+ * @param userId   Id of the user whose keys are revoked, may be {@code null}
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public record ApiKeyPrincipalInvalidation(Long apiKeyId, Long userId) {
+
+  public static ApiKeyPrincipalInvalidation ofApiKey(Long apiKeyId) {
+    return new ApiKeyPrincipalInvalidation(apiKeyId, null);
+  }
+
+  public static ApiKeyPrincipalInvalidation ofUser(Long userId) {
+    return new ApiKeyPrincipalInvalidation(null, userId);
+  }
+}
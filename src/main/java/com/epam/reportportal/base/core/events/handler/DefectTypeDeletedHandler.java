@@ -16,7 +16,7 @@
 
 package com.epam.reportportal.base.core.events.handler;
 
-import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.AUTO_ANALYZER_KEY;
 import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerUtils.getAnalyzerConfig;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.Predicates.equalTo;
 import static com.epam.reportportal.base.infrastructure.rules.commons.validation.BusinessRule.expect;
@@ -24,14 +24,13 @@ import static com.epam.reportportal.base.infrastructure.rules.exception.ErrorTyp
 
 import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
 import com.epam.reportportal.base.core.analyzer.auto.client.AnalyzerServiceClient;
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.events.domain.DefectTypeDeletedEvent;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ProjectRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.Project;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
-import com.google.common.cache.Cache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -49,7 +48,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Transactional
 public class DefectTypeDeletedHandler {
 
-  private final AnalyzerStatusCache analyzerStatusCache;
+  private final AnalysisStatusRegistry analysisStatusRegistry;
 
   private final AnalyzerServiceClient analyzerServiceClient;
 
@@ -60,11 +59,11 @@ public class DefectTypeDeletedHandler {
   private final ProjectRepository projectRepository;
 
   @Autowired
-  public DefectTypeDeletedHandler(AnalyzerStatusCache analyzerStatusCache,
+  public DefectTypeDeletedHandler(AnalysisStatusRegistry analysisStatusRegistry,
       AnalyzerServiceClient analyzerServiceClient,
       LaunchRepository launchRepository, LogIndexer logIndexer,
       ProjectRepository projectRepository) {
-    this.analyzerStatusCache = analyzerStatusCache;
+    this.analysisStatusRegistry = analysisStatusRegistry;
     this.analyzerServiceClient = analyzerServiceClient;
     this.launchRepository = launchRepository;
     this.logIndexer = logIndexer;
@@ -80,10 +79,8 @@ public class DefectTypeDeletedHandler {
             () -> new ReportPortalException(NOT_FOUND, "Project " + event.getProjectId()));
 
     if (analyzerServiceClient.hasClients()) {
-      Cache<Long, Long> analyzeStatus = analyzerStatusCache.getAnalyzeStatus(AUTO_ANALYZER_KEY)
-          .orElseThrow(
-              () -> new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, AUTO_ANALYZER_KEY));
-      expect(analyzeStatus.asMap().containsValue(event.getProjectId()), equalTo(false)).verify(
+      expect(analysisStatusRegistry.containsProjectId(AUTO_ANALYZER_KEY, event.getProjectId()),
+          equalTo(false)).verify(
           ErrorType.FORBIDDEN_OPERATION,
           "Index can not be removed until auto-analysis proceeds."
       );
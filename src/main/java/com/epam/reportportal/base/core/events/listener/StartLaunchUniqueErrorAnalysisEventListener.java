@@ -18,7 +18,7 @@ package com.epam.reportportal.base.core.events.listener;
 
 import com.epam.reportportal.base.core.launch.cluster.UniqueErrorAnalysisStarter;
 import com.epam.reportportal.base.core.launch.cluster.config.ClusterEntityContext;
-import com.epam.reportportal.base.core.project.config.ProjectConfigProvider;
+import com.epam.reportportal.base.core.project.config.ProjectConfigCache;
 import com.epam.reportportal.extension.event.LaunchStartUniqueErrorAnalysisEvent;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,19 +34,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class StartLaunchUniqueErrorAnalysisEventListener {
 
-  private final ProjectConfigProvider projectConfigProvider;
+  private final ProjectConfigCache projectConfigCache;
   private final UniqueErrorAnalysisStarter uniqueErrorAnalysisStarter;
 
   @Autowired
-  public StartLaunchUniqueErrorAnalysisEventListener(ProjectConfigProvider projectConfigProvider,
+  public StartLaunchUniqueErrorAnalysisEventListener(ProjectConfigCache projectConfigCache,
       @Qualifier("uniqueErrorAnalysisStarter") UniqueErrorAnalysisStarter uniqueErrorAnalysisStarter) {
-    this.projectConfigProvider = projectConfigProvider;
+    this.projectConfigCache = projectConfigCache;
     this.uniqueErrorAnalysisStarter = uniqueErrorAnalysisStarter;
   }
 
   @EventListener
   public void onApplicationEvent(LaunchStartUniqueErrorAnalysisEvent event) {
-    final Map<String, String> projectConfig = projectConfigProvider.provide(event.getProjectId());
+    final Map<String, String> projectConfig = projectConfigCache.provide(event.getProjectId());
     uniqueErrorAnalysisStarter.start(
         ClusterEntityContext.of(event.getLaunchId(), event.getProjectId()), projectConfig);
   }
@@ -19,7 +19,7 @@ package com.epam.reportportal.base.core.events.subscriber.impl.delegate;
 import com.epam.reportportal.base.core.events.domain.AbstractEvent;
 import com.epam.reportportal.base.core.events.handler.ConfigurableEventHandler;
 import com.epam.reportportal.base.core.events.subscriber.EventSubscriber;
-import com.epam.reportportal.base.core.project.config.ProjectConfigProvider;
+import com.epam.reportportal.base.core.project.config.ProjectConfigCache;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -38,18 +38,18 @@ public class ProjectConfigDelegatingSubscriber<T extends AbstractEvent<?>> imple
   private static final Logger LOGGER = LoggerFactory.getLogger(
       ProjectConfigDelegatingSubscriber.class);
 
-  private final ProjectConfigProvider projectConfigProvider;
+  private final ProjectConfigCache projectConfigCache;
   private final List<ConfigurableEventHandler<T, Map<String, String>>> eventHandlers;
 
-  public ProjectConfigDelegatingSubscriber(ProjectConfigProvider projectConfigProvider,
+  public ProjectConfigDelegatingSubscriber(ProjectConfigCache projectConfigCache,
       List<ConfigurableEventHandler<T, Map<String, String>>> eventHandlers) {
-    this.projectConfigProvider = projectConfigProvider;
+    this.projectConfigCache = projectConfigCache;
     this.eventHandlers = eventHandlers;
   }
 
   @Override
   public void handleEvent(T event) {
-    final Map<String, String> projectConfig = projectConfigProvider.provide(event.getProjectId());
+    final Map<String, String> projectConfig = projectConfigCache.provide(event.getProjectId());
     eventHandlers.forEach(h -> {
       try {
         h.handle(event, projectConfig);
@@ -17,15 +17,12 @@
 package com.epam.reportportal.base.core.hierarchy;
 
 import static com.epam.reportportal.base.core.item.impl.status.ToSkippedStatusChangingStrategy.SKIPPED_ISSUE_KEY;
-import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum.FAILED;
 import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum.IN_PROGRESS;
-import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum.PASSED;
 import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum.SKIPPED;
 import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemIssueGroup.TO_INVESTIGATE;
 import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum.SUITE;
 import static com.epam.reportportal.base.infrastructure.rules.commons.validation.BusinessRule.expect;
 import static com.epam.reportportal.base.infrastructure.rules.exception.ErrorType.INCORRECT_REQUEST;
-import static java.util.Optional.ofNullable;
 
 import com.epam.reportportal.base.core.item.impl.IssueTypeHandler;
 import com.epam.reportportal.base.core.item.impl.retry.RetryHandler;
@@ -35,38 +32,39 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.IssueEntityRepo
 import com.epam.reportportal.base.infrastructure.persistence.dao.ItemAttributeRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
-import com.epam.reportportal.base.infrastructure.persistence.entity.ItemAttribute;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueEntity;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueType;
 import com.epam.reportportal.base.infrastructure.persistence.entity.organization.MembershipDetails;
 import com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JStatusEnum;
-import com.epam.reportportal.base.job.PageUtil;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
 import org.apache.commons.lang3.BooleanUtils;
-import org.springframework.data.domain.Pageable;
 
 /**
- * Abstract base handler for finishing a hierarchy of test items or launches.
+ * Abstract base handler for finishing a hierarchy of test items or launches. Descendants are loaded by keyset pages of
+ * ids and finished by set-based statements per page: items without children first, then items with children level by
+ * level starting from the deepest one, so the status of every parent is resolved from already finished children.
  *
  * @param <T> the finish request type
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarchyHandler<T> {
 
-  public static final int ITEM_PAGE_SIZE = 50;
+  public static final int ITEM_PAGE_SIZE = 1000;
 
   public static final String ATTRIBUTE_KEY_STATUS = "status";
   public static final String ATTRIBUTE_VALUE_INTERRUPTED = "interrupted";
 
+  private static final List<String> NOT_ISSUE_AWARE_TYPES = Arrays.stream(TestItemTypeEnum.values())
+      .filter(SUITE::sameLevel)
+      .map(TestItemTypeEnum::name)
+      .toList();
+
   protected final LaunchRepository launchRepository;
   protected final TestItemRepository testItemRepository;
   protected final ItemAttributeRepository itemAttributeRepository;
@@ -111,15 +109,39 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
   protected abstract boolean isIssueRequired(StatusEnum status, T entity);
 
   /**
-   * Paged id loader for all descendants to finish under the parent.
+   * Keyset page of ids of descendants without children in the provided status, ordered by id.
+   *
+   * @param entity parent (launch or item) context
+   * @param status descendants status
+   * @param lastId the greatest id of the previous page, {@code 0} for the first page
+   * @param limit  page size
+   * @return ids of descendants
+   */
+  protected abstract List<Long> getItemIdsWithoutChildren(T entity, StatusEnum status, Long lastId,
+      int limit);
+
+  /**
+   * Path levels of descendants with children in the provided status, from the deepest one.
+   *
+   * @param entity parent (launch or item) context
+   * @param status descendants status
+   * @return path levels in descending order
+   */
+  protected abstract List<Integer> getPathLevelsWithChildren(T entity, StatusEnum status);
+
+  /**
+   * Keyset page of ids of descendants with children on the provided path level in the provided status, ordered by
+   * id.
    *
-   * @param hasChildren whether the parent has children
-   * @param entity      parent (launch or item) context
-   * @param status      target child status
-   * @return function mapping page to ids to update
+   * @param entity    parent (launch or item) context
+   * @param status    descendants status
+   * @param pathLevel path level of descendants
+   * @param lastId    the greatest id of the previous page, {@code 0} for the first page
+   * @param limit     page size
+   * @return ids of descendants
    */
-  protected abstract Function<Pageable, List<Long>> getItemIdsFunction(boolean hasChildren,
-      T entity, StatusEnum status);
+  protected abstract List<Long> getItemIdsWithChildren(T entity, StatusEnum status, int pathLevel,
+      Long lastId, int limit);
 
   /**
    * Whether a skipped run should be treated as interrupted for the given launch (from attributes).
@@ -169,110 +191,77 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
     return withoutChildren + withChildren;
   }
 
-  private int updateDescendantsWithoutChildren(T entity, MembershipDetails membershipDetails, StatusEnum status,
-      Instant endTime, ReportPortalUser user) {
-    Long projectId = membershipDetails.getProjectId();
-    AtomicInteger updatedCount = new AtomicInteger(0);
-    getIssueType(isIssueRequired(status, entity),
-        projectId,
+  private int updateDescendantsWithoutChildren(T entity, MembershipDetails membershipDetails,
+      StatusEnum status, Instant endTime, ReportPortalUser user) {
+    Optional<IssueType> issueType = getIssueType(isIssueRequired(status, entity),
+        membershipDetails.getProjectId(),
         TO_INVESTIGATE.getLocator()
-    ).ifPresentOrElse(issueType -> PageUtil.iterateOverContent(ITEM_PAGE_SIZE,
-            getItemIdsFunction(false, entity, IN_PROGRESS),
-            itemIdsWithoutChildrenHandler(issueType, status, endTime, membershipDetails, user, updatedCount)
-        ),
-        () -> PageUtil.iterateOverContent(ITEM_PAGE_SIZE,
-            getItemIdsFunction(false, entity, IN_PROGRESS),
-            itemIdsWithoutChildrenHandler(status, endTime, membershipDetails, user, updatedCount)
-        )
     );
-    return updatedCount.get();
+    return iterateOverIds((lastId, limit) -> getItemIdsWithoutChildren(entity, IN_PROGRESS, lastId,
+        limit), itemIds -> {
+      int updated = testItemRepository.finishInProgressItemsByIds(itemIds, status, endTime);
+      markInterrupted(itemIds);
+      issueType.ifPresent(
+          type -> issueEntityRepository.saveByItemIds(itemIds, type.getId(), NOT_ISSUE_AWARE_TYPES));
+      testItemRepository.findIdsWithRetriesByIds(itemIds).forEach(
+          itemId -> retryHandler.finishRetries(itemId, JStatusEnum.valueOf(status.name()),
+              endTime));
+      testItemRepository.findAllById(testItemRepository.findIdsWithNotInProgressParentByIds(itemIds))
+          .forEach(testItem -> changeStatusHandler.changeParentStatus(testItem, membershipDetails,
+              user));
+      return updated;
+    });
   }
 
-  private Consumer<List<Long>> itemIdsWithoutChildrenHandler(IssueType issueType, StatusEnum status,
-      Instant endTime,
-      MembershipDetails membershipDetails, ReportPortalUser user, AtomicInteger updatedCount) {
-    return itemIds -> {
-      Map<Long, TestItem> itemMapping = getItemMapping(itemIds);
-      itemIds.forEach(itemId -> ofNullable(itemMapping.get(itemId)).ifPresent(testItem -> {
-        finishItem(testItem, status, endTime);
-        attachIssue(testItem, issueType);
-        changeStatusHandler.changeParentStatus(testItem, membershipDetails, user);
-      }));
-      updatedCount.addAndGet(itemIds.size());
-    };
+  private int updateDescendantsWithChildren(T entity, Instant endTime) {
+    int updatedCount = 0;
+    for (Integer pathLevel : getPathLevelsWithChildren(entity, IN_PROGRESS)) {
+      updatedCount += iterateOverIds(
+          (lastId, limit) -> getItemIdsWithChildren(entity, IN_PROGRESS, pathLevel, lastId, limit),
+          itemIds -> {
+            int updated = testItemRepository.finishInProgressParentItemsByIds(itemIds, endTime);
+            markInterrupted(itemIds);
+            testItemRepository.findIdsWithRetriesByIds(itemIds).forEach(itemId -> {
+              boolean isFailed = testItemRepository.hasDescendantsNotInStatus(itemId,
+                  StatusEnum.PASSED.name(),
+                  StatusEnum.INFO.name(),
+                  StatusEnum.WARN.name()
+              );
+              retryHandler.finishRetries(itemId, isFailed ? JStatusEnum.FAILED : JStatusEnum.PASSED,
+                  endTime);
+            });
+            return updated;
+          }
+      );
+    }
+    return updatedCount;
   }
 
-  private Consumer<List<Long>> itemIdsWithoutChildrenHandler(StatusEnum status,
-      Instant endTime, MembershipDetails membershipDetails,
-      ReportPortalUser user, AtomicInteger updatedCount) {
-    return itemIds -> {
-      Map<Long, TestItem> itemMapping = getItemMapping(itemIds);
-      itemIds.forEach(itemId -> ofNullable(itemMapping.get(itemId)).ifPresent(testItem -> {
-        finishItem(testItem, status, endTime);
-        changeStatusHandler.changeParentStatus(testItem, membershipDetails, user);
-      }));
-      updatedCount.addAndGet(itemIds.size());
-    };
+  private void markInterrupted(List<Long> itemIds) {
+    itemAttributeRepository.saveByItemIds(itemIds, ATTRIBUTE_KEY_STATUS,
+        ATTRIBUTE_VALUE_INTERRUPTED, false);
   }
 
   /**
-   * Attach default issue to the item only if it wasn't already created
+   * Iterates over keyset pages of ids until a page is smaller than {@link #ITEM_PAGE_SIZE}
    *
-   * @param testItem  {@link TestItem}
-   * @param issueType {@link IssueType}
+   * @param pageLoader loads the page of ids ordered by id by the greatest id of the previous page and page size
+   * @param handler    processes the page and returns the count of updated items
+   * @return total count of updated items
    */
-  private void attachIssue(TestItem testItem, IssueType issueType) {
-    if (!SUITE.sameLevel(testItem.getType()) && testItem.isHasStats()) {
-      issueEntityRepository.findById(testItem.getItemId()).ifPresentOrElse(issue -> {
-      }, () -> {
-        IssueEntity issueEntity = new IssueEntity();
-        issueEntity.setIssueType(issueType);
-        issueEntity.setTestItemResults(testItem.getItemResults());
-        issueEntityRepository.save(issueEntity);
-        testItem.getItemResults().setIssue(issueEntity);
-      });
-    }
-  }
-
-  private int updateDescendantsWithChildren(T entity, Instant endTime) {
-    AtomicInteger updatedCount = new AtomicInteger(0);
-    PageUtil.iterateOverContent(ITEM_PAGE_SIZE,
-        getItemIdsFunction(true, entity, IN_PROGRESS),
-        itemIdsWithChildrenHandler(endTime, updatedCount)
-    );
-    return updatedCount.get();
-  }
-
-  private Consumer<List<Long>> itemIdsWithChildrenHandler(Instant endTime,
-      AtomicInteger updatedCount) {
-    return itemIds -> {
-      Map<Long, TestItem> itemMapping = getItemMapping(itemIds);
-      itemIds.forEach(itemId -> ofNullable(itemMapping.get(itemId)).ifPresent(testItem -> {
-        boolean isFailed = testItemRepository.hasDescendantsNotInStatus(testItem.getItemId(),
-            StatusEnum.PASSED.name(),
-            StatusEnum.INFO.name(),
-            StatusEnum.WARN.name()
-        );
-        finishItem(testItem, isFailed ? FAILED : PASSED, endTime);
-      }));
-      updatedCount.addAndGet(itemIds.size());
-    };
-  }
-
-  private Map<Long, TestItem> getItemMapping(List<Long> itemIds) {
-    return testItemRepository.findAllById(itemIds).stream()
-        .collect(Collectors.toMap(TestItem::getItemId, i -> i));
-  }
-
-  private void finishItem(TestItem testItem, StatusEnum status, Instant endTime) {
-    testItem.getItemResults().setStatus(status);
-    testItem.getItemResults().setEndTime(endTime);
-    ItemAttribute interruptedAttribute = new ItemAttribute(ATTRIBUTE_KEY_STATUS,
-        ATTRIBUTE_VALUE_INTERRUPTED, false);
-    interruptedAttribute.setTestItem(testItem);
-    testItem.getAttributes().add(interruptedAttribute);
-    if (testItem.isHasRetries()) {
-      retryHandler.finishRetries(testItem.getItemId(), JStatusEnum.valueOf(status.name()), endTime);
-    }
+  private static int iterateOverIds(BiFunction<Long, Integer, List<Long>> pageLoader,
+      ToIntFunction<List<Long>> handler) {
+    int updatedCount = 0;
+    long lastId = 0L;
+    List<Long> itemIds;
+    do {
+      itemIds = pageLoader.apply(lastId, ITEM_PAGE_SIZE);
+      if (itemIds.isEmpty()) {
+        break;
+      }
+      updatedCount += handler.applyAsInt(itemIds);
+      lastId = itemIds.get(itemIds.size() - 1);
+    } while (itemIds.size() >= ITEM_PAGE_SIZE);
+    return updatedCount;
   }
 }
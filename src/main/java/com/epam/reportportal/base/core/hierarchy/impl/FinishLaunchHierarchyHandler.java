@@ -29,9 +29,7 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemReposit
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import java.util.List;
-import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -64,20 +62,23 @@ public class FinishLaunchHierarchyHandler extends AbstractFinishHierarchyHandler
   }
 
   @Override
-  protected Function<Pageable, List<Long>> getItemIdsFunction(boolean hasChildren, Launch launch,
-      StatusEnum status) {
-    return hasChildren ?
-        pageable -> testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusOrderedByPathLevel(
-            launch.getId(),
-            status,
-            pageable.getPageSize(),
-            pageable.getOffset()
-        ) :
-        pageable -> testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatus(launch.getId(),
-            status,
-            pageable.getPageSize(),
-            pageable.getOffset()
-        );
+  protected List<Long> getItemIdsWithoutChildren(Launch launch, StatusEnum status, Long lastId,
+      int limit) {
+    return testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(
+        launch.getId(), status, lastId, limit);
+  }
+
+  @Override
+  protected List<Integer> getPathLevelsWithChildren(Launch launch, StatusEnum status) {
+    return testItemRepository.findPathLevelsByHasChildrenAndLaunchIdAndStatus(
+        launch.getId(), status);
+  }
+
+  @Override
+  protected List<Long> getItemIdsWithChildren(Launch launch, StatusEnum status, int pathLevel,
+      Long lastId, int limit) {
+    return testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(
+        launch.getId(), status, pathLevel, lastId, limit);
   }
 
 }
@@ -30,8 +30,6 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemReposit
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import java.util.List;
-import java.util.function.Function;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -65,21 +63,23 @@ public class FinishTestItemHierarchyHandler extends AbstractFinishHierarchyHandl
   }
 
   @Override
-  protected Function<Pageable, List<Long>> getItemIdsFunction(boolean hasChildren,
-      TestItem testItem, StatusEnum status) {
-    return hasChildren ?
-        pageable -> testItemRepository.findIdsByHasChildrenAndParentPathAndStatusOrderedByPathLevel(
-            testItem.getPath(),
-            StatusEnum.IN_PROGRESS,
-            pageable.getPageSize(),
-            pageable.getOffset()
-        ) :
-        pageable -> testItemRepository.findIdsByNotHasChildrenAndParentPathAndStatus(
-            testItem.getPath(),
-            status,
-            pageable.getPageSize(),
-            pageable.getOffset()
-        );
+  protected List<Long> getItemIdsWithoutChildren(TestItem testItem, StatusEnum status, Long lastId,
+      int limit) {
+    return testItemRepository.findIdsByNotHasChildrenAndParentPathAndStatusAfterId(
+        testItem.getPath(), status, lastId, limit);
+  }
+
+  @Override
+  protected List<Integer> getPathLevelsWithChildren(TestItem testItem, StatusEnum status) {
+    return testItemRepository.findPathLevelsByHasChildrenAndParentPathAndStatus(
+        testItem.getPath(), status);
+  }
+
+  @Override
+  protected List<Long> getItemIdsWithChildren(TestItem testItem, StatusEnum status, int pathLevel,
+      Long lastId, int limit) {
+    return testItemRepository.findIdsByHasChildrenAndParentPathAndStatusAndPathLevelAfterId(
+        testItem.getPath(), status, pathLevel, lastId, limit);
   }
 
 }
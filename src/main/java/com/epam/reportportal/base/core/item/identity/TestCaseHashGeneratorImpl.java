@@ -16,13 +16,11 @@
 
 package com.epam.reportportal.base.core.item.identity;
 
-import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.google.api.client.util.Lists;
 import com.google.common.base.Strings;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
@@ -34,10 +32,10 @@ import org.springframework.stereotype.Service;
 @Service
 public class TestCaseHashGeneratorImpl implements TestCaseHashGenerator {
 
-  private final TestItemRepository testItemRepository;
+  private final LaunchReportingContextCache launchReportingContextCache;
 
-  public TestCaseHashGeneratorImpl(TestItemRepository testItemRepository) {
-    this.testItemRepository = testItemRepository;
+  public TestCaseHashGeneratorImpl(LaunchReportingContextCache launchReportingContextCache) {
+    this.launchReportingContextCache = launchReportingContextCache;
   }
 
   @Override
@@ -49,7 +47,9 @@ public class TestCaseHashGeneratorImpl implements TestCaseHashGenerator {
     List<CharSequence> elements = Lists.newArrayList();
 
     elements.add(projectId.toString());
-    getPathNames(parentIds).stream().filter(StringUtils::isNotEmpty).forEach(elements::add);
+    launchReportingContextCache.getPathNames(item.getLaunchId(), parentIds).stream()
+        .filter(StringUtils::isNotEmpty)
+        .forEach(elements::add);
     elements.add(item.getName());
     item.getParameters()
         .stream()
@@ -60,12 +60,4 @@ public class TestCaseHashGeneratorImpl implements TestCaseHashGenerator {
 
     return String.join(";", elements);
   }
-
-  private List<String> getPathNames(List<Long> parentIds) {
-    return testItemRepository.findAllById(parentIds)
-        .stream()
-        .sorted(Comparator.comparingLong(TestItem::getItemId))
-        .map(TestItem::getName)
-        .collect(Collectors.toList());
-  }
 }
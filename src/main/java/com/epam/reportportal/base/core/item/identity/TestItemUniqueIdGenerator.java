@@ -16,12 +16,11 @@
 
 package com.epam.reportportal.base.core.item.identity;
 
-import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.Parameter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.google.common.base.Strings;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.StringJoiner;
@@ -42,11 +41,12 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 
   private static final String TRAIT = "auto:";
 
-  private TestItemRepository testItemRepository;
+  private LaunchReportingContextCache launchReportingContextCache;
 
   @Autowired
-  public void setTestItemRepository(TestItemRepository testItemRepository) {
-    this.testItemRepository = testItemRepository;
+  public void setLaunchReportingContextCache(
+      LaunchReportingContextCache launchReportingContextCache) {
+    this.launchReportingContextCache = launchReportingContextCache;
   }
 
   @Override
@@ -63,7 +63,7 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
   private String prepareForEncoding(TestItem testItem, List<Long> parentIds, Launch launch) {
     Long projectId = launch.getProjectId();
     String launchName = launch.getName();
-    List<String> pathNames = getPathNames(parentIds);
+    List<String> pathNames = launchReportingContextCache.getPathNames(launch.getId(), parentIds);
     String itemName = testItem.getName();
     StringJoiner joiner = new StringJoiner(";");
     joiner.add(projectId.toString()).add(launchName);
@@ -81,12 +81,4 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
     }
     return joiner.toString();
   }
-
-  private List<String> getPathNames(List<Long> parentIds) {
-    return testItemRepository.findAllById(parentIds)
-        .stream()
-        .sorted(Comparator.comparingLong(TestItem::getItemId))
-        .map(TestItem::getName)
-        .collect(Collectors.toList());
-  }
 }
@@ -32,6 +32,8 @@ import com.epam.reportportal.base.core.item.identity.UniqueIdGenerator;
 import com.epam.reportportal.base.core.item.impl.retry.RetryHandler;
 import com.epam.reportportal.base.core.item.impl.retry.RetrySearcher;
 import com.epam.reportportal.base.core.item.validator.parent.ParentItemValidator;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContext;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
 import com.epam.reportportal.base.core.launch.rerun.RerunHandler;
 import com.epam.reportportal.base.infrastructure.persistence.commons.Preconditions;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
@@ -87,6 +89,8 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
   private final RetrySearcher retrySearcher;
   private final RetryHandler retryHandler;
 
+  private final LaunchReportingContextCache launchReportingContextCache;
+
   @Autowired
   public StartTestItemHandlerImpl(TestItemRepository testItemRepository,
       LaunchRepository launchRepository,
@@ -94,7 +98,7 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
       RerunHandler rerunHandler,
       List<ParentItemValidator> parentItemValidators,
       @Qualifier("uniqueIdRetrySearcher") RetrySearcher retrySearcher,
-      RetryHandler retryHandler) {
+      RetryHandler retryHandler, LaunchReportingContextCache launchReportingContextCache) {
     this.testItemRepository = testItemRepository;
     this.launchRepository = launchRepository;
     this.uniqueIdGenerator = uniqueIdGenerator;
@@ -103,17 +107,19 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
     this.parentItemValidators = parentItemValidators;
     this.retrySearcher = retrySearcher;
     this.retryHandler = retryHandler;
+    this.launchReportingContextCache = launchReportingContextCache;
   }
 
   @Override
   public ItemCreatedRS startRootItem(ReportPortalUser user,
       MembershipDetails membershipDetails, StartTestItemRQ rq) {
-    Launch launch = launchRepository.findByUuid(rq.getLaunchUuid())
-        .orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, rq.getLaunchUuid()));
+    LaunchReportingContext context = getReportingContext(rq.getLaunchUuid());
+    Launch launch = context.getLaunch();
     validate(user, membershipDetails, rq, launch);
 
-    if (launch.isRerun()) {
-      Optional<ItemCreatedRS> rerunCreatedRs = rerunHandler.handleRootItem(rq, launch);
+    if (context.isRerun()) {
+      Optional<ItemCreatedRS> rerunCreatedRs = rerunHandler.handleRootItem(rq,
+          loadLaunch(context));
       if (rerunCreatedRs.isPresent()) {
         return rerunCreatedRs.get();
       }
@@ -135,10 +141,12 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
     boolean isRetry =
         BooleanUtils.toBoolean(rq.getRetry()) || StringUtils.isNotBlank(rq.getRetryOf());
 
-    Launch launch = launchRepository.findByUuid(rq.getLaunchUuid())
-        .orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, rq.getLaunchUuid()));
+    LaunchReportingContext context = getReportingContext(rq.getLaunchUuid());
+    // launch state is changed by rerun and retries handling, so the entity is required there
+    Launch launch =
+        context.isRerun() || isRetry ? loadLaunch(context) : context.getLaunch();
 
-    if (launch.isRerun()) {
+    if (context.isRerun()) {
       Optional<ItemCreatedRS> rerunCreatedRs = rerunHandler.handleChildItem(rq, launch, parentId);
       if (rerunCreatedRs.isPresent()) {
         return rerunCreatedRs.get();
@@ -189,10 +197,21 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
   private TestItem saveChildItem(Launch launch, TestItem childItem, TestItem parentItem) {
     childItem.setParentId(parentItem.getItemId());
     testItemRepository.save(childItem);
+    launchReportingContextCache.putItemName(launch.getId(), parentItem);
     generateUniqueId(launch, childItem, parentItem.getPath() + "." + childItem.getItemId());
     return childItem;
   }
 
+  private LaunchReportingContext getReportingContext(String launchUuid) {
+    return launchReportingContextCache.get(launchUuid)
+        .orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, launchUuid));
+  }
+
+  private Launch loadLaunch(LaunchReportingContext context) {
+    return launchRepository.findById(context.getLaunchId())
+        .orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, context.getLaunchId()));
+  }
+
   /**
    * Generates and sets {@link TestItem#getUniqueId()} and {@link TestItem#getTestCaseId()} if they are empty
    *
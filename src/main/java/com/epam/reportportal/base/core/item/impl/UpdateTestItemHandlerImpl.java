@@ -80,6 +80,7 @@ import com.epam.reportportal.base.ws.converter.builders.IssueEntityBuilder;
 import com.epam.reportportal.base.ws.converter.builders.TestItemBuilder;
 import com.epam.reportportal.base.ws.converter.converters.IssueConverter;
 import com.epam.reportportal.base.ws.converter.converters.ItemAttributeConverter;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -267,6 +268,8 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
     }
     testItem = new TestItemBuilder(testItem).overwriteAttributes(rq.getAttributes())
         .addDescription(rq.getDescription()).get();
+    // attribute changes alone don't make the item dirty, widget views are updated by the modification time
+    testItem.setLastModified(Instant.now());
     testItemRepository.save(testItem);
 
     return COMPOSE_UPDATE_RESPONSE.apply(itemId);
@@ -377,11 +380,13 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
         NOT_FOUND, membershipDetails.getProjectId());
 
     List<TestItem> items = testItemRepository.findAllById(bulkUpdateRq.getIds());
+    Instant modified = Instant.now();
     items.forEach(
         it -> {
           validate(membershipDetails, user, it);
           ItemInfoUtils.updateDescription(bulkUpdateRq.getDescription(), it.getDescription())
               .ifPresent(it::setDescription);
+          it.setLastModified(modified);
         });
 
     bulkUpdateRq.getAttributes().forEach(it -> {
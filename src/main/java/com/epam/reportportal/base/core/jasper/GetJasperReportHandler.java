@@ -17,6 +17,7 @@
 
 package com.epam.reportportal.base.core.jasper;
 
+import java.io.OutputStream;
 import java.util.Map;
 import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JasperPrint;
@@ -55,6 +56,15 @@ public interface GetJasperReportHandler<T> {
    */
   byte[] exportReportBytes(ReportFormat format, JasperPrint jasperPrint);
 
+  /**
+   * Write rendered report to the output stream.
+   *
+   * @param format      Report format
+   * @param jasperPrint Report Data
+   * @param output      Stream to write the report to, it is not closed
+   */
+  void exportReport(ReportFormat format, JasperPrint jasperPrint, OutputStream output);
+
   /**
    * Convert entity parameters for {@link JasperPrint} creation
    *
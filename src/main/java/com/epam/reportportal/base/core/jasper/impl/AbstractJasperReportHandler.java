@@ -23,6 +23,7 @@ import com.epam.reportportal.base.infrastructure.rules.commons.validation.Suppli
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Set;
 import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JasperExportManager;
@@ -80,25 +81,30 @@ public abstract class AbstractJasperReportHandler<T> implements GetJasperReportH
 
   @Override
   public byte[] exportReportBytes(ReportFormat format, JasperPrint jasperPrint) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    exportReport(format, jasperPrint, output);
+    return output.toByteArray();
+  }
+
+  @Override
+  public void exportReport(ReportFormat format, JasperPrint jasperPrint, OutputStream output) {
     try {
       switch (format) {
         case PDF:
-          return JasperExportManager.exportReportToPdf(jasperPrint);
+          JasperExportManager.exportReportToPdfStream(jasperPrint, output);
+          break;
         case HTML:
-          ByteArrayOutputStream htmlOutput = new ByteArrayOutputStream();
           HtmlExporter exporter = new HtmlExporter();
           exporter.setExporterInput(new SimpleExporterInput(jasperPrint));
-          exporter.setExporterOutput(new SimpleHtmlExporterOutput(htmlOutput));
+          exporter.setExporterOutput(new SimpleHtmlExporterOutput(output));
 
           SimpleHtmlReportConfiguration htmlConfig = new SimpleHtmlReportConfiguration();
           htmlConfig.setWhitePageBackground(false);
           htmlConfig.setRemoveEmptySpaceBetweenRows(true);
           exporter.setConfiguration(htmlConfig);
           exporter.exportReport();
-          return htmlOutput.toByteArray();
+          break;
         case XLS:
-          ByteArrayOutputStream xlsOutput = new ByteArrayOutputStream();
-
           SimpleXlsReportConfiguration configuration = new SimpleXlsReportConfiguration();
           configuration.setOnePagePerSheet(false);
           configuration.setDetectCellType(true);
@@ -107,22 +113,20 @@ public abstract class AbstractJasperReportHandler<T> implements GetJasperReportH
 
           JRXlsExporter xlsExporter = new JRXlsExporter();
           xlsExporter.setExporterInput(new SimpleExporterInput(jasperPrint));
-          xlsExporter.setExporterOutput(new SimpleOutputStreamExporterOutput(xlsOutput));
+          xlsExporter.setExporterOutput(new SimpleOutputStreamExporterOutput(output));
           xlsExporter.setConfiguration(configuration);
           xlsExporter.exportReport();
-          return xlsOutput.toByteArray();
+          break;
         case CSV:
         case TEXT_CSV:
-          ByteArrayOutputStream csvOutput = new ByteArrayOutputStream();
-
           JRCsvExporter jrCsvExporter = new JRCsvExporter();
           jrCsvExporter.setExporterInput(new SimpleExporterInput(jasperPrint));
-          jrCsvExporter.setExporterOutput(new SimpleWriterExporterOutput(csvOutput));
+          jrCsvExporter.setExporterOutput(new SimpleWriterExporterOutput(output));
 
           SimpleCsvExporterConfiguration csvExporterConfiguration = new SimpleCsvExporterConfiguration();
           jrCsvExporter.setConfiguration(csvExporterConfiguration);
           jrCsvExporter.exportReport();
-          return csvOutput.toByteArray();
+          break;
         default:
           throw new UnsupportedOperationException(format.getValue());
       }
@@ -137,7 +141,6 @@ public abstract class AbstractJasperReportHandler<T> implements GetJasperReportH
               )
           );
     }
-    return new byte[]{};
   }
 
   /**
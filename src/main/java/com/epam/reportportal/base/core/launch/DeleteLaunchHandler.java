@@ -19,7 +19,8 @@ package com.epam.reportportal.base.core.launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.entity.organization.MembershipDetails;
-import com.epam.reportportal.base.model.DeleteBulkRS;
+import com.epam.reportportal.base.model.launch.DeleteLaunchesRS;
+import com.epam.reportportal.base.model.launch.LaunchDeletionRS;
 import com.epam.reportportal.base.reporting.OperationCompletionRS;
 import java.util.List;
 
@@ -44,13 +45,24 @@ public interface DeleteLaunchHandler {
       ReportPortalUser user);
 
   /**
-   * Bulk launches delete.
+   * Bulk launches delete. Validated launches are deleted in background by the deletion job.
    *
    * @param ids               list of launch ids
    * @param membershipDetails Membership details
    * @param user              User
    * @return DeleteLaunchesRS
    */
-  DeleteBulkRS deleteLaunches(List<Long> ids,
+  DeleteLaunchesRS deleteLaunches(List<Long> ids,
       MembershipDetails membershipDetails, ReportPortalUser user);
+
+  /**
+   * Get state of the launches deletion job
+   *
+   * @param jobId             ID of the deletion job
+   * @param membershipDetails Membership details
+   * @param user              User
+   * @return LaunchDeletionRS
+   */
+  LaunchDeletionRS getDeletionStatus(String jobId, MembershipDetails membershipDetails,
+      ReportPortalUser user);
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.launch.cache;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reporting state of a launch in progress: a detached copy of the launch fields required to start test items and the
+ * names of the launch items that already have descendants.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class LaunchReportingContext {
+
+  private final Launch launch;
+
+  private final Map<Long, String> itemNames = new ConcurrentHashMap<>();
+
+  private final int maxItemNames;
+
+  LaunchReportingContext(Launch launch, int maxItemNames) {
+    this.launch = snapshot(launch);
+    this.maxItemNames = maxItemNames;
+  }
+
+  /**
+   * Detached copy of the launch. It must not be used for modification of the launch, the entity should be loaded for
+   * that.
+   *
+   * @return {@link Launch}
+   */
+  public Launch getLaunch() {
+    return launch;
+  }
+
+  public Long getLaunchId() {
+    return launch.getId();
+  }
+
+  public boolean isRerun() {
+    return launch.isRerun();
+  }
+
+  Optional<String> getItemName(Long itemId) {
+    return Optional.ofNullable(itemNames.get(itemId));
+  }
+
+  void putItemName(Long itemId, String name) {
+    if (name != null && (itemNames.size() < maxItemNames || itemNames.containsKey(itemId))) {
+      itemNames.put(itemId, name);
+    }
+  }
+
+  private static Launch snapshot(Launch launch) {
+    Launch snapshot = new Launch();
+    snapshot.setId(launch.getId());
+    snapshot.setUuid(launch.getUuid());
+    snapshot.setProjectId(launch.getProjectId());
+    snapshot.setUserId(launch.getUserId());
+    snapshot.setName(launch.getName());
+    snapshot.setNumber(launch.getNumber());
+    snapshot.setStartTime(launch.getStartTime());
+    snapshot.setMode(launch.getMode());
+    snapshot.setRerun(launch.isRerun());
+    return snapshot;
+  }
+}
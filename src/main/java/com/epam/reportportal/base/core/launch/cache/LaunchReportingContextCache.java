@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.launch.cache;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of {@link LaunchReportingContext} by launch uuid. A context is created when a launch is started and
+ * is evicted when the launch is finished, stopped or deleted, so starting of test items doesn't need to look up the
+ * launch and the names of the item ancestors on every request.
+ *
+ * <p>The cache is local to an instance. An instance that didn't start the launch loads the context on the first
+ * request. Evictions are broadcast to all instances by {@link LaunchReportingContextCacheInvalidator}.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+public class LaunchReportingContextCache {
+
+  private final LaunchRepository launchRepository;
+
+  private final TestItemRepository testItemRepository;
+
+  private final int maxItemNames;
+
+  private final Cache<String, LaunchReportingContext> contexts;
+
+  private final Map<Long, String> uuidsById = new ConcurrentHashMap<>();
+
+  @Autowired
+  public LaunchReportingContextCache(LaunchRepository launchRepository,
+      TestItemRepository testItemRepository,
+      @Value("${rp.environment.variable.reporting-context.cache.size}") int maxLaunches,
+      @Value("${rp.environment.variable.reporting-context.cache.expire}") Duration expire,
+      @Value("${rp.environment.variable.reporting-context.cache.item-names}") int maxItemNames) {
+    this.launchRepository = launchRepository;
+    this.testItemRepository = testItemRepository;
+    this.maxItemNames = maxItemNames;
+    this.contexts = Caffeine.newBuilder()
+        .maximumSize(maxLaunches)
+        .expireAfterAccess(expire)
+        .<String, LaunchReportingContext>evictionListener(
+            (uuid, context, cause) -> uuidsById.remove(context.getLaunchId(), uuid))
+        .build();
+  }
+
+  /**
+   * Caches the context of the started launch.
+   *
+   * @param launch Started {@link Launch}
+   */
+  public void put(Launch launch) {
+    LaunchReportingContext context = new LaunchReportingContext(launch, maxItemNames);
+    uuidsById.put(launch.getId(), launch.getUuid());
+    contexts.put(launch.getUuid(), context);
+  }
+
+  /**
+   * Gets the context of the launch, loading the launch if it isn't cached.
+   *
+   * @param launchUuid {@link Launch#getUuid()}
+   * @return {@link LaunchReportingContext} or {@link Optional#empty()} if the launch doesn't exist
+   */
+  public Optional<LaunchReportingContext> get(String launchUuid) {
+    LaunchReportingContext context = contexts.getIfPresent(launchUuid);
+    if (context != null) {
+      return Optional.of(context);
+    }
+    return launchRepository.findByUuid(launchUuid).map(launch -> {
+      put(launch);
+      return contexts.getIfPresent(launch.getUuid());
+    });
+  }
+
+  /**
+   * Remembers the name of the item which has descendants in the launch.
+   *
+   * @param launchId {@link Launch#getId()}
+   * @param item     Parent {@link TestItem}
+   */
+  public void putItemName(Long launchId, TestItem item) {
+    findById(launchId).ifPresent(
+        context -> context.putItemName(item.getItemId(), item.getName()));
+  }
+
+  /**
+   * Resolves the names of the item ancestors ordered by id. Names missed in the cache are loaded by a single query.
+   *
+   * @param launchId  {@link Launch#getId()} of the item, can be <code>null</code>
+   * @param parentIds Ids of the item ancestors
+   * @return Names of the ancestors
+   */
+  public List<String> getPathNames(Long launchId, List<Long> parentIds) {
+    Optional<LaunchReportingContext> context = findById(launchId);
+    Map<Long, String> names = new HashMap<>();
+    List<Long> missed = new ArrayList<>();
+    parentIds.forEach(id -> context.flatMap(it -> it.getItemName(id))
+        .ifPresentOrElse(name -> names.put(id, name), () -> missed.add(id)));
+    if (!missed.isEmpty()) {
+      testItemRepository.findAllById(missed).forEach(item -> {
+        names.put(item.getItemId(), item.getName());
+        context.ifPresent(it -> it.putItemName(item.getItemId(), item.getName()));
+      });
+    }
+    return parentIds.stream().sorted().filter(names::containsKey).map(names::get).toList();
+  }
+
+  /**
+   * Evicts the context of the launch.
+   *
+   * @param launchId {@link Launch#getId()}
+   */
+  public void evict(Long launchId) {
+    Optional.ofNullable(launchId).map(uuidsById::remove).ifPresent(contexts::invalidate);
+  }
+
+  /**
+   * Evicts the contexts of the launches described by the invalidation.
+   *
+   * @param invalidation {@link LaunchReportingContextInvalidation}
+   */
+  public void invalidate(LaunchReportingContextInvalidation invalidation) {
+    invalidation.getLaunchIds().forEach(this::evict);
+  }
+
+  private Optional<LaunchReportingContext> findById(Long launchId) {
+    return Optional.ofNullable(launchId).map(uuidsById::get).map(contexts::getIfPresent);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.launch.cache;
+
+import static com.epam.reportportal.base.core.configs.rabbit.InternalConfiguration.EXCHANGE_EVENTS;
+
+import com.epam.reportportal.base.core.events.MessageBus;
+import com.epam.reportportal.base.core.events.domain.LaunchDeletedEvent;
+import com.epam.reportportal.base.core.events.domain.LaunchFinishedEvent;
+import com.epam.reportportal.base.model.activity.LaunchActivityResource;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached launch reporting contexts when the launch state they hold is changed. An invalidation is applied to the
+ * local {@link LaunchReportingContextCache} and broadcast to the other API instances, so an instance doesn't keep
+ * reporting into a launch by a stale snapshot, e.g. without the rerun flag.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Slf4j
+@Component
+public class LaunchReportingContextCacheInvalidator {
+
+  private final LaunchReportingContextCache launchReportingContextCache;
+
+  private final MessageBus messageBus;
+
+  public LaunchReportingContextCacheInvalidator(
+      LaunchReportingContextCache launchReportingContextCache, MessageBus messageBus) {
+    this.launchReportingContextCache = launchReportingContextCache;
+    this.messageBus = messageBus;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLaunchFinished(LaunchFinishedEvent event) {
+    invalidate(LaunchReportingContextInvalidation.ofLaunches(
+        Stream.ofNullable(event.getId()).toList()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLaunchDeleted(LaunchDeletedEvent event) {
+    invalidate(LaunchReportingContextInvalidation.ofLaunches(
+        Stream.ofNullable(event.getBefore()).map(LaunchActivityResource::getId).toList()));
+  }
+
+  /**
+   * Published by the handlers which change the launch fields held by the context of a launch in progress, e.g. by
+   * the start of a rerun.
+   *
+   * @param invalidation {@link LaunchReportingContextInvalidation}
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onInvalidation(LaunchReportingContextInvalidation invalidation) {
+    invalidate(invalidation);
+  }
+
+  /**
+   * Applies the invalidation locally and sends it to the other instances.
+   *
+   * @param invalidation {@link LaunchReportingContextInvalidation}
+   */
+  public void invalidate(LaunchReportingContextInvalidation invalidation) {
+    if (invalidation.isEmpty()) {
+      return;
+    }
+    launchReportingContextCache.invalidate(invalidation);
+    try {
+      messageBus.publish(EXCHANGE_EVENTS, "", invalidation);
+    } catch (Exception e) {
+      log.error("Unable to broadcast launch reporting context invalidation {}", invalidation, e);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.launch.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Describes cached launch reporting contexts to be dropped on every API instance.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class LaunchReportingContextInvalidation {
+
+  private Set<Long> launchIds = new HashSet<>();
+
+  public static LaunchReportingContextInvalidation ofLaunches(Collection<Long> launchIds) {
+    LaunchReportingContextInvalidation invalidation = new LaunchReportingContextInvalidation();
+    invalidation.setLaunchIds(launchIds.stream().filter(Objects::nonNull)
+        .collect(Collectors.toSet()));
+    return invalidation;
+  }
+
+  public boolean isEmpty() {
+    return launchIds.isEmpty();
+  }
+}
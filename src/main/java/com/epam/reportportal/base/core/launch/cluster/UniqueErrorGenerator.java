@@ -18,7 +18,7 @@ package com.epam.reportportal.base.core.launch.cluster;
 
 import static com.epam.reportportal.base.infrastructure.rules.commons.validation.BusinessRule.expect;
 
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.launch.cluster.config.ClusterEntityContext;
 import com.epam.reportportal.base.core.launch.cluster.config.GenerateClustersConfig;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
@@ -42,16 +42,16 @@ public class UniqueErrorGenerator implements ClusterGenerator {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(UniqueErrorGeneratorAsync.class);
 
-  private final AnalyzerStatusCache analyzerStatusCache;
+  private final AnalysisStatusRegistry analysisStatusRegistry;
 
   private final PipelineConstructor<GenerateClustersConfig> generateClustersPipelineConstructor;
   private final TransactionalPipeline transactionalPipeline;
 
   @Autowired
-  public UniqueErrorGenerator(AnalyzerStatusCache analyzerStatusCache,
+  public UniqueErrorGenerator(AnalysisStatusRegistry analysisStatusRegistry,
       PipelineConstructor<GenerateClustersConfig> generateClustersPipelineConstructor,
       TransactionalPipeline transactionalPipeline) {
-    this.analyzerStatusCache = analyzerStatusCache;
+    this.analysisStatusRegistry = analysisStatusRegistry;
     this.generateClustersPipelineConstructor = generateClustersPipelineConstructor;
     this.transactionalPipeline = transactionalPipeline;
   }
@@ -63,15 +63,9 @@ public class UniqueErrorGenerator implements ClusterGenerator {
   }
 
   protected void fillCache(ClusterEntityContext entityContext) {
-    checkDuplicate(entityContext);
-    analyzerStatusCache.analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY, entityContext.getLaunchId(),
-        entityContext.getProjectId());
-  }
-
-  private void checkDuplicate(ClusterEntityContext entityContext) {
-    expect(analyzerStatusCache.containsLaunchId(AnalyzerStatusCache.CLUSTER_KEY,
-            entityContext.getLaunchId()),
-        Predicate.isEqual(false)
+    expect(analysisStatusRegistry.analyzeStarted(AnalysisStatusRegistry.CLUSTER_KEY,
+            entityContext.getLaunchId(), entityContext.getProjectId()),
+        Predicate.isEqual(true)
     ).verify(ErrorType.UNABLE_INTERACT_WITH_INTEGRATION, "Clusters creation is in progress.");
   }
 
@@ -88,7 +82,7 @@ public class UniqueErrorGenerator implements ClusterGenerator {
   }
 
   protected void cleanCache(ClusterEntityContext entityContext) {
-    analyzerStatusCache.analyzeFinished(AnalyzerStatusCache.CLUSTER_KEY,
+    analysisStatusRegistry.analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId());
   }
 
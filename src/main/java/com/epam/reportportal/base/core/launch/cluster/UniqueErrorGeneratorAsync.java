@@ -16,7 +16,7 @@
 
 package com.epam.reportportal.base.core.launch.cluster;
 
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.launch.cluster.config.GenerateClustersConfig;
 import com.epam.reportportal.base.pipeline.PipelineConstructor;
 import com.epam.reportportal.base.pipeline.TransactionalPipeline;
@@ -40,11 +40,11 @@ public class UniqueErrorGeneratorAsync extends UniqueErrorGenerator {
   private final TaskExecutor logClusterExecutor;
 
   @Autowired
-  public UniqueErrorGeneratorAsync(AnalyzerStatusCache analyzerStatusCache,
+  public UniqueErrorGeneratorAsync(AnalysisStatusRegistry analysisStatusRegistry,
       PipelineConstructor<GenerateClustersConfig> generateClustersPipelineConstructor,
       TransactionalPipeline transactionalPipeline,
       @Qualifier(value = "logClusterExecutor") TaskExecutor logClusterExecutor) {
-    super(analyzerStatusCache, generateClustersPipelineConstructor, transactionalPipeline);
+    super(analysisStatusRegistry, generateClustersPipelineConstructor, transactionalPipeline);
     this.logClusterExecutor = logClusterExecutor;
   }
 
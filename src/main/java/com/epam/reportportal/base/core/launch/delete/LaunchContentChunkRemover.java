@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.launch.delete;
+
+import com.epam.reportportal.base.core.events.domain.LaunchDeletedEvent;
+import com.epam.reportportal.base.core.remover.ContentRemover;
+import com.epam.reportportal.base.infrastructure.persistence.dao.AttachmentRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchDeletionJobRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJob;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJobLaunch;
+import com.epam.reportportal.base.model.activity.LaunchActivityResource;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Removes launch content by bounded chunks. The deletion job calls it without an outer transaction, so every chunk is
+ * removed in a separate transaction, row locks are held only for a short time and don't stall reporting into other
+ * launches.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Service
+@RequiredArgsConstructor
+public class LaunchContentChunkRemover {
+
+  private final ContentRemover<Launch> launchContentRemover;
+
+  private final LaunchRepository launchRepository;
+
+  private final TestItemRepository testItemRepository;
+
+  private final LogRepository logRepository;
+
+  private final AttachmentRepository attachmentRepository;
+
+  private final LaunchDeletionJobRepository launchDeletionJobRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional
+  public void removeLaunchContent(Long launchId) {
+    launchRepository.findById(launchId).ifPresent(launchContentRemover::remove);
+  }
+
+  /**
+   * @param itemIds Ids of the items which logs should be removed
+   * @param limit   Max count of logs to remove
+   * @return Count of removed logs
+   */
+  @Transactional
+  public int removeItemLogs(Collection<Long> itemIds, int limit) {
+    return logRepository.deleteByItemIdsWithLimit(itemIds, limit);
+  }
+
+  /**
+   * Removes items and moves their attachments for deletion. Descendants of the items should be removed beforehand.
+   *
+   * @param itemIds Ids of the items to remove
+   */
+  @Transactional
+  public void removeItems(Collection<Long> itemIds) {
+    attachmentRepository.moveForDeletionByItems(itemIds);
+    testItemRepository.deleteItemsByIds(itemIds);
+  }
+
+  /**
+   * @param launchId Id of the launch which logs should be removed
+   * @param limit    Max count of logs to remove
+   * @return Count of removed logs
+   */
+  @Transactional
+  public int removeLaunchLogs(Long launchId, int limit) {
+    return logRepository.deleteByLaunchIdWithLimit(launchId, limit);
+  }
+
+  /**
+   * Removes the launch which content is already removed, marks it as deleted in the job and publishes
+   * {@link LaunchDeletedEvent}. The event is not published again if the launch was removed by a resumed job.
+   *
+   * @param job       {@link LaunchDeletionJob} the launch belongs to
+   * @param jobLaunch {@link LaunchDeletionJobLaunch} to remove
+   */
+  @Transactional
+  public void removeLaunch(LaunchDeletionJob job, LaunchDeletionJobLaunch jobLaunch) {
+    Long launchId = jobLaunch.getLaunchId();
+    boolean exists = launchRepository.existsById(launchId);
+    if (exists) {
+      attachmentRepository.moveForDeletionByLaunchId(launchId);
+      launchRepository.deleteById(launchId);
+    }
+    launchDeletionJobRepository.updateLaunchStatus(jobLaunch.getId(),
+        LaunchDeletionJobLaunch.Status.DELETED);
+    if (exists) {
+      LaunchActivityResource launchActivity = new LaunchActivityResource();
+      launchActivity.setId(launchId);
+      launchActivity.setProjectId(job.getProjectId());
+      launchActivity.setName(jobLaunch.getLaunchName());
+      eventPublisher.publishEvent(
+          new LaunchDeletedEvent(launchActivity, job.getUserId(), job.getUserLogin(),
+              job.getOrganizationId()));
+    }
+  }
+}
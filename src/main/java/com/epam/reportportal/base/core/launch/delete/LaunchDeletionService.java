@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.launch.delete;
+
+import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
+import com.epam.reportportal.base.core.log.LogService;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchDeletionJobRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJob;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJobLaunch;
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.epam.reportportal.base.model.activity.LaunchActivityResource;
+import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Deletes launches in background. Launches are marked as deleting until they are removed, items are removed by
+ * chunks starting from the deepest ones, logs are removed by chunks of limited size, every chunk in a separate
+ * transaction.
+ *
+ * <p>Jobs and the deleting marks of their launches are stored in the database, so they are visible to all instances.
+ * A running job is owned by the instance holding its lease. The lease is prolonged while the job is running, a job
+ * which lease is expired because its instance is gone is resumed by another instance or after a restart. Completed jobs
+ * are removed after {@code expire}.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Service
+public class LaunchDeletionService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LaunchDeletionService.class);
+
+  private final LaunchContentChunkRemover chunkRemover;
+
+  private final TestItemRepository testItemRepository;
+
+  private final LaunchDeletionJobRepository jobRepository;
+
+  private final LogIndexer logIndexer;
+
+  private final LogService logService;
+
+  private final TaskExecutor launchDeletionExecutor;
+
+  private final int itemsChunkSize;
+
+  private final int logsChunkSize;
+
+  private final Duration expire;
+
+  private final Duration leaseTtl;
+
+  private final String instanceId = UUID.randomUUID().toString();
+
+  private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+  public LaunchDeletionService(LaunchContentChunkRemover chunkRemover,
+      TestItemRepository testItemRepository, LaunchDeletionJobRepository jobRepository,
+      LogIndexer logIndexer, LogService logService,
+      @Qualifier("launchDeletionExecutor") TaskExecutor launchDeletionExecutor,
+      @Value("${rp.environment.variable.launch.deletion.items-chunk-size}") int itemsChunkSize,
+      @Value("${rp.environment.variable.launch.deletion.logs-chunk-size}") int logsChunkSize,
+      @Value("${rp.environment.variable.launch.deletion.jobs.expire}") Duration expire,
+      @Value("${rp.environment.variable.launch.deletion.jobs.lease-ttl}") Duration leaseTtl) {
+    this.chunkRemover = chunkRemover;
+    this.testItemRepository = testItemRepository;
+    this.jobRepository = jobRepository;
+    this.logIndexer = logIndexer;
+    this.logService = logService;
+    this.launchDeletionExecutor = launchDeletionExecutor;
+    this.itemsChunkSize = itemsChunkSize;
+    this.logsChunkSize = logsChunkSize;
+    this.expire = expire;
+    this.leaseTtl = leaseTtl;
+  }
+
+  /**
+   * @param launchId Launch id
+   * @return true if the launch is being deleted by one of the jobs
+   */
+  public boolean isDeleting(Long launchId) {
+    return jobRepository.isLaunchDeleting(launchId);
+  }
+
+  /**
+   * Marks launches as deleting and starts their deletion in background after the current transaction is committed.
+   * Launches which are already being deleted by another job are rejected.
+   *
+   * @param projectId      Id of the project the launches belong to
+   * @param organizationId Id of the organization the project belongs to
+   * @param userId         Id of the user who deletes launches
+   * @param userLogin      Login of the user who deletes launches
+   * @param launches       Launch ids with their state before deletion
+   * @return Accepted {@link LaunchDeletionJob}
+   */
+  public LaunchDeletionJob submit(Long projectId, Long organizationId, Long userId,
+      String userLogin, Map<Long, LaunchActivityResource> launches) {
+    Instant now = Instant.now();
+    LaunchDeletionJob job = new LaunchDeletionJob();
+    job.setId(UUID.randomUUID().toString());
+    job.setProjectId(projectId);
+    job.setOrganizationId(organizationId);
+    job.setUserId(userId);
+    job.setUserLogin(userLogin);
+    job.setStatus(LaunchDeletionJob.Status.IN_PROGRESS);
+    job.setStartTime(now);
+    job.setLockedBy(instanceId);
+    job.setLockUntil(now.plus(leaseTtl));
+    launches.forEach((launchId, launch) -> job.addLaunch(launchId, launch.getName()));
+    try {
+      jobRepository.saveAndFlush(job);
+    } catch (DataIntegrityViolationException e) {
+      throw new ReportPortalException(ErrorType.FORBIDDEN_OPERATION,
+          "Launches " + launches.keySet() + " are already being deleted");
+    }
+    afterCommit(() -> start(job.getId()));
+    return job;
+  }
+
+  public Optional<LaunchDeletionJob> getJob(String jobId) {
+    return jobRepository.findWithLaunchesById(jobId);
+  }
+
+  /**
+   * Deletes launches of the job which are not deleted yet in the calling thread. The caller must hold the lease of the
+   * job.
+   *
+   * @param jobId Id of the {@link LaunchDeletionJob}
+   */
+  public void process(String jobId) {
+    Optional<LaunchDeletionJob> found = jobRepository.findWithLaunchesById(jobId)
+        .filter(job -> LaunchDeletionJob.Status.IN_PROGRESS == job.getStatus());
+    if (found.isEmpty()) {
+      return;
+    }
+    LaunchDeletionJob job = found.get();
+    job.getLaunches().stream()
+        .filter(launch -> LaunchDeletionJobLaunch.Status.DELETING == launch.getStatus())
+        .forEach(launch -> {
+          try {
+            deleteLaunch(job, launch);
+          } catch (Exception e) {
+            LOGGER.error("Unable to delete launch '{}' by job '{}'", launch.getLaunchId(),
+                job.getId(), e);
+            jobRepository.updateLaunchStatus(launch.getId(),
+                LaunchDeletionJobLaunch.Status.FAILED);
+          }
+        });
+    jobRepository.finish(jobId, LaunchDeletionJob.Status.COMPLETED, Instant.now());
+  }
+
+  /**
+   * Resumes unfinished jobs which lease is expired on application startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeOnStartup() {
+    resumeAbandoned();
+  }
+
+  /**
+   * Prolongs leases of the jobs running on this instance, resumes jobs abandoned by other instances and removes
+   * expired completed jobs.
+   */
+  @Scheduled(fixedDelayString = "${rp.environment.variable.launch.deletion.jobs.heartbeat}")
+  public void heartbeat() {
+    Set<String> running = Set.copyOf(runningJobs);
+    if (!running.isEmpty()) {
+      jobRepository.prolongLease(running, instanceId, Instant.now().plus(leaseTtl));
+    }
+    resumeAbandoned();
+    jobRepository.deleteFinishedBefore(LaunchDeletionJob.Status.COMPLETED,
+        Instant.now().minus(expire));
+  }
+
+  private void resumeAbandoned() {
+    Instant now = Instant.now();
+    List<String> abandoned = jobRepository.findIdsWithExpiredLease(
+        LaunchDeletionJob.Status.IN_PROGRESS, now);
+    abandoned.forEach(jobId -> {
+      if (jobRepository.acquireLease(jobId, LaunchDeletionJob.Status.IN_PROGRESS, instanceId, now,
+          now.plus(leaseTtl)) > 0) {
+        LOGGER.info("Resuming launches deletion job '{}'", jobId);
+        start(jobId);
+      }
+    });
+  }
+
+  private void start(String jobId) {
+    runningJobs.add(jobId);
+    try {
+      launchDeletionExecutor.execute(() -> {
+        try {
+          process(jobId);
+        } finally {
+          runningJobs.remove(jobId);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // the lease is not prolonged, so the job is resumed when it is expired
+      runningJobs.remove(jobId);
+      LOGGER.warn("Launches deletion job '{}' is postponed, the executor is saturated", jobId);
+    }
+  }
+
+  private void deleteLaunch(LaunchDeletionJob job, LaunchDeletionJobLaunch jobLaunch) {
+    Long launchId = jobLaunch.getLaunchId();
+    logIndexer.indexLaunchesRemove(job.getProjectId(), Lists.newArrayList(launchId));
+    logService.deleteLogMessageByLaunch(job.getProjectId(), launchId);
+    chunkRemover.removeLaunchContent(launchId);
+
+    // children always have greater ids than their parents, so every chunk goes after the chunks of descendants
+    List<Long> itemIds = testItemRepository.findIdsByLaunchIdOrderByIdDesc(launchId);
+    Lists.partition(itemIds, itemsChunkSize).forEach(chunk -> {
+      removeLogs(() -> chunkRemover.removeItemLogs(chunk, logsChunkSize));
+      chunkRemover.removeItems(chunk);
+    });
+    removeLogs(() -> chunkRemover.removeLaunchLogs(launchId, logsChunkSize));
+    chunkRemover.removeLaunch(job, jobLaunch);
+    LOGGER.debug("Launch '{}' with {} items deleted by job '{}'", launchId, itemIds.size(),
+        job.getId());
+  }
+
+  /**
+   * Repeats removal of logs chunks until a chunk is not full
+   *
+   * @param chunkRemoval Removes a chunk of logs and returns count of removed logs
+   */
+  private void removeLogs(IntSupplier chunkRemoval) {
+    int removed;
+    do {
+      removed = chunkRemoval.getAsInt();
+    } while (removed >= logsChunkSize);
+  }
+
+  /**
+   * Runs the action after the current transaction is committed, so the job is visible to the executor thread
+   */
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -19,11 +19,20 @@ package com.epam.reportportal.base.core.launch.export;
 import com.epam.reportportal.base.infrastructure.persistence.binary.DataStoreService;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 /**
@@ -35,30 +44,105 @@ import org.springframework.stereotype.Service;
 public class AttachmentZipService {
 
   private final DataStoreService dataStoreService;
+  private final TaskExecutor prefetchExecutor;
+  private final int prefetch;
 
-  public AttachmentZipService(@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService) {
+  public AttachmentZipService(
+      @Qualifier("attachmentDataStoreService") DataStoreService dataStoreService,
+      @Qualifier("attachmentPrefetchExecutor") TaskExecutor prefetchExecutor,
+      @Value("${rp.environment.variable.export.attachments.prefetch}") int prefetch) {
     this.dataStoreService = dataStoreService;
+    this.prefetchExecutor = prefetchExecutor;
+    this.prefetch = Math.max(1, prefetch);
   }
 
   /**
-   * Streams a file into the provided ZIP output stream.
+   * Opens a writer of files into the provided ZIP output stream. Files are loaded from the data store in parallel,
+   * while entries are written by the calling thread in the order they were added.
    *
-   * @param fileId   the ID of the file to load from the data store
-   * @param filePath the path where the file will be placed in the ZIP
-   * @param zipOut   the output ZIP stream
+   * @param zipOut the output ZIP stream
+   * @return {@link AttachmentZipWriter}
    */
-  public void writeToZip(String fileId, String filePath, ZipOutputStream zipOut) {
-    try (InputStream input = dataStoreService.load(fileId).orElse(null)) {
-      if (input == null) {
-        return;
+  public AttachmentZipWriter openWriter(ZipOutputStream zipOut) {
+    return new AttachmentZipWriter(zipOut);
+  }
+
+  /**
+   * Writer of files into a ZIP output stream with a bounded window of files being loaded ahead. Not thread-safe, it is
+   * expected to be used by a single thread.
+   */
+  public class AttachmentZipWriter implements Closeable {
+
+    private final ZipOutputStream zipOut;
+    private final Deque<PendingEntry> window = new ArrayDeque<>();
+
+    private AttachmentZipWriter(ZipOutputStream zipOut) {
+      this.zipOut = zipOut;
+    }
+
+    /**
+     * Starts loading of a file and writes the oldest loaded files if the prefetch window is full.
+     *
+     * @param fileId   the ID of the file to load from the data store
+     * @param filePath the path where the file will be placed in the ZIP
+     */
+    public void add(String fileId, String filePath) {
+      window.addLast(new PendingEntry(filePath,
+          CompletableFuture.supplyAsync(() -> dataStoreService.load(fileId), prefetchExecutor)));
+      while (window.size() > prefetch) {
+        writeNext();
+      }
+    }
+
+    /**
+     * Writes all the files left in the prefetch window.
+     */
+    public void finish() {
+      while (!window.isEmpty()) {
+        writeNext();
       }
-      zipOut.putNextEntry(new ZipEntry(filePath));
-      input.transferTo(zipOut);
-      zipOut.closeEntry();
-    } catch (IOException e) {
-      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
-          "Cannot write file to ZIP: " + filePath + ". " + e.getMessage());
     }
+
+    /**
+     * Releases files that were loaded but not written, e.g. when the export fails.
+     */
+    @Override
+    public void close() {
+      window.forEach(entry -> entry.content()
+          .thenAccept(content -> content.ifPresent(IOUtils::closeQuietly)));
+      window.clear();
+    }
+
+    private void writeNext() {
+      PendingEntry entry = window.pollFirst();
+      try (InputStream input = await(entry).orElse(null)) {
+        if (input == null) {
+          return;
+        }
+        zipOut.putNextEntry(new ZipEntry(entry.path()));
+        input.transferTo(zipOut);
+        zipOut.closeEntry();
+      } catch (IOException e) {
+        throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "Cannot write file to ZIP: " + entry.path() + ". " + e.getMessage());
+      }
+    }
+
+    private Optional<InputStream> await(PendingEntry entry) {
+      try {
+        return entry.content().join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "Cannot load file for ZIP: " + entry.path() + ". " + e.getMessage());
+      }
+    }
+  }
+
+  private record PendingEntry(String path, CompletableFuture<Optional<InputStream>> content) {
+
   }
 
 }
@@ -19,12 +19,15 @@ package com.epam.reportportal.base.core.launch.export;
 import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemAttachment;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import java.util.Collection;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Initial {@link net.sf.jasperreports.engine.JRDataSource} provider class for RP Jasper Reports
@@ -35,8 +38,12 @@ import org.springframework.stereotype.Service;
 @Service("jasperDataProvider")
 public class JasperDataProvider {
 
+  private static final int EXPORT_PAGE_SIZE = 1000;
+
   private final TestItemRepository testItemRepository;
 
+  private final PlatformTransactionManager transactionManager;
+
   public Map<Long, TestItemPojo> getTestItemsOfLaunch(Launch launch, boolean includeAttachments) {
     return testItemRepository.selectTestItemsProjection(launch.getId())
         .stream()
@@ -45,7 +52,27 @@ public class JasperDataProvider {
             LinkedHashMap::new));
   }
 
-  public List<NestedItemAttachment> getNestedStepsAttachments(Long launchId, String parentPath, Long parentItemId) {
-    return testItemRepository.findNestedStepsAttachments(launchId, parentPath, parentItemId);
+  /**
+   * Test items of the launch without attachments, read from the database page by page during the iteration.
+   *
+   * @param launch {@link Launch}
+   * @return {@link Collection} of {@link TestItemPojo}
+   */
+  public Collection<TestItemPojo> getPagedTestItemsOfLaunch(Launch launch) {
+    return new PagedTestItemCollection(testItemRepository, launch.getId(), EXPORT_PAGE_SIZE);
+  }
+
+  /**
+   * Streams nested steps of the launch with their attachments ordered by path. The rows are read by a cursor in a
+   * read-only transaction, which stays open until the consumer has processed the last row.
+   *
+   * @param launchId {@link Launch#getId()}
+   * @param consumer Consumer of {@link NestedItemAttachment}
+   */
+  public void streamNestedStepsAttachments(Long launchId, Consumer<NestedItemAttachment> consumer) {
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    readOnlyTransaction.executeWithoutResult(
+        status -> testItemRepository.streamNestedStepsAttachments(launchId, consumer));
   }
 }
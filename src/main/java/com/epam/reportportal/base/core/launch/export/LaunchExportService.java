@@ -17,7 +17,7 @@
 package com.epam.reportportal.base.core.launch.export;
 
 import com.epam.reportportal.base.core.jasper.ReportFormat;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemAttachment;
+import com.epam.reportportal.base.core.launch.export.AttachmentZipService.AttachmentZipWriter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.log.Log;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
@@ -28,7 +28,6 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -36,7 +35,6 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -57,10 +55,6 @@ public class LaunchExportService {
   public void exportLaunch(Launch launch, String username, String reportFormat,
       HttpServletResponse response) {
     ReportFormat format = reportService.resolveFormat(reportFormat);
-    byte[] report = reportService.generateReport(launch,
-        dataProvider.getTestItemsOfLaunch(launch, false).values(),
-        username,
-        format);
 
     response.setContentType(format.getContentType());
     response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
@@ -68,7 +62,8 @@ public class LaunchExportService {
             format.getValue()));
 
     try (OutputStream out = response.getOutputStream()) {
-      out.write(report);
+      reportService.writeReport(launch, dataProvider.getPagedTestItemsOfLaunch(launch), username,
+          format, out);
     } catch (IOException e) {
       throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Failed to write report", e);
     }
@@ -87,11 +82,13 @@ public class LaunchExportService {
     ReportFormat format = reportService.resolveFormat(reportFormat);
     prepareZipResponseHeaders(launch, response);
 
-    try (ZipOutputStream zipOut = new ZipOutputStream(response.getOutputStream())) {
+    try (ZipOutputStream zipOut = new ZipOutputStream(response.getOutputStream());
+        AttachmentZipWriter attachmentWriter = zipService.openWriter(zipOut)) {
       Map<Long, TestItemPojo> testItems = dataProvider.getTestItemsOfLaunch(launch, true);
 
-      writeTestItemsAttachmentsToZip(launch, testItems, zipOut);
-      writeLaunchLogAttachmentsToZip(launch, zipOut);
+      writeTestItemsAttachmentsToZip(launch, testItems, attachmentWriter);
+      writeLaunchLogAttachmentsToZip(launch, attachmentWriter);
+      attachmentWriter.finish();
       writeReportToZip(launch, testItems.values(), username, format, zipOut);
     } catch (IOException e) {
       throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Failed to export ZIP", e);
@@ -110,22 +107,19 @@ public class LaunchExportService {
   }
 
   private void writeTestItemsAttachmentsToZip(Launch launch, Map<Long, TestItemPojo> testItems,
-      ZipOutputStream zipOut) throws IOException {
+      AttachmentZipWriter attachmentWriter) {
     Map<Long, String> idNameMapping = buildIdNameMapping(testItems);
     Set<String> uniquePaths = new HashSet<>();
     for (TestItemPojo item : testItems.values()) {
       String itemPathNames = pathService.buildItemPath(idNameMapping, item.getPath());
-      writeItemAttachmentsToZip(item, itemPathNames, uniquePaths, zipOut);
-
-      if (item.isHasChildren()) {
-        continue;
-      }
-      writeNestedStepsAttachmentsToZip(launch, item, idNameMapping, uniquePaths, zipOut);
+      writeItemAttachmentsToZip(item, itemPathNames, uniquePaths, attachmentWriter);
     }
+    writeNestedStepsAttachmentsToZip(launch, testItems, idNameMapping, uniquePaths,
+        attachmentWriter);
   }
 
   private void writeItemAttachmentsToZip(TestItemPojo item, String itemPathNames,
-      Set<String> uniquePaths, ZipOutputStream zipOut) {
+      Set<String> uniquePaths, AttachmentZipWriter attachmentWriter) {
     if (item.getAttachmentPojoList() == null) {
       return;
     }
@@ -133,36 +127,49 @@ public class LaunchExportService {
       String fileNameWithExtension = FileExtensionUtils.getFileNameWithExtension(
           attachment.getFileName(), attachment.getContentType());
       String fullPath = pathService.buildAttachmentPath(itemPathNames, fileNameWithExtension);
-      writeToZipIfUnique(attachment.getFileId(), fullPath, uniquePaths, zipOut);
+      writeToZipIfUnique(attachment.getFileId(), fullPath, uniquePaths, attachmentWriter);
     }
   }
 
-  private void writeNestedStepsAttachmentsToZip(Launch launch, TestItemPojo item,
-      Map<Long, String> idNameMapping, Set<String> uniquePaths, ZipOutputStream zipOut) {
-    List<NestedItemAttachment> nestedAttachments = dataProvider.getNestedStepsAttachments(
-        launch.getId(), item.getPath(), item.getId());
-    if (CollectionUtils.isEmpty(nestedAttachments)) {
-      return;
-    }
-
-    nestedAttachments.forEach(it -> idNameMapping.putIfAbsent(it.getItemId(), it.getName()));
-
-    for (NestedItemAttachment attachment : nestedAttachments) {
+  /**
+   * Nested steps of the whole launch are read by a single query ordered by path, so names of parent nested steps are
+   * known before their descendants are processed. Attachments are assigned to the closest leaf test item.
+   */
+  private void writeNestedStepsAttachmentsToZip(Launch launch, Map<Long, TestItemPojo> testItems,
+      Map<Long, String> idNameMapping, Set<String> uniquePaths,
+      AttachmentZipWriter attachmentWriter) {
+    dataProvider.streamNestedStepsAttachments(launch.getId(), attachment -> {
+      idNameMapping.putIfAbsent(attachment.getItemId(), attachment.getName());
       if (!StringUtils.hasText(attachment.getFileId())) {
-        continue;
+        return;
+      }
+      TestItemPojo item = findClosestTestItem(testItems, attachment.getPath());
+      if (item == null || item.isHasChildren()) {
+        return;
       }
       String nestedItemPathNames = pathService.buildItemPath(idNameMapping, attachment.getPath());
       String fileNameWithExtension = FileExtensionUtils.getFileNameWithExtension(
           attachment.getFileName(), attachment.getContentType());
       String fullPath = pathService.buildAttachmentPath(nestedItemPathNames, fileNameWithExtension);
 
-      if (writeToZipIfUnique(attachment.getFileId(), fullPath, uniquePaths, zipOut)) {
+      if (writeToZipIfUnique(attachment.getFileId(), fullPath, uniquePaths, attachmentWriter)) {
         appendZipFileNameToItemType(item, fullPath);
       }
+    });
+  }
+
+  private TestItemPojo findClosestTestItem(Map<Long, TestItemPojo> testItems, String path) {
+    String[] ids = path.split("\\.");
+    for (int i = ids.length - 2; i >= 0; i--) {
+      TestItemPojo item = testItems.get(Long.parseLong(ids[i]));
+      if (item != null) {
+        return item;
+      }
     }
+    return null;
   }
 
-  private void writeLaunchLogAttachmentsToZip(Launch launch, ZipOutputStream zipOut) {
+  private void writeLaunchLogAttachmentsToZip(Launch launch, AttachmentZipWriter attachmentWriter) {
     Set<String> uniquePaths = new HashSet<>();
     for (Log log : launch.getLogs()) {
       if (log.getAttachment() == null) {
@@ -171,7 +178,7 @@ public class LaunchExportService {
       String fileNameWithExtension = FileExtensionUtils.getFileNameWithExtension(
           log.getAttachment().getFileName(), log.getAttachment().getContentType());
       writeToZipIfUnique(log.getAttachment().getFileId(), fileNameWithExtension, uniquePaths,
-          zipOut);
+          attachmentWriter);
     }
   }
 
@@ -180,15 +187,14 @@ public class LaunchExportService {
     ZipEntry reportEntry = new ZipEntry(
         String.format("%s_%s.%s", launch.getName(), launch.getNumber(), format.getValue()));
     zipOut.putNextEntry(reportEntry);
-    byte[] reportBytes = reportService.generateReport(launch, testItems, username, format);
-    zipOut.write(reportBytes);
+    reportService.writeReport(launch, testItems, username, format, zipOut);
     zipOut.closeEntry();
   }
 
   private boolean writeToZipIfUnique(String fileId, String path, Set<String> uniquePaths,
-      ZipOutputStream zipOut) {
+      AttachmentZipWriter attachmentWriter) {
     if (uniquePaths.add(path)) {
-      zipService.writeToZip(fileId, path, zipOut);
+      attachmentWriter.add(fileId, path);
       return true;
     }
     return false;
@@ -22,13 +22,18 @@ import com.epam.reportportal.base.core.jasper.constants.LaunchReportConstants;
 import com.epam.reportportal.base.infrastructure.persistence.dao.UserRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.user.User;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import net.sf.jasperreports.engine.JREmptyDataSource;
 import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -39,15 +44,24 @@ import org.springframework.stereotype.Service;
 @Service
 public class LaunchReportService {
 
+  private static final int SWAP_FILE_BLOCK_SIZE = 4096;
+  private static final int SWAP_FILE_MIN_GROW_COUNT = 100;
+
   private final GetJasperReportHandler<Launch> reportHandler;
   private final UserRepository userRepository;
+  private final int virtualizerMaxPages;
+  private final String swapDirectory;
 
   public LaunchReportService(
       @Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> reportHandler,
-      UserRepository userRepository
+      UserRepository userRepository,
+      @Value("${rp.environment.variable.export.virtualizer.max-pages}") int virtualizerMaxPages,
+      @Value("${rp.environment.variable.export.virtualizer.directory}") String swapDirectory
   ) {
     this.reportHandler = reportHandler;
     this.userRepository = userRepository;
+    this.virtualizerMaxPages = virtualizerMaxPages;
+    this.swapDirectory = swapDirectory;
   }
 
   /**
@@ -61,6 +75,40 @@ public class LaunchReportService {
    */
   public byte[] generateReport(Launch launch, Collection<TestItemPojo> testItems, String username,
       ReportFormat format) {
+    JasperPrint jasperPrint = reportHandler.getJasperPrint(
+        reportParams(launch, testItems, username, format), new JREmptyDataSource());
+    return reportHandler.exportReportBytes(format, jasperPrint);
+  }
+
+  /**
+   * Writes a report for the given launch and test items in the specified format to the output stream. Filled report
+   * pages are kept in a swap file instead of the heap, so combined with lazily loaded test items the memory usage
+   * doesn't depend on the launch size.
+   *
+   * @param launch    the launch to generate the report for
+   * @param testItems the test items to include in the report, iterated once
+   * @param username  the fallback username if launch owner is not found
+   * @param format    the format of the report
+   * @param output    the stream to write the report to, it is not closed
+   */
+  public void writeReport(Launch launch, Collection<TestItemPojo> testItems, String username,
+      ReportFormat format, OutputStream output) {
+    JRSwapFileVirtualizer virtualizer = new JRSwapFileVirtualizer(virtualizerMaxPages,
+        new JRSwapFile(swapDirectory, SWAP_FILE_BLOCK_SIZE, SWAP_FILE_MIN_GROW_COUNT), true);
+    try {
+      Map<String, Object> params = reportParams(launch, testItems, username, format);
+      params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+      JasperPrint jasperPrint = reportHandler.getJasperPrint(params, new JREmptyDataSource());
+      virtualizer.setReadOnly(true);
+      // some exporters close the stream, while it may be a zip entry
+      reportHandler.exportReport(format, jasperPrint, CloseShieldOutputStream.wrap(output));
+    } finally {
+      virtualizer.cleanup();
+    }
+  }
+
+  private Map<String, Object> reportParams(Launch launch, Collection<TestItemPojo> testItems,
+      String username, ReportFormat format) {
     Map<String, Object> params = reportHandler.convertParams(launch);
     String owner = Optional.ofNullable(launch.getUserId()).map(
             id -> userRepository.findById(launch.getUserId()).map(User::getFullName).orElse(username))
@@ -70,8 +118,7 @@ public class LaunchReportService {
     if (!ReportFormat.PDF.equals(format)) {
       params.put(JRParameter.IS_IGNORE_PAGINATION, true);
     }
-    JasperPrint jasperPrint = reportHandler.getJasperPrint(params, new JREmptyDataSource());
-    return reportHandler.exportReportBytes(format, jasperPrint);
+    return params;
   }
 
   public ReportFormat resolveFormat(String format) {
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.launch.export;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import java.time.Instant;
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only collection of launch test items for export. Items are read from the database page by page during the
+ * iteration, so only a single page is kept in memory.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+class PagedTestItemCollection extends AbstractCollection<TestItemPojo> {
+
+  private final TestItemRepository testItemRepository;
+
+  private final Long launchId;
+
+  private final int pageSize;
+
+  PagedTestItemCollection(TestItemRepository testItemRepository, Long launchId, int pageSize) {
+    this.testItemRepository = testItemRepository;
+    this.launchId = launchId;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public Iterator<TestItemPojo> iterator() {
+    return new PageIterator();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !iterator().hasNext();
+  }
+
+  /**
+   * Counts items by the iteration over all pages, so it should be avoided on big launches.
+   */
+  @Override
+  public int size() {
+    int size = 0;
+    for (Iterator<TestItemPojo> it = iterator(); it.hasNext(); it.next()) {
+      size++;
+    }
+    return size;
+  }
+
+  private class PageIterator implements Iterator<TestItemPojo> {
+
+    private Iterator<TestItem> page = Collections.emptyIterator();
+    private Instant lastStartTime;
+    private Long lastItemId;
+    private boolean lastPage;
+
+    @Override
+    public boolean hasNext() {
+      if (!page.hasNext() && !lastPage) {
+        List<TestItem> items = testItemRepository.selectTestItemsProjectionPage(launchId,
+            lastStartTime, lastItemId, pageSize);
+        lastPage = items.size() < pageSize;
+        if (!items.isEmpty()) {
+          TestItem last = items.get(items.size() - 1);
+          lastStartTime = last.getStartTime();
+          lastItemId = last.getItemId();
+        }
+        page = items.iterator();
+      }
+      return page.hasNext();
+    }
+
+    @Override
+    public TestItemPojo next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return TestItemPojo.build(page.next(), false);
+    }
+  }
+}
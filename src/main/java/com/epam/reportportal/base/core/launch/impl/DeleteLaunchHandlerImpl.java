@@ -28,6 +28,7 @@ import static com.epam.reportportal.base.ws.converter.converters.LaunchConverter
 import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
 import com.epam.reportportal.base.core.events.domain.LaunchDeletedEvent;
 import com.epam.reportportal.base.core.launch.DeleteLaunchHandler;
+import com.epam.reportportal.base.core.launch.delete.LaunchDeletionService;
 import com.epam.reportportal.base.core.log.LogService;
 import com.epam.reportportal.base.core.remover.ContentRemover;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
@@ -35,6 +36,8 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.AttachmentRepos
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJob;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJobLaunch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.organization.MembershipDetails;
 import com.epam.reportportal.base.infrastructure.persistence.entity.organization.OrganizationRole;
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.ProjectRole;
@@ -42,16 +45,18 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.user.UserRol
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorRS;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
-import com.epam.reportportal.base.model.DeleteBulkRS;
 import com.epam.reportportal.base.model.activity.LaunchActivityResource;
+import com.epam.reportportal.base.model.launch.DeleteLaunchesRS;
+import com.epam.reportportal.base.model.launch.LaunchDeletionRS;
 import com.epam.reportportal.base.reporting.OperationCompletionRS;
 import com.google.common.collect.Lists;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -78,6 +83,8 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 
   private final LogService logService;
 
+  private final LaunchDeletionService launchDeletionService;
+
   public OperationCompletionRS deleteLaunch(Long launchId,
       MembershipDetails membershipDetails, ReportPortalUser user) {
     Launch launch = launchRepository.findById(launchId)
@@ -96,12 +103,11 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
     return new OperationCompletionRS("Launch with ID = '" + launchId + "' successfully deleted.");
   }
 
-  public DeleteBulkRS deleteLaunches(List<Long> ids,
+  public DeleteLaunchesRS deleteLaunches(List<Long> ids,
       MembershipDetails membershipDetails, ReportPortalUser user) {
     List<Long> notFound = Lists.newArrayList();
     List<ReportPortalException> exceptions = Lists.newArrayList();
-    List<Launch> toDelete = Lists.newArrayList();
-    List<Long> launchIds = Lists.newArrayList();
+    Map<Long, LaunchActivityResource> toDelete = new LinkedHashMap<>();
 
     ids.forEach(id -> {
       Optional<Launch> optionalLaunch = launchRepository.findById(id);
@@ -109,8 +115,7 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
         Launch launch = optionalLaunch.get();
         try {
           validate(launch, user, membershipDetails);
-          toDelete.add(launch);
-          launchIds.add(id);
+          toDelete.put(id, TO_ACTIVITY_RESOURCE.apply(launch));
         } catch (ReportPortalException ex) {
           exceptions.add(ex);
         }
@@ -119,27 +124,43 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
       }
     });
 
-    if (CollectionUtils.isNotEmpty(launchIds)) {
-      logIndexer.indexLaunchesRemove(membershipDetails.getProjectId(), launchIds);
-      toDelete.forEach(launchContentRemover::remove);
-      logService.deleteLogMessageByLaunchList(membershipDetails.getProjectId(), launchIds);
-      launchRepository.deleteAll(toDelete);
-      attachmentRepository.moveForDeletionByLaunchIds(launchIds);
+    String jobId = null;
+    if (!toDelete.isEmpty()) {
+      jobId = launchDeletionService.submit(membershipDetails.getProjectId(),
+          membershipDetails.getOrgId(), user.getUserId(), user.getUsername(), toDelete).getId();
     }
 
-    toDelete.forEach(launch -> {
-      LaunchActivityResource launchActivity = TO_ACTIVITY_RESOURCE.apply(launch);
-      eventPublisher.publishEvent(
-          new LaunchDeletedEvent(launchActivity, user.getUserId(), user.getUsername(),
-              membershipDetails.getOrgId()));
-    });
+    return new DeleteLaunchesRS(jobId, Lists.newArrayList(toDelete.keySet()), notFound,
+        exceptions.stream().map(ex -> {
+          ErrorRS errorResponse = new ErrorRS();
+          errorResponse.setErrorType(ex.getErrorType());
+          errorResponse.setMessage(ex.getMessage());
+          return errorResponse;
+        }).collect(Collectors.toList()));
+  }
 
-    return new DeleteBulkRS(launchIds, notFound, exceptions.stream().map(ex -> {
-      ErrorRS errorResponse = new ErrorRS();
-      errorResponse.setErrorType(ex.getErrorType());
-      errorResponse.setMessage(ex.getMessage());
-      return errorResponse;
-    }).collect(Collectors.toList()));
+  public LaunchDeletionRS getDeletionStatus(String jobId, MembershipDetails membershipDetails,
+      ReportPortalUser user) {
+    LaunchDeletionJob job = launchDeletionService.getJob(jobId)
+        .filter(j -> UserRole.ADMINISTRATOR.equals(user.getUserRole()) || j.getProjectId()
+            .equals(membershipDetails.getProjectId()))
+        .orElseThrow(() -> new ReportPortalException(ErrorType.NOT_FOUND, jobId));
+    LaunchDeletionRS rs = new LaunchDeletionRS();
+    rs.setJobId(job.getId());
+    rs.setStatus(job.getStatus().name());
+    rs.setLaunches(launchIds(job, null));
+    rs.setDeleted(launchIds(job, LaunchDeletionJobLaunch.Status.DELETED));
+    rs.setFailed(launchIds(job, LaunchDeletionJobLaunch.Status.FAILED));
+    rs.setStartTime(job.getStartTime());
+    rs.setEndTime(job.getEndTime());
+    return rs;
+  }
+
+  private List<Long> launchIds(LaunchDeletionJob job, LaunchDeletionJobLaunch.Status status) {
+    return job.getLaunches().stream()
+        .filter(launch -> status == null || status == launch.getStatus())
+        .map(LaunchDeletionJobLaunch::getLaunchId)
+        .collect(Collectors.toList());
   }
 
   /**
@@ -155,6 +176,10 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
         LAUNCH_IS_NOT_FINISHED,
         formattedSupplier("Unable to delete launch '{}' in progress state", launch.getId())
     );
+    expect(launchDeletionService.isDeleting(launch.getId()), equalTo(false)).verify(
+        FORBIDDEN_OPERATION,
+        formattedSupplier("Launch '{}' is already being deleted", launch.getId())
+    );
     if (!UserRole.ADMINISTRATOR.equals(user.getUserRole())) {
       expect(launch.getProjectId(), equalTo(membershipDetails.getProjectId())).verify(
           FORBIDDEN_OPERATION,
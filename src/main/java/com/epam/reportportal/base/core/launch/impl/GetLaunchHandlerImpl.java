@@ -238,7 +238,8 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
   private com.epam.reportportal.base.model.Page<LaunchResource> getLaunchResources(
       Page<Launch> launches) {
     final com.epam.reportportal.base.model.Page<LaunchResource> launchResourcePage =
-        PagedResourcesAssembler.pageConverter(launchConverter.TO_RESOURCE).apply(launches);
+        PagedResourcesAssembler.pageConverter(launchConverter.toResources(launches.getContent()))
+            .apply(launches);
     applicationEventPublisher.publishEvent(
         new GetLaunchResourceCollectionEvent(launchResourcePage.getContent()));
     return launchResourcePage;
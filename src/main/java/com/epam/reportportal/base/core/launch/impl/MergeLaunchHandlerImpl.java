@@ -35,6 +35,7 @@ import com.epam.reportportal.base.core.item.impl.merge.strategy.LaunchMergeFacto
 import com.epam.reportportal.base.core.item.impl.merge.strategy.MergeStrategyType;
 import com.epam.reportportal.base.core.launch.MergeLaunchHandler;
 import com.epam.reportportal.base.core.statistics.StatisticsHelper;
+import com.epam.reportportal.base.core.widget.content.cache.ProjectStatisticsChanged;
 import com.epam.reportportal.base.infrastructure.persistence.commons.Preconditions;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
@@ -53,6 +54,7 @@ import java.util.List;
 import java.util.Set;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -75,16 +77,19 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 
   private final LogIndexer logIndexer;
 
+  private final ApplicationEventPublisher eventPublisher;
+
   @Autowired
   public MergeLaunchHandlerImpl(LaunchRepository launchRepository,
       ProjectRepository projectRepository,
       LaunchMergeFactory launchMergeFactory, LaunchConverter launchConverter,
-      LogIndexer logIndexer) {
+      LogIndexer logIndexer, ApplicationEventPublisher eventPublisher) {
     this.launchRepository = launchRepository;
     this.projectRepository = projectRepository;
     this.launchMergeFactory = launchMergeFactory;
     this.launchConverter = launchConverter;
     this.logIndexer = logIndexer;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
@@ -118,6 +123,7 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
     newLaunch.setStatus(StatisticsHelper.getStatusFromStatistics(newLaunch.getStatistics()));
 
     launchRepository.deleteAll(launchesList);
+    eventPublisher.publishEvent(new ProjectStatisticsChanged(project.getId()));
 
     logIndexer.indexLaunchLogs(newLaunch, AnalyzerUtils.getAnalyzerConfig(project));
 
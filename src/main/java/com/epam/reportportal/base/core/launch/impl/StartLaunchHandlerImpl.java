@@ -21,6 +21,8 @@ import static com.epam.reportportal.base.ws.converter.converters.LaunchConverter
 import com.epam.reportportal.base.core.events.domain.LaunchStartedEvent;
 import com.epam.reportportal.base.core.launch.StartLaunchHandler;
 import com.epam.reportportal.base.core.launch.attribute.LaunchAttributeHandlerService;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextInvalidation;
 import com.epam.reportportal.base.core.launch.rerun.RerunHandler;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
@@ -29,6 +31,7 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.organization
 import com.epam.reportportal.base.reporting.StartLaunchRQ;
 import com.epam.reportportal.base.reporting.StartLaunchRS;
 import com.epam.reportportal.base.ws.converter.builders.LaunchBuilder;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -50,15 +53,18 @@ public class StartLaunchHandlerImpl implements StartLaunchHandler {
   private final ApplicationEventPublisher eventPublisher;
   private final RerunHandler rerunHandler;
   private final LaunchAttributeHandlerService launchAttributeHandlerService;
+  private final LaunchReportingContextCache launchReportingContextCache;
 
   @Autowired
   public StartLaunchHandlerImpl(LaunchRepository launchRepository,
       ApplicationEventPublisher eventPublisher, RerunHandler rerunHandler,
-      LaunchAttributeHandlerService launchAttributeHandlerService) {
+      LaunchAttributeHandlerService launchAttributeHandlerService,
+      LaunchReportingContextCache launchReportingContextCache) {
     this.launchRepository = launchRepository;
     this.eventPublisher = eventPublisher;
     this.rerunHandler = rerunHandler;
     this.launchAttributeHandlerService = launchAttributeHandlerService;
+    this.launchReportingContextCache = launchReportingContextCache;
   }
 
   @Override
@@ -78,6 +84,13 @@ public class StartLaunchHandlerImpl implements StartLaunchHandler {
           return launch;
         });
 
+    launchReportingContextCache.put(savedLaunch);
+    if (request.isRerun()) {
+      // other instances may hold the context of the launch taken before the rerun
+      eventPublisher.publishEvent(
+          LaunchReportingContextInvalidation.ofLaunches(List.of(savedLaunch.getId())));
+    }
+
     eventPublisher.publishEvent(
         new LaunchStartedEvent(TO_ACTIVITY_RESOURCE.apply(savedLaunch), user.getUserId(),
             user.getUsername(), membershipDetails.getOrgId()
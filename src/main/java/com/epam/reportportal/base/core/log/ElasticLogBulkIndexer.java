@@ -0,0 +1,338 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.log;
+
+import static com.epam.reportportal.base.core.configs.rabbit.BackgroundProcessingConfiguration.LOG_MESSAGE_SAVING_ROUTING_KEY;
+import static com.epam.reportportal.base.core.configs.rabbit.BackgroundProcessingConfiguration.PROCESSING_EXCHANGE_NAME;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.custom.ElasticSearchClient;
+import com.epam.reportportal.base.infrastructure.persistence.entity.log.LogMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indexes log messages to the search engine with {@code _bulk} requests. Messages are buffered in a bounded queue and
+ * flushed when a batch is full or the flush interval is elapsed, whichever comes first.
+ *
+ * <p>The number of bulk requests in flight is limited. When the search engine doesn't keep up the buffer fills up and
+ * callers wait up to {@code offer-timeout} before the message is rejected. Documents failed within a bulk request
+ * because of throttling or server errors are retried one by one.
+ *
+ * <p>Messages that are not indexed because the bulk request failed, the retries are exhausted or the indexer is
+ * stopped are republished to the log saving queue, so they are indexed later instead of being lost.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "rp.searchengine", name = "host")
+public class ElasticLogBulkIndexer {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVER_ERROR = 500;
+  private static final long RETRY_BACKOFF_MILLIS = 100;
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+  private final ElasticSearchClient elasticSearchClient;
+  private final AmqpTemplate amqpTemplate;
+
+  private final int batchSize;
+  private final Duration flushInterval;
+  private final Duration offerTimeout;
+  private final int maxInFlight;
+  private final int retryAttempts;
+
+  private final BlockingQueue<LogMessage> buffer;
+  private final Semaphore inFlight;
+  private final ExecutorService bulkExecutor;
+
+  private final Counter indexedCounter;
+  private final Counter failedCounter;
+  private final Counter rejectedCounter;
+  private final Counter requeuedCounter;
+  private final Timer flushTimer;
+
+  private volatile boolean running;
+  private Thread flusher;
+
+  public ElasticLogBulkIndexer(ElasticSearchClient elasticSearchClient,
+      @Qualifier("rabbitTemplate") AmqpTemplate amqpTemplate,
+      @Value("${rp.environment.variable.log-message.bulk.size}") int batchSize,
+      @Value("${rp.environment.variable.log-message.bulk.flush-interval}") Duration flushInterval,
+      @Value("${rp.environment.variable.log-message.bulk.queue}") int queueCapacity,
+      @Value("${rp.environment.variable.log-message.bulk.offer-timeout}") Duration offerTimeout,
+      @Value("${rp.environment.variable.log-message.bulk.max-in-flight}") int maxInFlight,
+      @Value("${rp.environment.variable.log-message.bulk.retry-attempts}") int retryAttempts,
+      MeterRegistry meterRegistry) {
+    this.elasticSearchClient = elasticSearchClient;
+    this.amqpTemplate = amqpTemplate;
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+    this.offerTimeout = offerTimeout;
+    this.maxInFlight = maxInFlight;
+    this.retryAttempts = retryAttempts;
+    this.buffer = new ArrayBlockingQueue<>(queueCapacity);
+    this.inFlight = new Semaphore(maxInFlight);
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.bulkExecutor = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+      Thread thread = new Thread(runnable, "log-bulk-exec-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.indexedCounter = Counter.builder("rp.log.bulk.documents")
+        .description("Log messages indexed to the search engine")
+        .tag("result", "indexed")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("rp.log.bulk.documents")
+        .description("Log messages indexed to the search engine")
+        .tag("result", "failed")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("rp.log.bulk.documents")
+        .description("Log messages indexed to the search engine")
+        .tag("result", "rejected")
+        .register(meterRegistry);
+    this.requeuedCounter = Counter.builder("rp.log.bulk.documents")
+        .description("Log messages indexed to the search engine")
+        .tag("result", "requeued")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("rp.log.bulk.flush")
+        .description("Bulk indexing request latency")
+        .register(meterRegistry);
+    Gauge.builder("rp.log.bulk.buffer", buffer, BlockingQueue::size)
+        .description("Log messages waiting for indexing")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    flusher = new Thread(this::flushLoop, "log-bulk-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /**
+   * Adds the log message to the indexing buffer, waiting for a free space if the buffer is full.
+   *
+   * @param logMessage {@link LogMessage}
+   * @return {@code false} if the message is rejected
+   */
+  public boolean offer(LogMessage logMessage) {
+    try {
+      if (running && buffer.offer(logMessage, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        return true;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    rejectedCounter.increment();
+    return false;
+  }
+
+  private void flushLoop() {
+    while (running || !buffer.isEmpty()) {
+      try {
+        List<LogMessage> batch = nextBatch();
+        if (!batch.isEmpty()) {
+          submit(batch);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.error("Unable to flush log messages", e);
+      }
+    }
+  }
+
+  private List<LogMessage> nextBatch() throws InterruptedException {
+    List<LogMessage> batch = new ArrayList<>(batchSize);
+    LogMessage first = buffer.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return batch;
+    }
+    batch.add(first);
+    long deadline = System.nanoTime() + flushInterval.toNanos();
+    while (batch.size() < batchSize) {
+      buffer.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0) {
+        break;
+      }
+      LogMessage next;
+      try {
+        next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        // the collected messages are submitted or requeued by the caller
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    return batch;
+  }
+
+  /**
+   * Submits the batch to the bulk executor by projects. Projects which are not submitted because the flusher is
+   * interrupted or the executor is shut down are requeued.
+   */
+  private void submit(List<LogMessage> batch) throws InterruptedException {
+    Map<Long, List<LogMessage>> byProject = batch.stream()
+        .collect(Collectors.groupingBy(LogMessage::getProjectId));
+    Iterator<Map.Entry<Long, List<LogMessage>>> projects = byProject.entrySet().iterator();
+    while (projects.hasNext()) {
+      Map.Entry<Long, List<LogMessage>> entry = projects.next();
+      try {
+        inFlight.acquire();
+      } catch (InterruptedException e) {
+        requeue(entry.getValue());
+        projects.forEachRemaining(rest -> requeue(rest.getValue()));
+        throw e;
+      }
+      try {
+        bulkExecutor.execute(() -> {
+          try {
+            index(entry.getKey(), entry.getValue());
+          } finally {
+            inFlight.release();
+          }
+        });
+      } catch (RuntimeException e) {
+        inFlight.release();
+        requeue(entry.getValue());
+        projects.forEachRemaining(rest -> requeue(rest.getValue()));
+        throw e;
+      }
+    }
+  }
+
+  void index(Long projectId, List<LogMessage> logMessages) {
+    Map<Integer, Integer> failures;
+    Timer.Sample sample = Timer.start();
+    try {
+      failures = elasticSearchClient.bulkCreate(projectId, logMessages);
+    } catch (Exception e) {
+      log.error("Bulk indexing of {} log messages of project {} failed", logMessages.size(),
+          projectId, e);
+      requeue(logMessages);
+      return;
+    } finally {
+      sample.stop(flushTimer);
+    }
+    indexedCounter.increment(logMessages.size() - failures.size());
+    failures.forEach((position, status) -> retry(projectId, logMessages.get(position), status));
+  }
+
+  private void retry(Long projectId, LogMessage logMessage, int status) {
+    for (int attempt = 0; attempt < retryAttempts && isRetryable(status); attempt++) {
+      try {
+        Thread.sleep(RETRY_BACKOFF_MILLIS << attempt);
+        status = elasticSearchClient.bulkCreate(projectId, List.of(logMessage)).getOrDefault(0, 0);
+        if (status == 0) {
+          indexedCounter.increment();
+          return;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        log.debug("Retry of log message {} indexing failed", logMessage.getId(), e);
+        status = SERVER_ERROR;
+      }
+    }
+    if (isRetryable(status)) {
+      log.warn("Log message {} of project {} is not indexed, status {}, requeued",
+          logMessage.getId(), projectId, status);
+      requeue(List.of(logMessage));
+    } else {
+      log.warn("Log message {} of project {} is not indexed, status {}", logMessage.getId(),
+          projectId, status);
+      failedCounter.increment();
+    }
+  }
+
+  /**
+   * Republishes log messages to the log saving queue. Messages that can't be republished are counted as failed.
+   */
+  private void requeue(List<LogMessage> logMessages) {
+    for (LogMessage logMessage : logMessages) {
+      try {
+        amqpTemplate.convertAndSend(PROCESSING_EXCHANGE_NAME, LOG_MESSAGE_SAVING_ROUTING_KEY,
+            logMessage);
+        requeuedCounter.increment();
+      } catch (Exception e) {
+        log.error("Unable to requeue log message {} for indexing", logMessage.getId(), e);
+        failedCounter.increment();
+      }
+    }
+  }
+
+  private static boolean isRetryable(int status) {
+    return status == TOO_MANY_REQUESTS || status >= SERVER_ERROR;
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (flusher != null) {
+      flusher.join(flushInterval.toMillis() * 2 + offerTimeout.toMillis());
+      if (flusher.isAlive()) {
+        // the flusher waits for a free bulk request slot, its batch is requeued
+        flusher.interrupt();
+        flusher.join();
+      }
+    }
+    // the executor is shut down only after the flusher has stopped submitting to it
+    bulkExecutor.shutdown();
+    if (!inFlight.tryAcquire(maxInFlight, SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn("Bulk indexing requests are not completed on shutdown");
+    }
+    List<LogMessage> remaining = new ArrayList<>(buffer.size());
+    buffer.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      log.warn("{} log messages are not indexed on shutdown, requeued", remaining.size());
+      requeue(remaining);
+    }
+  }
+}
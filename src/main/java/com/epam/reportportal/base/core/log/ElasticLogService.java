@@ -47,6 +47,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
@@ -63,23 +64,40 @@ public class ElasticLogService implements LogService {
   private final LogRepository logRepository;
   private final LaunchRepository launchRepository;
   private final TestItemRepository testItemRepository;
+  private final ElasticLogBulkIndexer bulkIndexer;
+  private final boolean bulkIndexingEnabled;
 
   public ElasticLogService(@Qualifier(value = "rabbitTemplate") AmqpTemplate amqpTemplate,
       ElasticSearchClient elasticSearchClient, LogRepository logRepository,
-      LaunchRepository launchRepository, TestItemRepository testItemRepository) {
+      LaunchRepository launchRepository, TestItemRepository testItemRepository,
+      ElasticLogBulkIndexer bulkIndexer,
+      @Value("${rp.environment.variable.log-message.bulk.enabled}") boolean bulkIndexingEnabled) {
     this.amqpTemplate = amqpTemplate;
     this.elasticSearchClient = elasticSearchClient;
     this.logRepository = logRepository;
     this.launchRepository = launchRepository;
     this.testItemRepository = testItemRepository;
+    this.bulkIndexer = bulkIndexer;
+    this.bulkIndexingEnabled = bulkIndexingEnabled;
   }
 
+  /**
+   * Sends the log message to the search engine. With bulk indexing enabled messages are indexed directly by
+   * {@link ElasticLogBulkIndexer}, messages rejected by the indexer are sent to the saving queue as before.
+   *
+   * @param logFull  {@link LogFull}
+   * @param launchId Launch id
+   */
   public void saveLogMessage(LogFull logFull, Long launchId) {
     if (Objects.isNull(logFull)) {
       return;
     }
+    LogMessage logMessage = convertLogToLogMessage(logFull, launchId);
+    if (bulkIndexingEnabled && bulkIndexer.offer(logMessage)) {
+      return;
+    }
     amqpTemplate.convertAndSend(PROCESSING_EXCHANGE_NAME, LOG_MESSAGE_SAVING_ROUTING_KEY,
-        convertLogToLogMessage(logFull, launchId)
+        logMessage
     );
   }
 
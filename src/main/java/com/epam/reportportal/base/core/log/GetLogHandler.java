@@ -107,7 +107,8 @@ public interface GetLogHandler {
    * @param params            additional parameters (excludeEmptySteps, excludePassedLogs, excludeLogContent)
    * @param queryable         filter with search criteria
    * @param pageable          pagination settings
-   * @return page of logs with their page locations
+   * @return page of logs with their page locations. The total is exact on the last page, otherwise it only guarantees
+   * that the next page exists.
    */
   Page<PagedLogResource> getLogsWithLocationBySearch(Long parentId,
       MembershipDetails membershipDetails, Map<String, String> params, Queryable queryable, Pageable pageable);
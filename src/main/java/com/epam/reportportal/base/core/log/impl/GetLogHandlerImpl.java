@@ -49,7 +49,6 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRep
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.LogLevel;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItem;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemPage;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedStep;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
@@ -70,7 +69,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -78,7 +76,6 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.jooq.Operator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
@@ -98,7 +95,6 @@ public class GetLogHandlerImpl implements GetLogHandler {
   public static final String EXCLUDE_EMPTY_STEPS = "excludeEmptySteps";
   public static final String EXCLUDE_LOG_CONTENT = "excludeLogContent";
 
-  private static final int NESTED_STEP_MAX_PAGE_SIZE = 300;
 
   private static final int LOG_UNDER_ITEM_BATCH_SIZE = 5;
 
@@ -117,6 +113,7 @@ public class GetLogHandlerImpl implements GetLogHandler {
   private final LogTypeResolver logTypeResolver;
 
   private final LogSearchCollector logSearchCollector;
+  private final NestedLogLocationCollector nestedLogLocationCollector;
 
 
   @Override
@@ -268,21 +265,16 @@ public class GetLogHandlerImpl implements GetLogHandler {
 
     LogLocationParams locationParams = extractLogLocationParams(params);
 
-    List<PagedLogResource> allResults = logSearchCollector.collect(parentId, locationParams,
-        resolvedFilter, queryableWithoutMessage, pageable);
+    LogSearchCollector.SearchPage searchPage = logSearchCollector.collect(parentId,
+        locationParams, resolvedFilter, queryableWithoutMessage, pageable);
 
-    int totalCount = allResults.size();
-
-    List<PagedLogResource> pageContent = allResults.stream()
-        .skip(pageable.getOffset())
-        .limit(pageable.getPageSize())
-        .toList();
+    List<PagedLogResource> pageContent = searchPage.content();
 
     if (!locationParams.excludeLogContent() && !pageContent.isEmpty()) {
       enrichLogsWithContent(pageContent, membershipDetails.getProjectId());
     }
 
-    Page<PagedLogResource> page = new PageImpl<>(pageContent, pageable, totalCount);
+    Page<PagedLogResource> page = new PageImpl<>(pageContent, pageable, searchPage.total());
     return PagedResourcesAssembler.<PagedLogResource>pageConverter().apply(page);
   }
 
@@ -309,68 +301,8 @@ public class GetLogHandlerImpl implements GetLogHandler {
 
   private List<PagedLogResource> loadLogsErrorsOnly(Long parentId,
       LogLocationParams params, Queryable queryable, Pageable pageable) {
-
-    Predicate<NestedItemPage> inclusionFilter = item ->
-        LogRepositoryConstants.ITEM.equals(item.getType())
-            || item.getLogLevel() >= LogLevel.ERROR_INT;
-
-    NestedProcessContext context = new NestedProcessContext(inclusionFilter,
-        params.excludeEmptySteps(), params.excludePassedLogs(), queryable, pageable);
-
-    List<PagedLogResource> results = new ArrayList<>();
-    processNestedItems(parentId, results, Collections.emptyList(), context);
-    return results;
-  }
-
-  private void processNestedItems(Long parentId, List<PagedLogResource> results,
-      List<Map.Entry<Long, Integer>> pagesLocation, NestedProcessContext context) {
-
-    final TestItem parentItem = getValidatedTestItem(parentId);
-
-    if (isLogsExclusionRequired(parentItem, context.excludePassedLogs())) {
-      return;
-    }
-
-    logRepository.findNestedItemsWithPage(parentId, context.excludeEmptySteps(),
-            isLogsExclusionRequired(parentItem, context.excludePassedLogs()), context.queryable(),
-            context.pageable())
-        .forEach(nestedItem -> processNestedItem(nestedItem, results, pagesLocation, context));
-  }
-
-  private void processNestedItem(NestedItemPage nestedItem, List<PagedLogResource> results,
-      List<Map.Entry<Long, Integer>> pagesLocation, NestedProcessContext context) {
-
-    if (!context.inclusionFilter().test(nestedItem)) {
-      return;
-    }
-
-    if (LogRepositoryConstants.ITEM.equals(nestedItem.getType())) {
-      handleNestedStep(nestedItem, results, pagesLocation, context);
-      return;
-    }
-
-    handleLogItem(nestedItem, results, pagesLocation);
-  }
-
-  private void handleNestedStep(NestedItemPage nestedItem, List<PagedLogResource> results,
-      List<Map.Entry<Long, Integer>> pagesLocation, NestedProcessContext context) {
-
-    List<Map.Entry<Long, Integer>> updatedLocation = new ArrayList<>(pagesLocation);
-    updatedLocation.add(Map.entry(nestedItem.getId(), nestedItem.getPageNumber()));
-
-    NestedProcessContext childContext = context.withPageable(
-        PageRequest.of(1, NESTED_STEP_MAX_PAGE_SIZE, context.pageable().getSort()));
-
-    processNestedItems(nestedItem.getId(), results, updatedLocation, childContext);
-  }
-
-  private void handleLogItem(NestedItemPage nestedItem, List<PagedLogResource> results,
-      List<Map.Entry<Long, Integer>> pagesLocation) {
-
-    List<Map.Entry<Long, Integer>> updatedLocation = new ArrayList<>(pagesLocation);
-
-    updatedLocation.add(Map.entry(nestedItem.getId(), nestedItem.getPageNumber()));
-    results.add(buildPagedLogResource(nestedItem.getId(), updatedLocation));
+    return nestedLogLocationCollector.collect(getValidatedTestItem(parentId), params, queryable,
+        pageable, log -> log.getLogLevel() >= LogLevel.ERROR_INT);
   }
 
   private PagedLogResource buildPagedLogResource(Long logId,
@@ -406,23 +338,6 @@ public class GetLogHandlerImpl implements GetLogHandler {
         && CRITERIA_LOG_MESSAGE.equalsIgnoreCase(filterCondition.getSearchCriteria()));
   }
 
-  private record NestedProcessContext(Predicate<NestedItemPage> inclusionFilter,
-                                      boolean excludeEmptySteps,
-                                      boolean excludePassedLogs,
-                                      Queryable queryable,
-                                      Pageable pageable) {
-
-    NestedProcessContext withPageable(Pageable newPageable) {
-      return new NestedProcessContext(
-          inclusionFilter,
-          excludeEmptySteps,
-          excludePassedLogs,
-          queryable,
-          newPageable
-      );
-    }
-  }
-
   /**
    * Validate log item on existence, availability under specified project, etc.
    *
@@ -39,7 +39,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 /**
- * Collects logs recursively with page locations for search functionality.
+ * Collects logs recursively with page locations for search functionality. Items are traversed in tree order and the
+ * traversal stops as soon as the requested page is filled, so only the page and the matches preceding it are visited.
  */
 @Component
 @RequiredArgsConstructor
@@ -51,40 +52,43 @@ public class LogSearchCollector {
   private final TestItemRepository testItemRepository;
 
   /**
-   * Collects all matching logs with their page locations.
+   * Collects matching logs of the requested page with their page locations.
    *
    * @param parentId          parent item ID
    * @param params            log location parameters
    * @param filterWithMessage filter including message search criteria
    * @param filterNoMessage   filter without message criteria (for correct page numbering)
-   * @param pageable          pagination settings (used for sorting and page size calculation)
-   * @return list of all matching logs with page locations
+   * @param pageable          pagination settings (used for sorting, page size and offset of the results)
+   * @return {@link SearchPage} with matching logs of the requested page
    */
-  public List<PagedLogResource> collect(Long parentId, LogLocationParams params,
+  public SearchPage collect(Long parentId, LogLocationParams params,
       Queryable filterWithMessage, Queryable filterNoMessage, Pageable pageable) {
 
-    List<PagedLogResource> allResults = new ArrayList<>();
-
     var context = new CollectionContext(params, filterWithMessage, filterNoMessage, pageable,
-        allResults);
+        new SearchState(pageable.getOffset(), pageable.getPageSize()));
 
     collectRecursively(parentId, Collections.emptyList(), context);
 
-    return allResults;
+    return new SearchPage(context.state().results, context.state().visited);
   }
 
   private void collectRecursively(Long parentId, List<Map.Entry<Long, Integer>> pagesLocation,
       CollectionContext context) {
 
+    if (context.state().isFilled()) {
+      return;
+    }
     TestItem parentItem = testItemRepository.findById(parentId).orElse(null);
     if (shouldSkipItem(parentItem, context.params())) {
       return;
     }
+    boolean excludeLogs = shouldExcludePassedLogs(parentItem,
+        context.params().excludePassedLogs());
 
-    Set<Long> matchingLogIds = findMatchingLogIds(parentId, context);
+    Set<Long> matchingLogIds = findMatchingLogIds(parentId, excludeLogs, context);
 
-    List<NestedItemPage> itemsWithPages = fetchItemsWithPageNumbers(parentId, pagesLocation,
-        context);
+    List<NestedItemPage> itemsWithPages = fetchItemsWithPageNumbers(parentId, excludeLogs,
+        pagesLocation, context);
 
     processItems(itemsWithPages, matchingLogIds, pagesLocation, context);
   }
@@ -93,9 +97,8 @@ public class LogSearchCollector {
     return Objects.isNull(item) || shouldExcludePassedLogs(item, params.excludePassedLogs());
   }
 
-  private Set<Long> findMatchingLogIds(Long parentId, CollectionContext context) {
-    boolean excludeLogs = shouldExcludePassedLogsForParent(parentId, context.params());
-
+  private Set<Long> findMatchingLogIds(Long parentId, boolean excludeLogs,
+      CollectionContext context) {
     Page<NestedItem> matchingItems = logRepository.findNestedItems(parentId,
         context.params().excludeEmptySteps(), excludeLogs, context.filterWithMessage(),
         PageRequest.of(0, NESTED_STEP_MAX_PAGE_SIZE, context.pageable().getSort()));
@@ -106,10 +109,8 @@ public class LogSearchCollector {
         .collect(Collectors.toSet());
   }
 
-  private List<NestedItemPage> fetchItemsWithPageNumbers(Long parentId,
+  private List<NestedItemPage> fetchItemsWithPageNumbers(Long parentId, boolean excludeLogs,
       List<Map.Entry<Long, Integer>> pagesLocation, CollectionContext context) {
-    boolean excludeLogs = shouldExcludePassedLogsForParent(parentId, context.params());
-
     int pageSize = pagesLocation.isEmpty()
         ? context.pageable().getPageSize()
         : NESTED_STEP_MAX_PAGE_SIZE;
@@ -122,20 +123,24 @@ public class LogSearchCollector {
   private void processItems(List<NestedItemPage> items, Set<Long> matchingLogIds,
       List<Map.Entry<Long, Integer>> pagesLocation, CollectionContext context) {
 
-    items.forEach(item -> processItem(item, matchingLogIds, pagesLocation, context));
+    for (NestedItemPage item : items) {
+      if (context.state().isFilled()) {
+        return;
+      }
+      processItem(item, matchingLogIds, pagesLocation, context);
+    }
   }
 
   private void processItem(NestedItemPage item, Set<Long> matchingLogIds,
       List<Map.Entry<Long, Integer>> pagesLocation,
       CollectionContext context) {
 
-    List<Map.Entry<Long, Integer>> updatedLocation = buildPageLocation(item, pagesLocation);
-
     switch (item.getType()) {
-      case LogRepositoryConstants.ITEM -> collectRecursively(item.getId(), updatedLocation, context);
+      case LogRepositoryConstants.ITEM -> collectRecursively(item.getId(),
+          buildPageLocation(item, pagesLocation), context);
       case LogRepositoryConstants.LOG -> {
         if (matchingLogIds.contains(item.getId())) {
-          addLogResult(item, updatedLocation, context);
+          addLogResult(item, pagesLocation, context);
         }
       }
       default -> { /* ignore unknown types */ }
@@ -149,20 +154,15 @@ public class LogSearchCollector {
     return location;
   }
 
-  private void addLogResult(NestedItemPage item, List<Map.Entry<Long, Integer>> location,
+  private void addLogResult(NestedItemPage item, List<Map.Entry<Long, Integer>> parentLocation,
       CollectionContext context) {
+    if (!context.state().accept()) {
+      return;
+    }
     PagedLogResource resource = new PagedLogResource();
     resource.setId(item.getId());
-    resource.setPagesLocation(location);
-    context.results().add(resource);
-  }
-
-  private boolean shouldExcludePassedLogsForParent(Long parentId, LogLocationParams params) {
-    if (!params.excludePassedLogs()) {
-      return false;
-    }
-    TestItem item = testItemRepository.findById(parentId).orElse(null);
-    return Objects.nonNull(item) && shouldExcludePassedLogs(item, true);
+    resource.setPagesLocation(buildPageLocation(item, parentLocation));
+    context.state().results.add(resource);
   }
 
   private boolean shouldExcludePassedLogs(TestItem item, boolean excludePassedLogs) {
@@ -172,9 +172,48 @@ public class LogSearchCollector {
     return item.getItemResults().getStatus().isPositive();
   }
 
+  /**
+   * Logs of the requested page.
+   *
+   * @param content matching logs of the page
+   * @param total   number of matching logs visited by the search. It is exact when the search reached the end of the
+   *                tree and is a lower bound otherwise: the matches preceding the page, the page itself and the first
+   *                match of the next page.
+   */
+  public record SearchPage(List<PagedLogResource> content, long total) {
+
+  }
+
   private record CollectionContext(LogLocationParams params, Queryable filterWithMessage,
                                    Queryable filterNoMessage, Pageable pageable,
-                                   List<PagedLogResource> results) {
+                                   SearchState state) {
+
+  }
+
+  /**
+   * Matches preceding the page are only counted. The traversal stops after the first match following the page, which
+   * tells whether the next page exists.
+   */
+  private static class SearchState {
+
+    private final long offset;
+    private final int pageSize;
+    private final List<PagedLogResource> results;
+    private long visited;
+
+    private SearchState(long offset, int pageSize) {
+      this.offset = offset;
+      this.pageSize = pageSize;
+      this.results = new ArrayList<>(pageSize);
+    }
+
+    private boolean accept() {
+      visited++;
+      return visited > offset && results.size() < pageSize;
+    }
 
+    private boolean isFilled() {
+      return visited > offset + pageSize;
+    }
   }
 }
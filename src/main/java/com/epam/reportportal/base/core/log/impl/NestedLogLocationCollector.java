@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.log.impl;
+
+import com.epam.reportportal.base.core.log.impl.GetLogHandlerImpl.LogLocationParams;
+import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Queryable;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemPage;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedTreeItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects logs of the nested steps tree with their page locations. The whole tree is loaded by a single query and
+ * traversed in memory in the same order as it is displayed: depth first, items of each level in page order.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+@RequiredArgsConstructor
+public class NestedLogLocationCollector {
+
+  static final int NESTED_STEP_MAX_PAGE_SIZE = 300;
+
+  private final LogRepository logRepository;
+
+  /**
+   * Collects logs accepted by the filter with their page locations.
+   *
+   * @param parentItem parent item
+   * @param params     log location parameters
+   * @param filter     filter of logs and nested steps
+   * @param pageable   pagination settings of the parent item level
+   * @param logFilter  filter of the logs to collect, page locations are computed regardless of it
+   * @return list of the collected logs with page locations
+   */
+  public List<PagedLogResource> collect(TestItem parentItem, LogLocationParams params,
+      Queryable filter, Pageable pageable, Predicate<NestedItemPage> logFilter) {
+    if (isExcluded(parentItem.getItemResults().getStatus(), params.excludePassedLogs())) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, List<NestedTreeItem>> childrenByParent = logRepository.findNestedTreeWithPages(
+            parentItem.getItemId(), parentItem.getPath(), params.excludeEmptySteps(), filter,
+            pageable, NESTED_STEP_MAX_PAGE_SIZE)
+        .stream()
+        .collect(Collectors.groupingBy(NestedTreeItem::getParentId));
+
+    List<PagedLogResource> results = new ArrayList<>();
+    Deque<Level> levels = new ArrayDeque<>();
+    levels.push(new Level(children(childrenByParent, parentItem.getItemId()),
+        Collections.emptyList()));
+
+    while (!levels.isEmpty()) {
+      Level level = levels.peek();
+      if (!level.items().hasNext()) {
+        levels.pop();
+        continue;
+      }
+      NestedTreeItem item = level.items().next();
+      List<Map.Entry<Long, Integer>> location = new ArrayList<>(level.location());
+      location.add(Map.entry(item.getId(), item.getPageNumber()));
+
+      if (LogRepositoryConstants.ITEM.equals(item.getType())) {
+        if (!isExcluded(item.getStatus(), params.excludePassedLogs())) {
+          levels.push(new Level(children(childrenByParent, item.getId()), location));
+        }
+      } else if (logFilter.test(item)) {
+        PagedLogResource resource = new PagedLogResource();
+        resource.setId(item.getId());
+        resource.setPagesLocation(location);
+        results.add(resource);
+      }
+    }
+    return results;
+  }
+
+  private Iterator<NestedTreeItem> children(Map<Long, List<NestedTreeItem>> childrenByParent,
+      Long parentId) {
+    return childrenByParent.getOrDefault(parentId, Collections.emptyList()).iterator();
+  }
+
+  private boolean isExcluded(StatusEnum status, boolean excludePassedLogs) {
+    return excludePassedLogs && Objects.nonNull(status) && status.isPositive();
+  }
+
+  private record Level(Iterator<NestedTreeItem> items, List<Map.Entry<Long, Integer>> location) {
+
+  }
+}
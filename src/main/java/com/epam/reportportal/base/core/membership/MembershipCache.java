@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.membership;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.organization.MembershipDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local cache of project membership details by user id and project key. Absence of membership is cached too, so
+ * requests with a foreign project key don't reach the database either.
+ *
+ * <p>Entries are dropped by {@link MembershipCacheInvalidator} when memberships change and expire after
+ * {@code expire} anyway, as memberships can be changed by plugins without any event.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+public class MembershipCache {
+
+  private final Cache<MembershipKey, Optional<MembershipDetails>> cache;
+
+  public MembershipCache(@Value("${rp.environment.variable.membership.cache.size}") long size,
+      @Value("${rp.environment.variable.membership.cache.expire}") Duration expire) {
+    this.cache = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(expire).build();
+  }
+
+  /**
+   * @param userId     User id
+   * @param projectKey Normalized project key
+   * @param loader     Loads membership details if they aren't cached
+   * @return Copy of the cached membership details
+   */
+  public Optional<MembershipDetails> get(Long userId, String projectKey,
+      Supplier<Optional<MembershipDetails>> loader) {
+    return cache.get(new MembershipKey(userId, projectKey), key -> loader.get())
+        .map(MembershipCache::copy);
+  }
+
+  public void invalidate(MembershipInvalidation invalidation) {
+    if (invalidation.isAll()) {
+      cache.invalidateAll();
+      return;
+    }
+    cache.asMap().entrySet().removeIf(entry ->
+        invalidation.getUserIds().contains(entry.getKey().userId())
+            || entry.getValue().filter(details ->
+            invalidation.getProjectIds().contains(details.getProjectId())
+                || invalidation.getOrganizationIds().contains(details.getOrgId())).isPresent());
+  }
+
+  private static MembershipDetails copy(MembershipDetails details) {
+    return new MembershipDetails(details.getOrgId(), details.getOrgName(), details.getOrgRole(),
+        details.getProjectId(), details.getProjectName(), details.getProjectKey(),
+        details.getProjectSlug(), details.getProjectRole());
+  }
+
+  private record MembershipKey(Long userId, String projectKey) {
+
+  }
+}
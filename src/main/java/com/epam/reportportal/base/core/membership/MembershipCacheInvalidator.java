@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.membership;
+
+import static com.epam.reportportal.base.core.configs.rabbit.InternalConfiguration.EXCHANGE_EVENTS;
+
+import com.epam.reportportal.base.core.events.MessageBus;
+import com.epam.reportportal.base.core.events.domain.AbstractEvent;
+import com.epam.reportportal.base.core.events.domain.AssignUserEvent;
+import com.epam.reportportal.base.core.events.domain.ChangeRoleEvent;
+import com.epam.reportportal.base.core.events.domain.OrganizationUsersUpdatedEvent;
+import com.epam.reportportal.base.core.events.domain.ProjectDeletedEvent;
+import com.epam.reportportal.base.core.events.domain.ProjectUsersUpdatedEvent;
+import com.epam.reportportal.base.core.events.domain.UnassignUserEvent;
+import com.epam.reportportal.base.core.events.domain.UserDeletedEvent;
+import com.epam.reportportal.base.model.activity.UserActivityResource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached membership details when memberships are changed. An invalidation is applied to the local
+ * {@link MembershipCache} and broadcast to the other API instances.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Slf4j
+@Component
+public class MembershipCacheInvalidator {
+
+  private final MembershipCache membershipCache;
+
+  private final MessageBus messageBus;
+
+  public MembershipCacheInvalidator(MembershipCache membershipCache, MessageBus messageBus) {
+    this.membershipCache = membershipCache;
+    this.messageBus = messageBus;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectUsersUpdated(ProjectUsersUpdatedEvent event) {
+    invalidate(MembershipInvalidation.ofProject(event.getProjectId(), userIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOrganizationUsersUpdated(OrganizationUsersUpdatedEvent event) {
+    invalidate(MembershipInvalidation.ofOrganization(event.getOrganizationId(), userIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectDeleted(ProjectDeletedEvent event) {
+    invalidate(MembershipInvalidation.ofProject(event.getProjectId(), event.getUserIds()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAssignUser(AssignUserEvent event) {
+    invalidate(MembershipInvalidation.ofUsers(userActivityIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUnassignUser(UnassignUserEvent event) {
+    invalidate(MembershipInvalidation.ofUsers(userActivityIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDeleted(UserDeletedEvent event) {
+    invalidate(MembershipInvalidation.ofUsers(userActivityIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChangeRole(ChangeRoleEvent event) {
+    invalidate(MembershipInvalidation.ofUsers(
+        Optional.ofNullable(event.getUserActivityResource()).map(UserActivityResource::getId)
+            .stream().toList()));
+  }
+
+  /**
+   * Handles invalidations published as application events, e.g. on group membership changes.
+   *
+   * @param invalidation {@link MembershipInvalidation}
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onInvalidation(MembershipInvalidation invalidation) {
+    invalidate(invalidation);
+  }
+
+  /**
+   * Applies the invalidation locally and sends it to the other instances.
+   *
+   * @param invalidation {@link MembershipInvalidation}
+   */
+  public void invalidate(MembershipInvalidation invalidation) {
+    if (invalidation.isEmpty()) {
+      return;
+    }
+    membershipCache.invalidate(invalidation);
+    try {
+      messageBus.publish(EXCHANGE_EVENTS, "", invalidation);
+    } catch (Exception e) {
+      log.error("Unable to broadcast membership invalidation {}", invalidation, e);
+    }
+  }
+
+  private static List<Long> userIds(AbstractEvent<List<Long>> event) {
+    return Stream.of(event.getBefore(), event.getAfter())
+        .filter(Objects::nonNull)
+        .flatMap(Collection::stream)
+        .toList();
+  }
+
+  private static List<Long> userActivityIds(AbstractEvent<UserActivityResource> event) {
+    return Stream.of(event.getBefore(), event.getAfter())
+        .filter(Objects::nonNull)
+        .map(UserActivityResource::getId)
+        .toList();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.membership;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Describes cached membership details to be dropped on every API instance.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class MembershipInvalidation {
+
+  private Set<Long> userIds = new HashSet<>();
+  private Set<Long> projectIds = new HashSet<>();
+  private Set<Long> organizationIds = new HashSet<>();
+  private boolean all;
+
+  public static MembershipInvalidation ofUsers(Collection<Long> userIds) {
+    MembershipInvalidation invalidation = new MembershipInvalidation();
+    invalidation.setUserIds(nonNull(userIds));
+    return invalidation;
+  }
+
+  public static MembershipInvalidation ofProject(Long projectId, Collection<Long> userIds) {
+    MembershipInvalidation invalidation = ofUsers(userIds);
+    invalidation.setProjectIds(nonNull(Collections.singleton(projectId)));
+    return invalidation;
+  }
+
+  public static MembershipInvalidation ofOrganization(Long organizationId,
+      Collection<Long> userIds) {
+    MembershipInvalidation invalidation = ofUsers(userIds);
+    invalidation.setOrganizationIds(nonNull(Collections.singleton(organizationId)));
+    return invalidation;
+  }
+
+  public static MembershipInvalidation ofAll() {
+    MembershipInvalidation invalidation = new MembershipInvalidation();
+    invalidation.setAll(true);
+    return invalidation;
+  }
+
+  public boolean isEmpty() {
+    return !all && userIds.isEmpty() && projectIds.isEmpty() && organizationIds.isEmpty();
+  }
+
+  private static Set<Long> nonNull(Collection<Long> ids) {
+    return ids == null ? new HashSet<>()
+        : ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.project.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local cache of project configuration snapshots, used by event subscribers instead of reloading project attributes
+ * for every handled event.
+ *
+ * <p>Every project has a configuration version that is incremented by {@link #invalidate(ProjectConfigInvalidation)}.
+ * A snapshot loaded at an outdated version is never returned, so a load racing with an update can't keep the previous
+ * configuration in the cache. Entries are dropped by {@link ProjectConfigCacheInvalidator} when project configuration
+ * changes and expire after {@code expire} anyway, as attributes can be changed without any event.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+public class ProjectConfigCache {
+
+  private final ProjectConfigProvider projectConfigProvider;
+
+  private final Cache<Long, ProjectConfigSnapshot> cache;
+
+  private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+  public ProjectConfigCache(ProjectConfigProvider projectConfigProvider,
+      @Value("${rp.environment.variable.project-config.cache.size}") long size,
+      @Value("${rp.environment.variable.project-config.cache.expire}") Duration expire) {
+    this.projectConfigProvider = projectConfigProvider;
+    this.cache = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(expire).build();
+  }
+
+  /**
+   * @param projectId Project id
+   * @return Snapshot of the actual project configuration
+   */
+  public ProjectConfigSnapshot get(Long projectId) {
+    long version = version(projectId).get();
+    ProjectConfigSnapshot snapshot = cache.getIfPresent(projectId);
+    if (snapshot != null && snapshot.version() == version) {
+      return snapshot;
+    }
+    ProjectConfigSnapshot loaded = new ProjectConfigSnapshot(projectId, version,
+        projectConfigProvider.provide(projectId));
+    cache.asMap().merge(projectId, loaded,
+        (current, candidate) -> current.version() >= candidate.version() ? current : candidate);
+    return loaded;
+  }
+
+  /**
+   * @param projectId Project id
+   * @return Immutable project configuration parameters by attribute name
+   */
+  public Map<String, String> provide(Long projectId) {
+    return get(projectId).config();
+  }
+
+  public void invalidate(ProjectConfigInvalidation invalidation) {
+    if (invalidation.isAll()) {
+      versions.values().forEach(AtomicLong::incrementAndGet);
+      cache.invalidateAll();
+      return;
+    }
+    invalidation.getProjectIds().forEach(projectId -> {
+      version(projectId).incrementAndGet();
+      cache.invalidate(projectId);
+    });
+  }
+
+  private AtomicLong version(Long projectId) {
+    return versions.computeIfAbsent(projectId, id -> new AtomicLong());
+  }
+}
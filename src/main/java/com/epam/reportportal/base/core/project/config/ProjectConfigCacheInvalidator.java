@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.project.config;
+
+import static com.epam.reportportal.base.core.configs.rabbit.InternalConfiguration.EXCHANGE_EVENTS;
+
+import com.epam.reportportal.base.core.events.MessageBus;
+import com.epam.reportportal.base.core.events.domain.AbstractEvent;
+import com.epam.reportportal.base.core.events.domain.NotificationSettingsUpdatedEvent;
+import com.epam.reportportal.base.core.events.domain.NotificationsConfigUpdatedEvent;
+import com.epam.reportportal.base.core.events.domain.OrganizationUpdatedEvent;
+import com.epam.reportportal.base.core.events.domain.ProjectAnalyzerConfigEvent;
+import com.epam.reportportal.base.core.events.domain.ProjectDeletedEvent;
+import com.epam.reportportal.base.core.events.domain.ProjectPatternAnalyzerUpdateEvent;
+import com.epam.reportportal.base.core.events.domain.ProjectUpdatedEvent;
+import com.epam.reportportal.base.model.activity.ProjectAttributesActivityResource;
+import com.epam.reportportal.base.model.project.ProjectResource;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached project configurations when project attributes are changed. An invalidation is applied to the local
+ * {@link ProjectConfigCache} and broadcast to the other API instances.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Slf4j
+@Component
+public class ProjectConfigCacheInvalidator {
+
+  private final ProjectConfigCache projectConfigCache;
+
+  private final MessageBus messageBus;
+
+  public ProjectConfigCacheInvalidator(ProjectConfigCache projectConfigCache,
+      MessageBus messageBus) {
+    this.projectConfigCache = projectConfigCache;
+    this.messageBus = messageBus;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectUpdated(ProjectUpdatedEvent event) {
+    invalidate(ProjectConfigInvalidation.ofProjects(projectIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectAnalyzerConfig(ProjectAnalyzerConfigEvent event) {
+    invalidate(ProjectConfigInvalidation.ofProjects(projectIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectPatternAnalyzerUpdate(ProjectPatternAnalyzerUpdateEvent event) {
+    invalidate(ProjectConfigInvalidation.ofProjects(projectIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onNotificationSettingsUpdated(NotificationSettingsUpdatedEvent event) {
+    invalidate(ProjectConfigInvalidation.ofProjects(projectIds(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onNotificationsConfigUpdated(NotificationsConfigUpdatedEvent event) {
+    invalidate(ProjectConfigInvalidation.ofProjects(
+        Stream.ofNullable(event.getBefore()).map(ProjectResource::getProjectId).toList()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectDeleted(ProjectDeletedEvent event) {
+    invalidate(ProjectConfigInvalidation.ofProjects(
+        Stream.ofNullable(event.getProjectId()).toList()));
+  }
+
+  /**
+   * Organization retention settings are propagated to the attributes of all its projects.
+   *
+   * @param event {@link OrganizationUpdatedEvent}
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+    invalidate(ProjectConfigInvalidation.ofAll());
+  }
+
+  /**
+   * Applies the invalidation locally and sends it to the other instances.
+   *
+   * @param invalidation {@link ProjectConfigInvalidation}
+   */
+  public void invalidate(ProjectConfigInvalidation invalidation) {
+    if (invalidation.isEmpty()) {
+      return;
+    }
+    projectConfigCache.invalidate(invalidation);
+    try {
+      messageBus.publish(EXCHANGE_EVENTS, "", invalidation);
+    } catch (Exception e) {
+      log.error("Unable to broadcast project configuration invalidation {}", invalidation, e);
+    }
+  }
+
+  private static List<Long> projectIds(AbstractEvent<ProjectAttributesActivityResource> event) {
+    return Stream.of(event.getBefore(), event.getAfter())
+        .filter(Objects::nonNull)
+        .map(ProjectAttributesActivityResource::getProjectId)
+        .toList();
+  }
+}
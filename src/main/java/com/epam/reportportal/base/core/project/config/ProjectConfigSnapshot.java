@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.core.project.config;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of project configuration parameters.
+ *
+ * @param projectId Project id
+ * @param version   Version of the project configuration the snapshot was loaded at
+ * @param config    Project configuration parameters by attribute name
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public record ProjectConfigSnapshot(Long projectId, long version, Map<String, String> config) {
+
+  public ProjectConfigSnapshot {
+    config = Map.copyOf(config);
+  }
+}
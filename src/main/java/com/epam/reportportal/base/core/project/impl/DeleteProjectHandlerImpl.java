@@ -16,14 +16,14 @@
 
 package com.epam.reportportal.base.core.project.impl;
 
-import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.AUTO_ANALYZER_KEY;
 import static com.epam.reportportal.base.infrastructure.rules.commons.validation.BusinessRule.expect;
 import static com.epam.reportportal.base.infrastructure.rules.exception.ErrorType.NOT_FOUND;
 import static com.epam.reportportal.base.ws.converter.converters.ExceptionConverter.TO_ERROR_RS;
 
 import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
 import com.epam.reportportal.base.core.analyzer.auto.client.AnalyzerServiceClient;
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.reportportal.base.core.events.domain.ProjectBulkDeletedEvent;
 import com.epam.reportportal.base.core.events.domain.ProjectDeletedEvent;
@@ -45,7 +45,6 @@ import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.epam.reportportal.base.model.DeleteBulkRS;
 import com.epam.reportportal.base.reporting.OperationCompletionRS;
-import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.util.Collection;
@@ -79,7 +78,7 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 
   private final AnalyzerServiceClient analyzerServiceClient;
 
-  private final AnalyzerStatusCache analyzerStatusCache;
+  private final AnalysisStatusRegistry analysisStatusRegistry;
 
   private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -166,10 +165,8 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
         "Index can not be removed until index generation proceeds."
     );
 
-    Cache<Long, Long> analyzeStatus = analyzerStatusCache.getAnalyzeStatus(AUTO_ANALYZER_KEY)
-        .orElseThrow(
-            () -> new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, AUTO_ANALYZER_KEY));
-    expect(analyzeStatus.asMap().containsValue(project.getId()), Predicate.isEqual(false)).verify(
+    expect(analysisStatusRegistry.containsProjectId(AUTO_ANALYZER_KEY, project.getId()),
+        Predicate.isEqual(false)).verify(
         ErrorType.FORBIDDEN_OPERATION, "Index can not be removed until index generation proceeds.");
 
     logIndexer.deleteIndex(project.getId());
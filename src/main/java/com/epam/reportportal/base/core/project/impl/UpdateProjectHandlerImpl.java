@@ -16,7 +16,7 @@
 
 package com.epam.reportportal.base.core.project.impl;
 
-import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.AUTO_ANALYZER_KEY;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.EntityUtils.normalizeId;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.Preconditions.contains;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.Predicates.equalTo;
@@ -45,7 +45,7 @@ import static java.util.stream.Collectors.toSet;
 
 import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
 import com.epam.reportportal.base.core.analyzer.auto.client.AnalyzerServiceClient;
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.reportportal.base.core.analyzer.auto.indexer.IndexerStatusCache;
 import com.epam.reportportal.base.core.events.domain.AssignUserEvent;
@@ -105,7 +105,6 @@ import com.epam.reportportal.base.ws.converter.converters.NotificationConfigConv
 import com.epam.reportportal.base.ws.converter.converters.ProjectConverter;
 import com.epam.reportportal.base.ws.converter.converters.UserConverter;
 import com.epam.reportportal.base.ws.rabbit.activity.util.ActivityDetailsUtil;
-import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.Map;
@@ -156,7 +155,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 
   private final MailServiceFactory mailServiceFactory;
 
-  private final AnalyzerStatusCache analyzerStatusCache;
+  private final AnalysisStatusRegistry analysisStatusRegistry;
 
   private final IndexerStatusCache indexerStatusCache;
 
@@ -289,10 +288,8 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
         "Index can not be removed until index generation proceeds."
     );
 
-    Cache<Long, Long> analyzeStatus = analyzerStatusCache.getAnalyzeStatus(AUTO_ANALYZER_KEY)
-        .orElseThrow(
-            () -> new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, AUTO_ANALYZER_KEY));
-    expect(analyzeStatus.asMap().containsValue(project.getId()), equalTo(false)).verify(
+    expect(analysisStatusRegistry.containsProjectId(AUTO_ANALYZER_KEY, project.getId()),
+        equalTo(false)).verify(
         ErrorType.FORBIDDEN_OPERATION, "Index can not be removed until auto-analysis proceeds.");
 
     logIndexer.deleteIndex(project.getId());
@@ -20,6 +20,7 @@ import static com.epam.reportportal.base.infrastructure.rules.commons.validation
 import static com.epam.reportportal.base.infrastructure.rules.exception.ErrorType.BAD_REQUEST_ERROR;
 import static com.epam.reportportal.base.infrastructure.rules.exception.ErrorType.NOT_FOUND;
 
+import com.epam.reportportal.base.core.configs.security.ApiKeyPrincipalInvalidation;
 import com.epam.reportportal.base.core.user.ApiKeyHandler;
 import com.epam.reportportal.base.infrastructure.persistence.commons.Predicates;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ApiKeyRepository;
@@ -40,6 +41,7 @@ import java.util.UUID;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -63,9 +65,13 @@ public class ApiKeyHandlerImpl implements ApiKeyHandler {
 
   private final ApiKeyRepository apiKeyRepository;
 
+  private final ApplicationEventPublisher eventPublisher;
+
   @Autowired
-  public ApiKeyHandlerImpl(ApiKeyRepository apiKeyRepository) {
+  public ApiKeyHandlerImpl(ApiKeyRepository apiKeyRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.apiKeyRepository = apiKeyRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
@@ -93,6 +99,7 @@ public class ApiKeyHandlerImpl implements ApiKeyHandler {
     expect(apiKeyRepository.existsByIdAndUserId(id, userId), Predicates.equalTo(true))
         .verify(NOT_FOUND, "Api key");
     apiKeyRepository.deleteById(id);
+    eventPublisher.publishEvent(ApiKeyPrincipalInvalidation.ofApiKey(id));
     return new OperationCompletionRS("Api key with ID = '" + id + "' was successfully deleted.");
   }
 
@@ -25,6 +25,7 @@ import static com.epam.reportportal.base.infrastructure.rules.exception.ErrorTyp
 import static com.epam.reportportal.base.infrastructure.rules.exception.ErrorType.USER_ALREADY_EXISTS;
 import static com.epam.reportportal.base.util.email.EmailRulesValidator.NORMALIZE_EMAIL;
 
+import com.epam.reportportal.base.core.configs.security.ApiKeyPrincipalInvalidation;
 import com.epam.reportportal.base.core.events.domain.ChangeUserTypeEvent;
 import com.epam.reportportal.base.core.user.UserMutationService;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
@@ -130,6 +131,9 @@ public class UserMutationServiceImpl implements UserMutationService {
         .verify(BAD_REQUEST_ERROR, "Active status must be a boolean value.");
 
     user.setActive((Boolean) value);
+    if (Boolean.FALSE.equals(value)) {
+      eventPublisher.publishEvent(ApiKeyPrincipalInvalidation.ofUser(user.getId()));
+    }
   }
 
   @Override
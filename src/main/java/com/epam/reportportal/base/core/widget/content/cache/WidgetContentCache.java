@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.core.widget.content.cache;
+
+import com.epam.reportportal.base.core.events.domain.ItemIssueTypeDefinedEvent;
+import com.epam.reportportal.base.core.events.domain.LaunchDeletedEvent;
+import com.epam.reportportal.base.core.events.domain.LaunchFinishedEvent;
+import com.epam.reportportal.base.core.events.domain.LinkTicketEvent;
+import com.epam.reportportal.base.core.events.domain.item.IssueResolvedEvent;
+import com.epam.reportportal.base.infrastructure.persistence.entity.widget.WidgetType;
+import com.epam.reportportal.base.model.activity.LaunchActivityResource;
+import com.epam.reportportal.base.model.activity.TestItemActivityResource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Local cache of widget content. Content is cached by widget and everything its loading depends on: content fields,
+ * resolved filters with sorting, widget options and limit. Each key also contains the statistics version of the widget
+ * project, which is incremented when launches of the project are finished, deleted or merged and when issues of test
+ * items are changed, so new content is loaded after any of these changes.
+ *
+ * <p>Versions are local, other API instances don't get increments and rely on the {@code expire} bound. The bound
+ * also covers changes of launches in progress.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+public class WidgetContentCache {
+
+  private static final String CACHE_NAME = "widgetContent";
+
+  private final Cache<ContentKey, Map<String, ?>> cache;
+
+  private final Map<Long, AtomicLong> statisticsVersions = new ConcurrentHashMap<>();
+
+  private final boolean enabled;
+
+  private final Set<WidgetType> excludedTypes;
+
+  public WidgetContentCache(@Value("${rp.environment.variable.widget.cache.enabled}") boolean enabled,
+      @Value("${rp.environment.variable.widget.cache.size}") long size,
+      @Value("${rp.environment.variable.widget.cache.expire}") Duration expire,
+      @Value("${rp.environment.variable.widget.cache.excluded-types}") String[] excludedTypes,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.excludedTypes = EnumSet.noneOf(WidgetType.class);
+    Arrays.stream(excludedTypes)
+        .map(WidgetType::findByName)
+        .flatMap(Optional::stream)
+        .forEach(this.excludedTypes::add);
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(size)
+        .expireAfterWrite(expire)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Returns cached content of the widget or loads it.
+   *
+   * @param projectId  Id of the widget project
+   * @param widgetId   Id of the widget
+   * @param widgetType Type of the widget
+   * @param request    Everything the content depends on besides the widget id and the project statistics. Compared by
+   *                   {@code equals}, so only values with value-based equality make the content reusable.
+   * @param loader     Content loader
+   * @return Widget content
+   */
+  public Map<String, ?> get(Long projectId, Long widgetId, WidgetType widgetType,
+      List<?> request, Supplier<Map<String, ?>> loader) {
+    if (!enabled || excludedTypes.contains(widgetType)) {
+      return loader.get();
+    }
+    ContentKey key = new ContentKey(projectId, widgetId, statisticsVersion(projectId), request);
+    return cache.get(key, k -> loader.get());
+  }
+
+  /**
+   * Makes content of the project widgets outdated.
+   *
+   * @param projectId Id of the project
+   */
+  public void onStatisticsChanged(Long projectId) {
+    if (projectId == null) {
+      return;
+    }
+    statisticsVersions.computeIfAbsent(projectId, id -> new AtomicLong()).incrementAndGet();
+    cache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProjectStatisticsChanged(ProjectStatisticsChanged event) {
+    onStatisticsChanged(event.projectId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLaunchFinished(LaunchFinishedEvent event) {
+    onStatisticsChanged(event.getProjectId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLaunchDeleted(LaunchDeletedEvent event) {
+    Optional.ofNullable(event.getBefore())
+        .map(LaunchActivityResource::getProjectId)
+        .ifPresent(this::onStatisticsChanged);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onIssueTypeDefined(ItemIssueTypeDefinedEvent event) {
+    onTestItemChanged(event.getBefore(), event.getAfter());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTicketLinked(LinkTicketEvent event) {
+    onTestItemChanged(event.getBefore(), event.getAfter());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onIssueResolved(IssueResolvedEvent event) {
+    onStatisticsChanged(event.getProjectId());
+  }
+
+  private void onTestItemChanged(TestItemActivityResource before,
+      TestItemActivityResource after) {
+    Stream.of(after, before)
+        .filter(Objects::nonNull)
+        .map(TestItemActivityResource::getProjectId)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .ifPresent(this::onStatisticsChanged);
+  }
+
+  private long statisticsVersion(Long projectId) {
+    return Optional.ofNullable(statisticsVersions.get(projectId)).map(AtomicLong::get).orElse(0L);
+  }
+
+  private record ContentKey(Long projectId, Long widgetId, long statisticsVersion,
+                            List<?> request) {
+
+  }
+}
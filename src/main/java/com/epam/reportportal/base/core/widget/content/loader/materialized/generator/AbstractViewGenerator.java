@@ -18,20 +18,31 @@ package com.epam.reportportal.base.core.widget.content.loader.materialized.gener
 
 import static com.epam.reportportal.base.core.widget.content.loader.materialized.handler.MaterializedWidgetStateHandler.VIEW_NAME;
 import static com.epam.reportportal.base.core.widget.content.updater.MaterializedWidgetStateUpdater.STATE;
+import static java.util.Optional.ofNullable;
 
 import com.epam.reportportal.base.core.widget.util.WidgetOptionUtil;
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Filter;
 import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.Widget;
+import com.epam.reportportal.base.infrastructure.persistence.entity.widget.WidgetOptions;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.WidgetState;
 import com.epam.reportportal.base.ws.converter.builders.WidgetBuilder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.MultiValueMap;
 
 /**
@@ -45,6 +56,19 @@ public abstract class AbstractViewGenerator implements ViewGenerator {
 
   private static final String LAST_REFRESH = "lastRefresh";
 
+  static final String VIEW_SIGNATURE = "viewSignature";
+
+  static final String VIEW_GENERATED = "viewGenerated";
+
+  /**
+   * Launches saved by transactions started before the generation but committed after it are not visible to the
+   * generation, so launches modified within this period before it are applied again by the next update.
+   */
+  private static final Duration MODIFICATION_OVERLAP = Duration.ofMinutes(5);
+
+  private static final Set<String> GENERATION_OPTIONS = Set.of(STATE, VIEW_NAME, LAST_REFRESH,
+      VIEW_SIGNATURE, VIEW_GENERATED);
+
   private final WidgetRepository widgetRepository;
 
   /**
@@ -70,16 +94,43 @@ public abstract class AbstractViewGenerator implements ViewGenerator {
       Filter launchesFilter, Sort launchesSort,
       MultiValueMap<String, String> params);
 
+  /**
+   * Applies launches changed since the previous generation to the existing view. Views which can't be updated are
+   * generated from scratch.
+   *
+   * @param viewName       target database object name
+   * @param widget         widget being materialized
+   * @param launchesFilter filter on launches feeding the view
+   * @param launchesSort   sort of launches in scope
+   * @param params         free-form widget and generator options
+   * @param modifiedAfter  launches modified after this time should be applied again
+   * @return {@code true} if the view was updated
+   */
+  protected boolean updateView(String viewName, Widget widget, Filter launchesFilter,
+      Sort launchesSort, MultiValueMap<String, String> params, Instant modifiedAfter) {
+    return false;
+  }
+
   @Transactional
   public void generate(boolean refresh, String viewName, Widget widget, Filter launchesFilter,
       Sort launchesSort,
       MultiValueMap<String, String> params) {
     LOGGER.debug("Widget {} - {}. Generation started", widget.getWidgetType(), widget.getId());
-    generateView(refresh, viewName, widget, launchesFilter, launchesSort, params);
+    Instant generated = Instant.now();
+    String signature = getSignature(widget, launchesFilter, launchesSort);
+    Optional<Instant> previousGeneration = getPreviousGeneration(widget, signature);
+    if (refresh && previousGeneration.isPresent() && updateView(viewName, widget, launchesFilter,
+        launchesSort, params, previousGeneration.get().minus(MODIFICATION_OVERLAP))) {
+      LOGGER.debug("Widget {} - {}. View updated", widget.getWidgetType(), widget.getId());
+    } else {
+      generateView(refresh, viewName, widget, launchesFilter, launchesSort, params);
+    }
     LOGGER.debug("Widget {} - {}. Generation finished", widget.getWidgetType(), widget.getId());
     widgetRepository.save(new WidgetBuilder(widget).addOption(STATE, WidgetState.READY.getValue())
         .addOption(VIEW_NAME, viewName)
         .addOption(LAST_REFRESH, Date.from(LocalDateTime.now().atZone(ZoneOffset.UTC).toInstant()))
+        .addOption(VIEW_SIGNATURE, signature)
+        .addOption(VIEW_GENERATED, generated.toString())
         .get());
     LOGGER.debug("Widget {} - {}. State updated to: {}",
         widget.getWidgetType(),
@@ -88,4 +139,31 @@ public abstract class AbstractViewGenerator implements ViewGenerator {
     );
   }
 
+  /**
+   * The previous generation is applicable only if the view was built with the same filter, sort and widget options.
+   */
+  private Optional<Instant> getPreviousGeneration(Widget widget, String signature) {
+    if (!signature.equals(WidgetOptionUtil.getValueByKey(VIEW_SIGNATURE,
+        widget.getWidgetOptions()))) {
+      return Optional.empty();
+    }
+    return ofNullable(WidgetOptionUtil.getValueByKey(VIEW_GENERATED, widget.getWidgetOptions()))
+        .map(Instant::parse);
+  }
+
+  private String getSignature(Widget widget, Filter launchesFilter, Sort launchesSort) {
+    Map<String, Object> options = ofNullable(widget.getWidgetOptions()).map(
+            WidgetOptions::getOptions)
+        .map(widgetOptions -> widgetOptions.entrySet()
+            .stream()
+            .filter(option -> !GENERATION_OPTIONS.contains(option.getKey()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a,
+                TreeMap::new)))
+        .orElseGet(TreeMap::new);
+    String definition = String.join("|", String.valueOf(launchesFilter),
+        String.valueOf(launchesSort), String.valueOf(widget.getItemsCount()),
+        String.valueOf(options));
+    return DigestUtils.md5DigestAsHex(definition.getBytes(StandardCharsets.UTF_8));
+  }
+
 }
@@ -23,6 +23,7 @@ import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Fi
 import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetContentRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.Widget;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
@@ -54,4 +55,12 @@ public class CumulativeTrendChartViewGenerator extends AbstractViewGenerator {
     widgetContentRepository.generateCumulativeTrendChartView(refresh, viewName, launchesFilter,
         launchesSort, attributes, widget.getItemsCount());
   }
+
+  @Override
+  protected boolean updateView(String viewName, Widget widget, Filter launchesFilter,
+      Sort launchesSort, MultiValueMap<String, String> params, Instant modifiedAfter) {
+    List<String> attributes = WidgetOptionUtil.getListByKey(ATTRIBUTES, widget.getWidgetOptions());
+    return widgetContentRepository.updateCumulativeTrendChartView(viewName, launchesFilter,
+        launchesSort, attributes, widget.getItemsCount(), modifiedAfter);
+  }
 }
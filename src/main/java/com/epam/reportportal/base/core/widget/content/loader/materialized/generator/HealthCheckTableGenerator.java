@@ -26,6 +26,7 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetContentRe
 import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.Widget;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.content.healthcheck.HealthCheckTableInitParams;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
@@ -64,6 +65,18 @@ public class HealthCheckTableGenerator extends AbstractViewGenerator {
     );
   }
 
+  @Override
+  protected boolean updateView(String viewName, Widget widget, Filter launchesFilter,
+      Sort launchesSort, MultiValueMap<String, String> params, Instant modifiedAfter) {
+    return widgetContentRepository.updateComponentHealthCheckTable(getInitParams(widget, viewName),
+        launchesFilter,
+        launchesSort,
+        widget.getItemsCount(),
+        WidgetOptionUtil.getBooleanByKey(LATEST_OPTION, widget.getWidgetOptions()),
+        modifiedAfter
+    );
+  }
+
   private HealthCheckTableInitParams getInitParams(Widget widget, String viewName) {
     List<String> attributeKeys = WidgetOptionUtil.getListByKey(ATTRIBUTE_KEYS,
         widget.getWidgetOptions());
@@ -17,14 +17,16 @@
 package com.epam.reportportal.base.core.widget.content.remover;
 
 import com.epam.reportportal.base.core.widget.content.materialized.generator.MaterializedViewNameGenerator;
-import com.epam.reportportal.base.infrastructure.persistence.dao.StaleMaterializedViewRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.StaleWidgetTableRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.materialized.StaleMaterializedView;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.Widget;
 import java.time.Instant;
 import org.springframework.stereotype.Service;
 
 /**
- * Marks the materialized view of a widget as stale so it can be refreshed asynchronously on deletion.
+ * Queues the view of a widget deleted while it is being generated, so it is dropped after the generation is over.
+ * Widget views are created as tables, so they are queued to the stale widget tables which are dropped by
+ * {@link com.epam.reportportal.base.job.StaleWidgetTablesCleanupJob} rather than to the stale materialized views.
  *
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -32,18 +34,18 @@ import org.springframework.stereotype.Service;
 public class StaleMaterializedViewRemover implements WidgetContentRemover {
 
   private final MaterializedViewNameGenerator materializedViewNameGenerator;
-  private final StaleMaterializedViewRepository staleMaterializedViewRepository;
+  private final StaleWidgetTableRepository staleWidgetTableRepository;
 
   public StaleMaterializedViewRemover(MaterializedViewNameGenerator materializedViewNameGenerator,
-      StaleMaterializedViewRepository staleMaterializedViewRepository) {
+      StaleWidgetTableRepository staleWidgetTableRepository) {
     this.materializedViewNameGenerator = materializedViewNameGenerator;
-    this.staleMaterializedViewRepository = staleMaterializedViewRepository;
+    this.staleWidgetTableRepository = staleWidgetTableRepository;
   }
 
   @Override
   public void removeContent(Widget widget) {
     final StaleMaterializedView staleView = getStaleView(widget);
-    staleMaterializedViewRepository.insert(staleView);
+    staleWidgetTableRepository.insert(staleView);
   }
 
   private StaleMaterializedView getStaleView(Widget widget) {
@@ -27,11 +27,13 @@ import com.epam.reportportal.base.core.widget.content.BuildFilterStrategy;
 import com.epam.reportportal.base.core.widget.content.LoadContentStrategy;
 import com.epam.reportportal.base.core.widget.content.MaterializedLoadContentStrategy;
 import com.epam.reportportal.base.core.widget.content.MultilevelLoadContentStrategy;
+import com.epam.reportportal.base.core.widget.content.cache.WidgetContentCache;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.filter.UserFilter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.organization.MembershipDetails;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.Widget;
+import com.epam.reportportal.base.infrastructure.persistence.entity.widget.WidgetOptions;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.WidgetType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
@@ -40,6 +42,7 @@ import com.epam.reportportal.base.model.widget.WidgetResource;
 import com.epam.reportportal.base.ws.converter.builders.WidgetBuilder;
 import com.epam.reportportal.base.ws.converter.converters.WidgetConverter;
 import com.google.common.collect.Lists;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -50,6 +53,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 /**
@@ -77,6 +81,9 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
   @Autowired
   private GetUserFilterHandler getUserFilterHandler;
 
+  @Autowired
+  private WidgetContentCache widgetContentCache;
+
   @Autowired
   @Qualifier("buildFilterStrategy")
   public void setBuildFilterStrategy(
@@ -130,11 +137,14 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
     if (unfilteredWidgetTypes.contains(widgetType) || isFilteredContentLoadAllowed(
         widget.getFilters(), membershipDetails, user)) {
-      content = loadContentStrategy.get(widgetType)
-          .loadContent(Lists.newArrayList(widget.getContentFields()),
-              buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
-              widget.getWidgetOptions(), widget.getItemsCount()
-          );
+      content = widgetContentCache.get(membershipDetails.getProjectId(), widgetId, widgetType,
+          contentRequest(widget, widgetType),
+          () -> loadContentStrategy.get(widgetType)
+              .loadContent(Lists.newArrayList(widget.getContentFields()),
+                  buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
+                  widget.getWidgetOptions(), widget.getItemsCount()
+              )
+      );
     } else {
       content = Collections.emptyMap();
     }
@@ -169,9 +179,13 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
         widget.getFilters(), membershipDetails, user)) {
       params.put(ATTRIBUTES, Lists.newArrayList(attributes));
       content = ofNullable(multilevelLoadContentStrategy.get(widgetType)).map(
-          strategy -> strategy.loadContent(Lists.newArrayList(widget.getContentFields()),
-              buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
-              widget.getWidgetOptions(), attributes, params, widget.getItemsCount()
+          strategy -> widgetContentCache.get(membershipDetails.getProjectId(), widgetId,
+              widgetType,
+              contentRequest(widget, widgetType, new LinkedMultiValueMap<>(params).deepCopy()),
+              () -> strategy.loadContent(Lists.newArrayList(widget.getContentFields()),
+                  buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
+                  widget.getWidgetOptions(), attributes, params, widget.getItemsCount()
+              )
           )).orElseGet(() -> materializedLoadContentStrategy.loadContent(widget, params));
 
     } else {
@@ -183,6 +197,25 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
     return resource;
   }
 
+  /**
+   * Collects everything the widget content depends on. Loaders may modify filters and params passed to them, so the
+   * request is built from its own copies.
+   *
+   * @param widget     {@link Widget}
+   * @param widgetType {@link WidgetType}
+   * @param extra      Additional request values
+   * @return List of request values
+   */
+  private List<Object> contentRequest(Widget widget, WidgetType widgetType, Object... extra) {
+    List<Object> request = Lists.newArrayList(Lists.newArrayList(widget.getContentFields()),
+        buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
+        ofNullable(widget.getWidgetOptions()).map(WidgetOptions::getOptions).orElse(null),
+        widget.getItemsCount()
+    );
+    request.addAll(Arrays.asList(extra));
+    return request;
+  }
+
   private Boolean isFilteredContentLoadAllowed(Collection<UserFilter> userFilters,
       MembershipDetails membershipDetails, ReportPortalUser user) {
 
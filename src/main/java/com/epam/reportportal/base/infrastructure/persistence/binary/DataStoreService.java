@@ -29,6 +29,16 @@ public interface DataStoreService {
 
   String save(String fileName, InputStream data);
 
+  /**
+   * Saves data of the known length without buffering it, so the stream is passed to the underlying storage as is.
+   *
+   * @param fileName      Target file name
+   * @param data          Data to save
+   * @param contentLength Length of the data in bytes
+   * @return Encoded id of the saved file
+   */
+  String save(String fileName, InputStream data, long contentLength);
+
   String saveThumbnail(String fileName, InputStream data);
 
   void delete(String fileId);
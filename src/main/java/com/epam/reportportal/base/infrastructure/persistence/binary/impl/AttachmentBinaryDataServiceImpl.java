@@ -37,8 +37,8 @@ import com.epam.reportportal.base.infrastructure.persistence.filesystem.FilePath
 import com.epam.reportportal.base.infrastructure.persistence.util.FeatureFlagHandler;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import com.google.common.io.CountingInputStream;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Paths;
@@ -64,6 +64,11 @@ public class AttachmentBinaryDataServiceImpl implements AttachmentBinaryDataServ
   private static final Logger LOGGER =
       LoggerFactory.getLogger(AttachmentBinaryDataServiceImpl.class);
 
+  /**
+   * Number of leading bytes used for the content type detection.
+   */
+  private static final int CONTENT_TYPE_PREFIX_SIZE = 64 * 1024;
+
   private final ContentTypeResolver contentTypeResolver;
 
   private final FilePathGenerator filePathGenerator;
@@ -105,10 +110,9 @@ public class AttachmentBinaryDataServiceImpl implements AttachmentBinaryDataServ
   public Optional<BinaryDataMetaInfo> saveAttachment(AttachmentMetaInfo metaInfo,
       MultipartFile file) {
     Optional<BinaryDataMetaInfo> result = Optional.empty();
-    try (InputStream inputStream = file.getInputStream();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      inputStream.transferTo(outputStream);
-      String contentType = resolveContentType(file.getContentType(), outputStream);
+    try (BufferedInputStream inputStream = new BufferedInputStream(file.getInputStream(),
+        CONTENT_TYPE_PREFIX_SIZE)) {
+      String contentType = resolveContentType(file.getContentType(), inputStream);
       String fileName = resolveFileName(metaInfo, file, contentType);
 
       String commonPath;
@@ -119,14 +123,12 @@ public class AttachmentBinaryDataServiceImpl implements AttachmentBinaryDataServ
       }
       String targetPath = Paths.get(commonPath, fileName).toString();
 
-      String fileId;
-      try (ByteArrayInputStream copy = new ByteArrayInputStream(outputStream.toByteArray())) {
-        fileId = dataStoreService.save(targetPath, copy);
-      }
+      CountingInputStream countingStream = new CountingInputStream(inputStream);
+      String fileId = dataStoreService.save(targetPath, countingStream, file.getSize());
 
       result = Optional.of(
           BinaryDataMetaInfo.BinaryDataMetaInfoBuilder.aBinaryDataMetaInfo().withFileId(fileId)
-              .withContentType(contentType).withFileSize(file.getSize()).build());
+              .withContentType(contentType).withFileSize(countingStream.getCount()).build());
     } catch (IOException e) {
       LOGGER.error("Unable to save binary data", e);
     }
@@ -213,14 +215,19 @@ public class AttachmentBinaryDataServiceImpl implements AttachmentBinaryDataServ
     attachmentRepository.deleteAllByProjectId(projectId);
   }
 
-  private String resolveContentType(String contentType, ByteArrayOutputStream outputStream)
+  /**
+   * Detects content type by the first {@link #CONTENT_TYPE_PREFIX_SIZE} bytes of the stream, so the file is never
+   * loaded into memory entirely. The stream is reset to its beginning after detection.
+   */
+  private String resolveContentType(String contentType, BufferedInputStream inputStream)
       throws IOException {
     if (isContentTypePresent(contentType)) {
       return contentType;
     }
-    try (ByteArrayInputStream copy = new ByteArrayInputStream(outputStream.toByteArray())) {
-      return contentTypeResolver.detectContentType(copy);
-    }
+    inputStream.mark(CONTENT_TYPE_PREFIX_SIZE);
+    byte[] prefix = inputStream.readNBytes(CONTENT_TYPE_PREFIX_SIZE);
+    inputStream.reset();
+    return contentTypeResolver.detectContentType(prefix);
   }
 
 }
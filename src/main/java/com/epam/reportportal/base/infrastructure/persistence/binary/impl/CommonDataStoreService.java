@@ -48,6 +48,11 @@ public abstract class CommonDataStoreService implements DataStoreService {
     return dataEncoder.encode(dataStore.save(fileName, data));
   }
 
+  @Override
+  public String save(String fileName, InputStream data, long contentLength) {
+    return dataEncoder.encode(dataStore.save(fileName, data, contentLength));
+  }
+
   @Override
   public abstract String saveThumbnail(String fileName, InputStream data);
 
@@ -46,4 +46,13 @@ public interface ActivityRepositoryCustom extends FilterableRepository<Activity>
    * @return Found activities
    */
   List<Activity> findByFilterWithSortingAndLimit(Queryable filter, Sort sort, int limit);
+
+  /**
+   * Inserts all provided {@link Activity} entries with a single multi-row statement. Used for performance improvement
+   * of batched activities consuming
+   *
+   * @param activities {@link List} of {@link Activity} without ids
+   * @return Number of inserted rows
+   */
+  int saveMultiple(List<Activity> activities);
 }
@@ -19,14 +19,26 @@ package com.epam.reportportal.base.infrastructure.persistence.dao;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.util.RecordMappers.ACTIVITY_MAPPER;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.util.ResultFetchers.ACTIVITY_FETCHER;
 import static com.epam.reportportal.base.infrastructure.persistence.jooq.tables.JActivity.ACTIVITY;
+import static java.util.Optional.ofNullable;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.val;
 
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.QueryBuilder;
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Queryable;
 import com.epam.reportportal.base.infrastructure.persistence.entity.activity.Activity;
+import com.epam.reportportal.base.infrastructure.persistence.entity.activity.ActivityDetails;
+import com.epam.reportportal.base.infrastructure.persistence.jooq.tables.records.JActivityRecord;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep13;
+import org.jooq.JSONB;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -42,6 +54,13 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class ActivityRepositoryCustomImpl implements ActivityRepositoryCustom {
 
+  /**
+   * Configured the same way as the mapper of {@link ActivityDetails} user type, so details are stored in the same form
+   * as by JPA
+   */
+  private static final ObjectMapper DETAILS_MAPPER = new ObjectMapper().registerModule(
+      new JavaTimeModule());
+
   private final DSLContext dsl;
 
   @Autowired
@@ -76,4 +95,53 @@ public class ActivityRepositoryCustomImpl implements ActivityRepositoryCustom {
             .withWrapperSort(pageable.getSort())
             .build())), pageable, () -> dsl.fetchCount(QueryBuilder.newBuilder(filter).build()));
   }
+
+  @Override
+  public int saveMultiple(List<Activity> activities) {
+    if (activities.isEmpty()) {
+      return 0;
+    }
+    InsertValuesStep13<JActivityRecord, Instant, String, String, String, Long, String, String, Long, JSONB, Long, String, String, Long> insert =
+        dsl.insertInto(ACTIVITY)
+            .columns(ACTIVITY.CREATED_AT, ACTIVITY.ACTION, ACTIVITY.EVENT_NAME, ACTIVITY.PRIORITY,
+                ACTIVITY.OBJECT_ID, ACTIVITY.OBJECT_NAME, ACTIVITY.OBJECT_TYPE, ACTIVITY.PROJECT_ID,
+                ACTIVITY.DETAILS, ACTIVITY.SUBJECT_ID, ACTIVITY.SUBJECT_NAME, ACTIVITY.SUBJECT_TYPE,
+                ACTIVITY.ORGANIZATION_ID);
+
+    activities.forEach(activity -> insert.values(val(activity.getCreatedAt(), ACTIVITY.CREATED_AT),
+        enumValue(activity.getAction(), ACTIVITY.ACTION),
+        val(activity.getEventName(), ACTIVITY.EVENT_NAME),
+        enumValue(activity.getPriority(), ACTIVITY.PRIORITY),
+        val(activity.getObjectId(), ACTIVITY.OBJECT_ID),
+        val(activity.getObjectName(), ACTIVITY.OBJECT_NAME),
+        enumValue(activity.getObjectType(), ACTIVITY.OBJECT_TYPE),
+        val(activity.getProjectId(), ACTIVITY.PROJECT_ID),
+        val(toJsonb(activity.getDetails()), ACTIVITY.DETAILS),
+        val(activity.getSubjectId(), ACTIVITY.SUBJECT_ID),
+        val(activity.getSubjectName(), ACTIVITY.SUBJECT_NAME),
+        enumValue(activity.getSubjectType(), ACTIVITY.SUBJECT_TYPE),
+        val(activity.getOrganizationId(), ACTIVITY.ORGANIZATION_ID)
+    ));
+    return insert.execute();
+  }
+
+  /**
+   * Enum columns have database enum types, so the value is inlined as an untyped literal to be coerced by the database
+   * the same way as JPA does for these columns
+   */
+  private static Field<String> enumValue(Enum<?> value, Field<String> field) {
+    return inline(ofNullable(value).map(Enum::name).orElse(null), field);
+  }
+
+  private static JSONB toJsonb(ActivityDetails details) {
+    if (details == null) {
+      return null;
+    }
+    try {
+      return JSONB.valueOf(DETAILS_MAPPER.writeValueAsString(details));
+    } catch (JsonProcessingException e) {
+      throw new ReportPortalException("Failed to convert activity details to JSON: " + e.getMessage(),
+          e);
+    }
+  }
 }
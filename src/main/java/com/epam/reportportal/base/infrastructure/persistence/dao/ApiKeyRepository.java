@@ -18,10 +18,16 @@ package com.epam.reportportal.base.infrastructure.persistence.dao;
 
 import com.epam.reportportal.base.infrastructure.persistence.entity.user.User;
 import com.epam.reportportal.base.infrastructure.persistence.entity.user.ApiKey;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -31,7 +37,7 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface ApiKeyRepository
-    extends ReportPortalRepository<ApiKey, Long>, ApiKeyRepositoryCustom {
+    extends ReportPortalRepository<ApiKey, Long> {
 
   /**
    * @param hash hash of api key
@@ -60,6 +66,19 @@ public interface ApiKeyRepository
    */
   List<ApiKey> findByUserId(Long userId);
 
+  /**
+   * Moves last usage date of the api keys forward, earlier dates don't overwrite later ones.
+   *
+   * @param ids        ids of api keys
+   * @param lastUsedAt {@link LocalDate}
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE ApiKey a SET a.lastUsedAt = :lastUsedAt WHERE a.id IN :ids "
+      + "AND (a.lastUsedAt IS NULL OR a.lastUsedAt < :lastUsedAt)")
+  void updateLastUsedAt(@Param("ids") Collection<Long> ids,
+      @Param("lastUsedAt") LocalDate lastUsedAt);
+
   @CacheEvict(value = "apiKeyCache", cacheResolver = "apiKeyCacheResolver")
   @Override
   void deleteById(@NonNull Long id);
@@ -17,10 +17,32 @@
 package com.epam.reportportal.base.infrastructure.persistence.dao;
 
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueEntity;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface IssueEntityRepository extends ReportPortalRepository<IssueEntity, Long>,
     IssueEntityRepositoryCustom {
 
   List<IssueEntity> findAllByIssueTypeId(Long id);
+
+  /**
+   * Attaches an issue of the provided type to every item with provided id that has statistics, isn't of the provided
+   * types and has no issue yet
+   *
+   * @param itemIds       Test item ids
+   * @param issueTypeId   Issue type id
+   * @param excludedTypes Names of the test item types that mustn't get an issue
+   * @return Count of attached issues
+   */
+  @Modifying
+  @Query(value = "INSERT INTO issue (issue_id, issue_type, auto_analyzed, ignore_analyzer)"
+      + " SELECT test_item.item_id, :issueTypeId, FALSE, FALSE FROM test_item WHERE test_item.item_id IN (:itemIds)"
+      + " AND test_item.has_stats AND CAST(test_item.type AS VARCHAR) NOT IN (:excludedTypes)"
+      + " AND NOT EXISTS(SELECT 1 FROM issue WHERE issue.issue_id = test_item.item_id)", nativeQuery = true)
+  int saveByItemIds(@Param("itemIds") Collection<Long> itemIds,
+      @Param("issueTypeId") Long issueTypeId,
+      @Param("excludedTypes") Collection<String> excludedTypes);
 }
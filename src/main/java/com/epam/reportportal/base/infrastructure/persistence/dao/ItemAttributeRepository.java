@@ -18,6 +18,7 @@ package com.epam.reportportal.base.infrastructure.persistence.dao;
 
 import com.epam.reportportal.base.infrastructure.persistence.entity.ItemAttribute;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Modifying;
@@ -45,4 +46,19 @@ public interface ItemAttributeRepository extends ReportPortalRepository<ItemAttr
   int deleteAllByLaunchIdAndSystem(@Param("launchId") Long launchId, @Param("isSystem") boolean isSystem);
 
   List<ItemAttribute> findAllByTestItem(TestItem testItem);
+
+  /**
+   * Inserts the same attribute to every item with provided id
+   *
+   * @param itemIds  {@link TestItem#getItemId()} collection
+   * @param key      Attribute key
+   * @param value    Attribute value
+   * @param isSystem Attribute system flag
+   * @return Count of inserted attributes
+   */
+  @Modifying
+  @Query(value = "INSERT INTO item_attribute (key, value, item_id, system)"
+      + " SELECT :key, :value, item_id, :isSystem FROM test_item WHERE item_id IN (:itemIds)", nativeQuery = true)
+  int saveByItemIds(@Param("itemIds") Collection<Long> itemIds, @Param("key") String key,
+      @Param("value") String value, @Param("isSystem") boolean isSystem);
 }
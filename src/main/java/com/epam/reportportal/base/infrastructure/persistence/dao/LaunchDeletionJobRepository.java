@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.infrastructure.persistence.dao;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJob;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJobLaunch;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Launch deletion jobs with their launches and leases of the instances running them.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public interface LaunchDeletionJobRepository extends
+    ReportPortalRepository<LaunchDeletionJob, String> {
+
+  @Query("SELECT j FROM LaunchDeletionJob j LEFT JOIN FETCH j.launches WHERE j.id = :id")
+  Optional<LaunchDeletionJob> findWithLaunchesById(@Param("id") String id);
+
+  /**
+   * @param launchId Launch id
+   * @return true if the launch is being deleted by one of the jobs
+   */
+  @Query(value = "SELECT EXISTS(SELECT 1 FROM launch_deletion_job_launch "
+      + "WHERE launch_id = :launchId AND status = 'DELETING')", nativeQuery = true)
+  boolean isLaunchDeleting(@Param("launchId") Long launchId);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE LaunchDeletionJobLaunch l SET l.status = :status WHERE l.id = :id")
+  void updateLaunchStatus(@Param("id") Long id,
+      @Param("status") LaunchDeletionJobLaunch.Status status);
+
+  /**
+   * Sets the status of the job and releases its lease
+   *
+   * @param id      Job id
+   * @param status  Status of the job
+   * @param endTime End time of the job
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE LaunchDeletionJob j SET j.status = :status, j.endTime = :endTime, "
+      + "j.lockedBy = NULL, j.lockUntil = NULL WHERE j.id = :id")
+  void finish(@Param("id") String id, @Param("status") LaunchDeletionJob.Status status,
+      @Param("endTime") Instant endTime);
+
+  /**
+   * @param status Status of the job
+   * @param now    Current time
+   * @return Ids of the jobs which lease is expired
+   */
+  @Query("SELECT j.id FROM LaunchDeletionJob j WHERE j.status = :status "
+      + "AND (j.lockUntil IS NULL OR j.lockUntil <= :now)")
+  List<String> findIdsWithExpiredLease(@Param("status") LaunchDeletionJob.Status status,
+      @Param("now") Instant now);
+
+  /**
+   * Acquires the lease of the job if it is expired
+   *
+   * @param id        Job id
+   * @param status    Expected status of the job
+   * @param owner     Id of the instance acquiring the lease
+   * @param now       Current time
+   * @param lockUntil End of the lease
+   * @return Count of updated jobs, 0 if the lease is held by another instance
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE LaunchDeletionJob j SET j.lockedBy = :owner, j.lockUntil = :lockUntil "
+      + "WHERE j.id = :id AND j.status = :status AND (j.lockUntil IS NULL OR j.lockUntil <= :now)")
+  int acquireLease(@Param("id") String id, @Param("status") LaunchDeletionJob.Status status,
+      @Param("owner") String owner, @Param("now") Instant now,
+      @Param("lockUntil") Instant lockUntil);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE LaunchDeletionJob j SET j.lockUntil = :lockUntil "
+      + "WHERE j.id IN :ids AND j.lockedBy = :owner")
+  void prolongLease(@Param("ids") Collection<String> ids, @Param("owner") String owner,
+      @Param("lockUntil") Instant lockUntil);
+
+  /**
+   * Removes jobs in the provided status finished before the provided time with their launches
+   *
+   * @param status Status of the job
+   * @param before Time before which jobs are finished
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM LaunchDeletionJob j WHERE j.status = :status AND j.endTime < :before")
+  void deleteFinishedBefore(@Param("status") LaunchDeletionJob.Status status,
+      @Param("before") Instant before);
+}
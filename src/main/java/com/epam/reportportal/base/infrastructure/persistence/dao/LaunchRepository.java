@@ -79,6 +79,8 @@ public interface LaunchRepository extends ReportPortalRepository<Launch, Long>,
 
   Optional<Launch> findByUuid(String uuid);
 
+  List<Launch> findAllByUuidIn(Collection<String> uuids);
+
   /**
    * Finds launch by {@link Launch#getUuid()} and sets a lock on the found launch row in the database. Required for
    * fetching launch from the concurrent environment to provide synchronization between dependant entities
@@ -115,6 +117,27 @@ public interface LaunchRepository extends ReportPortalRepository<Launch, Long>,
       @Param("status") StatusEnum status,
       @Param("before") Instant before);
 
+  /**
+   * Finds ids of the broken launches of the project: launches in progress started before the provided time, which
+   * have neither items in progress started after that time nor logs of items in progress reported after that time
+   *
+   * @param projectId {@link Launch#getProjectId()}
+   * @param before    Time of the last expected activity in the launch
+   * @return {@link List} of {@link Launch#getId()} ordered by id
+   */
+  @Query(value = """
+      SELECT l.id FROM launch l
+      WHERE l.project_id = :projectId AND l.status = 'IN_PROGRESS' AND l.start_time < :before
+        AND NOT EXISTS(SELECT 1 FROM test_item ti JOIN test_item_results tir ON ti.item_id = tir.result_id
+          WHERE ti.launch_id = l.id AND tir.status = 'IN_PROGRESS' AND ti.start_time > :before)
+        AND NOT EXISTS(SELECT 1 FROM log lg JOIN test_item ti ON lg.item_id = ti.item_id
+          JOIN test_item_results tir ON ti.item_id = tir.result_id
+          WHERE ti.launch_id = l.id AND tir.status = 'IN_PROGRESS' AND lg.log_time > :before)
+      ORDER BY l.id
+      """, nativeQuery = true)
+  List<Long> findBrokenLaunchIds(@Param("projectId") Long projectId,
+      @Param("before") Instant before);
+
   @Query(value = "SELECT * FROM launch l WHERE l.id <= :startingLaunchId AND l.name = :launchName "
       + "AND l.project_id = :projectId AND l.mode <> 'DEBUG' ORDER BY start_time DESC, number DESC LIMIT :historyDepth", nativeQuery = true)
   List<Launch> findLaunchesHistory(@Param("historyDepth") int historyDepth,
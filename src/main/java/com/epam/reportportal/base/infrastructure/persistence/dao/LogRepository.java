@@ -86,4 +86,26 @@ public interface LogRepository extends ReportPortalRepository<Log, Long>, LogRep
   @Modifying
   @Query(value = "UPDATE log SET cluster_id = NULL WHERE cluster_id IS NOT NULL AND item_id IN (:itemIds)", nativeQuery = true)
   int updateClusterIdSetNullByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
+  /**
+   * Deletes not more than 'limit' logs of the provided items
+   *
+   * @param itemIds Collection of the item ids referenced from {@link Log#getTestItem()}
+   * @param limit   Max count of logs to delete
+   * @return Count of removed logs
+   */
+  @Modifying
+  @Query(value = "DELETE FROM log WHERE id IN (SELECT id FROM log WHERE item_id IN (:itemIds) LIMIT :limit)", nativeQuery = true)
+  int deleteByItemIdsWithLimit(@Param("itemIds") Collection<Long> itemIds, @Param("limit") int limit);
+
+  /**
+   * Deletes not more than 'limit' logs of the provided launch
+   *
+   * @param launchId Launch id referenced from {@link Log#getLaunch()}
+   * @param limit    Max count of logs to delete
+   * @return Count of removed logs
+   */
+  @Modifying
+  @Query(value = "DELETE FROM log WHERE id IN (SELECT id FROM log WHERE launch_id = :launchId LIMIT :limit)", nativeQuery = true)
+  int deleteByLaunchIdWithLimit(@Param("launchId") Long launchId, @Param("limit") int limit);
 }
@@ -22,6 +22,7 @@ import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Qu
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemPage;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedTreeItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.log.Log;
@@ -195,6 +196,26 @@ public interface LogRepositoryCustom extends FilterableRepository<Log> {
       boolean excludeLogs,
       Queryable filter, Pageable pageable);
 
+  /**
+   * Retrieve {@link Log} and nested {@link TestItem} entities of the whole nested steps tree under the parent item by a
+   * single query. Each entity is returned with the id of its parent item and the page where it is located under that
+   * parent, same as {@link #findNestedItemsWithPage} computes it for a single level.
+   * <p>
+   * Entities are ordered by parent id and then by their position under the parent. The tree may contain nested steps
+   * that are not reachable from the parent item through nested steps only, so it is expected to be traversed from the
+   * parent item.
+   *
+   * @param parentId          {@link TestItem#itemId} of the parent item
+   * @param parentPath        {@link TestItem#path} of the parent item
+   * @param excludeEmptySteps Exclude steps without child items
+   * @param filter            {@link Queryable}
+   * @param pageable          {@link Pageable} with sorting and page size of the parent item level
+   * @param nestedPageSize    Page size of the nested steps levels
+   * @return {@link List} of {@link NestedTreeItem}
+   */
+  List<NestedTreeItem> findNestedTreeWithPages(Long parentId, String parentPath,
+      boolean excludeEmptySteps, Queryable filter, Pageable pageable, int nestedPageSize);
+
   /**
    * Retrieves log message of specified test item with log level greater or equals than {@code level}
    *
@@ -231,6 +252,15 @@ public interface LogRepositoryCustom extends FilterableRepository<Log> {
 
   int deleteByProjectId(Long projectId);
 
+  /**
+   * Inserts all provided {@link Log} entries with a single multi-row statement and sets generated ids back to the
+   * entities. Used for performance improvement of batched log reporting
+   *
+   * @param logs {@link List} of {@link Log} without ids
+   * @return Number of inserted rows
+   */
+  int saveMultiple(List<Log> logs);
+
   record LogPageEntry(Long id, Integer pageNumber, Integer logLevel) {
 
   }
@@ -22,8 +22,11 @@ import static com.epam.reportportal.base.infrastructure.persistence.dao.constant
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.ITEM;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.LOGS;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.LOG_LEVEL;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.NESTED_TREE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.PAGE_NUMBER;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.PARENT_ID;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.ROW_NUMBER;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.STATUS;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.TIME;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.TYPE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.TestItemRepositoryConstants.NESTED;
@@ -37,6 +40,7 @@ import static com.epam.reportportal.base.infrastructure.persistence.dao.util.Rec
 import static com.epam.reportportal.base.infrastructure.persistence.dao.util.ResultFetchers.LOG_FETCHER;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.util.ResultFetchers.NESTED_ITEM_FETCHER;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.util.ResultFetchers.NESTED_ITEM_LOCATED_FETCHER;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.util.ResultFetchers.NESTED_TREE_ITEM_FETCHER;
 import static com.epam.reportportal.base.infrastructure.persistence.jooq.Tables.CLUSTERS;
 import static com.epam.reportportal.base.infrastructure.persistence.jooq.Tables.LAUNCH;
 import static com.epam.reportportal.base.infrastructure.persistence.jooq.Tables.LOG;
@@ -57,9 +61,13 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.util.TimestampU
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemPage;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedTreeItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.log.Log;
 import com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JStatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.jooq.tables.JTestItem;
+import com.epam.reportportal.base.infrastructure.persistence.jooq.tables.records.JLogRecord;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.google.common.collect.Lists;
@@ -73,14 +81,20 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.InsertValuesStep8;
 import org.jooq.OrderField;
 import org.jooq.Record;
+import org.jooq.Record2;
 import org.jooq.Record3;
 import org.jooq.Record4;
+import org.jooq.Record6;
 import org.jooq.SelectConditionStep;
 import org.jooq.SelectHavingStep;
 import org.jooq.SelectOnConditionStep;
@@ -393,13 +407,7 @@ public class LogRepositoryCustomImpl implements LogRepositoryCustom {
       boolean excludeLogs, Queryable filter,
       Pageable pageable) {
 
-    SortField<Object> sorting = pageable.getSort()
-        .stream()
-        .filter(order -> CRITERIA_LOG_TIME.equals(order.getProperty()))
-        .findFirst()
-        .filter(order -> !order.isAscending())
-        .map(order -> field(TIME).sort(SortOrder.DESC))
-        .orElseGet(() -> field(TIME).sort(SortOrder.ASC));
+    SortField<Object> sorting = nestedItemsSorting(pageable);
 
     SelectOrderByStep<Record4<Long, Instant, String, Integer>> selectQuery = buildNestedStepQuery(
         parentId, excludeEmptySteps, filter);
@@ -423,13 +431,7 @@ public class LogRepositoryCustomImpl implements LogRepositoryCustom {
       boolean excludeLogs,
       Queryable filter, Pageable pageable) {
 
-    SortField<Object> sorting = pageable.getSort()
-        .stream()
-        .filter(order -> CRITERIA_LOG_TIME.equals(order.getProperty()))
-        .findFirst()
-        .filter(order -> !order.isAscending())
-        .map(order -> field(TIME).sort(SortOrder.DESC))
-        .orElseGet(() -> field(TIME).sort(SortOrder.ASC));
+    SortField<Object> sorting = nestedItemsSorting(pageable);
 
     SelectOrderByStep<Record4<Long, Instant, String, Integer>> selectQuery = buildNestedStepQuery(
         parentId, excludeEmptySteps, filter);
@@ -454,6 +456,79 @@ public class LogRepositoryCustomImpl implements LogRepositoryCustom {
         ).from(itemsWithPages)));
   }
 
+  @Override
+  public List<NestedTreeItem> findNestedTreeWithPages(Long parentId, String parentPath,
+      boolean excludeEmptySteps, Queryable filter, Pageable pageable, int nestedPageSize) {
+
+    SortField<Object> sorting = nestedItemsSorting(pageable);
+    Condition underParent = DSL.condition(TEST_ITEM.PATH + " <@ cast(? AS LTREE)", parentPath);
+
+    SelectConditionStep<Record6<Long, Long, Instant, String, Integer, String>> nestedStepSelect =
+        dsl.select(TEST_ITEM.ITEM_ID.as(ID),
+                TEST_ITEM.PARENT_ID.as(PARENT_ID),
+                TEST_ITEM.START_TIME.as(TIME),
+                DSL.val(ITEM).as(TYPE),
+                DSL.val(0).as(LOG_LEVEL),
+                TEST_ITEM_RESULTS.STATUS.cast(String.class).as(STATUS)
+            )
+            .from(TEST_ITEM)
+            .join(TEST_ITEM_RESULTS)
+            .on(TEST_ITEM.ITEM_ID.eq(TEST_ITEM_RESULTS.RESULT_ID))
+            .where(underParent)
+            .and(TEST_ITEM.HAS_STATS.isFalse())
+            .and(TEST_ITEM.ITEM_ID.ne(parentId));
+
+    nestedStepStatusCondition(filter).ifPresent(nestedStepSelect::and);
+
+    if (excludeEmptySteps) {
+      JTestItem nested = TEST_ITEM.as(NESTED);
+      nestedStepSelect.andExists(
+          dsl.select().from(nested).where(nested.PARENT_ID.eq(TEST_ITEM.ITEM_ID)));
+    }
+
+    Queryable logFilter = nestedLogFilter(filter);
+    QueryBuilder logQueryBuilder = QueryBuilder.newBuilder(logFilter,
+        QueryUtils.collectJoinFields(logFilter));
+
+    SelectOrderByStep<Record6<Long, Long, Instant, String, Integer, String>> treeQuery =
+        nestedStepSelect.unionAll(dsl.with(LOGS)
+            .as(logQueryBuilder.addCondition(LOG.ITEM_ID.in(dsl.select(TEST_ITEM.ITEM_ID)
+                .from(TEST_ITEM)
+                .where(underParent)
+                .and(TEST_ITEM.ITEM_ID.eq(parentId).or(TEST_ITEM.HAS_STATS.isFalse())))).build())
+            .select(LOG.ID.as(ID),
+                LOG.ITEM_ID.as(PARENT_ID),
+                LOG.LOG_TIME.as(TIME),
+                DSL.val(LogRepositoryConstants.LOG).as(TYPE),
+                LOG.LOG_LEVEL,
+                DSL.castNull(String.class).as(STATUS)
+            )
+            .from(LOG)
+            .join(LOGS)
+            .on(fieldName(LOGS, ID).cast(Long.class).eq(LOG.ID)));
+
+    final Table<Record> treeItems = DSL.table(NESTED_TREE);
+    final Field<Long> parentField = field(PARENT_ID, Long.class);
+
+    return NESTED_TREE_ITEM_FETCHER.apply(
+        dsl.fetch(dsl.with(NESTED_TREE).as(treeQuery).select(
+                fieldName(NESTED_TREE, ID),
+                fieldName(NESTED_TREE, PARENT_ID),
+                fieldName(NESTED_TREE, TYPE),
+                fieldName(NESTED_TREE, LOG_LEVEL),
+                fieldName(NESTED_TREE, STATUS),
+                DSL.rowNumber()
+                    .over(DSL.partitionBy(parentField)
+                        .orderBy(sorting, field(ID).sort(sorting.getOrder())))
+                    .minus(1)
+                    .div(DSL.when(parentField.eq(parentId), pageable.getPageSize())
+                        .otherwise(nestedPageSize))
+                    .plus(1)
+                    .as(PAGE_NUMBER)
+            ).from(treeItems)
+            .orderBy(parentField, sorting, field(ID).sort(sorting.getOrder()))));
+  }
+
   @Override
   public List<String> findMessagesByLaunchIdAndItemIdAndPathAndLevelGte(Long launchId, Long itemId,
       String path, Integer level) {
@@ -489,6 +564,38 @@ public class LogRepositoryCustomImpl implements LogRepositoryCustom {
     return dsl.deleteFrom(LOG).where(LOG.PROJECT_ID.eq(projectId)).execute();
   }
 
+  @Override
+  public int saveMultiple(List<Log> logs) {
+    if (logs.isEmpty()) {
+      return 0;
+    }
+    Instant now = Instant.now();
+    InsertValuesStep8<JLogRecord, String, Instant, String, Long, Long, Instant, Integer, Long> insert =
+        dsl.insertInto(LOG)
+            .columns(LOG.UUID, LOG.LOG_TIME, LOG.LOG_MESSAGE, LOG.ITEM_ID, LOG.LAUNCH_ID,
+                LOG.LAST_MODIFIED, LOG.LOG_LEVEL, LOG.PROJECT_ID);
+
+    logs.forEach(log -> {
+      log.setLastModified(now);
+      insert.values(log.getUuid(),
+          log.getLogTime(),
+          log.getLogMessage(),
+          ofNullable(log.getTestItem()).map(TestItem::getItemId).orElse(null),
+          ofNullable(log.getLaunch()).map(Launch::getId).orElse(null),
+          now,
+          log.getLogLevel(),
+          log.getProjectId()
+      );
+    });
+
+    Map<String, Long> idsByUuid = insert.returningResult(LOG.UUID, LOG.ID)
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(Record2::value1, Record2::value2, (first, second) -> second));
+    logs.forEach(log -> log.setId(idsByUuid.get(log.getUuid())));
+    return idsByUuid.size();
+  }
+
 
   private List<OrderField<?>> buildLogOrderFields(Pageable pageable) {
     Sort sort = pageable.getSort();
@@ -561,15 +668,7 @@ public class LogRepositoryCustomImpl implements LogRepositoryCustom {
         .where(TEST_ITEM.PARENT_ID.eq(parentId))
         .and(TEST_ITEM.HAS_STATS.isFalse());
 
-    filter.getFilterConditions()
-        .stream()
-        .flatMap(condition -> condition.getAllConditions().stream())
-        .filter(c -> CRITERIA_STATUS.equals(c.getSearchCriteria()))
-        .findFirst()
-        .map(c -> Stream.of(c.getValue().split(",")).filter(StatusEnum::isPresent)
-            .map(JStatusEnum::valueOf).collect(toList()))
-        .map(TEST_ITEM_RESULTS.STATUS::in)
-        .ifPresent(nestedStepSelect::and);
+    nestedStepStatusCondition(filter).ifPresent(nestedStepSelect::and);
 
     if (excludeEmptySteps) {
       JTestItem nested = TEST_ITEM.as(NESTED);
@@ -591,7 +690,46 @@ public class LogRepositoryCustomImpl implements LogRepositoryCustom {
   private SelectOnConditionStep<Record4<Long, Instant, String, Integer>> buildNestedLogQuery(
       Long parentId, Queryable filter) {
 
-    Queryable logFilter = filter.getFilterConditions()
+    Queryable logFilter = nestedLogFilter(filter);
+
+    QueryBuilder queryBuilder = QueryBuilder.newBuilder(logFilter,
+        QueryUtils.collectJoinFields(logFilter));
+
+    return dsl.with(LOGS)
+        .as(queryBuilder.addCondition(LOG.ITEM_ID.eq(parentId)).build())
+        .select(LOG.ID.as(ID), LOG.LOG_TIME.as(TIME), DSL.val(LogRepositoryConstants.LOG).as(TYPE),
+            LOG.LOG_LEVEL)
+        .from(LOG)
+        .join(LOGS)
+        .on(fieldName(LOGS, ID).cast(Long.class).eq(LOG.ID));
+  }
+
+  private SortField<Object> nestedItemsSorting(Pageable pageable) {
+    return pageable.getSort()
+        .stream()
+        .filter(order -> CRITERIA_LOG_TIME.equals(order.getProperty()))
+        .findFirst()
+        .filter(order -> !order.isAscending())
+        .map(order -> field(TIME).sort(SortOrder.DESC))
+        .orElseGet(() -> field(TIME).sort(SortOrder.ASC));
+  }
+
+  private Optional<Condition> nestedStepStatusCondition(Queryable filter) {
+    return filter.getFilterConditions()
+        .stream()
+        .flatMap(condition -> condition.getAllConditions().stream())
+        .filter(c -> CRITERIA_STATUS.equals(c.getSearchCriteria()))
+        .findFirst()
+        .map(c -> Stream.of(c.getValue().split(",")).filter(StatusEnum::isPresent)
+            .map(JStatusEnum::valueOf).collect(toList()))
+        .map(TEST_ITEM_RESULTS.STATUS::in);
+  }
+
+  /**
+   * Status criteria is applied to nested steps only, so it's removed from the filter of nested logs
+   */
+  private Queryable nestedLogFilter(Queryable filter) {
+    return filter.getFilterConditions()
         .stream()
         .flatMap(condition -> condition.getAllConditions().stream())
         .filter(condition -> CRITERIA_STATUS.equalsIgnoreCase(condition.getSearchCriteria()))
@@ -605,16 +743,5 @@ public class LogRepositoryCustomImpl implements LogRepositoryCustom {
                 .collect(toList())
         ))
         .orElse(filter);
-
-    QueryBuilder queryBuilder = QueryBuilder.newBuilder(logFilter,
-        QueryUtils.collectJoinFields(logFilter));
-
-    return dsl.with(LOGS)
-        .as(queryBuilder.addCondition(LOG.ITEM_ID.eq(parentId)).build())
-        .select(LOG.ID.as(ID), LOG.LOG_TIME.as(TIME), DSL.val(LogRepositoryConstants.LOG).as(TYPE),
-            LOG.LOG_LEVEL)
-        .from(LOG)
-        .join(LOGS)
-        .on(fieldName(LOGS, ID).cast(Long.class).eq(LOG.ID));
   }
 }
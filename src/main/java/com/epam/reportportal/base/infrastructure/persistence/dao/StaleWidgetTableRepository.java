@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.infrastructure.persistence.dao;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.materialized.StaleMaterializedView;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Queue of widget tables to be dropped after the generation that may still be creating them is over.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public interface StaleWidgetTableRepository {
+
+  StaleMaterializedView insert(StaleMaterializedView view);
+
+  /**
+   * Removes the queued tables created before the provided time from the queue.
+   *
+   * @param before Creation time bound
+   * @return Names of the removed tables
+   */
+  List<String> deleteCreatedBefore(Instant before);
+}
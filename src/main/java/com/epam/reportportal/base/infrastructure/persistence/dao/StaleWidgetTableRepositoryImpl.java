@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.infrastructure.persistence.dao;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.converters.JooqInstantConverter;
+import com.epam.reportportal.base.infrastructure.persistence.entity.materialized.StaleMaterializedView;
+import java.time.Instant;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implements {@link StaleWidgetTableRepository}.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Repository
+public class StaleWidgetTableRepositoryImpl implements StaleWidgetTableRepository {
+
+  private static final Table<Record> STALE_WIDGET_TABLE = table(name("stale_widget_table"));
+  private static final Field<Long> ID = field(name("id"), Long.class);
+  private static final Field<String> NAME = field(name("name"), String.class);
+  private static final Field<Instant> CREATION_DATE = field(name("creation_date"),
+      SQLDataType.LOCALDATETIME.asConvertedDataType(new JooqInstantConverter()));
+
+  private final DSLContext dsl;
+
+  public StaleWidgetTableRepositoryImpl(DSLContext dsl) {
+    this.dsl = dsl;
+  }
+
+  @Override
+  public StaleMaterializedView insert(StaleMaterializedView view) {
+    Long id = dsl.insertInto(STALE_WIDGET_TABLE)
+        .columns(NAME, CREATION_DATE)
+        .values(view.getName(), view.getCreationDate())
+        .returningResult(ID)
+        .fetchOne()
+        .into(Long.class);
+    view.setId(id);
+    return view;
+  }
+
+  @Override
+  public List<String> deleteCreatedBefore(Instant before) {
+    return dsl.deleteFrom(STALE_WIDGET_TABLE)
+        .where(CREATION_DATE.lessThan(before))
+        .returningResult(NAME)
+        .fetchInto(String.class);
+  }
+}
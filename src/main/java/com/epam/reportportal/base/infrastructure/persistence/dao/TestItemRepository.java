@@ -19,11 +19,11 @@ package com.epam.reportportal.base.infrastructure.persistence.dao;
 import com.epam.reportportal.base.core.tms.dto.CountOfChildTestItemsByParentId;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemAttachment;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItemResults;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -264,12 +264,177 @@ public interface TestItemRepository extends ReportPortalRepository<TestItem, Lon
       @Param("status") StatusEnum status, @Param("pageSize") Integer limit,
       @Param("pageOffset") Long offset);
 
+  /**
+   * Retrieve the page of {@link TestItem#getItemId()} by launch ID, {@link StatusEnum#name()} and
+   * {@link TestItem#isHasChildren()} == false with ids greater than the provided one, ordered by id
+   *
+   * @param launchId {@link Launch#getId()}
+   * @param status   {@link StatusEnum#name()}
+   * @param lastId   The greatest id of the previous page, {@code 0} for the first page
+   * @param limit    Page size
+   * @return the {@link List} of the {@link TestItem#getItemId()}
+   */
+  @Query(value =
+      "SELECT test_item.item_id FROM test_item JOIN test_item_results result ON test_item.item_id = result.result_id "
+          + " WHERE test_item.launch_id = :launchId AND NOT test_item.has_children "
+          + " AND result.status = CAST(:#{#status.name()} AS STATUS_ENUM) AND test_item.item_id > :lastId "
+          + " ORDER BY test_item.item_id LIMIT :limit", nativeQuery = true)
+  List<Long> findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(@Param("launchId") Long launchId,
+      @Param("status") StatusEnum status, @Param("lastId") Long lastId, @Param("limit") int limit);
+
+  /**
+   * Retrieve distinct 'nlevel' values of {@link TestItem#getPath()} of items by launch ID, {@link StatusEnum#name()}
+   * and {@link TestItem#isHasChildren()} == true ordered (DESCENDING)
+   *
+   * @param launchId {@link Launch#getId()}
+   * @param status   {@link StatusEnum#name()}
+   * @return the {@link List} of path levels
+   */
+  @Query(value =
+      "SELECT DISTINCT nlevel(test_item.path) FROM test_item JOIN test_item_results result ON test_item.item_id = result.result_id "
+          + " WHERE test_item.launch_id = :launchId AND test_item.has_children AND result.status = CAST(:#{#status.name()} AS STATUS_ENUM)"
+          + " ORDER BY 1 DESC", nativeQuery = true)
+  List<Integer> findPathLevelsByHasChildrenAndLaunchIdAndStatus(@Param("launchId") Long launchId,
+      @Param("status") StatusEnum status);
+
+  /**
+   * Retrieve the page of {@link TestItem#getItemId()} by launch ID, {@link StatusEnum#name()},
+   * {@link TestItem#isHasChildren()} == true and 'nlevel' of the {@link TestItem#getPath()} with ids greater than the
+   * provided one, ordered by id
+   *
+   * @param launchId  {@link Launch#getId()}
+   * @param status    {@link StatusEnum#name()}
+   * @param pathLevel 'nlevel' of the {@link TestItem#getPath()}
+   * @param lastId    The greatest id of the previous page, {@code 0} for the first page
+   * @param limit     Page size
+   * @return the {@link List} of the {@link TestItem#getItemId()}
+   */
+  @Query(value =
+      "SELECT test_item.item_id FROM test_item JOIN test_item_results result ON test_item.item_id = result.result_id "
+          + " WHERE test_item.launch_id = :launchId AND test_item.has_children AND result.status = CAST(:#{#status.name()} AS STATUS_ENUM)"
+          + " AND nlevel(test_item.path) = :pathLevel AND test_item.item_id > :lastId "
+          + " ORDER BY test_item.item_id LIMIT :limit", nativeQuery = true)
+  List<Long> findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(
+      @Param("launchId") Long launchId, @Param("status") StatusEnum status,
+      @Param("pathLevel") int pathLevel, @Param("lastId") Long lastId, @Param("limit") int limit);
+
+  /**
+   * Retrieve the page of {@link TestItem#getItemId()} under parent {@link TestItem#getPath()},
+   * {@link StatusEnum#name()} and {@link TestItem#isHasChildren()} == false with ids greater than the provided one,
+   * ordered by id
+   *
+   * @param parentPath {@link TestItem#getPath()} of the parent item
+   * @param status     {@link StatusEnum#name()}
+   * @param lastId     The greatest id of the previous page, {@code 0} for the first page
+   * @param limit      Page size
+   * @return the {@link List} of the {@link TestItem#getItemId()}
+   */
+  @Query(value =
+      "SELECT test_item.item_id FROM test_item JOIN test_item_results result ON test_item.item_id = result.result_id "
+          + " WHERE CAST(:parentPath AS LTREE) @> test_item.path AND CAST(:parentPath AS LTREE) != test_item.path "
+          + " AND NOT test_item.has_children AND result.status = CAST(:#{#status.name()} AS STATUS_ENUM) "
+          + " AND test_item.item_id > :lastId ORDER BY test_item.item_id LIMIT :limit", nativeQuery = true)
+  List<Long> findIdsByNotHasChildrenAndParentPathAndStatusAfterId(
+      @Param("parentPath") String parentPath, @Param("status") StatusEnum status,
+      @Param("lastId") Long lastId, @Param("limit") int limit);
+
+  /**
+   * Retrieve distinct 'nlevel' values of {@link TestItem#getPath()} of items under parent {@link TestItem#getPath()},
+   * {@link StatusEnum#name()} and {@link TestItem#isHasChildren()} == true ordered (DESCENDING)
+   *
+   * @param parentPath {@link TestItem#getPath()} of the parent item
+   * @param status     {@link StatusEnum#name()}
+   * @return the {@link List} of path levels
+   */
+  @Query(value =
+      "SELECT DISTINCT nlevel(test_item.path) FROM test_item JOIN test_item_results result ON test_item.item_id = result.result_id "
+          + " WHERE CAST(:parentPath AS LTREE) @> test_item.path AND CAST(:parentPath AS LTREE) != test_item.path "
+          + " AND test_item.has_children AND result.status = CAST(:#{#status.name()} AS STATUS_ENUM)"
+          + " ORDER BY 1 DESC", nativeQuery = true)
+  List<Integer> findPathLevelsByHasChildrenAndParentPathAndStatus(
+      @Param("parentPath") String parentPath, @Param("status") StatusEnum status);
+
+  /**
+   * Retrieve the page of {@link TestItem#getItemId()} under parent {@link TestItem#getPath()},
+   * {@link StatusEnum#name()}, {@link TestItem#isHasChildren()} == true and 'nlevel' of the {@link TestItem#getPath()}
+   * with ids greater than the provided one, ordered by id
+   *
+   * @param parentPath {@link TestItem#getPath()} of the parent item
+   * @param status     {@link StatusEnum#name()}
+   * @param pathLevel  'nlevel' of the {@link TestItem#getPath()}
+   * @param lastId     The greatest id of the previous page, {@code 0} for the first page
+   * @param limit      Page size
+   * @return the {@link List} of the {@link TestItem#getItemId()}
+   */
+  @Query(value =
+      "SELECT test_item.item_id FROM test_item JOIN test_item_results result ON test_item.item_id = result.result_id "
+          + " WHERE CAST(:parentPath AS LTREE) @> test_item.path AND CAST(:parentPath AS LTREE) != test_item.path "
+          + " AND test_item.has_children AND result.status = CAST(:#{#status.name()} AS STATUS_ENUM)"
+          + " AND nlevel(test_item.path) = :pathLevel AND test_item.item_id > :lastId "
+          + " ORDER BY test_item.item_id LIMIT :limit", nativeQuery = true)
+  List<Long> findIdsByHasChildrenAndParentPathAndStatusAndPathLevelAfterId(
+      @Param("parentPath") String parentPath, @Param("status") StatusEnum status,
+      @Param("pathLevel") int pathLevel, @Param("lastId") Long lastId, @Param("limit") int limit);
+
+  /**
+   * Set provided status and end time to all IN_PROGRESS items with provided ids
+   *
+   * @param itemIds {@link TestItem#getItemId()} collection
+   * @param status  {@link StatusEnum#name()}
+   * @param endTime End time
+   * @return Count of finished items
+   */
+  @Modifying
+  @Query(value = "UPDATE test_item_results SET status = CAST(:#{#status.name()} AS STATUS_ENUM), end_time = :endTime"
+      + " WHERE result_id IN (:itemIds) AND status = 'IN_PROGRESS'", nativeQuery = true)
+  int finishInProgressItemsByIds(@Param("itemIds") Collection<Long> itemIds,
+      @Param("status") StatusEnum status, @Param("endTime") Instant endTime);
+
+  /**
+   * Finish all IN_PROGRESS items with provided ids, resolving status of every item by its children: FAILED if any
+   * of its not retry children is not in PASSED, INFO or WARN status, otherwise PASSED
+   *
+   * @param itemIds {@link TestItem#getItemId()} collection
+   * @param endTime End time
+   * @return Count of finished items
+   */
+  @Modifying
+  @Query(value = "UPDATE test_item_results SET end_time = :endTime, status = CASE WHEN EXISTS("
+      + " SELECT 1 FROM test_item child JOIN test_item_results child_result ON child.item_id = child_result.result_id"
+      + " WHERE child.parent_id = test_item_results.result_id AND child.retry_of IS NULL"
+      + " AND CAST(child_result.status AS VARCHAR) NOT IN ('PASSED', 'INFO', 'WARN'))"
+      + " THEN CAST('FAILED' AS STATUS_ENUM) ELSE CAST('PASSED' AS STATUS_ENUM) END"
+      + " WHERE result_id IN (:itemIds) AND status = 'IN_PROGRESS'", nativeQuery = true)
+  int finishInProgressParentItemsByIds(@Param("itemIds") Collection<Long> itemIds,
+      @Param("endTime") Instant endTime);
+
+  /**
+   * @param itemIds {@link TestItem#getItemId()} collection
+   * @return Ids of the items with retries
+   */
+  @Query(value = "SELECT item_id FROM test_item WHERE item_id IN (:itemIds) AND has_retries", nativeQuery = true)
+  List<Long> findIdsWithRetriesByIds(@Param("itemIds") Collection<Long> itemIds);
+
+  /**
+   * Select one item per parent for items with provided ids whose parent is not IN_PROGRESS
+   *
+   * @param itemIds {@link TestItem#getItemId()} collection
+   * @return Ids of the items, one per parent
+   */
+  @Query(value = "SELECT DISTINCT ON (test_item.parent_id) test_item.item_id FROM test_item"
+      + " JOIN test_item_results parent_result ON test_item.parent_id = parent_result.result_id"
+      + " WHERE test_item.item_id IN (:itemIds) AND parent_result.status != 'IN_PROGRESS'"
+      + " ORDER BY test_item.parent_id, test_item.item_id", nativeQuery = true)
+  List<Long> findIdsWithNotInProgressParentByIds(@Param("itemIds") Collection<Long> itemIds);
+
   List<TestItem> findTestItemsByUniqueId(String uniqueId);
 
   List<TestItem> findTestItemsByLaunchId(Long launchId);
 
   Optional<TestItem> findByUuid(String uuid);
 
+  List<TestItem> findAllByUuidIn(Collection<String> uuids);
+
   /**
    * Finds {@link TestItem#getItemId()} by {@link TestItem#getUuid()} and sets a lock on the found 'item' row in the
    * database. Required for fetching 'item' from the concurrent environment to provide synchronization between dependant
@@ -412,6 +577,19 @@ public interface TestItemRepository extends ReportPortalRepository<TestItem, Lon
           + "FROM test_item i WHERE i.item_id = result_id AND i.launch_id = :launchId AND status = 'IN_PROGRESS'", nativeQuery = true)
   void interruptInProgressItems(@Param("launchId") Long launchId);
 
+  /**
+   * Interrupts all {@link com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum#IN_PROGRESS}
+   * children items of the launches with provided ids
+   *
+   * @param launchIds Launch ids
+   * @return Count of interrupted items
+   */
+  @Modifying
+  @Query(value =
+      "UPDATE test_item_results SET status = 'INTERRUPTED', end_time = CURRENT_TIMESTAMP, duration = EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - i.start_time)"
+          + "FROM test_item i WHERE i.item_id = result_id AND i.launch_id IN (:launchIds) AND status = 'IN_PROGRESS'", nativeQuery = true)
+  int interruptInProgressItemsByLaunchIds(@Param("launchIds") Collection<Long> launchIds);
+
   /**
    * Checks if all children of test item with id = {@code parentId}, except item with id = {@code stepId}, has status
    * not in provided {@code statuses}
@@ -484,6 +662,28 @@ public interface TestItemRepository extends ReportPortalRepository<TestItem, Lon
 
   void deleteAllByItemIdIn(Collection<Long> ids);
 
+  /**
+   * Finds ids of all the {@link TestItem} of the launch including retries in descending order, so descendants go
+   * before their ancestors
+   *
+   * @param launchId {@link TestItem#getLaunchId()}
+   * @return {@link List<Long>} of test item ids
+   */
+  @Query(value = "SELECT item_id FROM test_item WHERE launch_id = :launchId "
+      + " OR retry_of IN (SELECT item_id FROM test_item WHERE launch_id = :launchId) ORDER BY item_id DESC",
+      nativeQuery = true)
+  List<Long> findIdsByLaunchIdOrderByIdDesc(@Param("launchId") Long launchId);
+
+  /**
+   * Deletes {@link TestItem} entities by ids without loading them into the persistence context
+   *
+   * @param itemIds {@link Collection} of {@link TestItem#getItemId()}
+   * @return number of deleted test items
+   */
+  @Modifying
+  @Query(value = "DELETE FROM test_item WHERE item_id IN (:itemIds)", nativeQuery = true)
+  int deleteItemsByIds(@Param("itemIds") Collection<Long> itemIds);
+
   /**
    * Finds latest root(without any parent) {@link TestItem} with specified {@code testCaseHash} and {@code launchId}
    *
@@ -540,26 +740,6 @@ public interface TestItemRepository extends ReportPortalRepository<TestItem, Lon
   @Query("DELETE FROM TestItem ti WHERE ti.launchId = :launchId")
   int deleteByLaunchId(@Param("launchId") Long launchId);
 
-  @Query(value = """
-      select
-        ti.item_id as itemId,
-        ti.name as name,
-        cast (ti.path as varchar) as path,
-        a.file_id as fileId,
-        a.file_name as fileName,
-        a.content_type as contentType
-      from attachment a
-      right join test_item ti on ti.item_id = a.item_id
-      where ti.launch_id = :launchId
-        and ti.has_stats = false
-        and ti.path <@ CAST(:path AS LTREE)
-        and ti.item_id != :itemId
-      order by ti.item_id, a.id
-      """,
-      nativeQuery = true
-  )
-  List<NestedItemAttachment> findNestedStepsAttachments(Long launchId, String path, Long itemId);
-
   /**
    * Finds all test items by item IDs filtered by project ID.
    *
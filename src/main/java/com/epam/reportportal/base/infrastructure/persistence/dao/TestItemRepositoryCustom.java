@@ -23,6 +23,7 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.enums.LogLev
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemIssueGroup;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemAttachment;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedStep;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.PathName;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
@@ -43,6 +44,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -248,6 +251,30 @@ public interface TestItemRepositoryCustom extends FilterableRepository<TestItem>
 
   List<TestItem> selectTestItemsProjection(Long launchId);
 
+  /**
+   * Streams nested steps (items without statistics) of the launch with their attachments, one row per attachment or
+   * per nested step without attachments. Rows are ordered by path, so a nested step goes before its descendants. Rows
+   * are read with a cursor in batches of the fetch size, which the PostgreSQL driver uses only inside a transaction, so
+   * the method must be called within one.
+   *
+   * @param launchId {@link Launch#getId()}
+   * @param consumer Consumer of the rows
+   */
+  void streamNestedStepsAttachments(Long launchId, Consumer<NestedItemAttachment> consumer);
+
+  /**
+   * Selects a page of {@link #selectTestItemsProjection(Long)} ordered by start time and id. Pages are selected by
+   * keyset, so reading a page doesn't depend on the number of preceding items.
+   *
+   * @param launchId      {@link Launch#getId()}
+   * @param lastStartTime Start time of the last item of the previous page, {@code null} for the first page
+   * @param lastItemId    Id of the last item of the previous page, {@code null} for the first page
+   * @param limit         Page size
+   * @return {@link List} of {@link TestItem}
+   */
+  List<TestItem> selectTestItemsProjectionPage(Long launchId, Instant lastStartTime,
+      Long lastItemId, int limit);
+
   /**
    * Select all {@code TestItem#getItemId()} of {@link TestItem} with attached {@link IssueEntity} and
    * {@link TestItem#getLaunchId()} equal to provided `launchId`
@@ -419,6 +446,19 @@ public interface TestItemRepositoryCustom extends FilterableRepository<TestItem>
   List<Long> selectIdsUnderByStringLogMessage(Long launchId, Collection<Long> itemIds,
       Integer logLevel, String pattern);
 
+  /**
+   * Passes messages of the items' and their descendants' logs with level greater than or equal to provided to the
+   * consumer. Logs are read with a cursor in batches of the fetch size. The PostgreSQL driver uses the fetch size only
+   * inside a transaction, so the method must be called within one, otherwise the whole result is read into memory.
+   *
+   * @param launchId {@link TestItem#getLaunchId()}
+   * @param itemIds  {@link Collection} of {@link TestItem#getItemId()}
+   * @param logLevel {@link Log#getLogLevel()}
+   * @param consumer Consumer of the {@link TestItem#getItemId()} from the provided ids and the log message
+   */
+  void streamLogMessagesUnder(Long launchId, Collection<Long> itemIds, Integer logLevel,
+      BiConsumer<Long, String> consumer);
+
   /**
    * Select Log IDs which descendants' log's level is greater than or equal to provided.
    *
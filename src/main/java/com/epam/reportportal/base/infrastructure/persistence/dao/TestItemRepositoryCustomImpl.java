@@ -78,6 +78,7 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestIt
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.ItemPathName;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.LaunchPathName;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemAttachment;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedStep;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.PathName;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
@@ -104,18 +105,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.util.Strings;
 import org.jooq.CommonTableExpression;
 import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.DatePart;
 import org.jooq.Field;
 import org.jooq.JoinType;
 import org.jooq.Log;
 import org.jooq.Record;
+import org.jooq.Record2;
 import org.jooq.Record4;
+import org.jooq.Record6;
 import org.jooq.Result;
 import org.jooq.SelectOnConditionStep;
 import org.jooq.SelectQuery;
@@ -147,6 +153,9 @@ public class TestItemRepositoryCustomImpl implements TestItemRepositoryCustom {
 
   private static final String CHILD_ITEM_TABLE = "child";
 
+  private static final int LOG_MESSAGES_FETCH_SIZE = 1000;
+  private static final int NESTED_ATTACHMENTS_FETCH_SIZE = 1000;
+
   private static final String BASELINE_TABLE = "baseline";
 
   private static final String ITEM_START_TIME = "itemStartTime";
@@ -777,6 +786,59 @@ public class TestItemRepositoryCustomImpl implements TestItemRepositoryCustom {
         .orderBy(TEST_ITEM.START_TIME.asc())));
   }
 
+  @Override
+  public void streamNestedStepsAttachments(Long launchId, Consumer<NestedItemAttachment> consumer) {
+    try (Cursor<Record6<Long, String, Object, String, String, String>> cursor = dsl.select(
+            TEST_ITEM.ITEM_ID,
+            TEST_ITEM.NAME,
+            TEST_ITEM.PATH,
+            ATTACHMENT.FILE_ID,
+            ATTACHMENT.FILE_NAME,
+            ATTACHMENT.CONTENT_TYPE)
+        .from(TEST_ITEM)
+        .leftJoin(ATTACHMENT)
+        .on(TEST_ITEM.ITEM_ID.eq(ATTACHMENT.ITEM_ID))
+        .where(TEST_ITEM.LAUNCH_ID.eq(launchId))
+        .and(TEST_ITEM.HAS_STATS.eq(false))
+        .orderBy(TEST_ITEM.PATH.asc(), ATTACHMENT.ID.asc())
+        .fetchSize(NESTED_ATTACHMENTS_FETCH_SIZE)
+        .fetchLazy()) {
+      cursor.forEach(record -> consumer.accept(new NestedItemAttachment(record.value1(),
+          record.value2(),
+          record.get(TEST_ITEM.PATH, String.class),
+          record.value4(),
+          record.value5(),
+          record.value6()
+      )));
+    }
+  }
+
+  @Override
+  public List<TestItem> selectTestItemsProjectionPage(Long launchId, Instant lastStartTime,
+      Long lastItemId, int limit) {
+    Condition pageCondition = TEST_ITEM.LAUNCH_ID.eq(launchId).and(TEST_ITEM.HAS_STATS.eq(true));
+    if (lastStartTime != null && lastItemId != null) {
+      pageCondition = pageCondition.and(
+          DSL.row(TEST_ITEM.START_TIME, TEST_ITEM.ITEM_ID).gt(lastStartTime, lastItemId));
+    }
+    return TEST_ITEM_CLIPPED_FETCHER.apply(dsl.fetch(dsl.select()
+        .from(TEST_ITEM)
+        .join(TEST_ITEM_RESULTS)
+        .on(TEST_ITEM.ITEM_ID.eq(TEST_ITEM_RESULTS.RESULT_ID))
+        .leftJoin(ATTACHMENT)
+        .on(TEST_ITEM.ITEM_ID.eq(ATTACHMENT.ITEM_ID))
+        .leftJoin(STATISTICS)
+        .on(TEST_ITEM.ITEM_ID.eq(STATISTICS.ITEM_ID))
+        .leftJoin(STATISTICS_FIELD)
+        .on(STATISTICS.STATISTICS_FIELD_ID.eq(STATISTICS_FIELD.SF_ID))
+        .where(TEST_ITEM.ITEM_ID.in(dsl.select(TEST_ITEM.ITEM_ID)
+            .from(TEST_ITEM)
+            .where(pageCondition)
+            .orderBy(TEST_ITEM.START_TIME.asc(), TEST_ITEM.ITEM_ID.asc())
+            .limit(limit)))
+        .orderBy(TEST_ITEM.START_TIME.asc(), TEST_ITEM.ITEM_ID.asc())));
+  }
+
   @Override
   public List<Long> selectIdsWithIssueByLaunch(Long launchId) {
     return dsl.select(TEST_ITEM.ITEM_ID)
@@ -1057,6 +1119,26 @@ public class TestItemRepositoryCustomImpl implements TestItemRepositoryCustom {
         .fetchInto(Long.class);
   }
 
+  @Override
+  public void streamLogMessagesUnder(Long launchId, Collection<Long> itemIds, Integer logLevel,
+      BiConsumer<Long, String> consumer) {
+    final JTestItem child = TEST_ITEM.as(CHILD_ITEM_TABLE);
+
+    try (Cursor<Record2<Long, String>> cursor = dsl.select(TEST_ITEM.ITEM_ID, LOG.LOG_MESSAGE)
+        .from(TEST_ITEM)
+        .join(child)
+        .on(TEST_ITEM.PATH + " @> " + child.PATH)
+        .join(LOG)
+        .on(child.ITEM_ID.eq(LOG.ITEM_ID))
+        .where(TEST_ITEM.ITEM_ID.in(itemIds))
+        .and(child.LAUNCH_ID.eq(launchId))
+        .and(LOG.LOG_LEVEL.greaterOrEqual(logLevel))
+        .fetchSize(LOG_MESSAGES_FETCH_SIZE)
+        .fetchLazy()) {
+      cursor.forEach(record -> consumer.accept(record.value1(), record.value2()));
+    }
+  }
+
   @Override
   public List<Long> selectLogIdsUnderWithLogLevelCondition(Long launchId, Collection<Long> itemIds,
       Integer logLevel) {
@@ -41,6 +41,7 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.widget.conte
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.content.healthcheck.HealthCheckTableGetParams;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.content.healthcheck.HealthCheckTableInitParams;
 import jakarta.annotation.Nullable;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Sort;
@@ -321,6 +322,21 @@ public interface WidgetContentRepository {
       Sort launchesSort, List<String> attributes,
       int launchesLimit);
 
+  /**
+   * Apply changes of launches to the view of cumulative trend chart widget. Rows of launch names with launches added to
+   * or removed from the launches scope or modified after the provided time are rebuilt.
+   *
+   * @param viewName      View name
+   * @param launchFilter  Launches filter
+   * @param launchesSort  Launches sort
+   * @param attributes    Attribute keys of the widget levels
+   * @param launchesLimit Launches limit for widget
+   * @param modifiedAfter Launches modified after this time are rebuilt
+   * @return {@code false} if the view can't be updated and should be generated again
+   */
+  boolean updateCumulativeTrendChartView(String viewName, Filter launchFilter, Sort launchesSort,
+      List<String> attributes, int launchesLimit, Instant modifiedAfter);
+
   List<CumulativeTrendChartEntry> cumulativeTrendChart(String viewName, String levelAttributeKey,
       String subAttributeKey,
       String parentAttribute);
@@ -331,6 +347,21 @@ public interface WidgetContentRepository {
       Filter launchFilter, Sort launchSort,
       int launchesLimit, boolean isLatest);
 
+  /**
+   * Apply changes of launches to the view of component health check table widget. Rows of launches added to or removed
+   * from the launches scope or modified after the provided time are rebuilt.
+   *
+   * @param params        {@link HealthCheckTableInitParams}
+   * @param launchFilter  Launches filter
+   * @param launchSort    Launches sort
+   * @param launchesLimit Launches limit for widget
+   * @param isLatest      Flag for retrieving only latest launches
+   * @param modifiedAfter Launches modified after this time are rebuilt
+   * @return {@code false} if the view can't be updated and should be generated again
+   */
+  boolean updateComponentHealthCheckTable(HealthCheckTableInitParams params, Filter launchFilter,
+      Sort launchSort, int launchesLimit, boolean isLatest, Instant modifiedAfter);
+
   void removeWidgetView(String viewName);
 
   List<HealthCheckTableContent> componentHealthCheckTable(HealthCheckTableGetParams params);
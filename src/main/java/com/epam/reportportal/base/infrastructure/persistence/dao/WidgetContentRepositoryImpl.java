@@ -26,6 +26,7 @@ import static com.epam.reportportal.base.infrastructure.persistence.dao.constant
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.ATTRIBUTE_VALUE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.ATTR_ID;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.ATTR_TABLE;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.BASE_TABLE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.CRITERIA;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.CRITERIA_FLAG;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.CRITERIA_TABLE;
@@ -49,6 +50,7 @@ import static com.epam.reportportal.base.infrastructure.persistence.dao.constant
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.FLAKY_CASES_LIMIT;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.FLAKY_COUNT;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.FLAKY_TABLE_RESULTS;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.INFORMATION_SCHEMA;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.INVESTIGATED;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.ITEMS;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.ITEM_ATTRIBUTES;
@@ -56,6 +58,7 @@ import static com.epam.reportportal.base.infrastructure.persistence.dao.constant
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.ITEM_NAME;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.KEY;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.LAUNCHES;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.LAUNCHES_TABLE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.LAUNCH_ID;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.MOST_FAILED_CRITERIA_LIMIT;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.NAME;
@@ -77,6 +80,9 @@ import static com.epam.reportportal.base.infrastructure.persistence.dao.constant
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.STATUS_HISTORY;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.SUM;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.SWITCH_FLAG;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.TABLES;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.TABLE_NAME;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.TABLE_TYPE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.TOTAL;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.TO_INVESTIGATE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.UNIQUE_ID;
@@ -139,6 +145,7 @@ import static org.jooq.impl.DSL.orderBy;
 import static org.jooq.impl.DSL.round;
 import static org.jooq.impl.DSL.selectDistinct;
 import static org.jooq.impl.DSL.sum;
+import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.DSL.timestampDiff;
 import static org.jooq.impl.DSL.val;
 import static org.jooq.impl.DSL.when;
@@ -175,10 +182,12 @@ import com.epam.reportportal.base.infrastructure.rules.commons.validation.Suppli
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import jakarta.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -198,7 +207,7 @@ import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record2;
 import org.jooq.Record4;
-import org.jooq.Record5;
+import org.jooq.Record6;
 import org.jooq.Select;
 import org.jooq.SelectConditionStep;
 import org.jooq.SelectHavingStep;
@@ -1103,15 +1112,80 @@ public class WidgetContentRepositoryImpl implements WidgetContentRepository {
       removeWidgetView(viewName);
     }
 
+    SelectQuery<Record6<Long, String, Long, String, String, Long[]>> query = cumulativeTrendChartQuery(
+        QueryBuilder.newBuilder(launchFilter, collectJoinFields(launchFilter))
+            .with(launchesSort)
+            .with(launchesLimit)
+            .build(), attributes);
+    dsl.execute(DSL.sql(String.format("CREATE TABLE %s AS (%s)", name(viewName),
+        query.toString())));
+  }
+
+  @Override
+  public boolean updateCumulativeTrendChartView(String viewName, Filter launchFilter,
+      Sort launchesSort, List<String> attributes, int launchesLimit, Instant modifiedAfter) {
+    if (!isWidgetTable(viewName)) {
+      return false;
+    }
+
+    Table<? extends Record> launchesScope = QueryBuilder.newBuilder(launchFilter,
+            collectJoinFields(launchFilter))
+        .with(launchesSort)
+        .with(launchesLimit)
+        .build()
+        .asTable(LAUNCHES_TABLE);
+    Field<Long[]> aggregatedLaunches = field(name(viewName, AGGREGATED_LAUNCHES_IDS), Long[].class);
+
+    Set<Long> scopeIds = Sets.newHashSet(
+        dsl.select(fieldName(LAUNCHES_TABLE, ID).cast(Long.class)).from(launchesScope)
+            .fetchInto(Long.class));
+    Set<Long> storedIds = Sets.newHashSet(
+        dsl.selectDistinct(field("unnest({0})", Long.class, aggregatedLaunches))
+            .from(table(name(viewName)))
+            .fetchInto(Long.class));
+    Set<Long> modifiedIds = findModifiedLaunches(scopeIds, modifiedAfter);
+
+    Set<Long> outdatedIds = Sets.union(Sets.difference(storedIds, scopeIds), modifiedIds);
+    Set<Long> missingIds = Sets.union(Sets.difference(scopeIds, storedIds), modifiedIds);
+    if (outdatedIds.isEmpty() && missingIds.isEmpty()) {
+      return true;
+    }
+
+    // rows are aggregated by launch name, so all rows of the names containing changed launches are rebuilt
+    Set<String> affectedNames = Sets.newHashSet(dsl.selectDistinct(LAUNCH.NAME)
+        .from(LAUNCH)
+        .where(LAUNCH.ID.in(missingIds))
+        .fetchInto(String.class));
+    if (!outdatedIds.isEmpty()) {
+      affectedNames.addAll(dsl.selectDistinct(field(name(viewName, NAME), String.class))
+          .from(table(name(viewName)))
+          .where(DSL.condition("{0} && {1}", aggregatedLaunches,
+              val(outdatedIds.toArray(Long[]::new))))
+          .fetchInto(String.class));
+    }
+
+    dsl.deleteFrom(table(name(viewName)))
+        .where(field(name(viewName, NAME), String.class).in(affectedNames))
+        .execute();
+    dsl.insertInto(table(name(viewName)))
+        .select(cumulativeTrendChartQuery(
+            dsl.select(fieldName(LAUNCHES_TABLE, ID))
+                .from(launchesScope)
+                .join(LAUNCH)
+                .on(LAUNCH.ID.eq(fieldName(LAUNCHES_TABLE, ID).cast(Long.class)))
+                .where(LAUNCH.NAME.in(affectedNames)), attributes))
+        .execute();
+    return true;
+  }
+
+  private SelectQuery<Record6<Long, String, Long, String, String, Long[]>> cumulativeTrendChartQuery(
+      Select<? extends Record> launchesQuery, List<String> attributes) {
     final String FIRST_LEVEL = "first_level";
 
-    final SelectJoinStep<Record5<Long, String, Long, String, String>> FIRST_LEVEL_TABLE = dsl.with(
+    final SelectJoinStep<Record6<Long, String, Long, String, String, Long[]>> FIRST_LEVEL_TABLE = dsl.with(
             FIRST_LEVEL)
         .as(dsl.with(LAUNCHES)
-            .as(QueryBuilder.newBuilder(launchFilter, collectJoinFields(launchFilter))
-                .with(launchesSort)
-                .with(launchesLimit)
-                .build())
+            .as(launchesQuery)
             .select(max(LAUNCH.ID).as(ID),
                 LAUNCH.NAME,
                 arrayAggDistinct(LAUNCH.ID).as(AGGREGATED_LAUNCHES_IDS),
@@ -1129,19 +1203,20 @@ public class WidgetContentRepositoryImpl implements WidgetContentRepository {
             fieldName(FIRST_LEVEL, NAME).cast(String.class).as(NAME),
             val(null, fieldName(FIRST_LEVEL, ID).cast(Long.class)).as(FIRST_LEVEL_ID),
             fieldName(FIRST_LEVEL, ATTRIBUTE_KEY).cast(String.class).as(ATTRIBUTE_KEY),
-            fieldName(FIRST_LEVEL, ATTRIBUTE_VALUE).cast(String.class).as(ATTRIBUTE_VALUE)
+            fieldName(FIRST_LEVEL, ATTRIBUTE_VALUE).cast(String.class).as(ATTRIBUTE_VALUE),
+            fieldName(FIRST_LEVEL, AGGREGATED_LAUNCHES_IDS).cast(Long[].class)
+                .as(AGGREGATED_LAUNCHES_IDS)
         )
         .from(FIRST_LEVEL);
 
-    SelectQuery<Record5<Long, String, Long, String, String>> query;
-
     if (attributes.size() == 2 && attributes.get(1) != null) {
-      final SelectHavingStep<Record5<Long, String, Long, String, String>> SECOND_LEVEL_TABLE = dsl.select(
+      final SelectHavingStep<Record6<Long, String, Long, String, String, Long[]>> SECOND_LEVEL_TABLE = dsl.select(
               max(LAUNCH.ID).as(ID),
               LAUNCH.NAME,
               max(fieldName(FIRST_LEVEL, ID)).cast(Long.class).as(FIRST_LEVEL_ID),
               ITEM_ATTRIBUTE.KEY.as(ATTRIBUTE_KEY),
-              ITEM_ATTRIBUTE.VALUE.as(ATTRIBUTE_VALUE)
+              ITEM_ATTRIBUTE.VALUE.as(ATTRIBUTE_VALUE),
+              arrayAggDistinct(LAUNCH.ID).as(AGGREGATED_LAUNCHES_IDS)
           )
           .from(FIRST_LEVEL)
           .join(LAUNCH)
@@ -1155,12 +1230,9 @@ public class WidgetContentRepositoryImpl implements WidgetContentRepository {
               ITEM_ATTRIBUTE.KEY,
               ITEM_ATTRIBUTE.VALUE
           );
-      query = FIRST_LEVEL_TABLE.union(SECOND_LEVEL_TABLE).getQuery();
-    } else {
-      query = FIRST_LEVEL_TABLE.getQuery();
+      return FIRST_LEVEL_TABLE.union(SECOND_LEVEL_TABLE).getQuery();
     }
-    dsl.execute(DSL.sql(String.format("CREATE MATERIALIZED VIEW %s AS (%s)", name(viewName),
-        query.toString())));
+    return FIRST_LEVEL_TABLE.getQuery();
   }
 
   @Override
@@ -1259,6 +1331,55 @@ public class WidgetContentRepositoryImpl implements WidgetContentRepository {
         .build()
         .asTable(LAUNCHES);
 
+    dsl.execute(dsl.renderInlined(dsl.createTable(params.getViewName())
+        .as(componentHealthCheckTableQuery(params, launchesTable))));
+    dsl.createIndex()
+        .on(table(name(params.getViewName())), field(name(LAUNCH_ID)))
+        .execute();
+  }
+
+  @Override
+  public boolean updateComponentHealthCheckTable(HealthCheckTableInitParams params,
+      Filter launchFilter, Sort launchSort, int launchesLimit, boolean isLatest,
+      Instant modifiedAfter) {
+    String viewName = params.getViewName();
+    if (!isWidgetTable(viewName)) {
+      return false;
+    }
+
+    Table<? extends Record> launchesScope = QueryUtils.createQueryBuilderWithLatestLaunchesOption(
+            launchFilter, launchSort, isLatest)
+        .with(launchesLimit)
+        .with(launchSort)
+        .build()
+        .asTable(LAUNCHES);
+    Field<Long> launchId = field(name(viewName, LAUNCH_ID), Long.class);
+
+    Set<Long> scopeIds = Sets.newHashSet(
+        dsl.select(fieldName(LAUNCHES, ID).cast(Long.class)).from(launchesScope)
+            .fetchInto(Long.class));
+    Set<Long> storedIds = Sets.newHashSet(
+        dsl.selectDistinct(launchId).from(table(name(viewName))).fetchInto(Long.class));
+    Set<Long> modifiedIds = findModifiedLaunches(scopeIds, modifiedAfter);
+
+    Set<Long> outdatedIds = Sets.union(Sets.difference(storedIds, scopeIds), modifiedIds);
+    Set<Long> missingIds = Sets.union(Sets.difference(scopeIds, storedIds), modifiedIds);
+
+    if (!outdatedIds.isEmpty()) {
+      dsl.deleteFrom(table(name(viewName))).where(launchId.in(outdatedIds)).execute();
+    }
+    if (!missingIds.isEmpty()) {
+      dsl.insertInto(table(name(viewName)))
+          .select(componentHealthCheckTableQuery(params,
+              dsl.select(LAUNCH.ID.as(ID)).from(LAUNCH).where(LAUNCH.ID.in(missingIds))
+                  .asTable(LAUNCHES)))
+          .execute();
+    }
+    return true;
+  }
+
+  private SelectQuery<Record> componentHealthCheckTableQuery(HealthCheckTableInitParams params,
+      Table<? extends Record> launchesTable) {
     List<Field<?>> selectFields = Lists.newArrayList(TEST_ITEM.ITEM_ID, ITEM_ATTRIBUTE.KEY,
         ITEM_ATTRIBUTE.VALUE);
 
@@ -1266,6 +1387,7 @@ public class WidgetContentRepositoryImpl implements WidgetContentRepository {
         key -> selectFields.add(DSL.arrayAggDistinct(fieldName(CUSTOM_ATTRIBUTE, VALUE))
             .filterWhere(fieldName(CUSTOM_ATTRIBUTE, VALUE).isNotNull())
             .as(CUSTOM_COLUMN)));
+    selectFields.add(TEST_ITEM.LAUNCH_ID);
 
     SelectOnConditionStep<Record> baseQuery = dsl.select(selectFields).from(TEST_ITEM)
         .join(launchesTable)
@@ -1277,27 +1399,57 @@ public class WidgetContentRepositoryImpl implements WidgetContentRepository {
             .or(TEST_ITEM.LAUNCH_ID.eq(ITEM_ATTRIBUTE.LAUNCH_ID)))
             .and(ITEM_ATTRIBUTE.KEY.in(params.getAttributeKeys())).and(ITEM_ATTRIBUTE.SYSTEM.isFalse()));
 
-    dsl.execute(dsl.renderInlined(dsl.createMaterializedView(params.getViewName())
-        .as(ofNullable(params.getCustomKey()).map(key -> {
-              JItemAttribute customAttribute = ITEM_ATTRIBUTE.as(CUSTOM_ATTRIBUTE);
-              return baseQuery.leftJoin(customAttribute)
-                  .on(DSL.condition(Operator.OR,
-                      TEST_ITEM.ITEM_ID.eq(customAttribute.ITEM_ID),
-                      TEST_ITEM.LAUNCH_ID.eq(customAttribute.LAUNCH_ID)
-                  ).and(customAttribute.KEY.eq(key)));
-            })
-            .orElse(baseQuery)
-            .where(TEST_ITEM.HAS_STATS.isTrue()
-                .and(TEST_ITEM.HAS_CHILDREN.isFalse())
-                .and(TEST_ITEM.TYPE.eq(JTestItemTypeEnum.STEP))
-                .and(TEST_ITEM.RETRY_OF.isNull())
-                .and(TEST_ITEM_RESULTS.STATUS.notEqual(JStatusEnum.IN_PROGRESS)))
-            .groupBy(TEST_ITEM.ITEM_ID, ITEM_ATTRIBUTE.KEY, ITEM_ATTRIBUTE.VALUE)
-            .getQuery())));
+    return ofNullable(params.getCustomKey()).map(key -> {
+          JItemAttribute customAttribute = ITEM_ATTRIBUTE.as(CUSTOM_ATTRIBUTE);
+          return baseQuery.leftJoin(customAttribute)
+              .on(DSL.condition(Operator.OR,
+                  TEST_ITEM.ITEM_ID.eq(customAttribute.ITEM_ID),
+                  TEST_ITEM.LAUNCH_ID.eq(customAttribute.LAUNCH_ID)
+              ).and(customAttribute.KEY.eq(key)));
+        })
+        .orElse(baseQuery)
+        .where(TEST_ITEM.HAS_STATS.isTrue()
+            .and(TEST_ITEM.HAS_CHILDREN.isFalse())
+            .and(TEST_ITEM.TYPE.eq(JTestItemTypeEnum.STEP))
+            .and(TEST_ITEM.RETRY_OF.isNull())
+            .and(TEST_ITEM_RESULTS.STATUS.notEqual(JStatusEnum.IN_PROGRESS)))
+        .groupBy(TEST_ITEM.ITEM_ID, ITEM_ATTRIBUTE.KEY, ITEM_ATTRIBUTE.VALUE, TEST_ITEM.LAUNCH_ID)
+        .getQuery();
+  }
+
+  /**
+   * Launches modified after the provided time. Editing items, e.g. their attributes, doesn't touch the launch, so a
+   * launch is modified if any of its items is.
+   */
+  private Set<Long> findModifiedLaunches(Collection<Long> launchIds, Instant modifiedAfter) {
+    return Sets.newHashSet(dsl.select(LAUNCH.ID)
+        .from(LAUNCH)
+        .where(LAUNCH.ID.in(launchIds))
+        .and(LAUNCH.LAST_MODIFIED.greaterThan(modifiedAfter)
+            .orExists(dsl.selectOne()
+                .from(TEST_ITEM)
+                .where(TEST_ITEM.LAUNCH_ID.eq(LAUNCH.ID))
+                .and(TEST_ITEM.LAST_MODIFIED.greaterThan(modifiedAfter))))
+        .fetchInto(Long.class));
+  }
+
+  /**
+   * Widget views are created as tables to be updated incrementally, views created as materialized views by the previous
+   * versions are regenerated.
+   */
+  private boolean isWidgetTable(String viewName) {
+    return dsl.fetchExists(dsl.selectOne()
+        .from(table(name(INFORMATION_SCHEMA, TABLES)))
+        .where(field(name(TABLE_NAME), String.class).eq(viewName))
+        .and(field(name(TABLE_TYPE), String.class).eq(BASE_TABLE)));
   }
 
   @Override
   public void removeWidgetView(String viewName) {
+    if (isWidgetTable(viewName)) {
+      dsl.dropTableIfExists(name(viewName)).execute();
+      return;
+    }
     dsl.execute(DSL.sql(
         Suppliers.formattedSupplier("DROP MATERIALIZED VIEW IF EXISTS {}", name(viewName))
             .get()));
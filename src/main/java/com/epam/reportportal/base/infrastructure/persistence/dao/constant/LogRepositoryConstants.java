@@ -32,6 +32,9 @@ public final class LogRepositoryConstants {
   public static final String LOG = "log";
   public static final String TYPE = "type";
   public static final String LOGS = "logs";
+  public static final String PARENT_ID = "parent_id";
+  public static final String STATUS = "status";
+  public static final String NESTED_TREE = "nested_tree";
 
   private LogRepositoryConstants() {
     //static only
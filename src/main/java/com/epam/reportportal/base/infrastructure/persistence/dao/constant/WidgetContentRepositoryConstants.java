@@ -142,4 +142,11 @@ public class WidgetContentRepositoryConstants {
   public static final String CUSTOM_COLUMN_SORTING = "customColumn";
   public static final String EXCLUDE_SKIPPED_TABLE = "exclude_skipped_table";
 
+  /*Widget views constants*/
+  public static final String INFORMATION_SCHEMA = "information_schema";
+  public static final String TABLES = "tables";
+  public static final String TABLE_NAME = "table_name";
+  public static final String TABLE_TYPE = "table_type";
+  public static final String BASE_TABLE = "BASE TABLE";
+
 }
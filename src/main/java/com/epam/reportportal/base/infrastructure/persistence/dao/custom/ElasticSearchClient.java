@@ -1,17 +1,25 @@
 package com.epam.reportportal.base.infrastructure.persistence.dao.custom;
 
 import com.epam.reportportal.base.infrastructure.persistence.entity.log.LogMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.collections4.MapUtils;
 import org.jooq.tools.json.JSONObject;
 import org.slf4j.Logger;
@@ -20,6 +28,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.support.BasicAuthenticationInterceptor;
 import org.springframework.stereotype.Service;
@@ -36,10 +45,14 @@ import org.springframework.web.client.RestTemplate;
 public class ElasticSearchClient {
 
   public static final String INDEX_PREFIX = "logs-reportportal-";
-  public static final String CREATE_COMMAND = "{\"create\":{ }}\n";
+  public static final String CREATE_COMMAND = "{\"create\":{\"_id\":\"%d\"}}\n";
   public static final String ELASTIC_DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS";
   public static final Integer MAX_RESULT_REQUEST = 5000;
   public static final String LOG_MESSAGE_FIELD_NAME = "message";
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+  private static final int CONFLICT = 409;
+  private static final String VERSION_CONFLICT = "version_conflict_engine_exception";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   protected final Logger LOGGER = LoggerFactory.getLogger(ElasticSearchClient.class);
 
   private final String host;
@@ -61,22 +74,58 @@ public class ElasticSearchClient {
     if (CollectionUtils.isEmpty(logMessageList)) {
       return;
     }
-    Map<String, String> logsByIndex = new HashMap<>();
+    logMessageList.stream()
+        .collect(Collectors.groupingBy(LogMessage::getProjectId))
+        .forEach(this::bulkCreate);
+  }
 
-    logMessageList.forEach(logMessage -> {
-      String indexName = getIndexName(logMessage.getProjectId());
-      String logCreateBody = CREATE_COMMAND + convertToJson(logMessage) + "\n";
+  /**
+   * Writes log messages of the project with a single {@code _bulk} request. The body is streamed as NDJSON and the
+   * request doesn't force an index refresh. Documents are created with the log id, so a message indexed again after a
+   * retry or a requeue conflicts with the existing document instead of being duplicated, such a conflict is treated as
+   * success.
+   *
+   * @param projectId   Project id
+   * @param logMessages Log messages of the project
+   * @return Statuses of the failed documents by their positions in the provided list
+   */
+  public Map<Integer, Integer> bulkCreate(Long projectId, List<LogMessage> logMessages) {
+    if (CollectionUtils.isEmpty(logMessages)) {
+      return Collections.emptyMap();
+    }
+    return restTemplate.execute(host + "/" + getIndexName(projectId) + "/_bulk", HttpMethod.PUT,
+        request -> {
+          request.getHeaders().setContentType(NDJSON);
+          Writer writer = new BufferedWriter(
+              new OutputStreamWriter(request.getBody(), StandardCharsets.UTF_8));
+          for (LogMessage logMessage : logMessages) {
+            writer.write(String.format(CREATE_COMMAND, logMessage.getId()));
+            writer.write(convertToJson(logMessage).toString());
+            writer.write('\n');
+          }
+          writer.flush();
+        },
+        response -> getBulkFailures(OBJECT_MAPPER.readTree(response.getBody())));
+  }
 
-      if (logsByIndex.containsKey(indexName)) {
-        logsByIndex.put(indexName, logsByIndex.get(indexName) + logCreateBody);
-      } else {
-        logsByIndex.put(indexName, logCreateBody);
+  private Map<Integer, Integer> getBulkFailures(JsonNode bulkResponse) {
+    if (bulkResponse == null || !bulkResponse.path("errors").asBoolean()) {
+      return Collections.emptyMap();
+    }
+    Map<Integer, Integer> failures = new HashMap<>();
+    JsonNode items = bulkResponse.path("items");
+    for (int i = 0; i < items.size(); i++) {
+      JsonNode create = items.get(i).path("create");
+      int status = create.path("status").asInt();
+      if (status >= 300 && !isAlreadyCreated(status, create)) {
+        failures.put(i, status);
       }
-    });
+    }
+    return failures;
+  }
 
-    logsByIndex.forEach((indexName, body) -> {
-      restTemplate.put(host + "/" + indexName + "/_bulk?refresh", getStringHttpEntity(body));
-    });
+  private boolean isAlreadyCreated(int status, JsonNode create) {
+    return status == CONFLICT && VERSION_CONFLICT.equals(create.path("error").path("type").asText());
   }
 
   public void deleteLogsByLogIdAndProjectId(Long projectId, Long logId) {
@@ -18,6 +18,8 @@ package com.epam.reportportal.base.infrastructure.persistence.dao.util;
 
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.LOG_LEVEL;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.PAGE_NUMBER;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.PARENT_ID;
+import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.STATUS;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants.TYPE;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.constant.WidgetContentRepositoryConstants.ID;
 import static com.epam.reportportal.base.infrastructure.persistence.dao.util.RecordMappers.ATTACHMENT_MAPPER;
@@ -64,11 +66,13 @@ import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPorta
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.FilterCondition;
 import com.epam.reportportal.base.infrastructure.persistence.entity.activity.Activity;
 import com.epam.reportportal.base.infrastructure.persistence.entity.dashboard.Dashboard;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.filter.FilterSort;
 import com.epam.reportportal.base.infrastructure.persistence.entity.filter.UserFilter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.integration.Integration;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemPage;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedTreeItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.Parameter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
@@ -431,6 +435,18 @@ public class ResultFetchers {
     return itemWithLocation;
   };
 
+  public static final Function<Result<? extends Record>, List<NestedTreeItem>> NESTED_TREE_ITEM_FETCHER = result -> {
+    List<NestedTreeItem> treeItems = Lists.newArrayListWithExpectedSize(result.size());
+    result.forEach(row -> treeItems.add(new NestedTreeItem(row.get(ID, Long.class),
+        row.get(PARENT_ID, Long.class),
+        row.get(TYPE, String.class),
+        row.get(LOG_LEVEL, Integer.class),
+        StatusEnum.fromValue(row.get(STATUS, String.class)).orElse(null),
+        row.get(PAGE_NUMBER, Integer.class)
+    )));
+    return treeItems;
+  };
+
   public static final Function<Result<? extends Record>, ReportPortalUser> REPORTPORTAL_USER_FETCHER = rows -> {
     if (!CollectionUtils.isEmpty(rows)) {
       ReportPortalUser user = ReportPortalUser.userBuilder()
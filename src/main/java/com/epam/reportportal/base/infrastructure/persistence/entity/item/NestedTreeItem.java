@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.infrastructure.persistence.entity.item;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+
+/**
+ * A nested step or a log of the nested steps tree with the page where it is located under its parent item.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class NestedTreeItem extends NestedItemPage {
+
+  private Long parentId;
+
+  private StatusEnum status;
+
+  public NestedTreeItem(Long id, Long parentId, String type, Integer logLevel, StatusEnum status,
+      Integer pageNumber) {
+    super(id, type, logLevel, pageNumber);
+    this.parentId = parentId;
+    this.status = status;
+  }
+
+  public Long getParentId() {
+    return parentId;
+  }
+
+  public void setParentId(Long parentId) {
+    this.parentId = parentId;
+  }
+
+  public StatusEnum getStatus() {
+    return status;
+  }
+
+  public void setStatus(StatusEnum status) {
+    this.status = status;
+  }
+
+}
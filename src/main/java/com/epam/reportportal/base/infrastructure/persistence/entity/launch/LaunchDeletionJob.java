@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.infrastructure.persistence.entity.launch;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.converters.JpaInstantConverter;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Background deletion of the launches requested by a single bulk delete. The job is owned by the instance holding its
+ * lease, a job which lease is expired is resumed by another instance.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Entity
+@Table(name = "launch_deletion_job")
+@Getter
+@Setter
+@NoArgsConstructor
+public class LaunchDeletionJob implements Serializable {
+
+  public enum Status {
+    IN_PROGRESS,
+    COMPLETED
+  }
+
+  @Id
+  @Column(name = "id")
+  private String id;
+
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  @Column(name = "organization_id")
+  private Long organizationId;
+
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "user_login")
+  private String userLogin;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private Status status;
+
+  @Column(name = "start_time", nullable = false)
+  @Convert(converter = JpaInstantConverter.class)
+  private Instant startTime;
+
+  @Column(name = "end_time")
+  @Convert(converter = JpaInstantConverter.class)
+  private Instant endTime;
+
+  @Column(name = "locked_by")
+  private String lockedBy;
+
+  @Column(name = "lock_until")
+  @Convert(converter = JpaInstantConverter.class)
+  private Instant lockUntil;
+
+  @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, orphanRemoval = true)
+  @OrderBy("id")
+  private List<LaunchDeletionJobLaunch> launches = new ArrayList<>();
+
+  public void addLaunch(Long launchId, String launchName) {
+    LaunchDeletionJobLaunch launch = new LaunchDeletionJobLaunch();
+    launch.setJob(this);
+    launch.setLaunchId(launchId);
+    launch.setLaunchName(launchName);
+    launch.setStatus(LaunchDeletionJobLaunch.Status.DELETING);
+    launches.add(launch);
+  }
+}
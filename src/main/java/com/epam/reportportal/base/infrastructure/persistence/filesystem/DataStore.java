@@ -28,6 +28,19 @@ public interface DataStore {
 
   String save(String fileName, InputStream inputStream);
 
+  /**
+   * Saves the stream of the known length. Unlike {@link #save(String, InputStream)} the length is not taken from
+   * {@link InputStream#available()}, so the stream doesn't have to be fully buffered in memory before saving.
+   *
+   * @param fileName      Target file path
+   * @param inputStream   Data to save
+   * @param contentLength Length of the data in bytes
+   * @return Saved file path
+   */
+  default String save(String fileName, InputStream inputStream, long contentLength) {
+    return save(fileName, inputStream);
+  }
+
   InputStream load(String filePath);
 
   boolean exists(String filePath);
@@ -61,22 +61,27 @@ public class LocalDataStore implements DataStore {
 
   @Override
   public String save(String filePath, InputStream inputStream) {
+    try {
+      return save(filePath, inputStream, inputStream.available());
+    } catch (IOException e) {
+      throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Unable to save file", e);
+    }
+  }
+
+  @Override
+  public String save(String filePath, InputStream inputStream, long contentLength) {
     if (filePath == null) {
       return "";
     }
     StoredFile storedFile = getStoredFile(filePath);
-    try {
-      if (!blobStore.containerExists(storedFile.getBucket())) {
-        blobStore.createContainerInLocation(null, storedFile.getBucket());
-      }
-      Blob objectBlob = blobStore.blobBuilder(storedFile.getFilePath()).payload(inputStream)
-          .contentDisposition(storedFile.getFilePath()).contentLength(inputStream.available())
-          .build();
-      blobStore.putBlob(storedFile.getBucket(), objectBlob);
-      return filePath;
-    } catch (IOException e) {
-      throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Unable to save file", e);
+    if (!blobStore.containerExists(storedFile.getBucket())) {
+      blobStore.createContainerInLocation(null, storedFile.getBucket());
     }
+    Blob objectBlob = blobStore.blobBuilder(storedFile.getFilePath()).payload(inputStream)
+        .contentDisposition(storedFile.getFilePath()).contentLength(contentLength)
+        .build();
+    blobStore.putBlob(storedFile.getBucket(), objectBlob);
+    return filePath;
   }
 
   @Override
@@ -77,31 +77,36 @@ public class S3DataStore implements DataStore {
 
   @Override
   public String save(String filePath, InputStream inputStream) {
+    try {
+      return save(filePath, inputStream, inputStream.available());
+    } catch (IOException e) {
+      LOGGER.error("Unable to save file '{}'", filePath, e);
+      throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Unable to save file");
+    }
+  }
+
+  @Override
+  public String save(String filePath, InputStream inputStream, long contentLength) {
     if (filePath == null) {
       return "";
     }
     StoredFile storedFile = getStoredFile(filePath);
-    try {
-      if (!blobStore.containerExists(storedFile.getBucket())) {
-        CREATE_BUCKET_LOCK.lock();
-        try {
-          if (!blobStore.containerExists(storedFile.getBucket())) {
-            blobStore.createContainerInLocation(location, storedFile.getBucket());
-          }
-        } finally {
-          CREATE_BUCKET_LOCK.unlock();
+    if (!blobStore.containerExists(storedFile.getBucket())) {
+      CREATE_BUCKET_LOCK.lock();
+      try {
+        if (!blobStore.containerExists(storedFile.getBucket())) {
+          blobStore.createContainerInLocation(location, storedFile.getBucket());
         }
+      } finally {
+        CREATE_BUCKET_LOCK.unlock();
       }
-
-      Blob objectBlob = blobStore.blobBuilder(storedFile.getFilePath()).payload(inputStream)
-          .contentDisposition(storedFile.getFilePath()).contentLength(inputStream.available())
-          .build();
-      blobStore.putBlob(storedFile.getBucket(), objectBlob);
-      return Paths.get(filePath).toString();
-    } catch (IOException e) {
-      LOGGER.error("Unable to save file '{}'", filePath, e);
-      throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Unable to save file");
     }
+
+    Blob objectBlob = blobStore.blobBuilder(storedFile.getFilePath()).payload(inputStream)
+        .contentDisposition(storedFile.getFilePath()).contentLength(contentLength)
+        .build();
+    blobStore.putBlob(storedFile.getBucket(), objectBlob);
+    return Paths.get(filePath).toString();
   }
 
   @Override
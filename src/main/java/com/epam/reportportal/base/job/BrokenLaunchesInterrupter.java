@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.job;
+
+import com.epam.reportportal.base.core.events.domain.LaunchFinishedEvent;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Interrupts a batch of broken launches with their items in progress in a separate transaction
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Service
+@RequiredArgsConstructor
+public class BrokenLaunchesInterrupter {
+
+  private final LaunchRepository launchRepository;
+
+  private final TestItemRepository testItemRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * @param launchIds      Ids of the broken launches
+   * @param organizationId Id of the organization the launches belong to
+   * @return Count of interrupted launches
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public int interrupt(Collection<Long> launchIds, Long organizationId) {
+    // launches could be finished by a client since they were found
+    List<Launch> launches = launchRepository.findAllById(launchIds).stream()
+        .filter(launch -> StatusEnum.IN_PROGRESS.equals(launch.getStatus()))
+        .toList();
+    if (launches.isEmpty()) {
+      return 0;
+    }
+    testItemRepository.interruptInProgressItemsByLaunchIds(
+        launches.stream().map(Launch::getId).toList());
+    Instant endTime = Instant.now();
+    launches.forEach(launch -> {
+      launch.setStatus(StatusEnum.INTERRUPTED);
+      launch.setEndTime(endTime);
+    });
+    launchRepository.saveAll(launches);
+    launches.forEach(launch -> eventPublisher.publishEvent(
+        new LaunchFinishedEvent(launch, organizationId)));
+    return launches.size();
+  }
+}
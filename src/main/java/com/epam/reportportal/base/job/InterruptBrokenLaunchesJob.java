@@ -20,144 +20,98 @@ import static com.epam.reportportal.base.infrastructure.persistence.commons.quer
 import static com.epam.reportportal.base.job.PageUtil.iterateOverPages;
 import static java.time.Duration.ofSeconds;
 
-import com.epam.reportportal.base.core.events.domain.LaunchFinishedEvent;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
-import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ProjectRepository;
-import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.ProjectAttributeEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
-import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.base.infrastructure.persistence.entity.project.Project;
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.ProjectUtils;
+import com.google.common.collect.Lists;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Finds jobs witn duration more than defined and finishes them with interrupted {@link StatusEnum#INTERRUPTED} status
  *
+ * <p>Broken launches of a project are found by a single query and interrupted by batches, every batch in a separate
+ * transaction. Projects are split into {@link #SHARDS} shards by id, every shard is handled by its own job, so shards
+ * are distributed between the clustered scheduler instances.
+ *
  * @author Andrei Varabyeu
  */
 @Service
 public class InterruptBrokenLaunchesJob implements Job {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(InterruptBrokenLaunchesJob.class);
+  public static final String SHARD = "shard";
 
-  private final ApplicationEventPublisher eventPublisher;
+  public static final String SHARDS = "shards";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InterruptBrokenLaunchesJob.class);
 
   private final LaunchRepository launchRepository;
 
-  private final TestItemRepository testItemRepository;
+  private final ProjectRepository projectRepository;
 
-  private final LogRepository logRepository;
+  private final BrokenLaunchesInterrupter brokenLaunchesInterrupter;
 
-  private final ProjectRepository projectRepository;
+  private final int batchSize;
 
   @Autowired
-  public InterruptBrokenLaunchesJob(ApplicationEventPublisher eventPublisher,
-      LaunchRepository launchRepository, TestItemRepository testItemRepository,
-      LogRepository logRepository,
-      ProjectRepository projectRepository) {
-    this.eventPublisher = eventPublisher;
+  public InterruptBrokenLaunchesJob(LaunchRepository launchRepository,
+      ProjectRepository projectRepository, BrokenLaunchesInterrupter brokenLaunchesInterrupter,
+      @Value("${com.ta.reportportal.job.interrupt.broken.launches.batch-size}") int batchSize) {
     this.launchRepository = launchRepository;
-    this.testItemRepository = testItemRepository;
-    this.logRepository = logRepository;
     this.projectRepository = projectRepository;
+    this.brokenLaunchesInterrupter = brokenLaunchesInterrupter;
+    this.batchSize = batchSize;
   }
 
   @Override
-  @Transactional
   public void execute(JobExecutionContext context) {
-    LOGGER.info("Interrupt broken launches job has been started");
+    int shards = getJobData(context, SHARDS).orElse(1);
+    int shard = getJobData(context, SHARD).orElse(0);
+    LOGGER.info("Interrupt broken launches job has been started for shard {} of {}", shard, shards);
     iterateOverPages(
         Sort.by(Sort.Order.asc(CRITERIA_ID)),
         projectRepository::findAllIdsAndProjectAttributes,
-        projects -> projects.forEach(project -> {
-          ProjectUtils.extractAttributeValue(project, ProjectAttributeEnum.INTERRUPT_JOB_TIME)
-              .ifPresent(it -> {
-                Duration maxDuration = ofSeconds(NumberUtils.toLong(it, 0L));
-                try (Stream<Long> ids = launchRepository.streamIdsWithStatusAndStartTimeBefore(
-                    project.getId(),
-                    StatusEnum.IN_PROGRESS,
-                    Instant.now().minus(maxDuration.toSeconds(), ChronoUnit.SECONDS)
-                )) {
-                  ids.forEach(launchId -> {
-                    if (!testItemRepository.hasItemsInStatusByLaunch(launchId,
-                        StatusEnum.IN_PROGRESS)) {
-                      /*
-                       * There are no test items for this launch. Just INTERRUPT
-                       * this launch
-                       */
-                      interruptLaunch(launchId, project.getOrganizationId());
-                    } else {
-                      /*
-                       * Well, there are some test items started for specified
-                       * launch
-                       */
-                      if (!testItemRepository.hasItemsInStatusAddedLately(launchId, maxDuration,
-                          StatusEnum.IN_PROGRESS)) {
-                        /*
-                         * If there are logs, we have to check whether them
-                         * expired
-                         */
-                        if (testItemRepository.hasLogs(launchId, maxDuration,
-                            StatusEnum.IN_PROGRESS)) {
-                          /*
-                           * If there are logs which are still valid
-                           * (probably automation project keep writing
-                           * something)
-                           */
-                          if (!logRepository.hasLogsAddedLately(maxDuration, launchId,
-                              StatusEnum.IN_PROGRESS)) {
-                            interruptItems(launchId, project.getOrganizationId());
-                          }
-                        } else {
-                          /*
-                           * If not just INTERRUPT all found items and launch
-                           */
-                          interruptItems(launchId, project.getOrganizationId());
-                        }
-                      }
-                    }
-                  });
-                } catch (Exception ex) {
-                  LOGGER.error("Interrupting broken launches has been failed", ex);
-                  //do nothing
-                }
-              });
-        })
+        projects -> projects.stream()
+            .filter(project -> Math.floorMod(project.getId(), shards) == shard)
+            .forEach(project -> ProjectUtils.extractAttributeValue(project,
+                    ProjectAttributeEnum.INTERRUPT_JOB_TIME)
+                .map(it -> ofSeconds(NumberUtils.toLong(it, 0L)))
+                .ifPresent(maxDuration -> interruptBrokenLaunches(project, maxDuration)))
     );
-    LOGGER.info("Interrupt broken launches job has been finished");
-  }
-
-  private void interruptLaunch(Long launchId, Long organizationId) {
-    launchRepository.findById(launchId).ifPresent(launch -> {
-      launch.setStatus(StatusEnum.INTERRUPTED);
-      launch.setEndTime(Instant.now());
-
-      launchRepository.save(launch);
-      publishFinishEvent(launch, organizationId);
-    });
+    LOGGER.info("Interrupt broken launches job has been finished for shard {} of {}", shard, shards);
   }
 
-  private void publishFinishEvent(Launch launch, Long organizationId) {
-    final LaunchFinishedEvent launchFinishedEvent = new LaunchFinishedEvent(launch, organizationId);
-    eventPublisher.publishEvent(launchFinishedEvent);
+  private void interruptBrokenLaunches(Project project, Duration maxDuration) {
+    try {
+      List<Long> launchIds = launchRepository.findBrokenLaunchIds(project.getId(),
+          Instant.now().minus(maxDuration));
+      Lists.partition(launchIds, batchSize).forEach(
+          batch -> brokenLaunchesInterrupter.interrupt(batch, project.getOrganizationId()));
+    } catch (Exception ex) {
+      LOGGER.error("Interrupting broken launches of project '{}' has been failed", project.getId(),
+          ex);
+      //do nothing
+    }
   }
 
-  private void interruptItems(Long launchId, Long orgId) {
-    testItemRepository.interruptInProgressItems(launchId);
-    interruptLaunch(launchId, orgId);
+  private static Optional<Integer> getJobData(JobExecutionContext context, String key) {
+    return Optional.ofNullable(context)
+        .map(JobExecutionContext::getMergedJobDataMap)
+        .filter(data -> data.containsKey(key))
+        .map(data -> data.getIntValue(key));
   }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.job;
+
+import com.epam.reportportal.base.core.configs.Conditions;
+import com.epam.reportportal.base.infrastructure.persistence.dao.StaleWidgetTableRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetContentRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Scheduled job that drops the views of widgets deleted while they were generated. A view is dropped once it was
+ * queued longer than the generation may take, so the table created by that generation is already committed.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Conditional(Conditions.NotTestCondition.class)
+@Service
+public class StaleWidgetTablesCleanupJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StaleWidgetTablesCleanupJob.class);
+
+  private final StaleWidgetTableRepository staleWidgetTableRepository;
+
+  private final WidgetContentRepository widgetContentRepository;
+
+  private final Duration ttl;
+
+  public StaleWidgetTablesCleanupJob(StaleWidgetTableRepository staleWidgetTableRepository,
+      WidgetContentRepository widgetContentRepository,
+      @Value("${rp.environment.variable.widget.stale-tables.ttl}") Duration ttl) {
+    this.staleWidgetTableRepository = staleWidgetTableRepository;
+    this.widgetContentRepository = widgetContentRepository;
+    this.ttl = ttl;
+  }
+
+  /**
+   * Queue entries are removed in the same transaction, so a table is dropped by a single instance and an entry is
+   * kept if dropping fails.
+   */
+  @Scheduled(fixedDelayString = "${rp.environment.variable.widget.stale-tables.cleanup}")
+  @Transactional
+  public void execute() {
+    List<String> viewNames = staleWidgetTableRepository.deleteCreatedBefore(
+        Instant.now().minus(ttl));
+    viewNames.forEach(widgetContentRepository::removeWidgetView);
+    if (!viewNames.isEmpty()) {
+      LOGGER.debug("Stale widget views removed: {}", viewNames);
+    }
+  }
+}
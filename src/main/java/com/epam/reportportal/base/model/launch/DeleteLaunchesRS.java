@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.model.launch;
+
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorRS;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a bulk launches delete. Accepted launches are not deleted yet, they are removed in background by the
+ * deletion job, which state could be requested by the job id.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeleteLaunchesRS {
+
+  /**
+   * Id of the deletion job, absent if no launch is accepted
+   */
+  @JsonProperty("jobId")
+  private String jobId;
+
+  @JsonProperty("accepted")
+  private List<Long> accepted;
+
+  @JsonProperty("notFound")
+  private List<Long> notFound;
+
+  @JsonProperty("errors")
+  private List<ErrorRS> errors;
+}
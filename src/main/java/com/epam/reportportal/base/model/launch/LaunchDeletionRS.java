@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.model.launch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * State of the background launches deletion job
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LaunchDeletionRS {
+
+  @JsonProperty("jobId")
+  private String jobId;
+
+  @JsonProperty("status")
+  private String status;
+
+  @JsonProperty("launches")
+  private List<Long> launches;
+
+  @JsonProperty("deleted")
+  private List<Long> deleted;
+
+  @JsonProperty("failed")
+  private List<Long> failed;
+
+  @JsonProperty("startTime")
+  private Instant startTime;
+
+  @JsonProperty("endTime")
+  private Instant endTime;
+}
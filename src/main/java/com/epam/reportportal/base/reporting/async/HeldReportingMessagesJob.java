@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.reporting.async;
+
+import com.epam.reportportal.base.reporting.async.consumer.ReportingConsumer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that passes reporting messages held by the reporting consumers longer than the max wait time to the
+ * regular retry flow, so they are not stuck when their queue is idle.
+ *
+ * <p>On application shutdown the listener containers are stopped first, so no message is processed while the held
+ * messages are discarded. The held messages are not acknowledged and the broker returns them to the queue once the
+ * channels of the containers are closed.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Slf4j
+@Component
+public class HeldReportingMessagesJob implements DisposableBean {
+
+  private final List<AbstractMessageListenerContainer> containers = new CopyOnWriteArrayList<>();
+  private final List<ReportingConsumer> consumers = new CopyOnWriteArrayList<>();
+
+  /**
+   * @param container listener container of the consumer
+   * @param consumer  {@link ReportingConsumer} that holds messages
+   */
+  public void register(AbstractMessageListenerContainer container, ReportingConsumer consumer) {
+    containers.add(container);
+    consumers.add(consumer);
+  }
+
+  @Scheduled(fixedDelayString = "${reporting.consumer.reorder.maxWaitMs:1000}")
+  public void run() {
+    consumers.forEach(ReportingConsumer::expireHeld);
+  }
+
+  @Override
+  public void destroy() {
+    containers.forEach(container -> {
+      try {
+        container.stop();
+      } catch (RuntimeException e) {
+        log.warn("Unable to stop reporting listener container", e);
+      }
+    });
+    int discarded = consumers.stream().mapToInt(ReportingConsumer::discardHeld).sum();
+    if (discarded > 0) {
+      log.info("{} held reporting messages are returned to the queues", discarded);
+    }
+  }
+}
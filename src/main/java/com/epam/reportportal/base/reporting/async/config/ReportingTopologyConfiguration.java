@@ -16,33 +16,45 @@
 
 package com.epam.reportportal.base.reporting.async.config;
 
+import com.epam.reportportal.base.reporting.async.HeldReportingMessagesJob;
+import com.epam.reportportal.base.reporting.async.consumer.ReportingBatchConsumer;
 import com.epam.reportportal.base.reporting.async.consumer.ReportingConsumer;
+import com.epam.reportportal.base.reporting.async.consumer.ReportingLaneConsumer;
+import com.epam.reportportal.base.reporting.async.consumer.ReportingReorderBuffer;
 import com.epam.reportportal.base.reporting.async.exception.ReportingErrorHandler;
+import com.epam.reportportal.base.reporting.async.handler.LogBatchMessageHandler;
 import com.epam.reportportal.base.reporting.async.handler.provider.ReportingHandlerProvider;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.CustomExchange;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Exchange;
-import org.springframework.amqp.core.MessageListener;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.QueueInformation;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 
 /**
  * Spring configuration that declares the RabbitMQ exchanges, queues, and bindings for the async reporting topology.
@@ -74,6 +86,30 @@ public class ReportingTopologyConfiguration {
   @Value("${reporting.consumer.prefetchCount:10}")
   private Integer prefetchCount;
 
+  @Value("${reporting.consumer.batch.enabled:false}")
+  private boolean batchEnabled;
+
+  @Value("${reporting.consumer.batch.size:100}")
+  private Integer batchSize;
+
+  @Value("${reporting.consumer.batch.receiveTimeoutMs:200}")
+  private Long batchReceiveTimeout;
+
+  @Value("${reporting.consumer.lanes.enabled:true}")
+  private boolean lanesEnabled;
+
+  @Value("${reporting.consumer.lanes.minBatchSize:1}")
+  private Integer laneMinBatchSize;
+
+  @Value("${reporting.consumer.lanes.maxBatchSize:250}")
+  private Integer laneMaxBatchSize;
+
+  @Value("${reporting.consumer.reorder.size:1000}")
+  private Integer reorderBufferSize;
+
+  @Value("${reporting.consumer.reorder.maxWaitMs:1000}")
+  private Long reorderMaxWait;
+
   @Bean
   String instanceUniqueId() {
     String instanceId = UUID.randomUUID().toString();
@@ -184,22 +220,60 @@ public class ReportingTopologyConfiguration {
       ConnectionFactory connectionFactory,
       ApplicationEventPublisher applicationEventPublisher,
       ReportingHandlerProvider reportingHandlerProvider,
+      LogBatchMessageHandler logBatchMessageHandler,
       ReportingErrorHandler errorHandler,
+      HeldReportingMessagesJob heldReportingMessagesJob,
+      @Qualifier("reportingLaneExecutor") TaskExecutor laneExecutor,
+      MeterRegistry meterRegistry,
       @Qualifier("reportingQueues") List<Queue> queues) {
     List<AbstractMessageListenerContainer> containers = new ArrayList<>();
     queues.forEach(q -> {
       SimpleMessageListenerContainer listenerContainer = new SimpleMessageListenerContainer(
           connectionFactory);
-      containers.add(listenerContainer);
       listenerContainer.setConnectionFactory(connectionFactory);
       listenerContainer.addQueueNames(q.getName());
       listenerContainer.setErrorHandler(errorHandler);
       listenerContainer.setExclusive(true);
       listenerContainer.setPrefetchCount(prefetchCount);
       listenerContainer.setDefaultRequeueRejected(false);
+      // messages are acknowledged by the consumer after processing, held messages stay unacknowledged
+      listenerContainer.setAcknowledgeMode(AcknowledgeMode.MANUAL);
       listenerContainer.setMissingQueuesFatal(true);
       listenerContainer.setApplicationEventPublisher(applicationEventPublisher);
-      listenerContainer.setupMessageListener(reportingListener(reportingHandlerProvider));
+      int containerPrefetch = lanesEnabled ? Math.max(prefetchCount, laneMaxBatchSize)
+          : batchEnabled ? Math.max(prefetchCount, batchSize) : prefetchCount;
+      // every queue has its own buffer, all messages of a launch are routed to the same queue.
+      // Held messages are unacknowledged, one prefetch slot is left for the message they wait for
+      ReportingConsumer reportingConsumer = new ReportingConsumer(reportingHandlerProvider,
+          new ReportingReorderBuffer(Math.min(reorderBufferSize, containerPrefetch - 1),
+              reorderMaxWait), errorHandler);
+      heldReportingMessagesJob.register(listenerContainer, reportingConsumer);
+      ChannelAwareBatchMessageListener batchListener = batchEnabled
+          ? new ReportingBatchConsumer(reportingConsumer, logBatchMessageHandler)
+          : (messages, channel) -> messages.forEach(
+              message -> reportingConsumer.onMessage(message, channel));
+      if (lanesEnabled) {
+        listenerContainer.setConsumerBatchEnabled(true);
+        listenerContainer.setBatchSize(laneMinBatchSize);
+        listenerContainer.setReceiveTimeout(batchReceiveTimeout);
+        // the broker keeps the max batch in flight, so the backlog can be observed by the batch size
+        listenerContainer.setPrefetchCount(containerPrefetch);
+        listenerContainer.setupMessageListener(
+            new ReportingLaneConsumer(batchListener, laneExecutor, listenerContainer::setBatchSize,
+                laneMinBatchSize, laneMaxBatchSize, q.getName(), meterRegistry, Clock.SYSTEM));
+      } else if (batchEnabled) {
+        listenerContainer.setConsumerBatchEnabled(true);
+        listenerContainer.setBatchSize(batchSize);
+        listenerContainer.setReceiveTimeout(batchReceiveTimeout);
+        listenerContainer.setPrefetchCount(containerPrefetch);
+        listenerContainer.setupMessageListener(batchListener);
+      } else {
+        listenerContainer.setupMessageListener(reportingConsumer);
+      }
+      Gauge.builder("rp.reporting.queue.depth", amqpAdmin, admin -> getQueueDepth(admin, q))
+          .description("Reporting messages waiting in the queue")
+          .tag("queue", q.getName())
+          .register(meterRegistry);
       listenerContainer.afterPropertiesSet();
       listenerContainer.start();
       containers.add(listenerContainer);
@@ -207,8 +281,10 @@ public class ReportingTopologyConfiguration {
     return containers;
   }
 
-  @Bean
-  public MessageListener reportingListener(ReportingHandlerProvider reportingHandlerProvider) {
-    return new ReportingConsumer(reportingHandlerProvider);
+  private static double getQueueDepth(AmqpAdmin admin, Queue queue) {
+    return Optional.ofNullable(admin.getQueueInfo(queue.getName()))
+        .map(QueueInformation::getMessageCount)
+        .map(Integer::doubleValue)
+        .orElse(Double.NaN);
   }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.reporting.async.consumer;
+
+import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
+import com.epam.reportportal.base.reporting.async.config.RequestType;
+import com.epam.reportportal.base.reporting.async.handler.LogBatchMessageHandler;
+import com.rabbitmq.client.Channel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+
+/**
+ * RabbitMQ batch listener for the reporting queues. Consecutive log messages of a batch are saved together by the
+ * {@link LogBatchMessageHandler}, all other messages are dispatched one by one in the order of arrival to keep the
+ * launch/item/log ordering guarantees of the consistent-hash queues.
+ *
+ * <p>Every failed message is passed to the
+ * {@link ReportingConsumer#handleFailure(Message, Channel, RuntimeException)} separately, so the rest of the batch is
+ * acknowledged while the failed message is held until its launch or parent item is created or goes through the regular
+ * retry or parking lot flow. A message without a valid request type header is failed the same way.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class ReportingBatchConsumer implements ChannelAwareBatchMessageListener {
+
+  private final ReportingConsumer reportingConsumer;
+  private final LogBatchMessageHandler logBatchMessageHandler;
+
+  public ReportingBatchConsumer(ReportingConsumer reportingConsumer,
+      LogBatchMessageHandler logBatchMessageHandler) {
+    this.reportingConsumer = reportingConsumer;
+    this.logBatchMessageHandler = logBatchMessageHandler;
+  }
+
+  @Override
+  public void onMessageBatch(List<Message> messages, Channel channel) {
+    reportingConsumer.expireHeld();
+    List<Message> logs = new ArrayList<>();
+    for (Message message : messages) {
+      RequestType requestType;
+      try {
+        requestType = getRequestType(message);
+      } catch (RuntimeException e) {
+        flushLogs(logs, channel);
+        reportingConsumer.handleFailure(message, channel, e);
+        continue;
+      }
+      if (RequestType.LOG == requestType) {
+        logs.add(message);
+        continue;
+      }
+      flushLogs(logs, channel);
+      reportingConsumer.onMessage(message, channel);
+    }
+    flushLogs(logs, channel);
+  }
+
+  private void flushLogs(List<Message> logs, Channel channel) {
+    if (logs.isEmpty()) {
+      return;
+    }
+    Set<Message> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+    try {
+      logBatchMessageHandler.handleMessages(List.copyOf(logs), (message, e) -> {
+        failed.add(message);
+        reportingConsumer.handleFailure(message, channel, e);
+      });
+    } catch (RuntimeException e) {
+      logs.stream().filter(failed::add)
+          .forEach(message -> reportingConsumer.handleFailure(message, channel, e));
+    }
+    logs.stream().filter(message -> !failed.contains(message))
+        .forEach(message -> reportingConsumer.ack(message, channel));
+    logs.clear();
+  }
+
+  private RequestType getRequestType(Message message) {
+    return RequestType.valueOf(
+        (String) message.getMessageProperties().getHeaders().get(MessageHeaders.REQUEST_TYPE));
+  }
+}
@@ -16,35 +16,192 @@
 
 package com.epam.reportportal.base.reporting.async.consumer;
 
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
 import com.epam.reportportal.base.reporting.async.config.RequestType;
+import com.epam.reportportal.base.reporting.async.consumer.ReportingReorderBuffer.HeldMessage;
 import com.epam.reportportal.base.reporting.async.handler.ReportingMessageHandler;
 import com.epam.reportportal.base.reporting.async.handler.provider.ReportingHandlerProvider;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.core.MessageListener;
-import org.springframework.stereotype.Component;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.util.ErrorHandler;
 
 /**
  * RabbitMQ message listener that receives reporting messages and dispatches them to the appropriate
  * {@link com.epam.reportportal.base.reporting.async.handler.ReportingMessageHandler}.
  *
+ * <p>A message that failed because its launch or parent item is not created yet is held in the
+ * {@link ReportingReorderBuffer} of the consumer and processed again right after the start of the missing entity is
+ * handled, since all messages of a launch are routed to the same consistent-hash queue. Messages that can't be held or
+ * were not released in time are passed to the {@link ErrorHandler} to go through the regular retry flow.
+ *
+ * <p>The listener container must use the manual acknowledge mode. A message is acknowledged only after it is processed
+ * or passed to the {@link ErrorHandler}, so held messages are redelivered by the broker if the consumer is gone.
+ *
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
-@Component
-public class ReportingConsumer implements MessageListener {
+@Slf4j
+public class ReportingConsumer implements ChannelAwareMessageListener {
 
   private final ReportingHandlerProvider handlerProvider;
+  private final ReportingReorderBuffer reorderBuffer;
+  private final ErrorHandler errorHandler;
 
-  public ReportingConsumer(ReportingHandlerProvider handlerProvider) {
+  public ReportingConsumer(ReportingHandlerProvider handlerProvider,
+      ReportingReorderBuffer reorderBuffer, ErrorHandler errorHandler) {
     this.handlerProvider = handlerProvider;
+    this.reorderBuffer = reorderBuffer;
+    this.errorHandler = errorHandler;
   }
 
   @Override
-  public void onMessage(Message message) {
-    RequestType requestType = getRequestType(message);
-    Optional<ReportingMessageHandler> messageHandler = handlerProvider.provideHandler(requestType);
-    messageHandler.ifPresent(handler -> handler.handleMessage(message));
+  public void onMessage(Message message, Channel channel) {
+    expireHeld();
+    Deque<HeldMessage> messages = new ArrayDeque<>();
+    if (handle(message, channel)) {
+      release(message, messages);
+    }
+    while (!messages.isEmpty()) {
+      HeldMessage next = messages.poll();
+      if (handle(next.getMessage(), next.getChannel())) {
+        release(next.getMessage(), messages);
+      }
+    }
+  }
+
+  /**
+   * Holds the failed message if it waits for a not yet created launch or item, otherwise passes it to the
+   * {@link ErrorHandler}.
+   *
+   * @param message {@link Message}
+   * @param channel {@link Channel} the message is delivered with
+   * @param e       failure of the message processing
+   */
+  public void handleFailure(Message message, Channel channel, RuntimeException e) {
+    boolean held = getMissingUuid(message, e)
+        .map(uuid -> reorderBuffer.hold(uuid, message, channel, e))
+        .orElse(false);
+    if (!held) {
+      reject(message, channel, e);
+    }
+  }
+
+  /**
+   * Acknowledges the processed message.
+   *
+   * @param message {@link Message}
+   * @param channel {@link Channel} the message is delivered with
+   */
+  public void ack(Message message, Channel channel) {
+    try {
+      channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Unable to acknowledge reporting message {}",
+          message.getMessageProperties().getDeliveryTag(), e);
+    }
+  }
+
+  /**
+   * Passes messages that were held longer than the max wait time to the {@link ErrorHandler}. Every message is
+   * rerouted independently, a failure of one of them doesn't affect the others.
+   */
+  public void expireHeld() {
+    reorderBuffer.expire().forEach(this::reject);
+  }
+
+  /**
+   * Removes all held messages from the buffer without acknowledging them. Must be called after the listener container
+   * is stopped, the broker redelivers the messages since their channel is closed.
+   *
+   * @return count of the discarded messages
+   */
+  public int discardHeld() {
+    return reorderBuffer.drain().size();
+  }
+
+  private boolean handle(Message message, Channel channel) {
+    try {
+      Optional<ReportingMessageHandler> messageHandler = handlerProvider.provideHandler(
+          getRequestType(message));
+      messageHandler.ifPresent(handler -> handler.handleMessage(message));
+    } catch (RuntimeException e) {
+      handleFailure(message, channel, e);
+      return false;
+    }
+    ack(message, channel);
+    return true;
+  }
+
+  private void release(Message created, Deque<HeldMessage> messages) {
+    getCreatedUuid(created).map(reorderBuffer::release).ifPresent(messages::addAll);
+  }
+
+  private Optional<String> getCreatedUuid(Message message) {
+    return switch (getRequestType(message)) {
+      case START_LAUNCH -> getHeader(message, MessageHeaders.HASH_ON);
+      case START_TEST -> getHeader(message, MessageHeaders.ITEM_ID);
+      default -> Optional.empty();
+    };
+  }
+
+  private Optional<String> getMissingUuid(Message message, RuntimeException e) {
+    if (!(e instanceof ReportPortalException reportPortalException)) {
+      return Optional.empty();
+    }
+    ErrorType errorType = reportPortalException.getErrorType();
+    if (ErrorType.LAUNCH_NOT_FOUND == errorType) {
+      return getHeader(message, MessageHeaders.HASH_ON);
+    }
+    if (ErrorType.TEST_ITEM_NOT_FOUND == errorType || ErrorType.TEST_SUITE_NOT_FOUND == errorType) {
+      return getRequestType(message) == RequestType.START_TEST ? getHeader(message,
+          MessageHeaders.PARENT_ITEM_ID) : getHeader(message, MessageHeaders.ITEM_ID);
+    }
+    return Optional.empty();
+  }
+
+  private void reject(HeldMessage heldMessage) {
+    reject(heldMessage.getMessage(), heldMessage.getChannel(), heldMessage.getCause());
+  }
+
+  private void reject(Message message, Channel channel, RuntimeException e) {
+    if (!channel.isOpen()) {
+      // the broker has already redelivered the unacknowledged message
+      return;
+    }
+    try {
+      errorHandler.handleError(
+          new ListenerExecutionFailedException("Reporting message processing failed", e, message));
+    } catch (RuntimeException rerouteException) {
+      log.error("Unable to reroute reporting message, returning it to the queue",
+          rerouteException);
+      nack(message, channel);
+      return;
+    }
+    ack(message, channel);
+  }
+
+  private void nack(Message message, Channel channel) {
+    try {
+      channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, true);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Unable to return reporting message {} to the queue",
+          message.getMessageProperties().getDeliveryTag(), e);
+    }
+  }
+
+  private Optional<String> getHeader(Message message, String header) {
+    return Optional.ofNullable(message.getMessageProperties().getHeaders().get(header))
+        .map(String::valueOf)
+        .filter(StringUtils::isNotEmpty);
   }
 
   private RequestType getRequestType(Message message) {
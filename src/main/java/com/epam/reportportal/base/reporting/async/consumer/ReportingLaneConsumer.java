@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.reporting.async.consumer;
+
+import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+
+/**
+ * RabbitMQ batch listener for a reporting queue that splits every batch into lanes by the consistent-hash key, i.e. the
+ * launch UUID. Messages of a lane are passed to the lane listener in the order of arrival, while different lanes are
+ * processed concurrently, so independent launches routed to the same queue don't wait for each other.
+ *
+ * <p>The size of the next batch is adjusted to the observed backlog: it is doubled when a full batch was collected
+ * without waiting for messages and halved when the batch was not filled before the receive timeout.
+ *
+ * <p>Messages are acknowledged by the lane listener with the channel of the batch, so the lanes of a batch share it.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class ReportingLaneConsumer implements ChannelAwareBatchMessageListener {
+
+  private static final long BACKLOG_WAIT_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  private final ChannelAwareBatchMessageListener laneListener;
+  private final Executor laneExecutor;
+  private final IntConsumer batchSizeUpdater;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final Clock clock;
+
+  private final AtomicInteger batchSize;
+  private final AtomicInteger lanes = new AtomicInteger();
+  private final Counter messagesCounter;
+  private final Timer batchTimer;
+
+  private long lastBatchFinished;
+
+  /**
+   * @param laneListener     listener of the messages of a single lane
+   * @param laneExecutor     {@link Executor} for the lanes of a batch
+   * @param batchSizeUpdater callback to apply the adjusted batch size to the listener container
+   * @param minBatchSize     min size of a batch
+   * @param maxBatchSize     max size of a batch
+   * @param queueName        name of the consumed queue used as the metrics tag
+   * @param meterRegistry    {@link MeterRegistry}
+   * @param clock            {@link Clock} to measure the time waited for a batch
+   */
+  public ReportingLaneConsumer(ChannelAwareBatchMessageListener laneListener, Executor laneExecutor,
+      IntConsumer batchSizeUpdater, int minBatchSize, int maxBatchSize, String queueName,
+      MeterRegistry meterRegistry, Clock clock) {
+    this.laneListener = laneListener;
+    this.laneExecutor = laneExecutor;
+    this.batchSizeUpdater = batchSizeUpdater;
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.clock = clock;
+    this.lastBatchFinished = clock.monotonicTime();
+    this.batchSize = new AtomicInteger(minBatchSize);
+    this.messagesCounter = Counter.builder("rp.reporting.queue.messages")
+        .description("Reporting messages consumed from the queue")
+        .tag("queue", queueName)
+        .register(meterRegistry);
+    this.batchTimer = Timer.builder("rp.reporting.queue.batch")
+        .description("Processing time of a batch of reporting messages")
+        .tag("queue", queueName)
+        .register(meterRegistry);
+    Gauge.builder("rp.reporting.queue.batch.size", batchSize, AtomicInteger::get)
+        .description("Max size of the next batch of reporting messages")
+        .tag("queue", queueName)
+        .register(meterRegistry);
+    Gauge.builder("rp.reporting.queue.lanes", lanes, AtomicInteger::get)
+        .description("Launches processed concurrently in the last batch")
+        .tag("queue", queueName)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void onMessageBatch(List<Message> messages, Channel channel) {
+    long started = clock.monotonicTime();
+    try {
+      Collection<List<Message>> batchLanes = messages.stream()
+          .collect(Collectors.groupingBy(this::getLaneKey, LinkedHashMap::new, Collectors.toList()))
+          .values();
+      lanes.set(batchLanes.size());
+      if (batchLanes.size() == 1) {
+        laneListener.onMessageBatch(messages, channel);
+      } else {
+        processConcurrently(batchLanes, channel);
+      }
+    } finally {
+      long finished = clock.monotonicTime();
+      batchTimer.record(finished - started, TimeUnit.NANOSECONDS);
+      messagesCounter.increment(messages.size());
+      adjustBatchSize(messages.size(), started - lastBatchFinished);
+      lastBatchFinished = finished;
+    }
+  }
+
+  public int getBatchSize() {
+    return batchSize.get();
+  }
+
+  private void processConcurrently(Collection<List<Message>> batchLanes, Channel channel) {
+    CompletableFuture<?>[] futures = batchLanes.stream()
+        .map(lane -> submitLane(lane, channel))
+        .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<Void> submitLane(List<Message> lane, Channel channel) {
+    try {
+      return CompletableFuture.runAsync(() -> laneListener.onMessageBatch(lane, channel),
+          laneExecutor);
+    } catch (RejectedExecutionException e) {
+      // the consumer thread processes the lane itself when the lane executor is saturated
+      return CompletableFuture.runAsync(() -> laneListener.onMessageBatch(lane, channel),
+          Runnable::run);
+    }
+  }
+
+  private void adjustBatchSize(int received, long waitedNanos) {
+    int current = batchSize.get();
+    int next = current;
+    if (received >= current && waitedNanos < BACKLOG_WAIT_THRESHOLD_NANOS) {
+      next = Math.min(maxBatchSize, current * 2);
+    } else if (received < current) {
+      next = Math.max(minBatchSize, current / 2);
+    }
+    if (next != current) {
+      batchSize.set(next);
+      batchSizeUpdater.accept(next);
+    }
+  }
+
+  private String getLaneKey(Message message) {
+    Map<String, Object> headers = message.getMessageProperties().getHeaders();
+    return Objects.toString(headers.get(MessageHeaders.HASH_ON), "");
+  }
+}
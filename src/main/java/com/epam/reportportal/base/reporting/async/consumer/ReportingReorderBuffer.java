@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.base.reporting.async.consumer;
+
+import com.rabbitmq.client.Channel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.amqp.core.Message;
+
+/**
+ * Bounded in-memory buffer for reporting messages that arrived before the launch or item they depend on. Messages
+ * are held by the UUID of the missing entity and released in the order of arrival as soon as the entity is created.
+ * Messages that were not released within the max wait time are returned by {@link #expire()}, so they can go through
+ * the regular retry flow.
+ *
+ * <p>Held messages stay unacknowledged on the channel they were delivered with, so the buffer is limited by the
+ * prefetch count of the consumer and the broker redelivers them if the consumer is gone.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+public class ReportingReorderBuffer {
+
+  private final int maxSize;
+  private final long maxWaitNanos;
+
+  private final Map<String, List<HeldMessage>> heldByKey = new HashMap<>();
+  private final Set<HeldMessage> heldInArrivalOrder = new LinkedHashSet<>();
+
+  /**
+   * @param maxSize   max count of held messages, {@code 0} disables the buffer
+   * @param maxWaitMs max time in milliseconds a message is held for
+   */
+  public ReportingReorderBuffer(int maxSize, long maxWaitMs) {
+    this.maxSize = maxSize;
+    this.maxWaitNanos = maxWaitMs * 1_000_000L;
+  }
+
+  /**
+   * Holds the message until the entity with the provided UUID is created.
+   *
+   * @param key     UUID of the missing launch or item
+   * @param message {@link Message} to hold
+   * @param channel {@link Channel} the message is delivered with
+   * @param cause   failure of the message processing
+   * @return {@code false} if the buffer is full and the message was not held
+   */
+  public synchronized boolean hold(String key, Message message, Channel channel,
+      RuntimeException cause) {
+    if (heldInArrivalOrder.size() >= maxSize) {
+      return false;
+    }
+    HeldMessage heldMessage = new HeldMessage(key, message, channel, cause,
+        System.nanoTime() + maxWaitNanos);
+    heldByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(heldMessage);
+    heldInArrivalOrder.add(heldMessage);
+    return true;
+  }
+
+  /**
+   * @param key UUID of the created launch or item
+   * @return messages that were waiting for the entity in the order of arrival
+   */
+  public synchronized List<HeldMessage> release(String key) {
+    List<HeldMessage> released = heldByKey.remove(key);
+    if (released == null) {
+      return Collections.emptyList();
+    }
+    released.forEach(heldInArrivalOrder::remove);
+    return released;
+  }
+
+  /**
+   * @return messages that were held longer than the max wait time
+   */
+  public synchronized List<HeldMessage> expire() {
+    long now = System.nanoTime();
+    List<HeldMessage> expired = new ArrayList<>();
+    Iterator<HeldMessage> iterator = heldInArrivalOrder.iterator();
+    while (iterator.hasNext()) {
+      HeldMessage heldMessage = iterator.next();
+      if (heldMessage.deadline - now > 0) {
+        break;
+      }
+      iterator.remove();
+      removeFromKey(heldMessage);
+      expired.add(heldMessage);
+    }
+    return expired;
+  }
+
+  /**
+   * @return all held messages, the buffer is empty afterward
+   */
+  public synchronized List<HeldMessage> drain() {
+    List<HeldMessage> drained = new ArrayList<>(heldInArrivalOrder);
+    heldInArrivalOrder.clear();
+    heldByKey.clear();
+    return drained;
+  }
+
+  public synchronized int size() {
+    return heldInArrivalOrder.size();
+  }
+
+  private void removeFromKey(HeldMessage heldMessage) {
+    List<HeldMessage> sameKey = heldByKey.get(heldMessage.key);
+    sameKey.remove(heldMessage);
+    if (sameKey.isEmpty()) {
+      heldByKey.remove(heldMessage.key);
+    }
+  }
+
+  /**
+   * Message held by the {@link ReportingReorderBuffer} with the failure of its last processing attempt.
+   */
+  public static final class HeldMessage {
+
+    private final String key;
+    private final Message message;
+    private final Channel channel;
+    private final RuntimeException cause;
+    private final long deadline;
+
+    private HeldMessage(String key, Message message, Channel channel, RuntimeException cause,
+        long deadline) {
+      this.key = key;
+      this.message = message;
+      this.channel = channel;
+      this.cause = cause;
+      this.deadline = deadline;
+    }
+
+    public Message getMessage() {
+      return message;
+    }
+
+    public Channel getChannel() {
+      return channel;
+    }
+
+    public RuntimeException getCause() {
+      return cause;
+    }
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.reporting.async.handler;
+
+import static com.epam.reportportal.base.ws.converter.converters.LogConverter.LOG_FULL_TO_LOG;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import com.epam.reportportal.base.core.configs.rabbit.DeserializablePair;
+import com.epam.reportportal.base.core.item.TestItemService;
+import com.epam.reportportal.base.core.log.LogService;
+import com.epam.reportportal.base.infrastructure.persistence.binary.AttachmentBinaryDataService;
+import com.epam.reportportal.base.infrastructure.persistence.commons.BinaryDataMetaInfo;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.attachment.AttachmentMetaInfo;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.base.infrastructure.persistence.entity.log.Log;
+import com.epam.reportportal.base.infrastructure.persistence.entity.log.LogFull;
+import com.epam.reportportal.base.infrastructure.persistence.service.LogTypeResolver;
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.epam.reportportal.base.reporting.SaveLogRQ;
+import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
+import com.epam.reportportal.base.ws.converter.builders.LogFullBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Service;
+
+/**
+ * Handles a batch of RabbitMQ log messages: resolves all referenced items and launches with a single query each and
+ * inserts all logs with one multi-row statement. Messages that cannot be processed are reported back one by one, so
+ * they can go through the regular retry flow without affecting the rest of the batch. Once the logs are inserted,
+ * failures of indexing and attaching files are only logged, so persisted logs are never retried.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Service
+@RequiredArgsConstructor
+public class LogBatchMessageHandler {
+
+  private static final Logger LOGGER = LogManager.getLogger(LogBatchMessageHandler.class);
+
+  private final LaunchRepository launchRepository;
+  private final TestItemRepository testItemRepository;
+  private final LogRepository logRepository;
+  private final TestItemService testItemService;
+  private final AttachmentBinaryDataService attachmentBinaryDataService;
+  private final LogService logService;
+  private final ObjectMapper objectMapper;
+  private final LogTypeResolver logTypeResolver;
+  private final LogMessageHandler logMessageHandler;
+
+  /**
+   * Saves logs from the provided messages.
+   *
+   * @param messages  {@link List} of log {@link Message}
+   * @param onFailure callback invoked for every message that failed to be processed
+   */
+  public void handleMessages(List<Message> messages,
+      BiConsumer<Message, RuntimeException> onFailure) {
+    List<LogEntry> entries = new ArrayList<>(messages.size());
+    messages.forEach(message -> retrieveEntry(message).ifPresent(entries::add));
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    Map<String, TestItem> items = testItemRepository.findAllByUuidIn(
+            entries.stream().map(e -> e.getRequest().getItemUuid()).filter(StringUtils::isNotEmpty)
+                .collect(toSet()))
+        .stream()
+        .collect(toMap(TestItem::getUuid, Function.identity()));
+    Map<String, Launch> launches = launchRepository.findAllByUuidIn(entries.stream()
+            .filter(e -> StringUtils.isEmpty(e.getRequest().getItemUuid()))
+            .map(e -> e.getRequest().getLaunchUuid())
+            .filter(Objects::nonNull)
+            .collect(toSet()))
+        .stream()
+        .collect(toMap(Launch::getUuid, Function.identity()));
+    Map<Long, Launch> effectiveLaunches = new HashMap<>();
+
+    List<LogEntry> resolved = new ArrayList<>(entries.size());
+    entries.forEach(entry -> {
+      try {
+        resolve(entry, items, launches, effectiveLaunches);
+        resolved.add(entry);
+      } catch (RuntimeException e) {
+        onFailure.accept(entry.getMessage(), e);
+      }
+    });
+
+    try {
+      logRepository.saveMultiple(resolved.stream().map(LogEntry::getLog).toList());
+    } catch (RuntimeException e) {
+      LOGGER.warn("Batch insert of {} logs failed, falling back to one by one saving",
+          resolved.size(), e);
+      resolved.forEach(entry -> {
+        try {
+          logMessageHandler.handleMessage(entry.getMessage());
+        } catch (RuntimeException ex) {
+          onFailure.accept(entry.getMessage(), ex);
+        }
+      });
+      return;
+    }
+    resolved.forEach(entry -> entry.getLogFull().setId(entry.getLog().getId()));
+
+    // logs are committed by the insert above, a retry of their messages would duplicate them
+    resolved.stream().collect(groupingBy(entry -> entry.getEffectiveLaunch().getId()))
+        .forEach((launchId, launchEntries) -> {
+          try {
+            logService.saveLogMessageList(
+                launchEntries.stream().map(LogEntry::getLogFull).toList(), launchId);
+          } catch (RuntimeException e) {
+            LOGGER.error("Cannot index {} logs of the launch with id '{}'", launchEntries.size(),
+                launchId, e);
+          }
+        });
+
+    resolved.forEach(entry -> {
+      try {
+        saveAttachment(entry);
+      } catch (RuntimeException e) {
+        LOGGER.error("Cannot attach file to the log with uuid '{}'",
+            entry.getLogFull().getUuid(), e);
+      }
+    });
+  }
+
+  private Optional<LogEntry> retrieveEntry(Message message) {
+    String incomeMessage = new String(message.getBody(), StandardCharsets.UTF_8);
+    JavaType javaType = objectMapper.getTypeFactory()
+        .constructParametricType(DeserializablePair.class, SaveLogRQ.class,
+            BinaryDataMetaInfo.class);
+    try {
+      DeserializablePair<SaveLogRQ, BinaryDataMetaInfo> pair = objectMapper.readValue(
+          incomeMessage, javaType);
+      Long projectId = (Long) message.getMessageProperties().getHeaders()
+          .get(MessageHeaders.PROJECT_ID);
+      return Optional.of(
+          new LogEntry(message, pair.getLeft(), pair.getRight(), projectId));
+    } catch (JsonProcessingException e) {
+      LOGGER.error("Incorrect json format of incoming message. Discarded message: {}",
+          incomeMessage);
+    }
+    return Optional.empty();
+  }
+
+  private void resolve(LogEntry entry, Map<String, TestItem> items,
+      Map<String, Launch> launches, Map<Long, Launch> effectiveLaunches) {
+    SaveLogRQ request = entry.getRequest();
+    LogFullBuilder builder = new LogFullBuilder()
+        .addSaveLogRq(request)
+        .addProjectId(entry.getProjectId())
+        .addLevel(logTypeResolver.resolveLogLevelFromName(entry.getProjectId(), request.getLevel()));
+
+    if (StringUtils.isNotEmpty(request.getItemUuid())) {
+      TestItem item = items.get(request.getItemUuid());
+      if (item == null) {
+        throw new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, request.getItemUuid());
+      }
+      entry.setItem(item);
+      entry.setEffectiveLaunch(effectiveLaunches.computeIfAbsent(item.getItemId(),
+          id -> testItemService.getEffectiveLaunch(item)));
+      builder.addTestItem(item);
+    } else {
+      Launch launch = launches.get(request.getLaunchUuid());
+      if (launch == null) {
+        throw new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, request.getLaunchUuid());
+      }
+      entry.setEffectiveLaunch(launch);
+      builder.addLaunch(launch);
+    }
+    entry.setLogFull(builder.get());
+    entry.setLog(LOG_FULL_TO_LOG.apply(entry.getLogFull()));
+  }
+
+  private void saveAttachment(LogEntry entry) {
+    if (entry.getRequest().getFile() == null || Objects.isNull(entry.getMetaInfo())) {
+      return;
+    }
+    attachmentBinaryDataService.attachToLog(entry.getMetaInfo(),
+        AttachmentMetaInfo.builder()
+            .withProjectId(entry.getProjectId())
+            .withLaunchId(entry.getEffectiveLaunch().getId())
+            .withItemId(entry.getItem() == null ? null : entry.getItem().getItemId())
+            .withLogId(entry.getLog().getId())
+            .withLaunchUuid(entry.getEffectiveLaunch().getUuid())
+            .withLogUuid(entry.getLogFull().getUuid())
+            .withFileName(entry.getRequest().getFile().getName())
+            .withCreationDate(Instant.now())
+            .build()
+    );
+  }
+
+  @Getter
+  @Setter
+  @RequiredArgsConstructor
+  private static final class LogEntry {
+
+    private final Message message;
+    private final SaveLogRQ request;
+    private final BinaryDataMetaInfo metaInfo;
+    private final Long projectId;
+    private TestItem item;
+    private Launch effectiveLaunch;
+    private LogFull logFull;
+    private Log log;
+  }
+}
@@ -75,6 +75,7 @@ public class ItemStartProducer implements StartTestItemHandler {
             headers.put(MessageHeaders.USERNAME, user.getUsername());
             headers.put(MessageHeaders.PROJECT_KEY, membershipDetails.getProjectKey());
             headers.put(MessageHeaders.PARENT_ITEM_ID, "");
+            headers.put(MessageHeaders.ITEM_ID, request.getUuid());
             return message;
           }
       );
@@ -107,6 +108,7 @@ public class ItemStartProducer implements StartTestItemHandler {
             headers.put(MessageHeaders.USERNAME, user.getUsername());
             headers.put(MessageHeaders.PROJECT_KEY, membershipDetails.getProjectKey());
             headers.put(MessageHeaders.PARENT_ITEM_ID, parentId);
+            headers.put(MessageHeaders.ITEM_ID, request.getUuid());
             return message;
           }
       );
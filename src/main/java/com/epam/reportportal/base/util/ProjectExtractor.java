@@ -19,6 +19,7 @@ package com.epam.reportportal.base.util;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.EntityUtils.normalizeId;
 import static com.epam.reportportal.base.infrastructure.persistence.entity.user.UserRole.ADMINISTRATOR;
 
+import com.epam.reportportal.base.core.membership.MembershipCache;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.GroupMembershipRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ProjectUserRepository;
@@ -42,20 +43,24 @@ public class ProjectExtractor {
 
   private final ProjectUserRepository projectUserRepository;
   private final GroupMembershipRepository groupMembershipRepository;
+  private final MembershipCache membershipCache;
 
   /**
    * Constructor for ProjectExtractor.
    *
    * @param projectUserRepository     ProjectUserRepository
    * @param groupMembershipRepository GroupMembershipRepository
+   * @param membershipCache           MembershipCache
    */
   @Autowired
   public ProjectExtractor(
       ProjectUserRepository projectUserRepository,
-      GroupMembershipRepository groupMembershipRepository
+      GroupMembershipRepository groupMembershipRepository,
+      MembershipCache membershipCache
   ) {
     this.projectUserRepository = projectUserRepository;
     this.groupMembershipRepository = groupMembershipRepository;
+    this.membershipCache = membershipCache;
   }
 
   /**
@@ -79,7 +84,7 @@ public class ProjectExtractor {
   }
 
   /**
-   * Find project details for specified user by specified project name.
+   * Find project details for specified user by specified project name. Details are cached by {@link MembershipCache}.
    *
    * @param user       User
    * @param projectKey Project unique key
@@ -87,6 +92,12 @@ public class ProjectExtractor {
    */
   public Optional<MembershipDetails> findMembershipDetails(ReportPortalUser user,
       String projectKey) {
+    return membershipCache.get(user.getUserId(), projectKey,
+        () -> loadMembershipDetails(user, projectKey));
+  }
+
+  private Optional<MembershipDetails> loadMembershipDetails(ReportPortalUser user,
+      String projectKey) {
     return projectUserRepository.findDetailsByUserIdAndProjectKey(user.getUserId(), projectKey)
         .map(details -> {
           var projectRoles = groupMembershipRepository.findUserProjectRoles(
@@ -32,10 +32,13 @@ import com.epam.reportportal.api.model.GroupUsersPage;
 import com.epam.reportportal.api.model.SuccessfulUpdate;
 import com.epam.reportportal.api.model.UpdateGroupRequest;
 import com.epam.reportportal.base.core.group.GroupExtensionPoint;
+import com.epam.reportportal.base.core.membership.MembershipInvalidation;
 import com.epam.reportportal.base.core.plugin.Pf4jPluginBox;
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -52,14 +55,18 @@ public class GroupController implements GroupsApi {
 
   private final Pf4jPluginBox pluginBox;
 
+  private final ApplicationEventPublisher eventPublisher;
+
   /**
    * Constructor for the {@link GroupController} class.
    *
-   * @param pluginBox The {@link Pf4jPluginBox} instance used to access plugin extensions.
+   * @param pluginBox      The {@link Pf4jPluginBox} instance used to access plugin extensions.
+   * @param eventPublisher The {@link ApplicationEventPublisher} to notify about membership changes.
    */
   @Autowired
-  public GroupController(Pf4jPluginBox pluginBox) {
+  public GroupController(Pf4jPluginBox pluginBox, ApplicationEventPublisher eventPublisher) {
     this.pluginBox = pluginBox;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
@@ -105,6 +112,7 @@ public class GroupController implements GroupsApi {
       UpdateGroupRequest updateGroupRequest
   ) {
     getGroupExtension().updateGroup(groupId, updateGroupRequest);
+    eventPublisher.publishEvent(MembershipInvalidation.ofAll());
     return ResponseEntity.ok(new SuccessfulUpdate("Group updated successfully"));
   }
 
@@ -113,6 +121,7 @@ public class GroupController implements GroupsApi {
   @Transactional
   public ResponseEntity<Void> deleteGroup(Long groupId) {
     getGroupExtension().deleteGroup(groupId);
+    eventPublisher.publishEvent(MembershipInvalidation.ofAll());
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
 
@@ -143,6 +152,7 @@ public class GroupController implements GroupsApi {
   @Transactional
   public ResponseEntity<SuccessfulUpdate> addUserToGroupById(Long groupId, Long userId) {
     getGroupExtension().addUserToGroupById(groupId, userId);
+    eventPublisher.publishEvent(MembershipInvalidation.ofUsers(List.of(userId)));
     return ResponseEntity.ok(new SuccessfulUpdate("Group updated successfully"));
   }
 
@@ -151,6 +161,7 @@ public class GroupController implements GroupsApi {
   @Transactional
   public ResponseEntity<Void> deleteUserFromGroupById(Long groupId, Long userId) {
     getGroupExtension().deleteUserFromGroupById(groupId, userId);
+    eventPublisher.publishEvent(MembershipInvalidation.ofUsers(List.of(userId)));
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
 
@@ -185,6 +196,7 @@ public class GroupController implements GroupsApi {
       AddProjectToGroupByIdRequest addProjectToGroupByIdRequest
   ) {
     getGroupExtension().addProjectToGroupById(groupId, projectId, addProjectToGroupByIdRequest);
+    eventPublisher.publishEvent(MembershipInvalidation.ofAll());
     return ResponseEntity.ok(new SuccessfulUpdate("Group updated successfully"));
   }
 
@@ -193,6 +205,7 @@ public class GroupController implements GroupsApi {
   @Transactional
   public ResponseEntity<Void> deleteProjectFromGroupById(Long groupId, Long projectId) {
     getGroupExtension().deleteProjectFromGroupById(groupId, projectId);
+    eventPublisher.publishEvent(MembershipInvalidation.ofAll());
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
 
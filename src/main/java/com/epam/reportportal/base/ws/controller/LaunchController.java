@@ -40,10 +40,11 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.widget.conte
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.epam.reportportal.base.model.BulkRQ;
-import com.epam.reportportal.base.model.DeleteBulkRS;
 import com.epam.reportportal.base.model.Page;
 import com.epam.reportportal.base.model.launch.AnalyzeLaunchRQ;
+import com.epam.reportportal.base.model.launch.DeleteLaunchesRS;
 import com.epam.reportportal.base.model.launch.FinishLaunchRS;
+import com.epam.reportportal.base.model.launch.LaunchDeletionRS;
 import com.epam.reportportal.base.model.launch.UpdateLaunchRQ;
 import com.epam.reportportal.base.model.launch.cluster.CreateClustersRQ;
 import com.epam.reportportal.base.reporting.BulkInfoUpdateRQ;
@@ -511,11 +512,23 @@ public class LaunchController {
   @DeleteMapping
   @PreAuthorize(ALLOWED_TO_EDIT_PROJECT)
   @ResponseStatus(OK)
-  @Operation(summary = "Delete specified launches by ids")
-  public DeleteBulkRS deleteLaunches(@PathVariable String projectKey,
+  @Operation(summary = "Delete specified launches by ids in background")
+  public DeleteLaunchesRS deleteLaunches(@PathVariable String projectKey,
       @RequestParam(value = "ids") List<Long> ids, @AuthenticationPrincipal ReportPortalUser user) {
     return deleteLaunchMessageHandler.deleteLaunches(ids,
         projectExtractor.extractMembershipDetails(user, normalizeId(projectKey)), user
     );
   }
+
+  @Transactional(readOnly = true)
+  @GetMapping("/deletion/{jobId}")
+  @PreAuthorize(ALLOWED_TO_VIEW_PROJECT)
+  @ResponseStatus(OK)
+  @Operation(summary = "Get state of the launches deletion job")
+  public LaunchDeletionRS getDeletionStatus(@PathVariable String projectKey,
+      @PathVariable String jobId, @AuthenticationPrincipal ReportPortalUser user) {
+    return deleteLaunchMessageHandler.getDeletionStatus(jobId,
+        projectExtractor.extractMembershipDetails(user, normalizeId(projectKey)), user
+    );
+  }
 }
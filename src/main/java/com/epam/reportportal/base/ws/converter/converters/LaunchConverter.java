@@ -20,7 +20,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toSet;
 
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.infrastructure.persistence.dao.UserRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.ItemAttribute;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
@@ -33,6 +33,7 @@ import com.epam.reportportal.base.ws.converter.resource.handler.attribute.ItemAt
 import com.epam.reportportal.base.ws.converter.resource.handler.attribute.ResourceAttributeHandler;
 import com.epam.reportportal.base.ws.converter.resource.handler.attribute.resolver.ItemAttributeTypeResolver;
 import com.google.common.base.Preconditions;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
@@ -79,7 +80,7 @@ public class LaunchConverter {
     return old;
   };
   @Autowired
-  private AnalyzerStatusCache analyzerStatusCache;
+  private AnalysisStatusRegistry analysisStatusRegistry;
   @Autowired
   private UserRepository userRepository;
   @Autowired
@@ -87,7 +88,22 @@ public class LaunchConverter {
   @Autowired
   private Map<ItemAttributeType, ResourceAttributeHandler<LaunchResource>>
       resourceAttributeUpdaterMapping;
-  public Function<Launch, LaunchResource> TO_RESOURCE = db -> {
+  public Function<Launch, LaunchResource> TO_RESOURCE =
+      db -> toResource(db, analysisStatusRegistry.getStartedAnalyzers(db.getId()));
+
+  /**
+   * Creates a converter for a page of launches, started analyzers of all the launches are loaded at once.
+   *
+   * @param launches Launches to be converted
+   * @return Launch converter
+   */
+  public Function<Launch, LaunchResource> toResources(Collection<Launch> launches) {
+    Map<Long, Set<String>> startedAnalyzers = analysisStatusRegistry.getStartedAnalyzers(
+        launches.stream().map(Launch::getId).collect(toSet()));
+    return db -> toResource(db, startedAnalyzers.getOrDefault(db.getId(), Collections.emptySet()));
+  }
+
+  private LaunchResource toResource(Launch db, Set<String> startedAnalyzers) {
 
     Preconditions.checkNotNull(db);
 
@@ -107,7 +123,7 @@ public class LaunchConverter {
     resource.setMode(db.getMode() == null ? null : Mode.valueOf(db.getMode().name()));
     resource.setRetentionPolicy(db.getRetentionPolicy() == null ? null :
         RetentionPolicy.valueOf(db.getRetentionPolicy().name()));
-    resource.setAnalyzers(analyzerStatusCache.getStartedAnalyzers(db.getId()));
+    resource.setAnalyzers(startedAnalyzers);
     resource.setStatisticsResource(StatisticsConverter.TO_RESOURCE.apply(db.getStatistics()));
     resource.setApproximateDuration(db.getApproximateDuration());
     resource.setHasRetries(db.isHasRetries());
@@ -116,7 +132,7 @@ public class LaunchConverter {
         .ifPresentOrElse(resource::setOwner, () -> resource.setOwner(DELETED_USER));
     resource.setRerun(db.isRerun());
     return resource;
-  };
+  }
 
   private void updateAttributes(LaunchResource resource, Set<ItemAttribute> attributes) {
     final Map<ItemAttributeType, Set<ItemAttribute>> attributeMapping =
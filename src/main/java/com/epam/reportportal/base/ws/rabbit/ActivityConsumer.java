@@ -21,18 +21,29 @@ import com.epam.reportportal.base.core.events.domain.AbstractEvent;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ActivityRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.activity.Activity;
 import com.epam.reportportal.base.infrastructure.persistence.entity.activity.ActivityDetails;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.Exchange;
 import org.springframework.amqp.rabbit.annotation.Queue;
 import org.springframework.amqp.rabbit.annotation.QueueBinding;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -43,7 +54,6 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Component
 @Transactional
-@RequiredArgsConstructor
 public class ActivityConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ActivityConsumer.class);
@@ -53,9 +63,18 @@ public class ActivityConsumer {
 
   private final ActivityRepository activityRepository;
   private final EventConverterRegistry converterRegistry;
+  private final MessageConverter messageConverter;
+
+  public ActivityConsumer(ActivityRepository activityRepository,
+      EventConverterRegistry converterRegistry,
+      @Qualifier("jsonMessageConverterWithFallback") MessageConverter messageConverter) {
+    this.activityRepository = activityRepository;
+    this.converterRegistry = converterRegistry;
+    this.messageConverter = messageConverter;
+  }
 
   /**
-   * Handles incoming domain events from RabbitMQ.
+   * Handles incoming domain events from RabbitMQ one by one. Started only when batch consuming is disabled.
    *
    * @param event The domain event to process
    */
@@ -64,27 +83,109 @@ public class ActivityConsumer {
           value = @Queue(value = QUEUE_ACTIVITY, durable = "true", autoDelete = "false"),
           exchange = @Exchange(value = "domain.events", type = ExchangeTypes.TOPIC),
           key = ROUTING_KEY_DOMAIN_ALL
-      ), containerFactory = "rabbitListenerContainerFactory"
+      ), containerFactory = "rabbitListenerContainerFactory",
+      autoStartup = "#{!${rp.amqp.activity.batch.enabled}}"
   )
   public void onEvent(@Payload AbstractEvent<?> event) {
     Optional.ofNullable(event)
-        .ifPresent(this::processEvent);
+        .flatMap(this::convert)
+        .ifPresent(activity -> activityRepository.save(prepare(activity)));
+  }
+
+  /**
+   * Handles batches of incoming domain events from RabbitMQ. Activities of the whole batch are persisted by a single
+   * multi-row insert. If it fails, activities are persisted one by one, so a single broken activity doesn't lead to the
+   * loss of the whole batch. Messages are converted to events one by one as well, a message that can't be converted is
+   * rejected alone while the rest of the batch is acknowledged. Started only when batch consuming is enabled.
+   *
+   * @param messages The domain event messages to process
+   * @param channel  {@link Channel} the messages are delivered with
+   */
+  @RabbitListener(queues = QUEUE_ACTIVITY, containerFactory = "batchRabbitListenerContainerFactory",
+      autoStartup = "${rp.amqp.activity.batch.enabled}", ackMode = "MANUAL")
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void onEvents(List<Message> messages, Channel channel) {
+    Set<Message> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<Activity> activities = new ArrayList<>();
+    for (Message message : messages) {
+      try {
+        toEvent(message).flatMap(this::convertSafely).map(this::prepare)
+            .ifPresent(activities::add);
+      } catch (RuntimeException e) {
+        LOGGER.error("Unable to read domain event message {}: {}",
+            message.getMessageProperties().getDeliveryTag(), e.getMessage());
+        failed.add(message);
+      }
+    }
+    if (!activities.isEmpty()) {
+      try {
+        activityRepository.saveMultiple(activities);
+      } catch (Exception e) {
+        LOGGER.warn("Unable to save batch of {} activities, saving them one by one: {}",
+            activities.size(), e.getMessage());
+        activities.forEach(this::saveSafely);
+      }
+    }
+    messages.forEach(message -> acknowledge(message, channel, !failed.contains(message)));
+  }
+
+  private Optional<AbstractEvent<?>> toEvent(Message message) {
+    Object payload = messageConverter.fromMessage(message);
+    if (payload != null && !(payload instanceof AbstractEvent<?>)) {
+      throw new MessageConversionException(
+          "Unexpected payload type: " + payload.getClass().getName());
+    }
+    return Optional.ofNullable((AbstractEvent<?>) payload);
+  }
+
+  private void acknowledge(Message message, Channel channel, boolean processed) {
+    long deliveryTag = message.getMessageProperties().getDeliveryTag();
+    try {
+      if (processed) {
+        channel.basicAck(deliveryTag, false);
+      } else {
+        channel.basicReject(deliveryTag, false);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Unable to acknowledge domain event message {}: {}", deliveryTag,
+          e.getMessage());
+    }
   }
 
-  private void processEvent(AbstractEvent<?> event) {
-    converterRegistry.convert(event)
-        .filter(Activity::isSavedEvent)
-        .ifPresentOrElse(this::processActivity, () -> LOGGER.debug(
-            "No converter found for event type: {}. Event will not be persisted as activity.",
-            event.getClass().getSimpleName()));
+  private Optional<Activity> convert(AbstractEvent<?> event) {
+    Optional<Activity> activity = converterRegistry.convert(event).filter(Activity::isSavedEvent);
+    if (activity.isEmpty()) {
+      LOGGER.debug(
+          "No converter found for event type: {}. Event will not be persisted as activity.",
+          event.getClass().getSimpleName());
+    }
+    return activity;
   }
 
-  private void processActivity(Activity activity) {
+  private Optional<Activity> convertSafely(AbstractEvent<?> event) {
+    try {
+      return convert(event);
+    } catch (Exception e) {
+      LOGGER.error("Unable to convert event of type {} to activity: {}",
+          event.getClass().getSimpleName(), e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private Activity prepare(Activity activity) {
     LOGGER.info("[audit] - {}", activity);
     if (Objects.isNull(activity.getDetails())) {
       activity.setDetails(new ActivityDetails());
     }
-    activityRepository.save(activity);
+    return activity;
+  }
+
+  private void saveSafely(Activity activity) {
+    try {
+      activityRepository.save(activity);
+    } catch (Exception e) {
+      LOGGER.error("Unable to save activity {}: {}", activity, e.getMessage());
+    }
   }
 
 }
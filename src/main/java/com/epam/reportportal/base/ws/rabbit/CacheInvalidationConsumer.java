@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.base.ws.rabbit;
+
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextInvalidation;
+import com.epam.reportportal.base.core.membership.MembershipCache;
+import com.epam.reportportal.base.core.membership.MembershipInvalidation;
+import com.epam.reportportal.base.core.project.config.ProjectConfigCache;
+import com.epam.reportportal.base.core.project.config.ProjectConfigInvalidation;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies cache invalidations broadcast by API instances to the local caches. All invalidations share the broadcast
+ * queue of the instance and are dispatched by their payload type.
+ *
+ * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
+ */
+@Component
+@RabbitListener(queues = "#{@eventsQueue.name}")
+public class CacheInvalidationConsumer {
+
+  private final MembershipCache membershipCache;
+
+  private final ProjectConfigCache projectConfigCache;
+
+  private final LaunchReportingContextCache launchReportingContextCache;
+
+  public CacheInvalidationConsumer(MembershipCache membershipCache,
+      ProjectConfigCache projectConfigCache,
+      LaunchReportingContextCache launchReportingContextCache) {
+    this.membershipCache = membershipCache;
+    this.projectConfigCache = projectConfigCache;
+    this.launchReportingContextCache = launchReportingContextCache;
+  }
+
+  @RabbitHandler
+  public void onInvalidation(@Payload MembershipInvalidation invalidation) {
+    membershipCache.invalidate(invalidation);
+  }
+
+  @RabbitHandler
+  public void onInvalidation(@Payload ProjectConfigInvalidation invalidation) {
+    projectConfigCache.invalidate(invalidation);
+  }
+
+  @RabbitHandler
+  public void onInvalidation(@Payload LaunchReportingContextInvalidation invalidation) {
+    launchReportingContextCache.invalidate(invalidation);
+  }
+}
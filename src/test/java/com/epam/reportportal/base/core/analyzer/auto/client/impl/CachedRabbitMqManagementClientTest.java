@@ -0,0 +1,78 @@
+package com.epam.reportportal.base.core.analyzer.auto.client.impl;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachedRabbitMqManagementClientTest {
+
+  @Mock
+  private RabbitMqManagementClient delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private CachedRabbitMqManagementClient client;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    client = new CachedRabbitMqManagementClient(delegate, Duration.ofMinutes(1),
+        Duration.ofMinutes(5), meterRegistry);
+  }
+
+  @Test
+  void exchangesAreLoadedOnce() {
+    ExchangeInfo exchangeInfo = new ExchangeInfo();
+    exchangeInfo.setName("analyzer");
+    List<ExchangeInfo> exchanges = List.of(exchangeInfo);
+    when(delegate.getAnalyzerExchangesInfo()).thenReturn(exchanges);
+
+    assertEquals(exchanges, client.getAnalyzerExchangesInfo());
+    assertEquals(exchanges, client.getAnalyzerExchangesInfo());
+    assertEquals(exchanges, client.getAnalyzerExchangesInfo());
+
+    verify(delegate, times(1)).getAnalyzerExchangesInfo();
+    assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache",
+        CachedRabbitMqManagementClient.CACHE_NAME).tag("result", "hit").functionCounter().count());
+  }
+
+  @Test
+  void exchangesAreReloadedAfterInvalidation() {
+    when(delegate.getAnalyzerExchangesInfo()).thenReturn(List.of());
+
+    client.getAnalyzerExchangesInfo();
+    client.invalidate();
+    client.getAnalyzerExchangesInfo();
+
+    verify(delegate, times(2)).getAnalyzerExchangesInfo();
+  }
+
+  @Test
+  void loadingFailureIsNotCached() {
+    when(delegate.getAnalyzerExchangesInfo()).thenThrow(
+        new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, "analyzer"));
+
+    assertThatThrownBy(() -> client.getAnalyzerExchangesInfo()).isInstanceOf(
+        ReportPortalException.class);
+    assertThatThrownBy(() -> client.getAnalyzerExchangesInfo()).isInstanceOf(
+        ReportPortalException.class);
+
+    verify(delegate, times(2)).getAnalyzerExchangesInfo();
+  }
+}
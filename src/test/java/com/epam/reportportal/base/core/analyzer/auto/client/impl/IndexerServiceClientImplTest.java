@@ -6,8 +6,10 @@ import static com.epam.reportportal.base.core.analyzer.auto.client.impl.IndexerS
 import static com.epam.reportportal.base.core.analyzer.auto.client.impl.IndexerServiceClientImpl.DELETE_ROUTE;
 import static com.epam.reportportal.base.core.analyzer.auto.client.impl.IndexerServiceClientImpl.ITEM_REMOVE_ROUTE;
 import static com.epam.reportportal.base.core.analyzer.auto.client.impl.IndexerServiceClientImpl.LAUNCH_REMOVE_ROUTE;
-import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.AUTO_ANALYZER_KEY;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,12 +20,14 @@ import com.epam.reportportal.base.core.analyzer.auto.client.model.IndexDefectsUp
 import com.epam.reportportal.base.core.analyzer.auto.client.model.IndexItemsRemove;
 import com.epam.reportportal.base.core.analyzer.auto.client.model.IndexLaunchRemove;
 import com.rabbitmq.http.client.domain.ExchangeInfo;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.util.Lists;
 import org.assertj.core.util.Maps;
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 
@@ -95,6 +99,32 @@ class IndexerServiceClientImplTest {
         indexLaunchRemove);
   }
 
+  @Test
+  void failedPublishInvalidatesExchanges() {
+    List<Long> list = Lists.newArrayList(1L);
+    IndexLaunchRemove indexLaunchRemove = new IndexLaunchRemove(1L, list);
+    when(rabbitMqManagementClient.getAnalyzerExchangesInfo()).thenReturn(getExchanges());
+    doThrow(new AmqpConnectException(new IOException("Connection refused"))).when(rabbitTemplate)
+        .convertAndSend(AUTO_ANALYZER_KEY, LAUNCH_REMOVE_ROUTE, indexLaunchRemove);
+
+    assertThrows(AmqpConnectException.class,
+        () -> indexerServiceClient.indexLaunchesRemove(1L, list));
+
+    verify(rabbitMqManagementClient, times(1)).invalidate();
+  }
+
+  @Test
+  void failedRequestInvalidatesExchanges() {
+    when(rabbitMqManagementClient.getAnalyzerExchangesInfo()).thenReturn(getExchanges());
+    when(rabbitTemplate.convertSendAndReceiveAsType(AUTO_ANALYZER_KEY, DELETE_ROUTE, 1L,
+        new ParameterizedTypeReference<Integer>() {
+        })).thenThrow(new AmqpConnectException(new IOException("Connection refused")));
+
+    assertThrows(AmqpConnectException.class, () -> indexerServiceClient.deleteIndex(1L));
+
+    verify(rabbitMqManagementClient, times(1)).invalidate();
+  }
+
   private List<ExchangeInfo> getExchanges() {
     ExchangeInfo exchangeInfo = new ExchangeInfo();
     Map<String, Object> params = new HashMap<>();
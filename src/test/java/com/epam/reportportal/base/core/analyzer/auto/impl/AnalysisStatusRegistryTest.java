@@ -0,0 +1,58 @@
+package com.epam.reportportal.base.core.analyzer.auto.impl;
+
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.AUTO_ANALYZER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.CLUSTER_KEY;
+import static com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry.PATTERN_ANALYZER_KEY;
+import static com.epam.reportportal.base.infrastructure.persistence.jooq.Tables.SHEDLOCK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.base.ws.BaseMvcTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class AnalysisStatusRegistryTest extends BaseMvcTest {
+
+  @Autowired
+  private AnalysisStatusRegistry analysisStatusRegistry;
+
+  @Autowired
+  private DSLContext dsl;
+
+  @Test
+  void startedAnalyzersOfSeveralLaunchesAreLoadedAtOnce() {
+    Instant now = Instant.now();
+    lease("analysis:" + AUTO_ANALYZER_KEY + ":1:1", now.plus(Duration.ofMinutes(1)));
+    lease("analysis:" + PATTERN_ANALYZER_KEY + ":1:1", now.plus(Duration.ofMinutes(1)));
+    lease("analysis:" + CLUSTER_KEY + ":2:1", now.plus(Duration.ofMinutes(1)));
+    lease("analysis:" + AUTO_ANALYZER_KEY + ":3:1", now.minus(Duration.ofMinutes(1)));
+    lease("analysis:" + AUTO_ANALYZER_KEY + ":11:1", now.plus(Duration.ofMinutes(1)));
+
+    Map<Long, Set<String>> startedAnalyzers =
+        analysisStatusRegistry.getStartedAnalyzers(List.of(1L, 2L, 3L));
+
+    assertEquals(Map.of(1L, Set.of(AUTO_ANALYZER_KEY, PATTERN_ANALYZER_KEY), 2L, Set.of(CLUSTER_KEY)),
+        startedAnalyzers);
+    assertEquals(analysisStatusRegistry.getStartedAnalyzers(1L), startedAnalyzers.get(1L));
+  }
+
+  @Test
+  void noAnalyzersOfEmptyPage() {
+    assertTrue(analysisStatusRegistry.getStartedAnalyzers(List.of()).isEmpty());
+  }
+
+  private void lease(String name, Instant lockUntil) {
+    dsl.insertInto(SHEDLOCK)
+        .set(SHEDLOCK.NAME, name)
+        .set(SHEDLOCK.LOCK_UNTIL, lockUntil)
+        .set(SHEDLOCK.LOCKED_AT, Instant.now())
+        .set(SHEDLOCK.LOCKED_BY, "test")
+        .execute();
+  }
+}
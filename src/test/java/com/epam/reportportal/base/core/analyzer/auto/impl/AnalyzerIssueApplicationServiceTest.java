@@ -0,0 +1,136 @@
+package com.epam.reportportal.base.core.analyzer.auto.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.events.domain.ItemIssueTypeDefinedEvent;
+import com.epam.reportportal.base.core.item.impl.IssueTypeHandler;
+import com.epam.reportportal.base.core.project.ProjectService;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItemResults;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueEntity;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueType;
+import com.epam.reportportal.base.infrastructure.persistence.entity.project.Project;
+import com.epam.reportportal.base.model.analyzer.AnalyzedItemRs;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyzerIssueApplicationServiceTest {
+
+  private static final Long PROJECT_ID = 1L;
+
+  @Mock
+  private TestItemRepository testItemRepository;
+
+  @Mock
+  private IssueTypeHandler issueTypeHandler;
+
+  @Mock
+  private ProjectService projectService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private AnalyzerIssueApplicationService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new AnalyzerIssueApplicationService(testItemRepository, issueTypeHandler,
+        projectService, eventPublisher);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void issuesAreAppliedWithSetBasedLoading() {
+    TestItem first = testItem(1L, "ti001");
+    TestItem retry = testItem(2L, "ti001");
+    retry.setRetryOf(10L);
+    TestItem retryParent = testItem(10L, "ti001");
+    TestItem relevant = testItem(20L, "pb001");
+
+    when(testItemRepository.findAllById(Set.of(1L, 2L, 20L))).thenReturn(
+        List.of(first, retry, relevant));
+    when(testItemRepository.findAllById(Set.of(10L))).thenReturn(List.of(retryParent));
+    when(issueTypeHandler.defineIssueType(PROJECT_ID, "pb001")).thenReturn(issueType("pb001"));
+    when(projectService.findProjectById(PROJECT_ID)).thenReturn(new Project());
+
+    List<TestItem> updated = service.applyIssues(PROJECT_ID,
+        Map.of("analyzer", List.of(analyzed(1L, 20L), analyzed(2L, null))));
+
+    assertEquals(List.of(first, retryParent), updated);
+    assertEquals("pb001", retryParent.getItemResults().getIssue().getIssueType().getLocator());
+    assertEquals("relevant", first.getItemResults().getIssue().getIssueDescription());
+    verify(testItemRepository, never()).findById(anyLong());
+    verify(issueTypeHandler, times(1)).defineIssueType(eq(PROJECT_ID), any());
+
+    ArgumentCaptor<List<TestItem>> savedCaptor = ArgumentCaptor.forClass(List.class);
+    verify(testItemRepository, times(1)).saveAll(savedCaptor.capture());
+    assertEquals(List.of(first, retryParent), savedCaptor.getValue());
+
+    ArgumentCaptor<ApplicationEvent> eventsCaptor = ArgumentCaptor.forClass(
+        ApplicationEvent.class);
+    verify(eventPublisher, times(4)).publishEvent(eventsCaptor.capture());
+    assertEquals(2L, eventsCaptor.getAllValues().stream()
+        .filter(ItemIssueTypeDefinedEvent.class::isInstance)
+        .count());
+  }
+
+  @Test
+  void itemsWithSameIssueAreNotUpdated() {
+    TestItem item = testItem(1L, "pb001");
+    when(testItemRepository.findAllById(Set.of(1L))).thenReturn(List.of(item));
+    when(projectService.findProjectById(PROJECT_ID)).thenReturn(new Project());
+
+    List<TestItem> updated = service.applyIssues(PROJECT_ID,
+        Map.of("analyzer", List.of(analyzed(1L, null))));
+
+    assertEquals(List.of(), updated);
+    verify(issueTypeHandler, never()).defineIssueType(any(), any());
+    verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+  }
+
+  private AnalyzedItemRs analyzed(Long itemId, Long relevantItemId) {
+    AnalyzedItemRs rs = new AnalyzedItemRs();
+    rs.setItemId(itemId);
+    rs.setRelevantItemId(relevantItemId);
+    rs.setLocator("pb001");
+    return rs;
+  }
+
+  private TestItem testItem(Long id, String locator) {
+    TestItem item = new TestItem();
+    item.setItemId(id);
+    item.setName("test" + id);
+    item.setItemResults(new TestItemResults());
+    item.getItemResults().setStatus(StatusEnum.FAILED);
+    IssueEntity issue = new IssueEntity();
+    issue.setIssueType(issueType(locator));
+    issue.setIssueDescription("pb001".equals(locator) ? "relevant" : null);
+    item.getItemResults().setIssue(issue);
+    return item;
+  }
+
+  private IssueType issueType(String locator) {
+    IssueType issueType = new IssueType();
+    issueType.setLocator(locator);
+    return issueType;
+  }
+}
@@ -20,10 +20,12 @@ import static com.epam.reportportal.base.infrastructure.persistence.entity.Analy
 import static com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemIssueGroup.PRODUCT_BUG;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
@@ -48,6 +50,8 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.I
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.Project;
 import com.epam.reportportal.base.model.analyzer.AnalyzedItemRs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,6 +63,8 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * @author Pavel Bortnik
@@ -81,14 +87,19 @@ class AnalyzerServiceServiceTest {
 
   private LaunchPreparerService launchPreparerService = mock(LaunchPreparerService.class);
 
-  private AnalyzerStatusCache analyzerStatusCache = mock(AnalyzerStatusCache.class);
+  private AnalysisStatusRegistry analysisStatusRegistry = mock(AnalysisStatusRegistry.class);
   private ProjectService projectService = mock(ProjectService.class);
 
-  private AnalyzerServiceImpl issuesAnalyzer =
-      new AnalyzerServiceImpl(100, analyzerStatusCache, launchPreparerService,
-          analyzerServiceClient, issueTypeHandler, testItemRepository, applicationEventPublisher,
-          launchRepository,
-          defectUpdateStatisticsService, projectService);
+  private AnalyzerServiceImpl issuesAnalyzer = analyzerService(2);
+
+  private AnalyzerServiceImpl analyzerService(int projectConcurrency) {
+    return new AnalyzerServiceImpl(100, projectConcurrency, Duration.ZERO, analysisStatusRegistry,
+        launchPreparerService, analyzerServiceClient, testItemRepository, launchRepository,
+        defectUpdateStatisticsService,
+        new AnalyzerIssueApplicationService(testItemRepository, issueTypeHandler, projectService,
+            applicationEventPublisher), new SyncTaskExecutor(), new SimpleMeterRegistry(),
+        mock(PlatformTransactionManager.class));
+  }
 
   @Test
   void hasAnalyzers() {
@@ -119,6 +130,8 @@ class AnalyzerServiceServiceTest {
             .collect(Collectors.toList());
     indexLaunch.setTestItems(indexTestItems);
 
+    when(analysisStatusRegistry.analyzeStarted(AnalysisStatusRegistry.AUTO_ANALYZER_KEY,
+        launch.getId(), launch.getProjectId())).thenReturn(true);
     when(testItemRepository.findAllById(anyList())).thenReturn(items);
 
     var mockProject = new Project();
@@ -139,10 +152,56 @@ class AnalyzerServiceServiceTest {
     );
 
     verify(analyzerServiceClient, times(1)).analyze(any());
-    verify(testItemRepository, times(itemsCount)).save(any());
+    verify(testItemRepository, times(1)).saveAll(anyList());
     verify(applicationEventPublisher, times(4)).publishEvent(any());
   }
 
+  @Test
+  void launchAnalysisIsSkippedWhileInProgress() {
+    Launch launch = launch();
+    when(analysisStatusRegistry.analyzeStarted(AnalysisStatusRegistry.AUTO_ANALYZER_KEY,
+        launch.getId(), launch.getProjectId())).thenReturn(false);
+
+    issuesAnalyzer.runAnalyzers(launch, List.of(1L), analyzerConfig());
+
+    verify(launchPreparerService, never()).prepare(any(), anyList(), any());
+    verify(analysisStatusRegistry, never()).analyzeFinished(any(), any());
+  }
+
+  @Test
+  void itemAnalysisRunsWhileLaunchAnalysisIsInProgress() {
+    Launch launch = launch();
+    List<TestItem> items = testItemsTI(1);
+    when(testItemRepository.findAllById(anyList())).thenReturn(items);
+    when(launchPreparerService.prepare(any(Launch.class), anyList(), any(AnalyzerConfig.class)))
+        .thenReturn(Optional.empty());
+
+    issuesAnalyzer.runItemAnalyzers(launch, List.of(1L), analyzerConfig());
+
+    verify(launchPreparerService, times(1)).prepare(eq(launch), eq(items), any());
+    verify(analysisStatusRegistry, never()).analyzeStarted(any(), any(), any());
+    verify(analysisStatusRegistry, never()).analyzeFinished(any(), any());
+  }
+
+  @Test
+  void partitionIsSkippedWhenProjectPermitIsNotAcquired() {
+    Launch launch = launch();
+    List<TestItem> items = testItemsTI(1);
+    IndexLaunch indexLaunch = new IndexLaunch();
+    indexLaunch.setLaunchId(launch.getId());
+    indexLaunch.setProjectId(launch.getProjectId());
+    indexLaunch.setTestItems(List.of());
+    when(testItemRepository.findAllById(anyList())).thenReturn(items);
+    when(launchPreparerService.prepare(any(Launch.class), anyList(), any(AnalyzerConfig.class)))
+        .thenReturn(Optional.of(indexLaunch));
+
+    analyzerService(0).runItemAnalyzers(launch, List.of(1L), analyzerConfig());
+
+    verify(analyzerServiceClient, never()).analyze(any());
+    verify(defectUpdateStatisticsService, never())
+        .saveAutoAnalyzedDefectStatistics(anyInt(), anyInt(), anyInt(), anyLong());
+  }
+
   private AnalyzerConfig analyzerConfig() {
     AnalyzerConfig analyzerConfig = new AnalyzerConfig();
     analyzerConfig.setAnalyzerMode(ALL_LAUNCHES.getValue());
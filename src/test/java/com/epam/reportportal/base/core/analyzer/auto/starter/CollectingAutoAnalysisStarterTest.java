@@ -45,6 +45,7 @@ import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -64,7 +65,8 @@ class CollectingAutoAnalysisStarterTest {
       getLaunchHandler,
       analyzeCollectorFactory,
       analyzerService,
-      logIndexer
+      logIndexer,
+      mock(PlatformTransactionManager.class)
   );
 
   @Test
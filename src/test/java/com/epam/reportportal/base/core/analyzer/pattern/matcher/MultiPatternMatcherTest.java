@@ -0,0 +1,57 @@
+package com.epam.reportportal.base.core.analyzer.pattern.matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.pattern.PatternTemplate;
+import com.epam.reportportal.base.infrastructure.persistence.entity.pattern.PatternTemplateType;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MultiPatternMatcherTest {
+
+  @Test
+  void automatonFindsOverlappingKeywords() {
+    AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(
+        List.of("he", "she", "his", "hers", "missing"));
+
+    BitSet found = automaton.findAll("ushers");
+
+    assertEquals(BitSet.valueOf(new long[]{0b1011}), found);
+  }
+
+  @Test
+  void automatonFindsKeywordThroughFailureLink() {
+    AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of("abcd", "bc"));
+
+    assertTrue(automaton.findAll("xabcx").get(1));
+    assertEquals(1, automaton.findAll("xabcx").cardinality());
+  }
+
+  @Test
+  void stringAndRegexTemplatesAreMatched() {
+    PatternTemplate npe = template(1L, "NullPointerException", PatternTemplateType.STRING);
+    PatternTemplate timeout = template(2L, "Timeout", PatternTemplateType.STRING);
+    PatternTemplate assertion = template(3L, "expected \\d+ but was", PatternTemplateType.REGEX);
+    PatternTemplate invalid = template(4L, "(unclosed", PatternTemplateType.REGEX);
+
+    MultiPatternMatcher matcher = new MultiPatternMatcher(
+        List.of(npe, timeout, assertion, invalid));
+
+    assertEquals(List.of(npe, assertion),
+        matcher.match("java.lang.NullPointerException: expected 1 but was null"));
+    assertEquals(List.of(timeout), matcher.match("Timeout waiting for element"));
+    assertEquals(List.of(), matcher.match("timeout is case sensitive"));
+    assertEquals(List.of(), matcher.match(null));
+  }
+
+  private PatternTemplate template(Long id, String value, PatternTemplateType type) {
+    PatternTemplate template = new PatternTemplate();
+    template.setId(id);
+    template.setName("template" + id);
+    template.setValue(value);
+    template.setTemplateType(type);
+    return template;
+  }
+}
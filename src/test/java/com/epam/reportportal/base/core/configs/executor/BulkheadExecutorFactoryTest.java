@@ -0,0 +1,102 @@
+package com.epam.reportportal.base.core.configs.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class BulkheadExecutorFactoryTest {
+
+  private static final String NAME = "test";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private ThreadPoolTaskExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  void saturatedExecutorBlocksSubmitterUntilQueueIsFree() throws Exception {
+    executor = saturatedExecutor(Duration.ofSeconds(10), Set.of());
+    List<Thread> executingThreads = new CopyOnWriteArrayList<>();
+
+    CompletableFuture<Void> blockedSubmit = CompletableFuture.runAsync(
+        () -> executor.execute(() -> executingThreads.add(Thread.currentThread())));
+    Thread.sleep(100);
+    assertFalse(blockedSubmit.isDone());
+    assertEquals(1.0, meterRegistry.get("rp.executor.queue").tag("name", NAME).gauge().value());
+
+    release.countDown();
+    blockedSubmit.get(5, TimeUnit.SECONDS);
+    executor.shutdown();
+    executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+
+    assertEquals(1, executingThreads.size());
+    assertTrue(executingThreads.get(0).getName().startsWith(NAME + "-exec"));
+    assertEquals(0.0, meterRegistry.get("rp.executor.rejected").counter().count());
+    assertEquals(3, meterRegistry.get("rp.executor.task.execution").timer().count());
+    assertEquals(3, meterRegistry.get("rp.executor.task.wait").timer().count());
+  }
+
+  @Test
+  void taskIsRejectedWhenQueueIsNotFreedInTime() {
+    executor = saturatedExecutor(Duration.ofMillis(50), Set.of());
+
+    assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {
+    }));
+    assertEquals(1.0, meterRegistry.get("rp.executor.rejected").tag("name", NAME).counter()
+        .count());
+  }
+
+  @Test
+  void virtualThreadsAreUsedForListedExecutors() throws Exception {
+    executor = new BulkheadExecutorFactory(meterRegistry, Duration.ofSeconds(1), Set.of(NAME))
+        .create(NAME, 1, 1, 1);
+    executor.initialize();
+
+    CompletableFuture<Thread> thread = new CompletableFuture<>();
+    executor.execute(() -> thread.complete(Thread.currentThread()));
+
+    assertTrue(thread.get(5, TimeUnit.SECONDS).isVirtual());
+  }
+
+  /**
+   * Executor with a single thread busy until the release and a single task in the queue.
+   */
+  private ThreadPoolTaskExecutor saturatedExecutor(Duration maxWait, Set<String> virtual) {
+    ThreadPoolTaskExecutor saturated = new BulkheadExecutorFactory(meterRegistry, maxWait, virtual)
+        .create(NAME, 1, 1, 1);
+    saturated.initialize();
+    saturated.execute(this::awaitRelease);
+    saturated.execute(() -> {
+    });
+    return saturated;
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
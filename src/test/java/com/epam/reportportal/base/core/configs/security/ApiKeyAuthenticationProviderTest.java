@@ -0,0 +1,159 @@
+package com.epam.reportportal.base.core.configs.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
+import com.epam.reportportal.base.infrastructure.persistence.dao.ApiKeyRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.UserRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.user.ApiKey;
+import com.epam.reportportal.base.infrastructure.persistence.entity.user.UserRole;
+import jakarta.xml.bind.DatatypeConverter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyAuthenticationProviderTest {
+
+  private static final Long API_KEY_ID = 1L;
+  private static final Long USER_ID = 2L;
+
+  private static final String API_KEY_CACHE = "apiKeyCache";
+
+  @Mock
+  private ApiKeyRepository apiKeyRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  private ApiKeyPrincipalCache principalCache;
+
+  private CacheManager cacheManager;
+
+  private ApiKeyLastUsedAggregator lastUsedAggregator;
+
+  private ApiKeyAuthenticationProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    principalCache = new ApiKeyPrincipalCache(100, Duration.ofMinutes(1));
+    cacheManager = new ConcurrentMapCacheManager(API_KEY_CACHE);
+    lastUsedAggregator = new ApiKeyLastUsedAggregator(apiKeyRepository, cacheManager, 100);
+    provider = new ApiKeyAuthenticationProvider(apiKeyRepository, userRepository, principalCache,
+        lastUsedAggregator);
+  }
+
+  @Test
+  void principalIsCachedAndUsageIsFlushedOnce() {
+    String token = UUID.randomUUID().toString();
+    when(apiKeyRepository.findByHash(anyString())).thenReturn(apiKey(null));
+    when(userRepository.findReportPortalUser(USER_ID)).thenReturn(Optional.of(user(true)));
+
+    Authentication first = provider.authenticate(new BearerTokenAuthenticationToken(token));
+    Authentication second = provider.authenticate(new BearerTokenAuthenticationToken(token));
+
+    assertEquals("user", first.getName());
+    assertEquals("user", second.getName());
+    verify(apiKeyRepository, times(1)).findByHash(anyString());
+    verify(userRepository, times(1)).findReportPortalUser(USER_ID);
+    verify(apiKeyRepository, never()).updateLastUsedAt(any(), any(LocalDate.class));
+
+    lastUsedAggregator.flush();
+    lastUsedAggregator.flush();
+    verify(apiKeyRepository, times(1)).updateLastUsedAt(List.of(API_KEY_ID), LocalDate.now());
+  }
+
+  @Test
+  void flushedKeyIsEvictedFromCache() {
+    String token = UUID.randomUUID().toString();
+    String hash = DatatypeConverter.printHexBinary(DigestUtils.sha3_256(token));
+    Cache cache = cacheManager.getCache(API_KEY_CACHE);
+    cache.put(hash, apiKey(null));
+    when(apiKeyRepository.findByHash(anyString())).thenReturn(apiKey(null));
+    when(userRepository.findReportPortalUser(USER_ID)).thenReturn(Optional.of(user(true)));
+
+    provider.authenticate(new BearerTokenAuthenticationToken(token));
+    lastUsedAggregator.flush();
+
+    assertNull(cache.get(hash));
+  }
+
+  @Test
+  void usageIsNotRecordedTwiceADay() {
+    String token = UUID.randomUUID().toString();
+    when(apiKeyRepository.findByHash(anyString())).thenReturn(apiKey(LocalDate.now()));
+    when(userRepository.findReportPortalUser(USER_ID)).thenReturn(Optional.of(user(true)));
+
+    provider.authenticate(new BearerTokenAuthenticationToken(token));
+    lastUsedAggregator.flush();
+
+    verify(apiKeyRepository, never()).updateLastUsedAt(any(), any(LocalDate.class));
+  }
+
+  @Test
+  void principalIsRevoked() {
+    String token = UUID.randomUUID().toString();
+    when(apiKeyRepository.findByHash(anyString())).thenReturn(apiKey(LocalDate.now()));
+    when(userRepository.findReportPortalUser(USER_ID)).thenReturn(Optional.of(user(true)))
+        .thenReturn(Optional.of(user(false)));
+
+    provider.authenticate(new BearerTokenAuthenticationToken(token));
+    principalCache.onInvalidation(ApiKeyPrincipalInvalidation.ofUser(USER_ID));
+
+    assertThrows(AuthenticationCredentialsNotFoundException.class,
+        () -> provider.authenticate(new BearerTokenAuthenticationToken(token)));
+    verify(userRepository, times(2)).findReportPortalUser(USER_ID);
+  }
+
+  @Test
+  void unknownKeyIsRejected() {
+    when(apiKeyRepository.findByHash(anyString())).thenReturn(null);
+
+    assertThrows(AuthenticationCredentialsNotFoundException.class,
+        () -> provider.authenticate(
+            new BearerTokenAuthenticationToken(UUID.randomUUID().toString())));
+  }
+
+  private ApiKey apiKey(LocalDate lastUsedAt) {
+    ApiKey apiKey = new ApiKey();
+    apiKey.setId(API_KEY_ID);
+    apiKey.setUserId(USER_ID);
+    apiKey.setLastUsedAt(lastUsedAt);
+    return apiKey;
+  }
+
+  private ReportPortalUser user(boolean active) {
+    return ReportPortalUser.userBuilder()
+        .withUserName("user")
+        .withPassword("password")
+        .withAuthorities(Collections.emptyList())
+        .withUserId(USER_ID)
+        .withUserRole(UserRole.USER)
+        .withActive(active)
+        .withOrganizationDetails(Collections.emptyMap())
+        .build();
+  }
+}
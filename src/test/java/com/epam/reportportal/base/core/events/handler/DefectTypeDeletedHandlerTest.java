@@ -27,7 +27,7 @@ import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
 import com.epam.reportportal.base.core.analyzer.auto.client.AnalyzerServiceClient;
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.events.domain.DefectTypeDeletedEvent;
 import com.epam.reportportal.base.infrastructure.model.project.AnalyzerConfig;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
@@ -37,8 +37,6 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.project.Proj
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.ProjectAttribute;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.epam.reportportal.base.model.activity.IssueTypeActivityResource;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import java.util.Arrays;
 import java.util.List;
@@ -56,7 +54,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class DefectTypeDeletedHandlerTest {
 
   @Mock
-  private AnalyzerStatusCache analyzerStatusCache;
+  private AnalysisStatusRegistry analysisStatusRegistry;
 
   @Mock
   private AnalyzerServiceClient analyzerServiceClient;
@@ -108,10 +106,8 @@ class DefectTypeDeletedHandlerTest {
 
     when(projectRepository.findById(projectId)).thenReturn(Optional.of(new Project()));
     when(analyzerServiceClient.hasClients()).thenReturn(true);
-    Cache<Long, Long> cache = CacheBuilder.newBuilder().build();
-    cache.put(2L, projectId);
-    when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(
-        Optional.of(cache));
+    when(analysisStatusRegistry.containsProjectId(AnalysisStatusRegistry.AUTO_ANALYZER_KEY,
+        projectId)).thenReturn(true);
 
     ReportPortalException exception =
         assertThrows(ReportPortalException.class, () -> handler.handleDefectTypeDeleted(
@@ -129,8 +125,8 @@ class DefectTypeDeletedHandlerTest {
     when(projectRepository.findById(projectId)).thenReturn(
         Optional.of(getProjectWithAnalyzerAttributes(projectId)));
     when(analyzerServiceClient.hasClients()).thenReturn(true);
-    when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(
-        Optional.of(CacheBuilder.newBuilder().build()));
+    when(analysisStatusRegistry.containsProjectId(AnalysisStatusRegistry.AUTO_ANALYZER_KEY,
+        projectId)).thenReturn(false);
     List<Long> launchIds = Arrays.asList(1L, 2L, 3L);
 
     handler.handleDefectTypeDeleted(
@@ -10,7 +10,7 @@ import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.launch.cluster.UniqueErrorAnalysisStarter;
 import com.epam.reportportal.base.core.launch.cluster.config.ClusterEntityContext;
-import com.epam.reportportal.base.core.project.config.ProjectConfigProvider;
+import com.epam.reportportal.base.core.project.config.ProjectConfigCache;
 import com.epam.reportportal.extension.event.LaunchStartUniqueErrorAnalysisEvent;
 import java.util.Collections;
 import java.util.Map;
@@ -22,18 +22,18 @@ import org.mockito.ArgumentCaptor;
  */
 class StartLaunchUniqueErrorAnalysisEventListenerTest {
 
-  private final ProjectConfigProvider projectConfigProvider = mock(ProjectConfigProvider.class);
+  private final ProjectConfigCache projectConfigCache = mock(ProjectConfigCache.class);
   private final UniqueErrorAnalysisStarter starter = mock(UniqueErrorAnalysisStarter.class);
 
   private final StartLaunchUniqueErrorAnalysisEventListener listener = new StartLaunchUniqueErrorAnalysisEventListener(
-      projectConfigProvider,
+      projectConfigCache,
       starter
   );
 
   @Test
   void shouldStart() {
     final Map<String, String> projectConfig = Collections.emptyMap();
-    when(projectConfigProvider.provide(anyLong())).thenReturn(projectConfig);
+    when(projectConfigCache.provide(anyLong())).thenReturn(projectConfig);
 
     final LaunchStartUniqueErrorAnalysisEvent event = new LaunchStartUniqueErrorAnalysisEvent(1L,
         1L);
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.epam.reportportal.base.core.membership.MembershipCache;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.GroupMembershipRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ProjectUserRepository;
@@ -45,6 +46,7 @@ import com.epam.reportportal.base.reporting.OperationCompletionRS;
 import com.epam.reportportal.base.util.ProjectExtractor;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import java.time.Duration;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationEventPublisher;
@@ -67,7 +69,8 @@ class UpdateUserFilterHandlerTest {
 
   private ProjectExtractor projectExtractor = new ProjectExtractor(
       projectUserRepository,
-      groupMembershipRepository
+      groupMembershipRepository,
+      new MembershipCache(10, Duration.ofMinutes(1))
   );
   private UserFilterRepository userFilterRepository = mock(UserFilterRepository.class);
   private ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
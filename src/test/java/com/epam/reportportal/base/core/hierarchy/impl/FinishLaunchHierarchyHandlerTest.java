@@ -1,14 +1,21 @@
 package com.epam.reportportal.base.core.hierarchy.impl;
 
 import static com.epam.reportportal.base.ReportPortalUserUtil.getRpUser;
+import static com.epam.reportportal.base.core.hierarchy.AbstractFinishHierarchyHandler.ITEM_PAGE_SIZE;
 import static com.epam.reportportal.base.core.item.impl.status.ToSkippedStatusChangingStrategy.SKIPPED_ISSUE_KEY;
 import static com.epam.reportportal.base.infrastructure.persistence.util.MembershipUtils.rpUserToMembership;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,20 +33,21 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.enums.Status
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemIssueGroup;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
-import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItemResults;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueGroup;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueType;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.organization.OrganizationRole;
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.ProjectRole;
 import com.epam.reportportal.base.infrastructure.persistence.entity.user.UserRole;
-import com.google.common.collect.Lists;
+import com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JStatusEnum;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -66,48 +74,51 @@ class FinishLaunchHierarchyHandlerTest {
       changeStatusHandler
   );
 
+  private final Instant endTime = LocalDate.of(2020, Month.OCTOBER, 30)
+      .atStartOfDay(ZoneId.systemDefault())
+      .toInstant();
+
   @Test
   void finishWithPassedStatus() {
 
     Launch launch = getLaunch();
 
-    List<Long> idsWithChildren = Lists.newArrayList(2L, 1L);
-    List<Long> idsWithoutChildren = Lists.newArrayList(3L, 4L);
-
-    when(testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusOrderedByPathLevel(
-        eq(launch.getId()),
-        eq(StatusEnum.IN_PROGRESS),
-        anyInt(),
-        anyLong()
-    )).thenReturn(idsWithChildren);
-    when(testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatus(eq(launch.getId()),
-        eq(StatusEnum.IN_PROGRESS),
-        anyInt(),
-        anyLong()
-    )).thenReturn(idsWithoutChildren);
-
-    Instant endTime = LocalDate.of(2020, Month.OCTOBER, 30)
-        .atStartOfDay(ZoneId.systemDefault())
-        .toInstant();
-    ReportPortalUser rpUser = getRpUser("test", UserRole.USER, OrganizationRole.MEMBER, ProjectRole.VIEWER, 1L);
-
-    when(testItemRepository.findAllById(idsWithChildren)).thenReturn(
-        getTestItemsWithChildren(launch));
-    when(testItemRepository.findAllById(idsWithoutChildren)).thenReturn(
-        getTestItemsWithoutChildren(launch));
-
-    when(issueEntityRepository.findById(3L)).thenReturn(Optional.empty());
-    when(issueEntityRepository.findById(4L)).thenReturn(Optional.empty());
-
-    finishLaunchHierarchyHandler.finishDescendants(launch,
+    List<Long> idsWithoutChildren = List.of(3L, 4L);
+    when(testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(launch.getId(),
+        StatusEnum.IN_PROGRESS, 0L, ITEM_PAGE_SIZE)).thenReturn(idsWithoutChildren);
+    when(testItemRepository.findPathLevelsByHasChildrenAndLaunchIdAndStatus(launch.getId(),
+        StatusEnum.IN_PROGRESS)).thenReturn(List.of(2, 1));
+    when(testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(
+        launch.getId(), StatusEnum.IN_PROGRESS, 2, 0L, ITEM_PAGE_SIZE)).thenReturn(List.of(2L));
+    when(testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(
+        launch.getId(), StatusEnum.IN_PROGRESS, 1, 0L, ITEM_PAGE_SIZE)).thenReturn(List.of(1L));
+
+    when(testItemRepository.finishInProgressItemsByIds(idsWithoutChildren, StatusEnum.PASSED,
+        endTime)).thenReturn(2);
+    when(testItemRepository.finishInProgressParentItemsByIds(anyList(), eq(endTime))).thenReturn(
+        1);
+    when(testItemRepository.findIdsWithRetriesByIds(idsWithoutChildren)).thenReturn(List.of(3L));
+    when(testItemRepository.findIdsWithNotInProgressParentByIds(idsWithoutChildren)).thenReturn(
+        List.of(4L));
+    when(testItemRepository.findAllById(List.of(4L))).thenReturn(List.of(getTestItem(4L)));
+
+    ReportPortalUser rpUser = getRpUser("test", UserRole.USER, OrganizationRole.MEMBER,
+        ProjectRole.VIEWER, 1L);
+
+    int finished = finishLaunchHierarchyHandler.finishDescendants(launch,
         StatusEnum.PASSED,
         endTime,
         rpUser,
         rpUserToMembership(rpUser)
     );
 
-    verify(changeStatusHandler, times(2)).changeParentStatus(any(TestItem.class), any(), any());
-    verify(issueEntityRepository, times(0)).save(any());
+    assertEquals(4, finished);
+    verify(itemAttributeRepository, times(3)).saveByItemIds(anyList(), eq("status"),
+        eq("interrupted"), eq(false));
+    verify(retryHandler, times(1)).finishRetries(3L, JStatusEnum.PASSED, endTime);
+    verify(changeStatusHandler, times(1)).changeParentStatus(any(TestItem.class), any(), any());
+    verify(issueEntityRepository, never()).saveByItemIds(anyCollection(), anyLong(),
+        anyCollection());
   }
 
   @Test
@@ -118,33 +129,17 @@ class FinishLaunchHierarchyHandlerTest {
     when(itemAttributeRepository.findByLaunchIdAndKeyAndSystem(launch.getId(),
         SKIPPED_ISSUE_KEY,
         true
-    )).thenReturn(java.util.Optional.of(new ItemAttribute(SKIPPED_ISSUE_KEY, "true", true)));
+    )).thenReturn(Optional.of(new ItemAttribute(SKIPPED_ISSUE_KEY, "true", true)));
 
     when(issueTypeHandler.defineIssueType(anyLong(), anyString())).thenReturn(
         getToInvestigateIssueType());
 
-    List<Long> idsWithChildren = Lists.newArrayList(2L, 1L);
-    List<Long> idsWithoutChildren = Lists.newArrayList(3L, 4L);
-    when(testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusOrderedByPathLevel(
-        eq(launch.getId()),
-        eq(StatusEnum.IN_PROGRESS),
-        anyInt(),
-        anyLong()
-    )).thenReturn(idsWithChildren);
-    when(testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatus(eq(launch.getId()),
-        eq(StatusEnum.IN_PROGRESS),
-        anyInt(),
-        anyLong()
-    )).thenReturn(idsWithoutChildren);
-
-    Instant endTime = LocalDate.of(2020, Month.OCTOBER, 30)
-        .atStartOfDay(ZoneId.systemDefault()).toInstant();
-    ReportPortalUser rpUser = getRpUser("test", UserRole.USER, OrganizationRole.MEMBER, ProjectRole.VIEWER, 1L);
-
-    when(testItemRepository.findAllById(idsWithChildren)).thenReturn(
-        getTestItemsWithChildren(launch));
-    when(testItemRepository.findAllById(idsWithoutChildren)).thenReturn(
-        getTestItemsWithoutChildren(launch));
+    List<Long> idsWithoutChildren = List.of(3L, 4L);
+    when(testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(launch.getId(),
+        StatusEnum.IN_PROGRESS, 0L, ITEM_PAGE_SIZE)).thenReturn(idsWithoutChildren);
+
+    ReportPortalUser rpUser = getRpUser("test", UserRole.USER, OrganizationRole.MEMBER,
+        ProjectRole.VIEWER, 1L);
 
     finishLaunchHierarchyHandler.finishDescendants(launch,
         StatusEnum.SKIPPED,
@@ -153,9 +148,58 @@ class FinishLaunchHierarchyHandlerTest {
         rpUserToMembership(rpUser)
     );
 
-    verify(changeStatusHandler, times(2)).changeParentStatus(any(TestItem.class), any(), any());
-    verify(issueEntityRepository, times(2)).save(any());
+    verify(testItemRepository, times(1)).finishInProgressItemsByIds(idsWithoutChildren,
+        StatusEnum.SKIPPED, endTime);
+    verify(issueEntityRepository, times(1)).saveByItemIds(idsWithoutChildren, 1L,
+        List.of(TestItemTypeEnum.SUITE.name(), TestItemTypeEnum.STORY.name()));
+  }
+
+  /**
+   * Synthetic launch with 100k unfinished steps under 1000 unfinished tests in 10 suites. Descendants are finished by
+   * set-based statements per page, so the count of repository calls depends on the count of pages only.
+   */
+  @Test
+  void finishLargeLaunch() {
+    Launch launch = getLaunch();
+    int steps = 100_000;
+    List<Long> stepIds = LongStream.rangeClosed(10_001, 10_000 + steps).boxed().toList();
+    List<Long> testIds = LongStream.rangeClosed(11, 1010).boxed().toList();
+    List<Long> suiteIds = LongStream.rangeClosed(1, 10).boxed().toList();
+
+    when(testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(eq(launch.getId()),
+        eq(StatusEnum.IN_PROGRESS), anyLong(), anyInt())).thenAnswer(
+        invocation -> page(stepIds, invocation.getArgument(2), invocation.getArgument(3)));
+    when(testItemRepository.findPathLevelsByHasChildrenAndLaunchIdAndStatus(launch.getId(),
+        StatusEnum.IN_PROGRESS)).thenReturn(List.of(2, 1));
+    when(testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(
+        eq(launch.getId()), eq(StatusEnum.IN_PROGRESS), anyInt(), anyLong(), anyInt())).thenAnswer(
+        invocation -> page(invocation.<Integer>getArgument(2) == 2 ? testIds : suiteIds,
+            invocation.getArgument(3), invocation.getArgument(4)));
+    when(testItemRepository.finishInProgressItemsByIds(anyList(), any(), any())).thenAnswer(
+        invocation -> invocation.<List<Long>>getArgument(0).size());
+    when(testItemRepository.finishInProgressParentItemsByIds(anyList(), any())).thenAnswer(
+        invocation -> invocation.<List<Long>>getArgument(0).size());
+
+    ReportPortalUser rpUser = getRpUser("test", UserRole.USER, OrganizationRole.MEMBER,
+        ProjectRole.VIEWER, 1L);
+
+    int finished = assertTimeout(Duration.ofSeconds(5),
+        () -> finishLaunchHierarchyHandler.finishDescendants(launch, StatusEnum.INTERRUPTED,
+            endTime, rpUser, rpUserToMembership(rpUser)));
+
+    assertEquals(steps + testIds.size() + suiteIds.size(), finished);
+    int stepPages = steps / ITEM_PAGE_SIZE;
+    verify(testItemRepository, times(stepPages + 1)).findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(
+        anyLong(), any(), anyLong(), anyInt());
+    verify(testItemRepository, times(stepPages)).finishInProgressItemsByIds(anyList(), any(),
+        any());
+    verify(testItemRepository, times(2)).finishInProgressParentItemsByIds(anyList(), any());
+    verify(itemAttributeRepository, times(stepPages + 2)).saveByItemIds(anyList(), anyString(),
+        anyString(), anyBoolean());
+  }
 
+  private List<Long> page(List<Long> ids, Long lastId, int limit) {
+    return ids.stream().filter(id -> id > lastId).limit(limit).toList();
   }
 
   private Launch getLaunch() {
@@ -164,6 +208,13 @@ class FinishLaunchHierarchyHandlerTest {
     return launch;
   }
 
+  private TestItem getTestItem(Long id) {
+    TestItem item = new TestItem();
+    item.setItemId(id);
+    item.setParentId(2L);
+    return item;
+  }
+
   private IssueType getToInvestigateIssueType() {
     IssueType issueType = new IssueType();
     issueType.setId(1L);
@@ -175,60 +226,4 @@ class FinishLaunchHierarchyHandlerTest {
     issueType.setIssueGroup(issueGroup);
     return issueType;
   }
-
-  private List<TestItem> getTestItemsWithChildren(Launch launch) {
-
-    TestItem parent = new TestItem();
-    parent.setItemId(1L);
-    parent.setType(TestItemTypeEnum.SUITE);
-    parent.setLaunchId(launch.getId());
-    parent.setPath("1");
-    parent.setHasStats(true);
-    parent.setHasChildren(true);
-    TestItemResults parentResults = new TestItemResults();
-    parentResults.setStatus(StatusEnum.IN_PROGRESS);
-    parent.setItemResults(parentResults);
-
-    TestItem child = new TestItem();
-    child.setItemId(2L);
-    child.setType(TestItemTypeEnum.TEST);
-    child.setLaunchId(launch.getId());
-    child.setPath("1.2");
-    child.setParentId(parent.getItemId());
-    child.setHasStats(true);
-    child.setHasChildren(true);
-    TestItemResults childResults = new TestItemResults();
-    childResults.setStatus(StatusEnum.IN_PROGRESS);
-    child.setItemResults(childResults);
-
-    return Lists.newArrayList(child, parent);
-  }
-
-  private List<TestItem> getTestItemsWithoutChildren(Launch launch) {
-
-    TestItem firstChild = new TestItem();
-    firstChild.setItemId(3L);
-    firstChild.setType(TestItemTypeEnum.STEP);
-    firstChild.setLaunchId(launch.getId());
-    firstChild.setPath("1.2.3");
-    firstChild.setHasStats(true);
-    firstChild.setHasChildren(false);
-    TestItemResults parentResults = new TestItemResults();
-    parentResults.setStatus(StatusEnum.IN_PROGRESS);
-    firstChild.setItemResults(parentResults);
-
-    TestItem secondChild = new TestItem();
-    secondChild.setItemId(4L);
-    secondChild.setType(TestItemTypeEnum.STEP);
-    secondChild.setLaunchId(launch.getId());
-    secondChild.setPath("1.2.4");
-    secondChild.setHasStats(true);
-    secondChild.setHasChildren(true);
-    TestItemResults childResults = new TestItemResults();
-    childResults.setStatus(StatusEnum.IN_PROGRESS);
-    secondChild.setItemResults(childResults);
-
-    return Lists.newArrayList(firstChild, secondChild);
-  }
-
 }
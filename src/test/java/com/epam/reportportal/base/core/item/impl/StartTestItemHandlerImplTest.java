@@ -26,6 +26,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.item.validator.parent.ParentItemValidator;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
@@ -40,6 +41,7 @@ import com.epam.reportportal.base.infrastructure.rules.commons.validation.Suppli
 import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.epam.reportportal.base.reporting.StartTestItemRQ;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -48,7 +50,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -67,7 +68,6 @@ class StartTestItemHandlerImplTest {
   @Mock
   private TestItemRepository testItemRepository;
 
-  @InjectMocks
   private StartTestItemHandlerImpl handler;
 
   @Spy
@@ -77,6 +77,10 @@ class StartTestItemHandlerImplTest {
   public void setup() throws Exception {
     parentItemValidators.clear();
     parentItemValidators.add(validator);
+    handler = new StartTestItemHandlerImpl(testItemRepository, launchRepository, null, null, null,
+        parentItemValidators, null, null,
+        new LaunchReportingContextCache(launchRepository, testItemRepository, 10,
+            Duration.ofMinutes(1), 10));
   }
 
   @Test
@@ -22,17 +22,20 @@ import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.item.identity.IdentityUtil;
 import com.epam.reportportal.base.core.item.identity.TestCaseHashGeneratorImpl;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.Parameter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,9 +48,18 @@ class TestCaseHashGeneratorImplTest {
   @Mock
   private TestItemRepository testItemRepository;
 
-  @InjectMocks
+  @Mock
+  private LaunchRepository launchRepository;
+
   private TestCaseHashGeneratorImpl testCaseHashGenerator;
 
+  @BeforeEach
+  void setUp() {
+    testCaseHashGenerator = new TestCaseHashGeneratorImpl(
+        new LaunchReportingContextCache(launchRepository, testItemRepository, 10,
+            Duration.ofMinutes(1), 10));
+  }
+
   @Test
   void sameHashesForSameObjectsTest() {
     TestItem item = getItem();
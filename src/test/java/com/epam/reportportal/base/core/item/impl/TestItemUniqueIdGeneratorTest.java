@@ -23,19 +23,22 @@ import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.item.identity.IdentityUtil;
 import com.epam.reportportal.base.core.item.identity.TestItemUniqueIdGenerator;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.Parameter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.google.common.collect.Sets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -48,9 +51,19 @@ class TestItemUniqueIdGeneratorTest {
   @Mock
   private TestItemRepository testItemRepository;
 
-  @InjectMocks
+  @Mock
+  private LaunchRepository launchRepository;
+
   private TestItemUniqueIdGenerator uniqueIdGenerator;
 
+  @BeforeEach
+  void setUp() {
+    uniqueIdGenerator = new TestItemUniqueIdGenerator();
+    uniqueIdGenerator.setLaunchReportingContextCache(
+        new LaunchReportingContextCache(launchRepository, testItemRepository, 10,
+            Duration.ofMinutes(1), 10));
+  }
+
   @Test
   void validateTest() {
     assertFalse(uniqueIdGenerator.validate(""));
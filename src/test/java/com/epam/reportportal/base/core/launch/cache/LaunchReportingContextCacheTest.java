@@ -0,0 +1,91 @@
+package com.epam.reportportal.base.core.launch.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LaunchReportingContextCacheTest {
+
+  @Mock
+  private LaunchRepository launchRepository;
+
+  @Mock
+  private TestItemRepository testItemRepository;
+
+  private LaunchReportingContextCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new LaunchReportingContextCache(launchRepository, testItemRepository, 10,
+        Duration.ofMinutes(1), 10);
+  }
+
+  @Test
+  void startedLaunchIsNotLoaded() {
+    cache.put(launch());
+
+    LaunchReportingContext context = cache.get("uuid").orElseThrow();
+
+    assertEquals(1L, context.getLaunchId());
+    assertTrue(context.isRerun());
+    verify(launchRepository, never()).findByUuid("uuid");
+  }
+
+  @Test
+  void launchIsLoadedOnceAfterEviction() {
+    cache.put(launch());
+    cache.invalidate(LaunchReportingContextInvalidation.ofLaunches(List.of(1L)));
+    when(launchRepository.findByUuid("uuid")).thenReturn(Optional.of(launch()));
+
+    cache.get("uuid");
+    cache.get("uuid");
+
+    verify(launchRepository, times(1)).findByUuid("uuid");
+  }
+
+  @Test
+  void onlyMissedAncestorNamesAreLoaded() {
+    cache.put(launch());
+    cache.putItemName(1L, item(10L, "suite"));
+    when(testItemRepository.findAllById(List.of(11L))).thenReturn(List.of(item(11L, "test")));
+
+    assertEquals(List.of("suite", "test"), cache.getPathNames(1L, List.of(10L, 11L)));
+    assertEquals(List.of("suite", "test"), cache.getPathNames(1L, List.of(10L, 11L)));
+
+    verify(testItemRepository, times(1)).findAllById(List.of(11L));
+  }
+
+  private Launch launch() {
+    Launch launch = new Launch();
+    launch.setId(1L);
+    launch.setUuid("uuid");
+    launch.setProjectId(2L);
+    launch.setName("launch");
+    launch.setRerun(true);
+    return launch;
+  }
+
+  private TestItem item(Long id, String name) {
+    TestItem item = new TestItem();
+    item.setItemId(id);
+    item.setName(name);
+    return item;
+  }
+}
@@ -30,7 +30,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.launch.cluster.config.ClusterEntityContext;
 import com.epam.reportportal.base.core.launch.cluster.config.GenerateClustersConfig;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
@@ -46,7 +46,7 @@ class UniqueErrorGeneratorAsyncTest {
 
   private final SyncTaskExecutor logClusterExecutor = mock(SyncTaskExecutor.class);
 
-  private final AnalyzerStatusCache analyzerStatusCache = mock(AnalyzerStatusCache.class);
+  private final AnalysisStatusRegistry analysisStatusRegistry = mock(AnalysisStatusRegistry.class);
 
   private final PipelineConstructor<GenerateClustersConfig> pipelineConstructor = (PipelineConstructor<GenerateClustersConfig>) mock(
       PipelineConstructor.class);
@@ -54,7 +54,7 @@ class UniqueErrorGeneratorAsyncTest {
   private final TransactionalPipeline transactionalPipeline = mock(TransactionalPipeline.class);
 
   private final UniqueErrorGeneratorAsync clusterGenerator = new UniqueErrorGeneratorAsync(
-      analyzerStatusCache,
+      analysisStatusRegistry,
       pipelineConstructor,
       transactionalPipeline,
       logClusterExecutor
@@ -62,7 +62,7 @@ class UniqueErrorGeneratorAsyncTest {
 
   @Test
   void shouldFailWhenCacheContainsLaunchId() {
-    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(true);
+    when(analysisStatusRegistry.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(false);
 
     final GenerateClustersConfig config = getConfig(false);
 
@@ -72,15 +72,14 @@ class UniqueErrorGeneratorAsyncTest {
         exception.getMessage());
 
     final ClusterEntityContext entityContext = config.getEntityContext();
-    verify(analyzerStatusCache, times(0)).analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
-        entityContext.getLaunchId(),
-        entityContext.getProjectId()
-    );
+    verify(pipelineConstructor, times(0)).construct(any(GenerateClustersConfig.class));
+    verify(analysisStatusRegistry, times(0)).analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
+        entityContext.getLaunchId());
   }
 
   @Test
   void shouldGenerate() {
-    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analysisStatusRegistry.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
     doCallRealMethod().when(logClusterExecutor).execute(any(Runnable.class));
 
     final GenerateClustersConfig config = getConfig(false);
@@ -88,19 +87,19 @@ class UniqueErrorGeneratorAsyncTest {
     clusterGenerator.generate(config);
 
     final ClusterEntityContext entityContext = config.getEntityContext();
-    verify(analyzerStatusCache, times(1)).analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeStarted(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId(),
         entityContext.getProjectId()
     );
     verify(pipelineConstructor, times(1)).construct(config);
     verify(transactionalPipeline, times(1)).run(anyList());
-    verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId());
   }
 
   @Test
   void shouldCleanCacheWhenExceptionThrown() {
-    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analysisStatusRegistry.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
     doCallRealMethod().when(logClusterExecutor).execute(any(Runnable.class));
 
     final GenerateClustersConfig config = getConfig(false);
@@ -111,19 +110,19 @@ class UniqueErrorGeneratorAsyncTest {
     clusterGenerator.generate(config);
 
     final ClusterEntityContext entityContext = config.getEntityContext();
-    verify(analyzerStatusCache, times(1)).analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeStarted(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId(),
         entityContext.getProjectId()
     );
     verify(pipelineConstructor, times(1)).construct(config);
     verify(transactionalPipeline, times(1)).run(anyList());
-    verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId());
   }
 
   @Test
   void shouldCleanCacheWhenExceptionThrownDuringTaskSubmit() {
-    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analysisStatusRegistry.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
 
     final GenerateClustersConfig config = getConfig(false);
 
@@ -133,13 +132,13 @@ class UniqueErrorGeneratorAsyncTest {
     clusterGenerator.generate(config);
 
     final ClusterEntityContext entityContext = config.getEntityContext();
-    verify(analyzerStatusCache, times(1)).analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeStarted(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId(),
         entityContext.getProjectId()
     );
     verify(pipelineConstructor, times(0)).construct(any(GenerateClustersConfig.class));
     verify(transactionalPipeline, times(0)).run(anyList());
-    verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId());
   }
 
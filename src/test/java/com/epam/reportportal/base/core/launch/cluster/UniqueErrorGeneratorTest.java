@@ -19,6 +19,7 @@ package com.epam.reportportal.base.core.launch.cluster;
 import static com.epam.reportportal.base.core.launch.cluster.utils.ConfigProvider.getConfig;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.anyList;
@@ -28,7 +29,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.launch.cluster.config.ClusterEntityContext;
 import com.epam.reportportal.base.core.launch.cluster.config.GenerateClustersConfig;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
@@ -41,7 +42,7 @@ import org.junit.jupiter.api.Test;
  */
 class UniqueErrorGeneratorTest {
 
-  private final AnalyzerStatusCache analyzerStatusCache = mock(AnalyzerStatusCache.class);
+  private final AnalysisStatusRegistry analysisStatusRegistry = mock(AnalysisStatusRegistry.class);
 
   private final PipelineConstructor<GenerateClustersConfig> pipelineConstructor = (PipelineConstructor<GenerateClustersConfig>) mock(
       PipelineConstructor.class);
@@ -49,14 +50,14 @@ class UniqueErrorGeneratorTest {
   private final TransactionalPipeline transactionalPipeline = mock(TransactionalPipeline.class);
 
   private final UniqueErrorGenerator clusterGenerator = new UniqueErrorGenerator(
-      analyzerStatusCache,
+      analysisStatusRegistry,
       pipelineConstructor,
       transactionalPipeline
   );
 
   @Test
   void shouldFailWhenCacheContainsLaunchId() {
-    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(true);
+    when(analysisStatusRegistry.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(false);
 
     final GenerateClustersConfig config = getConfig(false);
 
@@ -66,34 +67,33 @@ class UniqueErrorGeneratorTest {
         exception.getMessage());
 
     final ClusterEntityContext entityContext = config.getEntityContext();
-    verify(analyzerStatusCache, times(0)).analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
-        entityContext.getLaunchId(),
-        entityContext.getProjectId()
-    );
+    verify(pipelineConstructor, times(0)).construct(any(GenerateClustersConfig.class));
+    verify(analysisStatusRegistry, times(0)).analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
+        entityContext.getLaunchId());
   }
 
   @Test
   void shouldGenerate() {
-    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analysisStatusRegistry.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
 
     final GenerateClustersConfig config = getConfig(false);
 
     clusterGenerator.generate(config);
 
     final ClusterEntityContext entityContext = config.getEntityContext();
-    verify(analyzerStatusCache, times(1)).analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeStarted(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId(),
         entityContext.getProjectId()
     );
     verify(pipelineConstructor, times(1)).construct(config);
     verify(transactionalPipeline, times(1)).run(anyList());
-    verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId());
   }
 
   @Test
   void shouldCleanCacheWhenExceptionThrown() {
-    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analysisStatusRegistry.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
 
     final GenerateClustersConfig config = getConfig(false);
 
@@ -103,13 +103,13 @@ class UniqueErrorGeneratorTest {
     clusterGenerator.generate(config);
 
     final ClusterEntityContext entityContext = config.getEntityContext();
-    verify(analyzerStatusCache, times(1)).analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeStarted(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId(),
         entityContext.getProjectId()
     );
     verify(pipelineConstructor, times(1)).construct(config);
     verify(transactionalPipeline, times(1)).run(anyList());
-    verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.CLUSTER_KEY,
+    verify(analysisStatusRegistry, times(1)).analyzeFinished(AnalysisStatusRegistry.CLUSTER_KEY,
         entityContext.getLaunchId());
   }
 
@@ -0,0 +1,151 @@
+package com.epam.reportportal.base.core.launch.delete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
+import com.epam.reportportal.base.core.log.LogService;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchDeletionJobRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJob;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.LaunchDeletionJobLaunch;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.epam.reportportal.base.model.activity.LaunchActivityResource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class LaunchDeletionServiceTest {
+
+  private final LaunchContentChunkRemover chunkRemover = mock(LaunchContentChunkRemover.class);
+  private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+  private final LaunchDeletionJobRepository jobRepository = mock(
+      LaunchDeletionJobRepository.class);
+  private final LogIndexer logIndexer = mock(LogIndexer.class);
+  private final LogService logService = mock(LogService.class);
+
+  private final LaunchDeletionService deletionService = new LaunchDeletionService(chunkRemover,
+      testItemRepository, jobRepository, logIndexer, logService, new SyncTaskExecutor(), 2, 3,
+      Duration.ofMinutes(1), Duration.ofMinutes(2));
+
+  private LaunchDeletionJob saved;
+
+  @BeforeEach
+  void setUp() {
+    AtomicLong rowId = new AtomicLong();
+    when(jobRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+      saved = invocation.getArgument(0);
+      saved.getLaunches().forEach(launch -> launch.setId(rowId.incrementAndGet()));
+      return saved;
+    });
+    when(jobRepository.findWithLaunchesById(anyString())).thenAnswer(
+        invocation -> Optional.ofNullable(saved)
+            .filter(job -> job.getId().equals(invocation.getArgument(0))));
+  }
+
+  @Test
+  void itemsAndLogsAreRemovedByChunks() {
+    when(testItemRepository.findIdsByLaunchIdOrderByIdDesc(1L)).thenReturn(
+        List.of(5L, 4L, 3L, 2L, 1L));
+    when(chunkRemover.removeItemLogs(List.of(5L, 4L), 3)).thenReturn(3, 3, 1);
+    when(chunkRemover.removeLaunchLogs(1L, 3)).thenReturn(3, 0);
+
+    LaunchDeletionJob job = deletionService.submit(10L, 20L, 30L, "user", launches(1L));
+
+    InOrder inOrder = inOrder(chunkRemover, jobRepository);
+    inOrder.verify(chunkRemover).removeLaunchContent(1L);
+    inOrder.verify(chunkRemover, times(3)).removeItemLogs(List.of(5L, 4L), 3);
+    inOrder.verify(chunkRemover).removeItems(List.of(5L, 4L));
+    inOrder.verify(chunkRemover).removeItems(List.of(3L, 2L));
+    inOrder.verify(chunkRemover).removeItems(List.of(1L));
+    inOrder.verify(chunkRemover, times(2)).removeLaunchLogs(1L, 3);
+    inOrder.verify(chunkRemover).removeLaunch(job, job.getLaunches().get(0));
+    inOrder.verify(jobRepository)
+        .finish(eq(job.getId()), eq(LaunchDeletionJob.Status.COMPLETED), any());
+    assertEquals(10L, job.getProjectId());
+  }
+
+  @Test
+  void failedLaunchDoesNotStopJob() {
+    when(testItemRepository.findIdsByLaunchIdOrderByIdDesc(1L)).thenReturn(List.of(2L));
+    doThrow(new IllegalStateException("lock timeout")).when(chunkRemover)
+        .removeItems(List.of(2L));
+
+    LaunchDeletionJob job = deletionService.submit(10L, 20L, 30L, "user", launches(1L, 3L));
+
+    LaunchDeletionJobLaunch failed = job.getLaunches().get(0);
+    LaunchDeletionJobLaunch deleted = job.getLaunches().get(1);
+    verify(chunkRemover, never()).removeLaunch(job, failed);
+    verify(chunkRemover, never()).removeLaunchLogs(eq(1L), anyInt());
+    verify(jobRepository).updateLaunchStatus(failed.getId(),
+        LaunchDeletionJobLaunch.Status.FAILED);
+    verify(chunkRemover).removeLaunch(job, deleted);
+    verify(jobRepository).finish(eq(job.getId()), eq(LaunchDeletionJob.Status.COMPLETED), any());
+  }
+
+  @Test
+  void launchesBeingDeletedAreRejected() {
+    when(jobRepository.saveAndFlush(any())).thenThrow(
+        new DataIntegrityViolationException("launch_deletion_job_launch_deleting_uniq"));
+
+    assertThrows(ReportPortalException.class,
+        () -> deletionService.submit(10L, 20L, 30L, "user", launches(1L)));
+
+    verify(chunkRemover, never()).removeLaunchContent(any());
+  }
+
+  @Test
+  void abandonedJobIsResumedByLeaseOwner() {
+    LaunchDeletionJob job = jobRepository.saveAndFlush(job("abandoned", 1L));
+    when(jobRepository.findIdsWithExpiredLease(eq(LaunchDeletionJob.Status.IN_PROGRESS), any()))
+        .thenReturn(List.of("abandoned", "taken"));
+    when(jobRepository.acquireLease(eq("abandoned"), any(), anyString(), any(), any()))
+        .thenReturn(1);
+    when(jobRepository.acquireLease(eq("taken"), any(), anyString(), any(), any()))
+        .thenReturn(0);
+
+    deletionService.resumeOnStartup();
+
+    verify(chunkRemover).removeLaunch(job, job.getLaunches().get(0));
+    verify(jobRepository).finish(eq("abandoned"), eq(LaunchDeletionJob.Status.COMPLETED), any());
+    verify(jobRepository, never()).finish(eq("taken"), any(), any());
+  }
+
+  private LaunchDeletionJob job(String id, Long launchId) {
+    LaunchDeletionJob job = new LaunchDeletionJob();
+    job.setId(id);
+    job.setProjectId(10L);
+    job.setStatus(LaunchDeletionJob.Status.IN_PROGRESS);
+    job.addLaunch(launchId, "launch");
+    return job;
+  }
+
+  private Map<Long, LaunchActivityResource> launches(Long... ids) {
+    Map<Long, LaunchActivityResource> launches = new LinkedHashMap<>();
+    for (Long id : ids) {
+      LaunchActivityResource resource = new LaunchActivityResource();
+      resource.setId(id);
+      launches.put(id, resource);
+    }
+    return launches;
+  }
+}
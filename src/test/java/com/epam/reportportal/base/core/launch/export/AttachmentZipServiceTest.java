@@ -0,0 +1,79 @@
+package com.epam.reportportal.base.core.launch.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.launch.export.AttachmentZipService.AttachmentZipWriter;
+import com.epam.reportportal.base.infrastructure.persistence.binary.DataStoreService;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+class AttachmentZipServiceTest {
+
+  private final DataStoreService dataStoreService = mock(DataStoreService.class);
+
+  private final AttachmentZipService zipService = new AttachmentZipService(dataStoreService,
+      new SyncTaskExecutor(), 2);
+
+  @Test
+  void filesAreWrittenInOrderOfAdding() throws IOException {
+    when(dataStoreService.load("1")).thenReturn(Optional.of(content("first")));
+    when(dataStoreService.load("2")).thenReturn(Optional.empty());
+    when(dataStoreService.load("3")).thenReturn(Optional.of(content("third")));
+    when(dataStoreService.load("4")).thenReturn(Optional.of(content("fourth")));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ZipOutputStream zipOut = new ZipOutputStream(out);
+        AttachmentZipWriter writer = zipService.openWriter(zipOut)) {
+      writer.add("1", "suite/first.txt");
+      writer.add("2", "suite/missing.txt");
+      writer.add("3", "suite/test/third.txt");
+      writer.add("4", "fourth.txt");
+      writer.finish();
+    }
+
+    List<String> entries = new ArrayList<>();
+    List<String> contents = new ArrayList<>();
+    try (ZipInputStream zipIn = new ZipInputStream(
+        new ByteArrayInputStream(out.toByteArray()))) {
+      ZipEntry entry;
+      while ((entry = zipIn.getNextEntry()) != null) {
+        entries.add(entry.getName());
+        contents.add(new String(zipIn.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+
+    assertEquals(List.of("suite/first.txt", "suite/test/third.txt", "fourth.txt"), entries);
+    assertEquals(List.of("first", "third", "fourth"), contents);
+  }
+
+  @Test
+  void notWrittenFilesAreClosed() throws IOException {
+    InputStream content = mock(InputStream.class);
+    when(dataStoreService.load("1")).thenReturn(Optional.of(content));
+
+    try (ZipOutputStream zipOut = new ZipOutputStream(new ByteArrayOutputStream());
+        AttachmentZipWriter writer = zipService.openWriter(zipOut)) {
+      writer.add("1", "first.txt");
+    }
+
+    verify(content).close();
+  }
+
+  private InputStream content(String value) {
+    return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,68 @@
+package com.epam.reportportal.base.core.launch.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItemResults;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PagedTestItemCollectionTest {
+
+  private static final Long LAUNCH_ID = 1L;
+
+  private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+  @Test
+  void itemsAreReadByKeysetPages() {
+    Instant startTime = Instant.now();
+    TestItem first = testItem(1L, startTime);
+    TestItem second = testItem(2L, startTime);
+    TestItem third = testItem(3L, startTime.plusSeconds(1));
+    when(testItemRepository.selectTestItemsProjectionPage(LAUNCH_ID, null, null, 2)).thenReturn(
+        List.of(first, second));
+    when(testItemRepository.selectTestItemsProjectionPage(LAUNCH_ID, startTime, 2L, 2)).thenReturn(
+        List.of(third));
+
+    List<Long> ids = new ArrayList<>();
+    new PagedTestItemCollection(testItemRepository, LAUNCH_ID, 2).forEach(
+        it -> ids.add(it.getId()));
+
+    assertEquals(List.of(1L, 2L, 3L), ids);
+    verify(testItemRepository, times(2)).selectTestItemsProjectionPage(
+        eq(LAUNCH_ID), any(),
+        any(), eq(2));
+  }
+
+  @Test
+  void emptyLaunch() {
+    when(testItemRepository.selectTestItemsProjectionPage(LAUNCH_ID, null, null, 2)).thenReturn(
+        List.of());
+
+    assertTrue(new PagedTestItemCollection(testItemRepository, LAUNCH_ID, 2).isEmpty());
+  }
+
+  private TestItem testItem(Long id, Instant startTime) {
+    TestItem item = new TestItem();
+    item.setItemId(id);
+    item.setName("item" + id);
+    item.setType(TestItemTypeEnum.STEP);
+    item.setPath(String.valueOf(id));
+    item.setStartTime(startTime);
+    item.setItemResults(new TestItemResults());
+    item.getItemResults().setStatus(StatusEnum.PASSED);
+    return item;
+  }
+}
@@ -20,9 +20,16 @@ import static com.epam.reportportal.base.ReportPortalUserUtil.getRpUser;
 import static com.epam.reportportal.base.core.launch.impl.LaunchTestUtil.getLaunch;
 import static com.epam.reportportal.base.infrastructure.persistence.util.MembershipUtils.rpUserToMembership;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.epam.reportportal.base.core.launch.delete.LaunchDeletionService;
+
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.AttachmentRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
@@ -32,6 +39,8 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.organization
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.ProjectRole;
 import com.epam.reportportal.base.infrastructure.persistence.entity.user.UserRole;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.epam.reportportal.base.model.launch.DeleteLaunchesRS;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -50,6 +59,9 @@ class DeleteLaunchHandlerImplTest {
   @Mock
   private AttachmentRepository attachmentRepository;
 
+  @Mock
+  private LaunchDeletionService launchDeletionService;
+
   @InjectMocks
   private DeleteLaunchHandlerImpl handler;
 
@@ -93,4 +105,22 @@ class DeleteLaunchHandlerImplTest {
         () -> handler.deleteLaunch(1L, rpUserToMembership(rpUser), rpUser));
   }
 
+  @Test
+  void deleteLaunchesBeingDeleted() {
+    final ReportPortalUser rpUser = getRpUser("test", UserRole.ADMINISTRATOR, OrganizationRole.MEMBER,
+        ProjectRole.VIEWER, 1L);
+    when(launchRepository.findById(1L)).thenReturn(
+        getLaunch(StatusEnum.PASSED, LaunchModeEnum.DEFAULT));
+    when(launchDeletionService.isDeleting(1L)).thenReturn(true);
+
+    final DeleteLaunchesRS response = handler.deleteLaunches(List.of(1L),
+        rpUserToMembership(rpUser), rpUser);
+
+    assertTrue(response.getAccepted().isEmpty());
+    assertNull(response.getJobId());
+    assertEquals("Forbidden operation. Launch '1' is already being deleted",
+        response.getErrors().get(0).getMessage());
+    verify(launchDeletionService, never()).submit(any(), any(), any(), any(), any());
+  }
+
 }
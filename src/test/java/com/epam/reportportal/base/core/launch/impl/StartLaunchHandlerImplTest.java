@@ -25,9 +25,12 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.events.MessageBus;
 import com.epam.reportportal.base.core.launch.attribute.LaunchAttributeHandlerService;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextCache;
+import com.epam.reportportal.base.core.launch.cache.LaunchReportingContextInvalidation;
 import com.epam.reportportal.base.core.launch.rerun.RerunHandler;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
@@ -42,9 +45,11 @@ import com.epam.reportportal.base.reporting.StartLaunchRQ;
 import com.epam.reportportal.base.reporting.StartLaunchRS;
 import com.epam.reportportal.base.ws.converter.builders.LaunchBuilder;
 import java.time.Instant;
+import java.util.Set;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -77,6 +82,9 @@ class StartLaunchHandlerImplTest {
   @Mock
   private LaunchBuilder launchBuilder;
 
+  @Mock
+  private LaunchReportingContextCache launchReportingContextCache;
+
   @InjectMocks
   private StartLaunchHandlerImpl startLaunchHandlerImpl;
 
@@ -104,10 +112,35 @@ class StartLaunchHandlerImplTest {
         );
 
     verify(launchRepository, times(1)).refresh(any(Launch.class));
+    verify(launchReportingContextCache, times(1)).put(any(Launch.class));
     verify(eventPublisher, times(1)).publishEvent(any());
     assertNotNull(startLaunchRS);
   }
 
+  @Test
+  void startRerunInvalidatesReportingContexts() {
+    final ReportPortalUser rpUser = getRpUser("test", UserRole.ADMINISTRATOR, OrganizationRole.MEMBER,
+        ProjectRole.EDITOR, 1L);
+
+    StartLaunchRQ startLaunchRQ = new StartLaunchRQ();
+    startLaunchRQ.setStartTime(Instant.now());
+    startLaunchRQ.setName("test");
+    startLaunchRQ.setRerun(true);
+
+    Launch launch = new Launch();
+    launch.setId(1L);
+    launch.setRerun(true);
+    when(rerunHandler.handleLaunch(any(), any(), any())).thenReturn(launch);
+
+    startLaunchHandlerImpl.startLaunch(rpUser, rpUserToMembership(rpUser), startLaunchRQ);
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+    LaunchReportingContextInvalidation invalidation =
+        (LaunchReportingContextInvalidation) eventCaptor.getValue();
+    assertEquals(Set.of(1L), invalidation.getLaunchIds());
+  }
+
   @Test
   @Disabled("waiting for requirements")
   void startLaunchForCustomerRoleAndDebugMode() {
@@ -0,0 +1,169 @@
+package com.epam.reportportal.base.core.log;
+
+import static com.epam.reportportal.base.core.configs.rabbit.BackgroundProcessingConfiguration.LOG_MESSAGE_SAVING_ROUTING_KEY;
+import static com.epam.reportportal.base.core.configs.rabbit.BackgroundProcessingConfiguration.PROCESSING_EXCHANGE_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.custom.ElasticSearchClient;
+import com.epam.reportportal.base.infrastructure.persistence.entity.log.LogMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpTemplate;
+
+class ElasticLogBulkIndexerTest {
+
+  private static final Long PROJECT_ID = 1L;
+
+  private final ElasticSearchClient elasticSearchClient = mock(ElasticSearchClient.class);
+  private final AmqpTemplate amqpTemplate = mock(AmqpTemplate.class);
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private ElasticLogBulkIndexer indexer;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    indexer = new ElasticLogBulkIndexer(elasticSearchClient, amqpTemplate, 10, Duration.ofMillis(100), 1,
+        Duration.ofMillis(10), 1, 2, meterRegistry);
+  }
+
+  @Test
+  void throttledDocumentsAreRetriedOneByOne() {
+    LogMessage first = logMessage(1L);
+    LogMessage second = logMessage(2L);
+    when(elasticSearchClient.bulkCreate(PROJECT_ID, List.of(first, second))).thenReturn(
+        Map.of(1, 429));
+    when(elasticSearchClient.bulkCreate(PROJECT_ID, List.of(second))).thenReturn(Map.of());
+
+    indexer.index(PROJECT_ID, List.of(first, second));
+
+    verify(elasticSearchClient, times(1)).bulkCreate(PROJECT_ID, List.of(second));
+    assertEquals(2.0, documents("indexed"));
+    assertEquals(0.0, documents("failed"));
+  }
+
+  @Test
+  void invalidDocumentsAreNotRetried() {
+    LogMessage first = logMessage(1L);
+    when(elasticSearchClient.bulkCreate(PROJECT_ID, List.of(first))).thenReturn(Map.of(0, 400));
+
+    indexer.index(PROJECT_ID, List.of(first));
+
+    verify(elasticSearchClient, times(1)).bulkCreate(PROJECT_ID, List.of(first));
+    verify(amqpTemplate, never()).convertAndSend(any(), any(), any(Object.class));
+    assertEquals(0.0, documents("indexed"));
+    assertEquals(1.0, documents("failed"));
+  }
+
+  @Test
+  void failedBulkRequestIsRequeued() {
+    LogMessage first = logMessage(1L);
+    LogMessage second = logMessage(2L);
+    when(elasticSearchClient.bulkCreate(PROJECT_ID, List.of(first, second))).thenThrow(
+        new RuntimeException("Connection refused"));
+
+    indexer.index(PROJECT_ID, List.of(first, second));
+
+    verify(amqpTemplate).convertAndSend(PROCESSING_EXCHANGE_NAME, LOG_MESSAGE_SAVING_ROUTING_KEY,
+        first);
+    verify(amqpTemplate).convertAndSend(PROCESSING_EXCHANGE_NAME, LOG_MESSAGE_SAVING_ROUTING_KEY,
+        second);
+    assertEquals(2.0, documents("requeued"));
+    assertEquals(0.0, documents("failed"));
+  }
+
+  @Test
+  void documentsAreRequeuedWhenRetriesAreExhausted() {
+    LogMessage first = logMessage(1L);
+    when(elasticSearchClient.bulkCreate(PROJECT_ID, List.of(first))).thenReturn(Map.of(0, 503));
+
+    indexer.index(PROJECT_ID, List.of(first));
+
+    verify(elasticSearchClient, times(3)).bulkCreate(PROJECT_ID, List.of(first));
+    verify(amqpTemplate).convertAndSend(PROCESSING_EXCHANGE_NAME, LOG_MESSAGE_SAVING_ROUTING_KEY,
+        first);
+    assertEquals(1.0, documents("requeued"));
+  }
+
+  @Test
+  void bufferedMessagesAreRequeuedOnStop() throws InterruptedException {
+    indexer.start();
+    when(elasticSearchClient.bulkCreate(anyLong(), anyList())).thenThrow(
+        new RuntimeException("Connection refused"));
+    LogMessage first = logMessage(1L);
+
+    indexer.offer(first);
+    indexer.stop();
+
+    verify(amqpTemplate).convertAndSend(PROCESSING_EXCHANGE_NAME, LOG_MESSAGE_SAVING_ROUTING_KEY,
+        first);
+    assertEquals(1.0, documents("requeued"));
+  }
+
+  @Test
+  void batchWaitingForBulkRequestSlotIsRequeuedOnStop() throws InterruptedException {
+    indexer = new ElasticLogBulkIndexer(elasticSearchClient, amqpTemplate, 10, Duration.ofMillis(50), 10,
+        Duration.ofMillis(10), 1, 2, meterRegistry);
+    CountDownLatch indexing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(elasticSearchClient.bulkCreate(anyLong(), anyList())).thenAnswer(invocation -> {
+      indexing.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return Map.of();
+    });
+    LogMessage first = logMessage(1L);
+    LogMessage second = new LogMessage(2L, Instant.now(), "message 2", 1L, 1L, 2L);
+    indexer.start();
+
+    indexer.offer(first);
+    indexer.offer(second);
+    indexing.await(5, TimeUnit.SECONDS);
+    new Thread(() -> {
+      try {
+        Thread.sleep(500);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      release.countDown();
+    }).start();
+    indexer.stop();
+
+    verify(elasticSearchClient, times(1)).bulkCreate(anyLong(), anyList());
+    verify(amqpTemplate).convertAndSend(eq(PROCESSING_EXCHANGE_NAME),
+        eq(LOG_MESSAGE_SAVING_ROUTING_KEY), any(LogMessage.class));
+    assertEquals(1.0, documents("indexed"));
+    assertEquals(1.0, documents("requeued"));
+  }
+
+  @Test
+  void messagesAreRejectedWhenNotRunning() {
+    assertFalse(indexer.offer(logMessage(1L)));
+    assertEquals(1.0, documents("rejected"));
+  }
+
+  private double documents(String result) {
+    return meterRegistry.get("rp.log.bulk.documents").tag("result", result).counter().count();
+  }
+
+  private LogMessage logMessage(Long id) {
+    return new LogMessage(id, Instant.now(), "message " + id, 1L, 1L, PROJECT_ID);
+  }
+}
@@ -2,10 +2,18 @@ package com.epam.reportportal.base.core.log;
 
 import static com.epam.reportportal.base.core.configs.rabbit.BackgroundProcessingConfiguration.LOG_MESSAGE_SAVING_ROUTING_KEY;
 import static com.epam.reportportal.base.core.configs.rabbit.BackgroundProcessingConfiguration.PROCESSING_EXCHANGE_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.custom.ElasticSearchClient;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.log.LogFull;
@@ -14,7 +22,6 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.AmqpTemplate;
@@ -25,7 +32,21 @@ class ElasticLogServiceTest {
   @Mock
   private AmqpTemplate amqpTemplate;
 
-  @InjectMocks
+  @Mock
+  private ElasticSearchClient elasticSearchClient;
+
+  @Mock
+  private LogRepository logRepository;
+
+  @Mock
+  private LaunchRepository launchRepository;
+
+  @Mock
+  private TestItemRepository testItemRepository;
+
+  @Mock
+  private ElasticLogBulkIndexer bulkIndexer;
+
   private ElasticLogService elasticLogService;
 
   private LogFull logFull;
@@ -34,6 +55,8 @@ class ElasticLogServiceTest {
 
   @BeforeEach
   public void setUp() {
+    elasticLogService = elasticLogService(false);
+
     Long itemId = 1L;
     Long launchId = 1L;
     logFull = new LogFull();
@@ -59,4 +82,31 @@ class ElasticLogServiceTest {
     verify(amqpTemplate, times(1)).convertAndSend(eq(PROCESSING_EXCHANGE_NAME),
         eq(LOG_MESSAGE_SAVING_ROUTING_KEY), eq(logMessage));
   }
+
+  @Test
+  void saveLogMessageWithBulkIndexer() {
+    elasticLogService = elasticLogService(true);
+    when(bulkIndexer.offer(logMessage)).thenReturn(true);
+
+    elasticLogService.saveLogMessage(logFull, logFull.getLaunch().getId());
+
+    verify(bulkIndexer, times(1)).offer(logMessage);
+    verify(amqpTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+  }
+
+  @Test
+  void rejectedLogMessageIsSentToQueue() {
+    elasticLogService = elasticLogService(true);
+    when(bulkIndexer.offer(logMessage)).thenReturn(false);
+
+    elasticLogService.saveLogMessage(logFull, logFull.getLaunch().getId());
+
+    verify(amqpTemplate, times(1)).convertAndSend(eq(PROCESSING_EXCHANGE_NAME),
+        eq(LOG_MESSAGE_SAVING_ROUTING_KEY), eq(logMessage));
+  }
+
+  private ElasticLogService elasticLogService(boolean bulkIndexingEnabled) {
+    return new ElasticLogService(amqpTemplate, elasticSearchClient, logRepository,
+        launchRepository, testItemRepository, bulkIndexer, bulkIndexingEnabled);
+  }
 }
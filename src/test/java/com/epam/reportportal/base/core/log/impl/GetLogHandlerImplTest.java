@@ -55,9 +55,12 @@ class GetLogHandlerTest {
   private final LogFilterPreparator logFilterPreparator = mock(LogFilterPreparator.class);
   private final LogTypeResolver logTypeResolver = mock(LogTypeResolver.class);
   private final LogSearchCollector logSearchCollector = mock(LogSearchCollector.class);
+  private final NestedLogLocationCollector nestedLogLocationCollector = mock(
+      NestedLogLocationCollector.class);
 
   private final GetLogHandler getLogHandler = new GetLogHandlerImpl(logRepository, logService,
-      testItemRepository, testItemService, logConverter, logFilterPreparator, logTypeResolver, logSearchCollector);
+      testItemRepository, testItemService, logConverter, logFilterPreparator, logTypeResolver, logSearchCollector,
+      nestedLogLocationCollector);
 
   @Test
   void getLogs() {
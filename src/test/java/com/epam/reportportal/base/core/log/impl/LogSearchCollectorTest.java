@@ -0,0 +1,106 @@
+package com.epam.reportportal.base.core.log.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.log.impl.GetLogHandlerImpl.LogLocationParams;
+import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Queryable;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemPage;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItemResults;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+class LogSearchCollectorTest {
+
+  private static final Long PARENT_ID = 1L;
+  private static final Long NESTED_STEP_ID = 2L;
+
+  private final LogRepository logRepository = mock(LogRepository.class);
+  private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+  private final Queryable filterWithMessage = mock(Queryable.class);
+  private final Queryable filterNoMessage = mock(Queryable.class);
+
+  private final LogSearchCollector collector = new LogSearchCollector(logRepository,
+      testItemRepository);
+
+  private final LogLocationParams params = new LogLocationParams(false, false, true);
+
+  @BeforeEach
+  void setUp() {
+    when(testItemRepository.findById(PARENT_ID)).thenReturn(Optional.of(testItem(PARENT_ID)));
+    when(testItemRepository.findById(NESTED_STEP_ID)).thenReturn(
+        Optional.of(testItem(NESTED_STEP_ID)));
+
+    when(logRepository.findNestedItems(eq(PARENT_ID), anyBoolean(), anyBoolean(),
+        eq(filterWithMessage), any())).thenReturn(
+        new PageImpl<>(List.of(log(10L), log(11L), log(12L))));
+    when(logRepository.findNestedItemsWithPage(eq(PARENT_ID), anyBoolean(), anyBoolean(),
+        eq(filterNoMessage), any())).thenReturn(List.of(
+        page(10L, LogRepositoryConstants.LOG, 1),
+        page(11L, LogRepositoryConstants.LOG, 1),
+        page(NESTED_STEP_ID, LogRepositoryConstants.ITEM, 2),
+        page(12L, LogRepositoryConstants.LOG, 2)));
+
+    when(logRepository.findNestedItems(eq(NESTED_STEP_ID), anyBoolean(), anyBoolean(),
+        eq(filterWithMessage), any())).thenReturn(new PageImpl<>(List.of(log(20L))));
+    when(logRepository.findNestedItemsWithPage(eq(NESTED_STEP_ID), anyBoolean(), anyBoolean(),
+        eq(filterNoMessage), any())).thenReturn(List.of(
+        page(20L, LogRepositoryConstants.LOG, 1),
+        page(21L, LogRepositoryConstants.LOG, 1)));
+  }
+
+  @Test
+  void searchStopsAfterRequestedPage() {
+    LogSearchCollector.SearchPage page = collector.collect(PARENT_ID, params, filterWithMessage,
+        filterNoMessage, PageRequest.of(0, 1));
+
+    assertEquals(List.of(10L), page.content().stream().map(PagedLogResource::getId).toList());
+    assertEquals(List.of(Map.entry(10L, 1)), page.content().get(0).getPagesLocation());
+    assertEquals(2L, page.total());
+    verify(testItemRepository, never()).findById(NESTED_STEP_ID);
+  }
+
+  @Test
+  void nestedLogsAreFoundInTreeOrder() {
+    LogSearchCollector.SearchPage page = collector.collect(PARENT_ID, params, filterWithMessage,
+        filterNoMessage, PageRequest.of(1, 2));
+
+    assertEquals(List.of(20L, 12L), page.content().stream().map(PagedLogResource::getId).toList());
+    assertEquals(List.of(Map.entry(NESTED_STEP_ID, 2), Map.entry(20L, 1)),
+        page.content().get(0).getPagesLocation());
+    assertEquals(4L, page.total());
+  }
+
+  private TestItem testItem(Long id) {
+    TestItem item = new TestItem();
+    item.setItemId(id);
+    item.setItemResults(new TestItemResults());
+    item.getItemResults().setStatus(StatusEnum.FAILED);
+    return item;
+  }
+
+  private NestedItem log(Long id) {
+    return new NestedItem(id, LogRepositoryConstants.LOG, 40000);
+  }
+
+  private NestedItemPage page(Long id, String type, Integer pageNumber) {
+    return new NestedItemPage(id, type, 40000, pageNumber);
+  }
+}
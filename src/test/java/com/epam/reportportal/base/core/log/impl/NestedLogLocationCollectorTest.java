@@ -0,0 +1,89 @@
+package com.epam.reportportal.base.core.log.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.log.impl.GetLogHandlerImpl.LogLocationParams;
+import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Queryable;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.LogLevel;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedTreeItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItemResults;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class NestedLogLocationCollectorTest {
+
+  private static final Long ROOT_ID = 1L;
+
+  private final LogRepository logRepository = mock(LogRepository.class);
+  private final Queryable filter = mock(Queryable.class);
+  private final Pageable pageable = PageRequest.of(0, 50);
+
+  private final NestedLogLocationCollector collector = new NestedLogLocationCollector(
+      logRepository);
+
+  @Test
+  void logsAreCollectedInTreeOrder() {
+    when(logRepository.findNestedTreeWithPages(eq(ROOT_ID), eq("1"), eq(false), eq(filter),
+        eq(pageable), eq(NestedLogLocationCollector.NESTED_STEP_MAX_PAGE_SIZE))).thenReturn(List.of(
+        log(100L, ROOT_ID, LogLevel.ERROR_INT, 1),
+        step(2L, ROOT_ID, StatusEnum.FAILED, 1),
+        step(3L, ROOT_ID, StatusEnum.PASSED, 2),
+        log(101L, ROOT_ID, LogLevel.INFO_INT, 2),
+        log(200L, 2L, LogLevel.ERROR_INT, 1),
+        log(300L, 3L, LogLevel.ERROR_INT, 1)));
+
+    List<PagedLogResource> logs = collector.collect(rootItem(StatusEnum.FAILED),
+        new LogLocationParams(false, false, true), filter, pageable,
+        log -> log.getLogLevel() >= LogLevel.ERROR_INT);
+
+    assertEquals(List.of(100L, 200L, 300L), logs.stream().map(PagedLogResource::getId).toList());
+    assertEquals(List.of(Map.entry(2L, 1), Map.entry(200L, 1)), logs.get(1).getPagesLocation());
+    assertEquals(List.of(Map.entry(3L, 2), Map.entry(300L, 1)), logs.get(2).getPagesLocation());
+  }
+
+  @Test
+  void passedStepsAreNotTraversedWhenPassedLogsExcluded() {
+    when(logRepository.findNestedTreeWithPages(anyLong(), anyString(), anyBoolean(), any(), any(),
+        anyInt())).thenReturn(List.of(
+        step(2L, ROOT_ID, StatusEnum.PASSED, 1),
+        log(200L, 2L, LogLevel.ERROR_INT, 1)));
+
+    List<PagedLogResource> logs = collector.collect(rootItem(StatusEnum.FAILED),
+        new LogLocationParams(false, true, true), filter, pageable, log -> true);
+
+    assertTrue(logs.isEmpty());
+  }
+
+  private TestItem rootItem(StatusEnum status) {
+    TestItem item = new TestItem();
+    item.setItemId(ROOT_ID);
+    item.setPath(String.valueOf(ROOT_ID));
+    item.setItemResults(new TestItemResults());
+    item.getItemResults().setStatus(status);
+    return item;
+  }
+
+  private NestedTreeItem step(Long id, Long parentId, StatusEnum status, int page) {
+    return new NestedTreeItem(id, parentId, LogRepositoryConstants.ITEM, 0, status, page);
+  }
+
+  private NestedTreeItem log(Long id, Long parentId, int level, int page) {
+    return new NestedTreeItem(id, parentId, LogRepositoryConstants.LOG, level, null, page);
+  }
+}
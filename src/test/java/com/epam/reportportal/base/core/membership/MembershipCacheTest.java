@@ -0,0 +1,68 @@
+package com.epam.reportportal.base.core.membership;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.base.infrastructure.persistence.entity.organization.MembershipDetails;
+import com.epam.reportportal.base.infrastructure.persistence.entity.project.ProjectRole;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MembershipCacheTest {
+
+  private final MembershipCache cache = new MembershipCache(10, Duration.ofMinutes(1));
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void membershipIsLoadedOnce() {
+    MembershipDetails first = cache.get(1L, "project", this::load).orElseThrow();
+    first.setProjectRole(ProjectRole.VIEWER);
+    MembershipDetails second = cache.get(1L, "project", this::load).orElseThrow();
+
+    assertEquals(1, loads.get());
+    assertNotSame(first, second);
+    assertEquals(ProjectRole.EDITOR, second.getProjectRole());
+  }
+
+  @Test
+  void absentMembershipIsCached() {
+    assertTrue(cache.get(1L, "foreign", () -> {
+      loads.incrementAndGet();
+      return Optional.empty();
+    }).isEmpty());
+    assertTrue(cache.get(1L, "foreign", this::load).isEmpty());
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void invalidationByUserAndProject() {
+    cache.get(1L, "project", this::load);
+    cache.get(2L, "project", this::load);
+
+    cache.invalidate(MembershipInvalidation.ofUsers(List.of(1L)));
+    cache.get(1L, "project", this::load);
+    cache.get(2L, "project", this::load);
+    assertEquals(3, loads.get());
+
+    cache.invalidate(MembershipInvalidation.ofProject(10L, List.of()));
+    cache.get(1L, "project", this::load);
+    cache.get(2L, "project", this::load);
+    assertEquals(5, loads.get());
+  }
+
+  private Optional<MembershipDetails> load() {
+    loads.incrementAndGet();
+    return Optional.of(MembershipDetails.builder()
+        .withOrgId(100L)
+        .withProjectId(10L)
+        .withProjectKey("project")
+        .withProjectRole(ProjectRole.EDITOR)
+        .build());
+  }
+}
@@ -0,0 +1,87 @@
+package com.epam.reportportal.base.core.project.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ProjectConfigCacheTest {
+
+  private final ProjectConfigProvider provider = mock(ProjectConfigProvider.class);
+
+  private final ProjectConfigCache cache = new ProjectConfigCache(provider, 10,
+      Duration.ofMinutes(1));
+
+  @Test
+  void configIsLoadedOnce() {
+    when(provider.provide(1L)).thenReturn(Map.of("analyzer.isAutoAnalyzerEnabled", "true"));
+
+    ProjectConfigSnapshot first = cache.get(1L);
+    ProjectConfigSnapshot second = cache.get(1L);
+
+    assertSame(first, second);
+    assertEquals("true", second.config().get("analyzer.isAutoAnalyzerEnabled"));
+    assertThrows(UnsupportedOperationException.class, () -> second.config().put("key", "value"));
+    verify(provider, times(1)).provide(1L);
+  }
+
+  @Test
+  void invalidationByProject() {
+    when(provider.provide(1L)).thenReturn(Map.of("key", "first"), Map.of("key", "second"));
+    when(provider.provide(2L)).thenReturn(Map.of("key", "other"));
+    cache.get(1L);
+    cache.get(2L);
+
+    cache.invalidate(ProjectConfigInvalidation.ofProjects(List.of(1L)));
+
+    ProjectConfigSnapshot snapshot = cache.get(1L);
+    assertEquals("second", snapshot.config().get("key"));
+    assertEquals(1L, snapshot.version());
+    cache.get(2L);
+    verify(provider, times(2)).provide(1L);
+    verify(provider, times(1)).provide(2L);
+  }
+
+  @Test
+  void invalidationOfAll() {
+    when(provider.provide(1L)).thenReturn(Map.of());
+    when(provider.provide(2L)).thenReturn(Map.of());
+    cache.get(1L);
+    cache.get(2L);
+
+    cache.invalidate(ProjectConfigInvalidation.ofAll());
+    cache.get(1L);
+    cache.get(2L);
+
+    verify(provider, times(2)).provide(1L);
+    verify(provider, times(2)).provide(2L);
+  }
+
+  @Test
+  void snapshotLoadedBeforeInvalidationIsNotReused() {
+    AtomicReference<String> value = new AtomicReference<>("outdated");
+    when(provider.provide(1L)).thenAnswer(invocation -> {
+      Map<String, String> config = Map.of("key", value.get());
+      // the project is updated while its previous configuration is being loaded
+      if ("outdated".equals(value.get())) {
+        value.set("actual");
+        cache.invalidate(ProjectConfigInvalidation.ofProjects(List.of(1L)));
+      }
+      return config;
+    });
+
+    assertEquals("outdated", cache.get(1L).config().get("key"));
+    assertEquals("actual", cache.get(1L).config().get("key"));
+    assertEquals("actual", cache.get(1L).config().get("key"));
+    verify(provider, times(2)).provide(1L);
+  }
+}
@@ -28,7 +28,7 @@ import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.analyzer.auto.LogIndexer;
 import com.epam.reportportal.base.core.analyzer.auto.client.AnalyzerServiceClient;
-import com.epam.reportportal.base.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.reportportal.base.core.analyzer.auto.impl.AnalysisStatusRegistry;
 import com.epam.reportportal.base.core.events.domain.ProjectDeletedEvent;
 import com.epam.reportportal.base.core.events.domain.ProjectIndexEvent;
 import com.epam.reportportal.base.core.remover.ContentRemover;
@@ -48,8 +48,6 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.user.User;
 import com.epam.reportportal.base.infrastructure.persistence.entity.user.UserRole;
 import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
 import com.epam.reportportal.base.reporting.OperationCompletionRS;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
 import java.util.List;
@@ -81,7 +79,7 @@ class DeleteProjectHandlerImplTest {
   private AnalyzerServiceClient analyzerServiceClient;
 
   @Mock
-  private AnalyzerStatusCache analyzerStatusCache;
+  private AnalysisStatusRegistry analysisStatusRegistry;
 
   @Mock
   private ApplicationEventPublisher applicationEventPublisher;
@@ -170,10 +168,8 @@ class DeleteProjectHandlerImplTest {
     when(projectRepository.findByKey(projectKey)).thenReturn(
         Optional.of(getProjectWithAnalyzerAttributes(projectId, false)));
     when(userRepository.findByLogin(userName)).thenReturn(Optional.of(new User()));
-    Cache<Long, Long> cache = CacheBuilder.newBuilder().build();
-    cache.put(2L, projectId);
-    when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(
-        Optional.of(cache));
+    when(analysisStatusRegistry.containsProjectId(AnalysisStatusRegistry.AUTO_ANALYZER_KEY,
+        projectId)).thenReturn(true);
 
     ReportPortalException exception = assertThrows(ReportPortalException.class,
         () -> handler.deleteProjectIndex(projectKey, "user"));
@@ -202,9 +198,8 @@ class DeleteProjectHandlerImplTest {
     project.setName(TEST_PROJECT_KEY);
     when(projectRepository.findByKey(TEST_PROJECT_KEY)).thenReturn(Optional.of(project));
     when(userRepository.findByLogin(userName)).thenReturn(Optional.of(new User()));
-    when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(
-        Optional.of(CacheBuilder.newBuilder()
-            .build()));
+    when(analysisStatusRegistry.containsProjectId(AnalysisStatusRegistry.AUTO_ANALYZER_KEY,
+        projectId)).thenReturn(false);
     when(analyzerServiceClient.hasClients()).thenReturn(true);
 
     OperationCompletionRS response = handler.deleteProjectIndex(TEST_PROJECT_KEY, "user");
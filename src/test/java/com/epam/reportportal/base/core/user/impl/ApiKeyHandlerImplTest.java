@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class ApiKeyHandlerImplTest {
@@ -24,6 +25,9 @@ class ApiKeyHandlerImplTest {
   @Mock
   private ApiKeyRepository apiKeyRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private ApiKeyHandlerImpl handler;
 
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.epam.reportportal.base.core.configs.security.ApiKeyPrincipalInvalidation;
 import com.epam.reportportal.base.core.events.domain.ChangeUserTypeEvent;
 import com.epam.reportportal.base.infrastructure.persistence.commons.ReportPortalUser;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ProjectRepository;
@@ -284,6 +285,7 @@ class UserMutationServiceImplTest {
       userMutationService.updateActive(user, false);
 
       assertThat(user.getActive()).isFalse();
+      verify(eventPublisher).publishEvent(ApiKeyPrincipalInvalidation.ofUser(user.getId()));
     }
   }
 
@@ -0,0 +1,68 @@
+package com.epam.reportportal.base.core.widget.content.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.reportportal.base.core.events.domain.LaunchFinishedEvent;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.base.infrastructure.persistence.entity.widget.WidgetType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class WidgetContentCacheTest {
+
+  private static final Long PROJECT_ID = 1L;
+  private static final Long WIDGET_ID = 10L;
+
+  private final WidgetContentCache cache = new WidgetContentCache(true, 100,
+      Duration.ofMinutes(1), new String[]{"activityStream"}, new SimpleMeterRegistry());
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Supplier<Map<String, ?>> loader = () -> Map.of("result", loads.incrementAndGet());
+
+  @Test
+  void contentIsLoadedOnceForSameRequest() {
+    cache.get(PROJECT_ID, WIDGET_ID, WidgetType.LAUNCH_STATISTICS, List.of("a"), loader);
+    Map<String, ?> content = cache.get(PROJECT_ID, WIDGET_ID, WidgetType.LAUNCH_STATISTICS,
+        List.of("a"), loader);
+
+    assertEquals(1, content.get("result"));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void differentRequestIsLoaded() {
+    cache.get(PROJECT_ID, WIDGET_ID, WidgetType.LAUNCH_STATISTICS, List.of("a"), loader);
+    cache.get(PROJECT_ID, WIDGET_ID, WidgetType.LAUNCH_STATISTICS, List.of("b"), loader);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void finishedLaunchInvalidatesProjectContent() {
+    cache.get(PROJECT_ID, WIDGET_ID, WidgetType.LAUNCH_STATISTICS, List.of("a"), loader);
+    cache.get(2L, WIDGET_ID, WidgetType.LAUNCH_STATISTICS, List.of("a"), loader);
+
+    Launch launch = new Launch();
+    launch.setProjectId(PROJECT_ID);
+    cache.onLaunchFinished(new LaunchFinishedEvent(launch, 1L));
+
+    cache.get(PROJECT_ID, WIDGET_ID, WidgetType.LAUNCH_STATISTICS, List.of("a"), loader);
+    cache.get(2L, WIDGET_ID, WidgetType.LAUNCH_STATISTICS, List.of("a"), loader);
+
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void excludedTypeIsNotCached() {
+    cache.get(PROJECT_ID, WIDGET_ID, WidgetType.ACTIVITY, List.of("a"), loader);
+    cache.get(PROJECT_ID, WIDGET_ID, WidgetType.ACTIVITY, List.of("a"), loader);
+
+    assertEquals(2, loads.get());
+  }
+}
@@ -0,0 +1,124 @@
+package com.epam.reportportal.base.core.widget.content.loader.materialized.generator;
+
+import static com.epam.reportportal.base.core.widget.content.constant.ContentLoaderConstants.ATTRIBUTE_KEYS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.widget.util.WidgetOptionUtil;
+import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Filter;
+import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.FilterCondition;
+import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetContentRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.base.infrastructure.persistence.entity.widget.Widget;
+import com.epam.reportportal.base.ws.converter.builders.WidgetBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.LinkedMultiValueMap;
+
+class HealthCheckTableGeneratorTest {
+
+  private static final String VIEW_NAME = "widget_1_1";
+
+  private final WidgetRepository widgetRepository = mock(WidgetRepository.class);
+  private final WidgetContentRepository widgetContentRepository = mock(
+      WidgetContentRepository.class);
+
+  private final HealthCheckTableGenerator generator = new HealthCheckTableGenerator(
+      widgetRepository, widgetContentRepository);
+
+  private final Filter filter = Filter.builder().withTarget(Launch.class)
+      .withCondition(FilterCondition.builder().eq("name", "launch").build()).build();
+
+  @Test
+  void firstGenerationBuildsView() {
+    Widget widget = getWidget();
+
+    generator.generate(true, VIEW_NAME, widget, filter, Sort.unsorted(),
+        new LinkedMultiValueMap<>());
+
+    verify(widgetContentRepository).generateComponentHealthCheckTable(eq(true), any(),
+        eq(filter), any(), anyInt(), anyBoolean());
+    verify(widgetContentRepository, never()).updateComponentHealthCheckTable(any(), any(), any(),
+        anyInt(), anyBoolean(), any());
+    assertNotNull(WidgetOptionUtil.getValueByKey(AbstractViewGenerator.VIEW_SIGNATURE,
+        widget.getWidgetOptions()));
+  }
+
+  @Test
+  void refreshOfSameDefinitionUpdatesView() {
+    Widget widget = getWidget();
+    generator.generate(true, VIEW_NAME, widget, filter, Sort.unsorted(),
+        new LinkedMultiValueMap<>());
+    Instant generated = Instant.parse(
+        WidgetOptionUtil.getValueByKey(AbstractViewGenerator.VIEW_GENERATED,
+            widget.getWidgetOptions()));
+    when(widgetContentRepository.updateComponentHealthCheckTable(any(), any(), any(), anyInt(),
+        anyBoolean(), any())).thenReturn(true);
+
+    generator.generate(true, VIEW_NAME, widget, filter, Sort.unsorted(),
+        new LinkedMultiValueMap<>());
+
+    verify(widgetContentRepository).updateComponentHealthCheckTable(any(), eq(filter), any(),
+        anyInt(), anyBoolean(), eq(generated.minus(Duration.ofMinutes(5))));
+    verify(widgetContentRepository).generateComponentHealthCheckTable(eq(true), any(), any(),
+        any(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  void changedOptionsRebuildView() {
+    Widget widget = getWidget();
+    generator.generate(true, VIEW_NAME, widget, filter, Sort.unsorted(),
+        new LinkedMultiValueMap<>());
+    new WidgetBuilder(widget).addOption(ATTRIBUTE_KEYS, List.of("component"));
+
+    generator.generate(true, VIEW_NAME, widget, filter, Sort.unsorted(),
+        new LinkedMultiValueMap<>());
+
+    verify(widgetContentRepository, never()).updateComponentHealthCheckTable(any(), any(), any(),
+        anyInt(), anyBoolean(), any());
+    verify(widgetContentRepository, times(2))
+        .generateComponentHealthCheckTable(eq(true), any(), any(), any(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  void notUpdatableViewIsRebuilt() {
+    Widget widget = getWidget();
+    generator.generate(true, VIEW_NAME, widget, filter, Sort.unsorted(),
+        new LinkedMultiValueMap<>());
+    String signature = WidgetOptionUtil.getValueByKey(AbstractViewGenerator.VIEW_SIGNATURE,
+        widget.getWidgetOptions());
+    when(widgetContentRepository.updateComponentHealthCheckTable(any(), any(), any(), anyInt(),
+        anyBoolean(), any())).thenReturn(false);
+
+    generator.generate(true, VIEW_NAME, widget, filter, Sort.unsorted(),
+        new LinkedMultiValueMap<>());
+
+    verify(widgetContentRepository, times(2))
+        .generateComponentHealthCheckTable(eq(true), any(), any(), any(), anyInt(), anyBoolean());
+    assertEquals(signature, WidgetOptionUtil.getValueByKey(AbstractViewGenerator.VIEW_SIGNATURE,
+        widget.getWidgetOptions()));
+  }
+
+  private Widget getWidget() {
+    Widget widget = new Widget();
+    widget.setId(1L);
+    widget.setItemsCount(600);
+    widget.setWidgetType("componentHealthCheckTable");
+    return new WidgetBuilder(widget).addProject(1L)
+        .addOption(ATTRIBUTE_KEYS, List.of("build"))
+        .get();
+  }
+}
@@ -22,7 +22,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.core.widget.content.materialized.generator.MaterializedViewNameGenerator;
-import com.epam.reportportal.base.infrastructure.persistence.dao.StaleMaterializedViewRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.StaleWidgetTableRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.materialized.StaleMaterializedView;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.Widget;
 import org.junit.jupiter.api.Assertions;
@@ -36,11 +36,11 @@ class StaleMaterializedViewRemoverTest {
 
   private final MaterializedViewNameGenerator nameGenerator = mock(
       MaterializedViewNameGenerator.class);
-  private final StaleMaterializedViewRepository staleMaterializedViewRepository = mock(
-      StaleMaterializedViewRepository.class);
+  private final StaleWidgetTableRepository staleWidgetTableRepository = mock(
+      StaleWidgetTableRepository.class);
   private final StaleMaterializedViewRemover staleMaterializedViewRemover = new StaleMaterializedViewRemover(
       nameGenerator,
-      staleMaterializedViewRepository
+      staleWidgetTableRepository
   );
 
   @Test
@@ -54,7 +54,7 @@ class StaleMaterializedViewRemoverTest {
 
     final ArgumentCaptor<StaleMaterializedView> viewArgumentCaptor = ArgumentCaptor.forClass(
         StaleMaterializedView.class);
-    verify(staleMaterializedViewRepository, times(1)).insert(viewArgumentCaptor.capture());
+    verify(staleWidgetTableRepository, times(1)).insert(viewArgumentCaptor.capture());
 
     final StaleMaterializedView view = viewArgumentCaptor.getValue();
 
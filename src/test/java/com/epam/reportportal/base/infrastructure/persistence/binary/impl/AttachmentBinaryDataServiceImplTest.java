@@ -0,0 +1,88 @@
+package com.epam.reportportal.base.infrastructure.persistence.binary.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.commons.ContentTypeResolver;
+import com.epam.reportportal.base.infrastructure.persistence.binary.CreateLogAttachmentService;
+import com.epam.reportportal.base.infrastructure.persistence.binary.DataStoreService;
+import com.epam.reportportal.base.infrastructure.persistence.commons.BinaryDataMetaInfo;
+import com.epam.reportportal.base.infrastructure.persistence.dao.AttachmentRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.attachment.AttachmentMetaInfo;
+import com.epam.reportportal.base.infrastructure.persistence.filesystem.FilePathGenerator;
+import com.epam.reportportal.base.infrastructure.persistence.util.FeatureFlagHandler;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentBinaryDataServiceImplTest {
+
+  private static final int PREFIX_SIZE = 64 * 1024;
+
+  @Mock
+  private ContentTypeResolver contentTypeResolver;
+
+  @Mock
+  private FilePathGenerator filePathGenerator;
+
+  @Mock
+  private DataStoreService dataStoreService;
+
+  @Mock
+  private AttachmentRepository attachmentRepository;
+
+  @Mock
+  private CreateLogAttachmentService createLogAttachmentService;
+
+  @Mock
+  private FeatureFlagHandler featureFlagHandler;
+
+  private AttachmentBinaryDataServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service = new AttachmentBinaryDataServiceImpl(contentTypeResolver, filePathGenerator,
+        dataStoreService, attachmentRepository, createLogAttachmentService, featureFlagHandler);
+  }
+
+  @Test
+  void saveAttachmentStreamsContentAndDetectsTypeByPrefix() {
+    byte[] content = new byte[PREFIX_SIZE * 3];
+    Arrays.fill(content, (byte) 7);
+    MockMultipartFile file = new MockMultipartFile("file", "video.bin", null, content);
+    AttachmentMetaInfo metaInfo = AttachmentMetaInfo.builder().withLogUuid("log").build();
+
+    when(filePathGenerator.generate(metaInfo)).thenReturn("project/path");
+    when(contentTypeResolver.detectContentType(any(byte[].class))).thenReturn("video/mp4");
+    when(dataStoreService.save(anyString(), any(InputStream.class), eq((long) content.length)))
+        .thenAnswer(invocation -> {
+          assertArrayEquals(content, invocation.getArgument(1, InputStream.class).readAllBytes());
+          return "fileId";
+        });
+
+    Optional<BinaryDataMetaInfo> result = service.saveAttachment(metaInfo, file);
+
+    assertTrue(result.isPresent());
+    assertEquals("fileId", result.get().getFileId());
+    assertEquals("video/mp4", result.get().getContentType());
+    assertEquals(content.length, result.get().getFileSize());
+
+    ArgumentCaptor<byte[]> prefixCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(contentTypeResolver).detectContentType(prefixCaptor.capture());
+    assertEquals(PREFIX_SIZE, prefixCaptor.getValue().length);
+  }
+}
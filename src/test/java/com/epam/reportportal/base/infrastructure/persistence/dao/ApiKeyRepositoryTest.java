@@ -24,6 +24,7 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.user.ApiKey;
 import com.epam.reportportal.base.ws.BaseMvcTest;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -69,8 +70,10 @@ public class ApiKeyRepositoryTest extends BaseMvcTest {
 
     ApiKey savedApiKey = apiKeyRepository.save(apiKey);
 
-    ApiKey updatedApiKey = apiKeyRepository.updateLastUsedAt(savedApiKey.getId(), hash, today);
+    apiKeyRepository.updateLastUsedAt(List.of(savedApiKey.getId()), today);
+    apiKeyRepository.updateLastUsedAt(List.of(savedApiKey.getId()), today.minusDays(1));
 
-    assertEquals(updatedApiKey.getLastUsedAt(), today);
+    ApiKey updatedApiKey = apiKeyRepository.findById(savedApiKey.getId()).orElseThrow();
+    assertEquals(today, updatedApiKey.getLastUsedAt());
   }
 }
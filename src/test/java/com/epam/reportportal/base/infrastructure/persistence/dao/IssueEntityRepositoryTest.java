@@ -17,6 +17,7 @@
 package com.epam.reportportal.base.infrastructure.persistence.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemIssueGroup;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.issue.IssueEntity;
@@ -61,4 +62,21 @@ class IssueEntityRepositoryTest extends BaseMvcTest {
 
     Assertions.assertEquals(2, result);
   }
+
+  @Test
+  @Sql("/db/fill/item/items-in-progress.sql")
+  void saveByItemIds() {
+    final Long toInvestigateTypeId = 1L;
+
+    int result = repository.saveByItemIds(List.of(202L, 204L, 207L, 208L), toInvestigateTypeId,
+        List.of("BEFORE_METHOD"));
+
+    // 204 already has an issue, 207 is of an excluded type, 208 has no statistics
+    assertEquals(1, result);
+    assertEquals(toInvestigateTypeId,
+        repository.findById(202L).orElseThrow().getIssueType().getId());
+    assertEquals(2L, repository.findById(204L).orElseThrow().getIssueType().getId());
+    assertTrue(repository.findById(207L).isEmpty());
+    assertTrue(repository.findById(208L).isEmpty());
+  }
 }
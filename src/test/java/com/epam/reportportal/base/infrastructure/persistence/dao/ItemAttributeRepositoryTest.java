@@ -44,6 +44,9 @@ class ItemAttributeRepositoryTest extends BaseMvcTest {
   @Autowired
   private ItemAttributeRepository repository;
 
+  @Autowired
+  private TestItemRepository testItemRepository;
+
   @Test
   void findAttributesByProjectId() {
 
@@ -260,4 +263,21 @@ class ItemAttributeRepositoryTest extends BaseMvcTest {
 
 
   }
+
+  @Test
+  @Sql("/db/fill/item/items-in-progress.sql")
+  void saveByItemIds() {
+    int result = repository.saveByItemIds(List.of(202L, 204L, 999L), "status", "interrupted",
+        false);
+
+    assertEquals(2, result);
+    List.of(202L, 204L).forEach(itemId -> {
+      List<ItemAttribute> attributes = repository.findAllByTestItem(
+          testItemRepository.findById(itemId).orElseThrow());
+      assertEquals(1, attributes.size());
+      assertEquals("status", attributes.get(0).getKey());
+      assertEquals("interrupted", attributes.get(0).getValue());
+      assertFalse(attributes.get(0).isSystem());
+    });
+  }
 }
@@ -19,6 +19,7 @@ package com.epam.reportportal.base.infrastructure.persistence.dao;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.querygen.constant.LogCriteriaConstant.CRITERIA_ITEM_LAUNCH_ID;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_BINARY_CONTENT;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_LAUNCH_ID;
+import static com.epam.reportportal.base.infrastructure.persistence.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_PROJECT_ID;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_TIME;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.querygen.constant.LogCriteriaConstant.CRITERIA_TEST_ITEM_ID;
 import static com.epam.reportportal.base.infrastructure.persistence.commons.querygen.constant.TestItemCriteriaConstant.CRITERIA_RETRY_PARENT_LAUNCH_ID;
@@ -34,9 +35,11 @@ import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Co
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Condition;
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Filter;
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.FilterCondition;
+import com.epam.reportportal.base.infrastructure.persistence.dao.constant.LogRepositoryConstants;
 import com.epam.reportportal.base.infrastructure.persistence.entity.attachment.Attachment;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.LogLevel;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedTreeItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
 import com.epam.reportportal.base.infrastructure.persistence.entity.log.Log;
 import com.epam.reportportal.base.ws.BaseMvcTest;
@@ -356,6 +359,66 @@ class LogRepositoryTest extends BaseMvcTest {
     logRepository.findNestedItems(2L, false, false, filter, PageRequest.of(2, 1));
   }
 
+  @Sql("/db/fill/item/nested-steps-tree.sql")
+  @Test
+  void findNestedTreeWithPages() {
+    List<NestedTreeItem> tree = logRepository.findNestedTreeWithPages(300L, "300", false,
+        nestedTreeFilter(), PageRequest.of(0, 2), 2);
+
+    assertEquals(List.of(3000L, 301L, 3001L, 3002L, 303L, 3010L, 302L, 3011L, 3012L, 3020L),
+        tree.stream().map(NestedTreeItem::getId).toList());
+    assertEquals(List.of(300L, 300L, 300L, 300L, 300L, 301L, 301L, 301L, 301L, 302L),
+        tree.stream().map(NestedTreeItem::getParentId).toList());
+    assertEquals(List.of(1, 1, 2, 2, 3, 1, 1, 2, 2, 1),
+        tree.stream().map(NestedTreeItem::getPageNumber).toList());
+
+    NestedTreeItem step = tree.get(1);
+    assertEquals(LogRepositoryConstants.ITEM, step.getType());
+    assertEquals(StatusEnum.PASSED, step.getStatus());
+    NestedTreeItem log = tree.get(9);
+    assertEquals(LogRepositoryConstants.LOG, log.getType());
+    assertEquals(LogLevel.ERROR_INT, log.getLogLevel());
+    assertNull(log.getStatus());
+  }
+
+  @Sql("/db/fill/item/nested-steps-tree.sql")
+  @Test
+  void findNestedTreeWithPagesByDescendingTime() {
+    List<NestedTreeItem> tree = logRepository.findNestedTreeWithPages(300L, "300", false,
+        nestedTreeFilter(), PageRequest.of(0, 2, Sort.by(Sort.Order.desc(CRITERIA_LOG_TIME))), 3);
+
+    assertEquals(List.of(303L, 3002L, 3001L, 301L, 3000L, 3012L, 3011L, 302L, 3010L, 3020L),
+        tree.stream().map(NestedTreeItem::getId).toList());
+    assertEquals(List.of(1, 1, 2, 2, 3, 1, 1, 1, 2, 1),
+        tree.stream().map(NestedTreeItem::getPageNumber).toList());
+  }
+
+  @Sql("/db/fill/item/nested-steps-tree.sql")
+  @Test
+  void findNestedTreeWithPagesExcludesStepsByStatusAndEmptySteps() {
+    Filter filter = Filter.builder()
+        .withTarget(Log.class)
+        .withCondition(FilterCondition.builder().eq(CRITERIA_LOG_PROJECT_ID, "1").build())
+        .withCondition(FilterCondition.builder().eq(CRITERIA_STATUS, "FAILED").build())
+        .build();
+
+    List<NestedTreeItem> byStatus = logRepository.findNestedTreeWithPages(300L, "300", false,
+        filter, PageRequest.of(0, 2), 2);
+
+    assertEquals(List.of(3000L, 3001L, 3002L, 3010L, 302L, 3011L, 3012L, 3020L),
+        byStatus.stream().map(NestedTreeItem::getId).toList());
+    assertEquals(List.of(1, 1, 2, 1, 1, 2, 2, 1),
+        byStatus.stream().map(NestedTreeItem::getPageNumber).toList());
+
+    List<NestedTreeItem> withoutEmptySteps = logRepository.findNestedTreeWithPages(300L, "300",
+        true, nestedTreeFilter(), PageRequest.of(0, 2), 2);
+
+    assertEquals(List.of(3000L, 301L, 3001L, 3002L, 3010L, 3011L, 3012L, 3020L),
+        withoutEmptySteps.stream().map(NestedTreeItem::getId).toList());
+    assertEquals(List.of(1, 1, 2, 2, 1, 1, 2, 1),
+        withoutEmptySteps.stream().map(NestedTreeItem::getPageNumber).toList());
+  }
+
   @Test
   void findIdsByFilter() {
 
@@ -469,4 +532,11 @@ class LogRepositoryTest extends BaseMvcTest {
     assertEquals(7, messagesByItemIdAndLevelGte.size());
     messagesByItemIdAndLevelGte.forEach(it -> assertEquals("log", it));
   }
+
+  private Filter nestedTreeFilter() {
+    return Filter.builder()
+        .withTarget(Log.class)
+        .withCondition(FilterCondition.builder().eq(CRITERIA_LOG_PROJECT_ID, "1").build())
+        .build();
+  }
 }
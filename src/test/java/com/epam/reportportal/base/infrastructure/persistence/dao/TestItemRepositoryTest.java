@@ -60,6 +60,7 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.enums.LogLev
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemIssueGroup;
 import com.epam.reportportal.base.infrastructure.persistence.entity.enums.TestItemTypeEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedItemAttachment;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.NestedStep;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.Parameter;
 import com.epam.reportportal.base.infrastructure.persistence.entity.item.TestItem;
@@ -79,8 +80,10 @@ import com.google.common.collect.Comparators;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -342,6 +345,35 @@ class TestItemRepositoryTest extends BaseMvcTest {
     Assertions.assertEquals(132L, result.get(0));
   }
 
+  @Sql({"/db/fill/item/nested-steps-tree.sql", "/db/fill/item/nested-steps-attachments.sql"})
+  @Test
+  void streamNestedStepsAttachments() {
+    final List<NestedItemAttachment> attachments = new ArrayList<>();
+    testItemRepository.streamNestedStepsAttachments(30L, attachments::add);
+
+    assertEquals(List.of(301L, 301L, 302L, 303L),
+        attachments.stream().map(NestedItemAttachment::getItemId).collect(toList()));
+    assertEquals(Arrays.asList("file-3100", "file-3101", "file-3102", null),
+        attachments.stream().map(NestedItemAttachment::getFileId).collect(toList()));
+    assertEquals("300.301.302", attachments.get(2).getPath());
+    assertEquals("second.png", attachments.get(1).getFileName());
+    assertEquals("image/png", attachments.get(1).getContentType());
+  }
+
+  @Sql("/db/fill/item/items-with-nested-steps.sql")
+  @Test
+  void streamLogMessagesUnder() {
+    final Map<Long, List<String>> messages = new HashMap<>();
+    testItemRepository.streamLogMessagesUnder(10L, List.of(132L, 133L), LogLevel.ERROR_INT,
+        (itemId, message) -> messages.computeIfAbsent(itemId, id -> new ArrayList<>()).add(message));
+
+    assertFalse(messages.isEmpty());
+    assertTrue(List.of(132L, 133L).containsAll(messages.keySet()));
+    assertTrue(messages.get(132L).stream().anyMatch(message -> message.contains("NullPointer")));
+    assertTrue(messages.getOrDefault(133L, List.of()).stream()
+        .noneMatch(message -> message.contains("NullPointer")));
+  }
+
   @Sql("/db/fill/item/items-with-nested-steps.sql")
   @Test
   void selectIdsUnderByRegexLogMessage() {
@@ -1559,6 +1591,94 @@ class TestItemRepositoryTest extends BaseMvcTest {
     assertEquals(StatusEnum.FAILED, testItem.getItemResults().getStatus());
   }
 
+  @Sql("/db/fill/item/items-in-progress.sql")
+  @Test
+  void findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId() {
+    assertEquals(List.of(202L, 204L),
+        testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(20L,
+            StatusEnum.IN_PROGRESS, 0L, 2));
+    assertEquals(List.of(207L, 208L),
+        testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(20L,
+            StatusEnum.IN_PROGRESS, 204L, 2));
+    assertTrue(testItemRepository.findIdsByNotHasChildrenAndLaunchIdAndStatusAfterId(20L,
+        StatusEnum.IN_PROGRESS, 208L, 2).isEmpty());
+  }
+
+  @Sql("/db/fill/item/items-in-progress.sql")
+  @Test
+  void findIdsByHasChildrenAndLaunchIdAndStatusByPathLevels() {
+    assertEquals(List.of(2, 1),
+        testItemRepository.findPathLevelsByHasChildrenAndLaunchIdAndStatus(20L,
+            StatusEnum.IN_PROGRESS));
+    assertEquals(List.of(201L),
+        testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(20L,
+            StatusEnum.IN_PROGRESS, 2, 0L, 1));
+    assertEquals(List.of(205L),
+        testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(20L,
+            StatusEnum.IN_PROGRESS, 2, 201L, 1));
+    assertEquals(List.of(200L),
+        testItemRepository.findIdsByHasChildrenAndLaunchIdAndStatusAndPathLevelAfterId(20L,
+            StatusEnum.IN_PROGRESS, 1, 0L, 10));
+  }
+
+  @Sql("/db/fill/item/items-in-progress.sql")
+  @Test
+  void findIdsUnderParentPathAfterId() {
+    assertEquals(List.of(202L, 204L),
+        testItemRepository.findIdsByNotHasChildrenAndParentPathAndStatusAfterId("200.201",
+            StatusEnum.IN_PROGRESS, 0L, 10));
+    assertEquals(List.of(204L),
+        testItemRepository.findIdsByNotHasChildrenAndParentPathAndStatusAfterId("200.201",
+            StatusEnum.IN_PROGRESS, 202L, 10));
+    assertEquals(List.of(2),
+        testItemRepository.findPathLevelsByHasChildrenAndParentPathAndStatus("200",
+            StatusEnum.IN_PROGRESS));
+    assertEquals(List.of(201L, 205L),
+        testItemRepository.findIdsByHasChildrenAndParentPathAndStatusAndPathLevelAfterId("200",
+            StatusEnum.IN_PROGRESS, 2, 0L, 10));
+    assertTrue(testItemRepository.findPathLevelsByHasChildrenAndParentPathAndStatus("200.201",
+        StatusEnum.IN_PROGRESS).isEmpty());
+  }
+
+  @Sql("/db/fill/item/items-in-progress.sql")
+  @Test
+  void finishInProgressParentItemsByIdsResolvesStatusByChildren() {
+    Instant endTime = Instant.now();
+    assertEquals(3, testItemRepository.finishInProgressItemsByIds(List.of(202L, 207L, 208L),
+        StatusEnum.PASSED, endTime));
+    assertEquals(1, testItemRepository.finishInProgressItemsByIds(List.of(203L, 204L),
+        StatusEnum.FAILED, endTime));
+
+    assertEquals(2,
+        testItemRepository.finishInProgressParentItemsByIds(List.of(201L, 205L, 206L), endTime));
+
+    assertStatus(201L, StatusEnum.FAILED);
+    // the failed retry of 206 is ignored
+    assertStatus(205L, StatusEnum.PASSED);
+    assertStatus(206L, StatusEnum.PASSED);
+    assertStatus(200L, StatusEnum.IN_PROGRESS);
+    assertNotNull(testItemRepository.findById(205L).orElseThrow().getItemResults().getEndTime());
+  }
+
+  @Sql("/db/fill/item/items-in-progress.sql")
+  @Test
+  void findIdsWithNotInProgressParentByIds() {
+    assertTrue(testItemRepository.findIdsWithNotInProgressParentByIds(List.of(202L, 204L, 206L))
+        .isEmpty());
+
+    testItemRepository.finishInProgressItemsByIds(List.of(202L, 204L), StatusEnum.PASSED,
+        Instant.now());
+    testItemRepository.finishInProgressParentItemsByIds(List.of(201L), Instant.now());
+
+    assertEquals(List.of(202L),
+        testItemRepository.findIdsWithNotInProgressParentByIds(List.of(202L, 204L, 206L)));
+  }
+
+  private void assertStatus(Long itemId, StatusEnum status) {
+    assertEquals(status, testItemRepository.findById(itemId).orElseThrow().getItemResults()
+        .getStatus());
+  }
+
   private void assertIssueExistsAndTicketsEmpty(TestItem testItem, Long expectedId) {
     assertEquals(expectedId, testItem.getItemId());
 
@@ -42,6 +42,9 @@ import static com.epam.reportportal.base.infrastructure.persistence.dao.constant
 import static com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JTestItemTypeEnum.AFTER_METHOD;
 import static com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JTestItemTypeEnum.BEFORE_METHOD;
 import static com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JTestItemTypeEnum.STEP;
+import static com.epam.reportportal.base.infrastructure.persistence.jooq.tables.JItemAttribute.ITEM_ATTRIBUTE;
+import static com.epam.reportportal.base.infrastructure.persistence.jooq.tables.JLaunch.LAUNCH;
+import static com.epam.reportportal.base.infrastructure.persistence.jooq.tables.JTestItem.TEST_ITEM;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -73,6 +76,7 @@ import com.epam.reportportal.base.infrastructure.persistence.entity.widget.conte
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.content.healthcheck.HealthCheckTableGetParams;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.content.healthcheck.HealthCheckTableInitParams;
 import com.epam.reportportal.base.infrastructure.persistence.entity.widget.content.healthcheck.LevelEntry;
+import com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JLaunchModeEnum;
 import com.epam.reportportal.base.infrastructure.persistence.jooq.enums.JStatusEnum;
 import com.epam.reportportal.base.ws.BaseMvcTest;
 import com.fasterxml.jackson.annotation.JsonCreator.Mode;
@@ -80,17 +84,19 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.assertj.core.util.Lists;
 import org.jooq.DSLContext;
 import org.jooq.Record;
-import org.jooq.Result;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -103,6 +109,11 @@ import org.springframework.test.context.jdbc.Sql;
 @Sql("/db/fill/widget-content/widget-content-fill.sql")
 class WidgetContentRepositoryTest extends BaseMvcTest {
 
+  /**
+   * Overlap subtracted from the previous generation time by the view generators.
+   */
+  private static final Duration MODIFICATION_OVERLAP = Duration.ofMinutes(5);
+
   @Autowired
   private LaunchRepository launchRepository;
 
@@ -1392,18 +1403,142 @@ class WidgetContentRepositoryTest extends BaseMvcTest {
 
     assertTrue(healthCheckTableContents.isEmpty());
 
-    Result<Record> fetch = dslContext.fetch(DSL.sql("SELECT * FROM pg_matviews"));
-
-    assertTrue(fetch.isNotEmpty());
+    assertTrue(isWidgetTable("hello"));
+    assertTrue(isWidgetTable("first"));
 
     widgetContentRepository.removeWidgetView("hello");
     widgetContentRepository.removeWidgetView("first");
     widgetContentRepository.removeWidgetView("not_existing_view");
 
-    Result<Record> fetch1 = dslContext.fetch(DSL.sql("SELECT * FROM pg_matviews"));
+    assertFalse(isWidgetTable("hello"));
+    assertFalse(isWidgetTable("first"));
+
+  }
+
+  @Test
+  void componentHealthCheckTableUpdateAppliesLaunchesChangedInScope() {
+    Filter launchFilter = buildDefaultFilter(1L);
+    Sort sort = Sort.by(Sort.Direction.DESC, CRITERIA_START_TIME);
+    HealthCheckTableInitParams initParams = HealthCheckTableInitParams.of("health_check_update",
+        List.of("build"));
+    widgetContentRepository.generateComponentHealthCheckTable(false, initParams, launchFilter,
+        sort, 600, false);
+    Instant generated = Instant.now();
+    assertEquals(Set.of(1L, 4L), healthCheckLaunchIds("health_check_update"));
+
+    // launch 1 leaves the scope, launch 4 gets a new build within the overlap before the generation
+    dslContext.update(LAUNCH).set(LAUNCH.MODE, JLaunchModeEnum.DEBUG).where(LAUNCH.ID.eq(1L))
+        .execute();
+    addLaunchBuild(4L, "4.0.0", generated.minus(Duration.ofMinutes(2)));
+
+    assertTrue(widgetContentRepository.updateComponentHealthCheckTable(initParams, launchFilter,
+        sort, 600, false, generated.minus(MODIFICATION_OVERLAP)));
+
+    assertEquals(Set.of(4L), healthCheckLaunchIds("health_check_update"));
+    widgetContentRepository.generateComponentHealthCheckTable(false,
+        HealthCheckTableInitParams.of("health_check_expected", List.of("build")), launchFilter,
+        sort, 600, false);
+    assertSameContent("health_check_update", "health_check_expected");
+  }
+
+  @Test
+  void componentHealthCheckTableUpdateSkipsLaunchesModifiedBeforeOverlap() {
+    Filter launchFilter = buildDefaultFilter(1L);
+    Sort sort = Sort.by(Sort.Direction.DESC, CRITERIA_START_TIME);
+    HealthCheckTableInitParams initParams = HealthCheckTableInitParams.of("health_check_overlap",
+        List.of("build"));
+    widgetContentRepository.generateComponentHealthCheckTable(false, initParams, launchFilter,
+        sort, 600, false);
+    Instant generated = Instant.now();
+    org.jooq.Condition newBuild = DSL.field(DSL.name("value")).eq("4.0.0");
+
+    addLaunchBuild(4L, "4.0.0", generated.minus(Duration.ofMinutes(10)));
+    assertTrue(widgetContentRepository.updateComponentHealthCheckTable(initParams, launchFilter,
+        sort, 600, false, generated.minus(MODIFICATION_OVERLAP)));
+    assertEquals(0, dslContext.fetchCount(DSL.table(DSL.name("health_check_overlap")), newBuild));
+
+    dslContext.update(LAUNCH).set(LAUNCH.LAST_MODIFIED, generated.minus(Duration.ofMinutes(4)))
+        .where(LAUNCH.ID.eq(4L))
+        .execute();
+    assertTrue(widgetContentRepository.updateComponentHealthCheckTable(initParams, launchFilter,
+        sort, 600, false, generated.minus(MODIFICATION_OVERLAP)));
+    assertTrue(dslContext.fetchCount(DSL.table(DSL.name("health_check_overlap")), newBuild) > 0);
+  }
+
+  @Test
+  void componentHealthCheckTableUpdateAppliesEditedItemAttributes() {
+    Filter launchFilter = buildDefaultFilter(1L);
+    Sort sort = Sort.by(Sort.Direction.DESC, CRITERIA_START_TIME);
+    HealthCheckTableInitParams initParams = HealthCheckTableInitParams.of("health_check_items",
+        List.of("build"));
+    widgetContentRepository.generateComponentHealthCheckTable(false, initParams, launchFilter,
+        sort, 600, false);
+    Instant generated = Instant.now();
+    org.jooq.Condition newBuild = DSL.field(DSL.name("value")).eq("5.0.0");
+
+    Long itemId = dslContext.select(TEST_ITEM.ITEM_ID)
+        .from(TEST_ITEM)
+        .where(TEST_ITEM.LAUNCH_ID.eq(4L))
+        .and(TEST_ITEM.TYPE.eq(STEP))
+        .and(TEST_ITEM.HAS_STATS.isTrue())
+        .and(TEST_ITEM.HAS_CHILDREN.isFalse())
+        .and(TEST_ITEM.RETRY_OF.isNull())
+        .limit(1)
+        .fetchOneInto(Long.class);
+    dslContext.insertInto(ITEM_ATTRIBUTE)
+        .columns(ITEM_ATTRIBUTE.KEY, ITEM_ATTRIBUTE.VALUE, ITEM_ATTRIBUTE.ITEM_ID,
+            ITEM_ATTRIBUTE.SYSTEM)
+        .values("build", "5.0.0", itemId, false)
+        .execute();
+    dslContext.update(TEST_ITEM)
+        .set(TEST_ITEM.LAST_MODIFIED, generated.minus(Duration.ofMinutes(2)))
+        .where(TEST_ITEM.ITEM_ID.eq(itemId))
+        .execute();
+
+    assertTrue(widgetContentRepository.updateComponentHealthCheckTable(initParams, launchFilter,
+        sort, 600, false, generated.minus(MODIFICATION_OVERLAP)));
+
+    assertTrue(dslContext.fetchCount(DSL.table(DSL.name("health_check_items")), newBuild) > 0);
+    widgetContentRepository.generateComponentHealthCheckTable(false,
+        HealthCheckTableInitParams.of("health_check_items_expected", List.of("build")),
+        launchFilter, sort, 600, false);
+    assertSameContent("health_check_items", "health_check_items_expected");
+  }
+
+  @Test
+  void cumulativeTrendChartViewUpdateRebuildsAffectedLaunchNames() {
+    Filter launchFilter = buildDefaultFilter(1L);
+    Sort sort = Sort.by(Sort.Direction.DESC, CRITERIA_START_TIME);
+    widgetContentRepository.generateCumulativeTrendChartView(false, "cumulative_update",
+        launchFilter, sort, List.of("build"), 600);
+    Instant generated = Instant.now();
+    assertTrue(isWidgetTable("cumulative_update"));
+    assertEquals(Set.of(1L, 2L, 3L, 4L), cumulativeLaunchIds("cumulative_update"));
+
+    dslContext.update(LAUNCH).set(LAUNCH.MODE, JLaunchModeEnum.DEBUG).where(LAUNCH.ID.eq(1L))
+        .execute();
+    addLaunchBuild(3L, "4.0.0", generated.minus(Duration.ofMinutes(2)));
+
+    assertTrue(widgetContentRepository.updateCumulativeTrendChartView("cumulative_update",
+        launchFilter, sort, List.of("build"), 600, generated.minus(MODIFICATION_OVERLAP)));
+
+    assertEquals(Set.of(2L, 3L, 4L), cumulativeLaunchIds("cumulative_update"));
+    widgetContentRepository.generateCumulativeTrendChartView(false, "cumulative_expected",
+        launchFilter, sort, List.of("build"), 600);
+    assertSameContent("cumulative_update", "cumulative_expected");
+  }
+
+  @Test
+  void materializedViewIsNotUpdated() {
+    dslContext.execute("CREATE MATERIALIZED VIEW cumulative_matview AS SELECT 1 AS id");
 
-    assertTrue(fetch1.isEmpty());
+    assertFalse(widgetContentRepository.updateCumulativeTrendChartView("cumulative_matview",
+        buildDefaultFilter(1L), Sort.by(Sort.Direction.DESC, CRITERIA_START_TIME),
+        List.of("build"), 600, Instant.now()));
 
+    widgetContentRepository.removeWidgetView("cumulative_matview");
+    assertTrue(dslContext.fetch(DSL.sql("SELECT * FROM pg_matviews WHERE matviewname = ?",
+        "cumulative_matview")).isEmpty());
   }
 
   @Test
@@ -1449,4 +1584,43 @@ class WidgetContentRepositoryTest extends BaseMvcTest {
     widgetContentRepository.removeWidgetView(initParams.getViewName());
 
   }
+
+  private boolean isWidgetTable(String viewName) {
+    return dslContext.fetchExists(DSL.selectOne()
+        .from(DSL.table(DSL.name("information_schema", "tables")))
+        .where(DSL.field(DSL.name("table_name")).eq(viewName))
+        .and(DSL.field(DSL.name("table_type")).eq("BASE TABLE")));
+  }
+
+  private Set<Long> healthCheckLaunchIds(String viewName) {
+    return Set.copyOf(dslContext.selectDistinct(DSL.field(DSL.name("launch_id"), Long.class))
+        .from(DSL.table(DSL.name(viewName)))
+        .fetchInto(Long.class));
+  }
+
+  private Set<Long> cumulativeLaunchIds(String viewName) {
+    return Set.copyOf(dslContext.selectDistinct(
+            DSL.field("unnest({0})", Long.class, DSL.field(DSL.name("aggregated_launches_ids"))))
+        .from(DSL.table(DSL.name(viewName)))
+        .fetchInto(Long.class));
+  }
+
+  private void addLaunchBuild(Long launchId, String build, Instant lastModified) {
+    dslContext.insertInto(ITEM_ATTRIBUTE)
+        .columns(ITEM_ATTRIBUTE.KEY, ITEM_ATTRIBUTE.VALUE, ITEM_ATTRIBUTE.LAUNCH_ID,
+            ITEM_ATTRIBUTE.SYSTEM)
+        .values("build", build, launchId, false)
+        .execute();
+    dslContext.update(LAUNCH).set(LAUNCH.LAST_MODIFIED, lastModified)
+        .where(LAUNCH.ID.eq(launchId))
+        .execute();
+  }
+
+  private void assertSameContent(String viewName, String expectedViewName) {
+    Table<Record> view = DSL.table(DSL.name(viewName));
+    Table<Record> expected = DSL.table(DSL.name(expectedViewName));
+    assertEquals(dslContext.fetchCount(expected), dslContext.fetchCount(view));
+    assertEquals(0, dslContext.fetchCount(
+        dslContext.selectFrom(view).except(dslContext.selectFrom(expected))));
+  }
 }
@@ -0,0 +1,52 @@
+package com.epam.reportportal.base.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.events.domain.LaunchFinishedEvent;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+class BrokenLaunchesInterrupterTest {
+
+  private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+  private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+  private final BrokenLaunchesInterrupter interrupter = new BrokenLaunchesInterrupter(
+      launchRepository, testItemRepository, eventPublisher);
+
+  @Test
+  void onlyLaunchesInProgressAreInterrupted() {
+    Launch broken = launch(1L, StatusEnum.IN_PROGRESS);
+    Launch finished = launch(2L, StatusEnum.PASSED);
+    when(launchRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(broken, finished));
+
+    int interrupted = interrupter.interrupt(List.of(1L, 2L), 3L);
+
+    assertEquals(1, interrupted);
+    assertEquals(StatusEnum.INTERRUPTED, broken.getStatus());
+    assertNotNull(broken.getEndTime());
+    assertEquals(StatusEnum.PASSED, finished.getStatus());
+    verify(testItemRepository).interruptInProgressItemsByLaunchIds(List.of(1L));
+    verify(launchRepository).saveAll(List.of(broken));
+    verify(eventPublisher, times(1)).publishEvent(any(LaunchFinishedEvent.class));
+  }
+
+  private Launch launch(Long id, StatusEnum status) {
+    Launch launch = new Launch();
+    launch.setId(id);
+    launch.setStatus(status);
+    return launch;
+  }
+}
@@ -17,118 +17,87 @@
 package com.epam.reportportal.base.job;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
-import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
 import com.epam.reportportal.base.infrastructure.persistence.dao.ProjectRepository;
-import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
 import com.epam.reportportal.base.infrastructure.persistence.entity.attribute.Attribute;
-import com.epam.reportportal.base.infrastructure.persistence.entity.enums.StatusEnum;
-import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.Project;
 import com.epam.reportportal.base.infrastructure.persistence.entity.project.ProjectAttribute;
 import com.google.common.collect.Sets;
 import java.time.Duration;
-import java.util.Collections;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
 import org.springframework.data.domain.PageImpl;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
  */
-@ExtendWith(MockitoExtension.class)
 class InterruptBrokenLaunchesJobTest {
 
-  @Mock
-  private LaunchRepository launchRepository;
+  private final LaunchRepository launchRepository = mock(LaunchRepository.class);
 
-  @Mock
-  private LogRepository logRepository;
+  private final ProjectRepository projectRepository = mock(ProjectRepository.class);
 
-  @Mock
-  private TestItemRepository testItemRepository;
+  private final BrokenLaunchesInterrupter brokenLaunchesInterrupter = mock(
+      BrokenLaunchesInterrupter.class);
 
-  @Mock
-  private ProjectRepository projectRepository;
-
-  @InjectMocks
-  private InterruptBrokenLaunchesJob interruptBrokenLaunchesJob;
+  private final InterruptBrokenLaunchesJob interruptBrokenLaunchesJob = new InterruptBrokenLaunchesJob(
+      launchRepository, projectRepository, brokenLaunchesInterrupter, 2);
 
   @Test
-  void noInProgressItemsTest() {
-    String name = "name";
-    Project project = new Project();
-    final ProjectAttribute projectAttribute = new ProjectAttribute();
-    final Attribute attribute = new Attribute();
-    attribute.setName("job.interruptJobTime");
-    projectAttribute.setAttribute(attribute);
+  void brokenLaunchesInterruptedByBatches() {
+    Project project = project(1L);
+    when(projectRepository.findAllIdsAndProjectAttributes(any())).thenReturn(
+        new PageImpl<>(List.of(project)));
+    when(launchRepository.findBrokenLaunchIds(eq(1L), any())).thenReturn(List.of(1L, 2L, 3L));
 
-    //1 day in seconds
-    projectAttribute.setValue(String.valueOf(3600 * 24));
-    project.setProjectAttributes(Sets.newHashSet(projectAttribute));
-    project.setName(name);
+    Instant before = Instant.now().minus(Duration.ofDays(1));
+    interruptBrokenLaunchesJob.execute(null);
 
-    long launchId = 1L;
+    verify(launchRepository).findBrokenLaunchIds(eq(1L),
+        argThat(it -> !it.isBefore(before)));
+    verify(brokenLaunchesInterrupter).interrupt(List.of(1L, 2L), project.getOrganizationId());
+    verify(brokenLaunchesInterrupter).interrupt(List.of(3L), project.getOrganizationId());
+  }
 
+  @Test
+  void projectsOfOtherShardsAreSkipped() {
     when(projectRepository.findAllIdsAndProjectAttributes(any())).thenReturn(
-        new PageImpl<>(Collections.singletonList(project)));
-    when(launchRepository.streamIdsWithStatusAndStartTimeBefore(any(), any(), any())).thenReturn(
-        Stream.of(launchId));
-    when(testItemRepository.hasItemsInStatusByLaunch(launchId, StatusEnum.IN_PROGRESS)).thenReturn(
-        false);
-    when(launchRepository.findById(launchId)).thenReturn(Optional.of(new Launch()));
-
-    interruptBrokenLaunchesJob.execute(null);
+        new PageImpl<>(List.of(project(1L), project(2L), project(3L))));
+    when(launchRepository.findBrokenLaunchIds(anyLong(), any())).thenReturn(List.of());
+    JobExecutionContext context = mock(JobExecutionContext.class);
+    when(context.getMergedJobDataMap()).thenReturn(new JobDataMap(
+        Map.of(InterruptBrokenLaunchesJob.SHARD, 1, InterruptBrokenLaunchesJob.SHARDS, 2)));
 
-    verify(launchRepository, times(1)).findById(launchId);
-    verify(launchRepository, times(1)).save(any());
+    interruptBrokenLaunchesJob.execute(context);
 
+    verify(launchRepository).findBrokenLaunchIds(eq(1L), any());
+    verify(launchRepository).findBrokenLaunchIds(eq(3L), any());
+    verify(launchRepository, never()).findBrokenLaunchIds(eq(2L), any());
   }
 
-  @Test
-  void interruptLaunchWithInProgressItemsTest() {
-    String name = "name";
+  private Project project(Long id) {
     Project project = new Project();
+    project.setId(id);
+    project.setName("name");
     final ProjectAttribute projectAttribute = new ProjectAttribute();
     final Attribute attribute = new Attribute();
     attribute.setName("job.interruptJobTime");
     projectAttribute.setAttribute(attribute);
-
     //1 day in seconds
     projectAttribute.setValue(String.valueOf(3600 * 24));
     project.setProjectAttributes(Sets.newHashSet(projectAttribute));
-    project.setName(name);
-
-    long launchId = 1L;
-
-    when(projectRepository.findAllIdsAndProjectAttributes(any())).thenReturn(
-        new PageImpl<>(Collections.singletonList(project)));
-    when(launchRepository.streamIdsWithStatusAndStartTimeBefore(any(), any(), any())).thenReturn(
-        Stream.of(launchId));
-    when(testItemRepository.hasItemsInStatusByLaunch(launchId, StatusEnum.IN_PROGRESS)).thenReturn(
-        true);
-    when(testItemRepository.hasItemsInStatusAddedLately(launchId, Duration.ofSeconds(3600 * 24),
-        StatusEnum.IN_PROGRESS)).thenReturn(false);
-    when(testItemRepository.hasLogs(launchId, Duration.ofSeconds(3600 * 24),
-        StatusEnum.IN_PROGRESS)).thenReturn(true);
-    when(logRepository.hasLogsAddedLately(Duration.ofSeconds(3600 * 24), launchId,
-        StatusEnum.IN_PROGRESS)).thenReturn(false);
-    when(launchRepository.findById(launchId)).thenReturn(Optional.of(new Launch()));
-
-    interruptBrokenLaunchesJob.execute(null);
-
-    verify(testItemRepository, times(1)).interruptInProgressItems(launchId);
-    verify(launchRepository, times(1)).findById(launchId);
-    verify(launchRepository, times(1)).save(any());
-
+    return project;
   }
 }
@@ -0,0 +1,38 @@
+package com.epam.reportportal.base.job;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.persistence.dao.StaleWidgetTableRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.WidgetContentRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StaleWidgetTablesCleanupJobTest {
+
+  private final StaleWidgetTableRepository staleWidgetTableRepository = mock(
+      StaleWidgetTableRepository.class);
+  private final WidgetContentRepository widgetContentRepository = mock(
+      WidgetContentRepository.class);
+
+  private final StaleWidgetTablesCleanupJob job = new StaleWidgetTablesCleanupJob(
+      staleWidgetTableRepository, widgetContentRepository, Duration.ofHours(1));
+
+  @Test
+  void queuedViewsOlderThanTtlAreDropped() {
+    when(staleWidgetTableRepository.deleteCreatedBefore(any())).thenReturn(
+        List.of("widget_1_1", "widget_1_2"));
+
+    job.execute();
+
+    verify(staleWidgetTableRepository).deleteCreatedBefore(
+        argThat(before -> before.isBefore(Instant.now().minus(Duration.ofMinutes(59)))));
+    verify(widgetContentRepository).removeWidgetView("widget_1_1");
+    verify(widgetContentRepository).removeWidgetView("widget_1_2");
+  }
+}
@@ -0,0 +1,175 @@
+package com.epam.reportportal.base.reporting.async.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
+import com.epam.reportportal.base.reporting.async.config.RequestType;
+import com.epam.reportportal.base.reporting.async.handler.LogBatchMessageHandler;
+import com.epam.reportportal.base.reporting.async.handler.ReportingMessageHandler;
+import com.epam.reportportal.base.reporting.async.handler.provider.ReportingHandlerProvider;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.util.ErrorHandler;
+
+@ExtendWith(MockitoExtension.class)
+class ReportingBatchConsumerTest {
+
+  @Mock
+  private ReportingHandlerProvider handlerProvider;
+
+  @Mock
+  private LogBatchMessageHandler logBatchMessageHandler;
+
+  @Mock
+  private ErrorHandler errorHandler;
+
+  @Mock
+  private ReportingMessageHandler startItemHandler;
+
+  @Mock
+  private Channel channel;
+
+  private long deliveryTag;
+
+  private ReportingBatchConsumer consumer;
+
+  @BeforeEach
+  void setUp() {
+    consumer = new ReportingBatchConsumer(
+        new ReportingConsumer(handlerProvider, new ReportingReorderBuffer(0, 0), errorHandler),
+        logBatchMessageHandler);
+  }
+
+  @Test
+  void logsAreGroupedBetweenOtherMessagesInArrivalOrder() throws IOException {
+    Message firstLog = message(RequestType.LOG);
+    Message startItem = message(RequestType.START_TEST);
+    Message secondLog = message(RequestType.LOG);
+    Message thirdLog = message(RequestType.LOG);
+    when(handlerProvider.provideHandler(RequestType.START_TEST)).thenReturn(
+        Optional.of(startItemHandler));
+
+    consumer.onMessageBatch(List.of(firstLog, startItem, secondLog, thirdLog), channel);
+
+    InOrder inOrder = inOrder(logBatchMessageHandler, startItemHandler);
+    inOrder.verify(logBatchMessageHandler).handleMessages(eq(List.of(firstLog)), any());
+    inOrder.verify(startItemHandler).handleMessage(startItem);
+    inOrder.verify(logBatchMessageHandler)
+        .handleMessages(eq(List.of(secondLog, thirdLog)), any());
+    verify(channel, times(4)).basicAck(anyLong(), eq(false));
+  }
+
+  @Test
+  void failedMessageIsPassedToErrorHandlerAlone() throws IOException {
+    Message startItem = message(RequestType.START_TEST);
+    Message log = message(RequestType.LOG);
+    ReportPortalException exception = new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND,
+        "uuid");
+    when(handlerProvider.provideHandler(RequestType.START_TEST)).thenReturn(
+        Optional.of(startItemHandler));
+    doThrow(exception).when(startItemHandler).handleMessage(startItem);
+    when(channel.isOpen()).thenReturn(true);
+
+    consumer.onMessageBatch(List.of(startItem, log), channel);
+
+    ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+    verify(errorHandler).handleError(captor.capture());
+    ListenerExecutionFailedException failed = (ListenerExecutionFailedException) captor.getValue();
+    assertSame(startItem, failed.getFailedMessage());
+    assertSame(exception, failed.getCause());
+    verify(logBatchMessageHandler).handleMessages(anyList(), any());
+    verify(channel).basicAck(startItem.getMessageProperties().getDeliveryTag(), false);
+    verify(channel).basicAck(log.getMessageProperties().getDeliveryTag(), false);
+  }
+
+  @Test
+  void failedLogIsNotAcknowledgedWithTheBatch() throws IOException {
+    Message firstLog = message(RequestType.LOG);
+    Message secondLog = message(RequestType.LOG);
+    doAnswer(invocation -> {
+      BiConsumer<Message, RuntimeException> onFailure = invocation.getArgument(1);
+      onFailure.accept(firstLog, new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "log"));
+      return null;
+    }).when(logBatchMessageHandler).handleMessages(anyList(), any());
+    when(channel.isOpen()).thenReturn(true);
+
+    consumer.onMessageBatch(List.of(firstLog, secondLog), channel);
+
+    verify(errorHandler).handleError(any());
+    verify(channel, times(1)).basicAck(firstLog.getMessageProperties().getDeliveryTag(), false);
+    verify(channel, times(1)).basicAck(secondLog.getMessageProperties().getDeliveryTag(), false);
+    verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+  }
+
+  @Test
+  void unexpectedBatchFailureFailsEveryLogOfTheGroup() {
+    Message firstLog = message(RequestType.LOG);
+    Message secondLog = message(RequestType.LOG);
+    doThrow(new IllegalStateException()).when(logBatchMessageHandler)
+        .handleMessages(anyList(), any());
+    when(channel.isOpen()).thenReturn(true);
+
+    consumer.onMessageBatch(List.of(firstLog, secondLog), channel);
+
+    ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+    verify(errorHandler, times(2))
+        .handleError(captor.capture());
+    assertEquals(List.of(firstLog, secondLog), captor.getAllValues().stream()
+        .map(t -> ((ListenerExecutionFailedException) t).getFailedMessage()).toList());
+  }
+
+  @Test
+  void messageWithInvalidRequestTypeIsRejectedAlone() throws IOException {
+    Message firstLog = message(RequestType.LOG);
+    Message invalid = message(RequestType.LOG);
+    invalid.getMessageProperties().setHeader(MessageHeaders.REQUEST_TYPE, "UNKNOWN");
+    Message secondLog = message(RequestType.LOG);
+    when(channel.isOpen()).thenReturn(true);
+
+    consumer.onMessageBatch(List.of(firstLog, invalid, secondLog), channel);
+
+    ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+    verify(errorHandler).handleError(captor.capture());
+    assertSame(invalid,
+        ((ListenerExecutionFailedException) captor.getValue()).getFailedMessage());
+    InOrder inOrder = inOrder(logBatchMessageHandler);
+    inOrder.verify(logBatchMessageHandler).handleMessages(eq(List.of(firstLog)), any());
+    inOrder.verify(logBatchMessageHandler).handleMessages(eq(List.of(secondLog)), any());
+    verify(channel, times(3)).basicAck(anyLong(), eq(false));
+  }
+
+  private Message message(RequestType requestType) {
+    MessageProperties properties = new MessageProperties();
+    properties.setHeader(MessageHeaders.REQUEST_TYPE, requestType.name());
+    properties.setDeliveryTag(++deliveryTag);
+    return new Message(new byte[0], properties);
+  }
+}
@@ -0,0 +1,225 @@
+package com.epam.reportportal.base.reporting.async.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.base.infrastructure.rules.exception.ReportPortalException;
+import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
+import com.epam.reportportal.base.reporting.async.config.RequestType;
+import com.epam.reportportal.base.reporting.async.handler.ReportingMessageHandler;
+import com.epam.reportportal.base.reporting.async.handler.provider.ReportingHandlerProvider;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.util.ErrorHandler;
+
+@ExtendWith(MockitoExtension.class)
+class ReportingConsumerTest {
+
+  private static final String LAUNCH_UUID = "launch";
+
+  @Mock
+  private ReportingHandlerProvider handlerProvider;
+
+  @Mock
+  private ReportingMessageHandler startItemHandler;
+
+  @Mock
+  private ReportingMessageHandler logHandler;
+
+  @Mock
+  private ErrorHandler errorHandler;
+
+  @Mock
+  private Channel channel;
+
+  private final Set<String> createdItems = new HashSet<>();
+
+  private long deliveryTag;
+
+  @Test
+  void messagesAreReleasedAfterTheirParentIsCreated() throws IOException {
+    mockItemStart();
+    when(handlerProvider.provideHandler(RequestType.LOG)).thenReturn(Optional.of(logHandler));
+    doAnswer(invocation -> {
+      requireItem(header(invocation.getArgument(0), MessageHeaders.ITEM_ID));
+      return null;
+    }).when(logHandler).handleMessage(any());
+    ReportingConsumer consumer = new ReportingConsumer(handlerProvider,
+        new ReportingReorderBuffer(10, 60_000), errorHandler);
+
+    Message stepLog = log("step");
+    Message step = startItem("step", "test");
+    Message test = startItem("test", "suite");
+    Message suite = startItem("suite", "");
+
+    consumer.onMessage(stepLog, channel);
+    consumer.onMessage(step, channel);
+    consumer.onMessage(test, channel);
+    consumer.onMessage(suite, channel);
+
+    InOrder inOrder = inOrder(startItemHandler, logHandler);
+    inOrder.verify(startItemHandler).handleMessage(suite);
+    inOrder.verify(startItemHandler).handleMessage(test);
+    inOrder.verify(startItemHandler).handleMessage(step);
+    inOrder.verify(logHandler).handleMessage(stepLog);
+    assertEquals(Set.of("suite", "test", "step"), createdItems);
+    verify(errorHandler, never()).handleError(any());
+    verify(channel, times(4)).basicAck(anyLong(), eq(false));
+  }
+
+  @Test
+  void heldMessageIsAcknowledgedOnlyAfterItIsProcessed() throws IOException {
+    mockItemStart();
+    ReportingConsumer consumer = new ReportingConsumer(handlerProvider,
+        new ReportingReorderBuffer(10, 60_000), errorHandler);
+    Message child = startItem("child", "parent");
+    Message parent = startItem("parent", "");
+
+    consumer.onMessage(child, channel);
+
+    verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+    consumer.onMessage(parent, channel);
+
+    InOrder inOrder = inOrder(channel);
+    inOrder.verify(channel).basicAck(deliveryTag(parent), false);
+    inOrder.verify(channel).basicAck(deliveryTag(child), false);
+  }
+
+  @Test
+  void messageIsPassedToErrorHandlerWhenBufferIsFull() throws IOException {
+    mockItemStart();
+    when(channel.isOpen()).thenReturn(true);
+    ReportingConsumer consumer = new ReportingConsumer(handlerProvider,
+        new ReportingReorderBuffer(1, 60_000), errorHandler);
+
+    consumer.onMessage(startItem("first", "parent"), channel);
+    Message second = startItem("second", "parent");
+    consumer.onMessage(second, channel);
+
+    ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+    verify(errorHandler).handleError(captor.capture());
+    assertSame(second, ((ListenerExecutionFailedException) captor.getValue()).getFailedMessage());
+    verify(channel).basicAck(deliveryTag(second), false);
+  }
+
+  @Test
+  void expiredMessagesArePassedToErrorHandlerIndependently() throws IOException {
+    when(channel.isOpen()).thenReturn(true);
+    doThrow(new IllegalStateException("Connection is closed")).doNothing().when(errorHandler)
+        .handleError(any());
+    ReportingReorderBuffer reorderBuffer = new ReportingReorderBuffer(10, 0);
+    ReportingConsumer consumer = new ReportingConsumer(handlerProvider, reorderBuffer,
+        errorHandler);
+    Message first = startItem("first", "parent");
+    Message second = startItem("second", "parent");
+    RuntimeException cause = new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, "parent");
+    reorderBuffer.hold("parent", first, channel, cause);
+    reorderBuffer.hold("parent", second, channel, cause);
+
+    consumer.expireHeld();
+
+    verify(errorHandler, times(2)).handleError(any());
+    verify(channel).basicNack(deliveryTag(first), false, true);
+    verify(channel).basicAck(deliveryTag(second), false);
+  }
+
+  @Test
+  void expiredMessagesOfClosedChannelAreNotRerouted() {
+    mockItemStart();
+    when(channel.isOpen()).thenReturn(false);
+    ReportingConsumer consumer = new ReportingConsumer(handlerProvider,
+        new ReportingReorderBuffer(10, 0), errorHandler);
+
+    consumer.onMessage(startItem("first", "parent"), channel);
+    consumer.expireHeld();
+
+    verify(errorHandler, never()).handleError(any());
+  }
+
+  @Test
+  void notRetryableFailureIsNotHeld() {
+    when(channel.isOpen()).thenReturn(true);
+    Message message = startItem("item", "");
+    when(handlerProvider.provideHandler(RequestType.START_TEST)).thenReturn(
+        Optional.of(startItemHandler));
+    doThrow(new ReportPortalException(ErrorType.ACCESS_DENIED)).when(startItemHandler)
+        .handleMessage(message);
+    ReportingConsumer consumer = new ReportingConsumer(handlerProvider,
+        new ReportingReorderBuffer(10, 60_000), errorHandler);
+
+    consumer.onMessage(message, channel);
+
+    verify(errorHandler).handleError(any());
+  }
+
+  private void mockItemStart() {
+    when(handlerProvider.provideHandler(RequestType.START_TEST)).thenReturn(
+        Optional.of(startItemHandler));
+    doAnswer(invocation -> {
+      Message message = invocation.getArgument(0);
+      requireItem(header(message, MessageHeaders.PARENT_ITEM_ID));
+      createdItems.add(header(message, MessageHeaders.ITEM_ID));
+      return null;
+    }).when(startItemHandler).handleMessage(any());
+  }
+
+  private void requireItem(String uuid) {
+    if (!uuid.isEmpty() && !createdItems.contains(uuid)) {
+      throw new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, uuid);
+    }
+  }
+
+  private Message startItem(String uuid, String parentUuid) {
+    Message message = message(RequestType.START_TEST);
+    message.getMessageProperties().setHeader(MessageHeaders.ITEM_ID, uuid);
+    message.getMessageProperties().setHeader(MessageHeaders.PARENT_ITEM_ID, parentUuid);
+    return message;
+  }
+
+  private Message log(String itemUuid) {
+    Message message = message(RequestType.LOG);
+    message.getMessageProperties().setHeader(MessageHeaders.ITEM_ID, itemUuid);
+    return message;
+  }
+
+  private Message message(RequestType requestType) {
+    MessageProperties properties = new MessageProperties();
+    properties.setHeader(MessageHeaders.REQUEST_TYPE, requestType.name());
+    properties.setHeader(MessageHeaders.HASH_ON, LAUNCH_UUID);
+    properties.setDeliveryTag(++deliveryTag);
+    return new Message(new byte[0], properties);
+  }
+
+  private long deliveryTag(Message message) {
+    return message.getMessageProperties().getDeliveryTag();
+  }
+
+  private String header(Message message, String name) {
+    return message.getMessageProperties().getHeader(name);
+  }
+}
@@ -0,0 +1,122 @@
+package com.epam.reportportal.base.reporting.async.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
+import com.epam.reportportal.base.reporting.async.config.RequestType;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+
+class ReportingLaneConsumerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final Channel channel = mock(Channel.class);
+
+  private final MockClock clock = new MockClock();
+
+  private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  void launchesAreProcessedConcurrentlyInArrivalOrder() {
+    CountDownLatch bothLanesStarted = new CountDownLatch(2);
+    List<Message> processed = Collections.synchronizedList(new ArrayList<>());
+    ChannelAwareBatchMessageListener laneListener = (lane, laneChannel) -> {
+      bothLanesStarted.countDown();
+      try {
+        // every lane waits for another one, so it fails if lanes are processed sequentially
+        if (!bothLanesStarted.await(5, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Lanes are not processed concurrently");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      processed.addAll(lane);
+    };
+    ReportingLaneConsumer consumer = consumer(laneListener, 1, 8);
+
+    Message firstA = message("a");
+    Message firstB = message("b");
+    Message secondA = message("a");
+    Message secondB = message("b");
+    consumer.onMessageBatch(List.of(firstA, firstB, secondA, secondB), channel);
+
+    assertEquals(4, processed.size());
+    assertEquals(List.of(firstA, secondA),
+        processed.stream().filter(m -> key(m).equals("a")).toList());
+    assertEquals(List.of(firstB, secondB),
+        processed.stream().filter(m -> key(m).equals("b")).toList());
+    assertEquals(2.0, meterRegistry.get("rp.reporting.queue.lanes").gauge().value());
+    assertEquals(4.0, meterRegistry.get("rp.reporting.queue.messages").counter().count());
+  }
+
+  @Test
+  void laneFailureIsPropagated() {
+    ReportingLaneConsumer consumer = consumer((lane, laneChannel) -> {
+      if (key(lane.get(0)).equals("b")) {
+        throw new IllegalStateException();
+      }
+    }, 1, 8);
+
+    assertThrows(IllegalStateException.class,
+        () -> consumer.onMessageBatch(List.of(message("a"), message("b")), channel));
+  }
+
+  @Test
+  void batchSizeFollowsBacklog() {
+    ReportingLaneConsumer consumer = consumer((lane, laneChannel) -> {
+    }, 1, 8);
+
+    // full batches received one by one without waiting
+    consumer.onMessageBatch(messages(1), channel);
+    consumer.onMessageBatch(messages(2), channel);
+    consumer.onMessageBatch(messages(4), channel);
+    consumer.onMessageBatch(messages(8), channel);
+    assertEquals(8, consumer.getBatchSize());
+
+    // backlog is drained
+    consumer.onMessageBatch(messages(3), channel);
+    consumer.onMessageBatch(messages(1), channel);
+    assertEquals(2, consumer.getBatchSize());
+
+    // a full batch received after an idle period is not a backlog
+    clock.add(20, TimeUnit.MILLISECONDS);
+    consumer.onMessageBatch(messages(2), channel);
+    assertEquals(2, consumer.getBatchSize());
+    assertEquals(List.of(2, 4, 8, 4, 2), batchSizes);
+  }
+
+  private ReportingLaneConsumer consumer(ChannelAwareBatchMessageListener laneListener, int min, int max) {
+    return new ReportingLaneConsumer(laneListener, Executors.newVirtualThreadPerTaskExecutor(),
+        batchSizes::add, min, max, "q.reporting.test.0", meterRegistry, clock);
+  }
+
+  private List<Message> messages(int count) {
+    return IntStream.range(0, count).mapToObj(i -> message("launch")).toList();
+  }
+
+  private Message message(String launchUuid) {
+    MessageProperties properties = new MessageProperties();
+    properties.setHeader(MessageHeaders.REQUEST_TYPE, RequestType.LOG.name());
+    properties.setHeader(MessageHeaders.HASH_ON, launchUuid);
+    return new Message(new byte[0], properties);
+  }
+
+  private String key(Message message) {
+    return message.getMessageProperties().getHeader(MessageHeaders.HASH_ON);
+  }
+}
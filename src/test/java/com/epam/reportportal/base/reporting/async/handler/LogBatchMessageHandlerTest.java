@@ -0,0 +1,115 @@
+package com.epam.reportportal.base.reporting.async.handler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.base.core.item.TestItemService;
+import com.epam.reportportal.base.core.log.LogService;
+import com.epam.reportportal.base.infrastructure.persistence.binary.AttachmentBinaryDataService;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.LogRepository;
+import com.epam.reportportal.base.infrastructure.persistence.dao.TestItemRepository;
+import com.epam.reportportal.base.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.base.infrastructure.persistence.service.LogTypeResolver;
+import com.epam.reportportal.base.reporting.async.config.MessageHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+@ExtendWith(MockitoExtension.class)
+class LogBatchMessageHandlerTest {
+
+  @Mock
+  private LaunchRepository launchRepository;
+
+  @Mock
+  private TestItemRepository testItemRepository;
+
+  @Mock
+  private LogRepository logRepository;
+
+  @Mock
+  private TestItemService testItemService;
+
+  @Mock
+  private AttachmentBinaryDataService attachmentBinaryDataService;
+
+  @Mock
+  private LogService logService;
+
+  @Mock
+  private LogTypeResolver logTypeResolver;
+
+  @Mock
+  private LogMessageHandler logMessageHandler;
+
+  @Mock
+  private BiConsumer<Message, RuntimeException> onFailure;
+
+  private LogBatchMessageHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new LogBatchMessageHandler(launchRepository, testItemRepository, logRepository,
+        testItemService, attachmentBinaryDataService, logService, new ObjectMapper(),
+        logTypeResolver, logMessageHandler);
+    Launch launch = new Launch();
+    launch.setId(1L);
+    launch.setUuid("launch");
+    when(launchRepository.findAllByUuidIn(Set.of("launch"))).thenReturn(List.of(launch));
+  }
+
+  @Test
+  void persistedLogsAreNotFailedWhenIndexingFails() {
+    Message first = message("first");
+    Message second = message("second");
+    when(logRepository.saveMultiple(anyList())).thenReturn(2);
+    doThrow(new IllegalStateException("unavailable")).when(logService)
+        .saveLogMessageList(anyList(), eq(1L));
+
+    handler.handleMessages(List.of(first, second), onFailure);
+
+    verify(logService).saveLogMessageList(anyList(), eq(1L));
+    verify(onFailure, never()).accept(any(), any());
+    verifyNoInteractions(logMessageHandler);
+  }
+
+  @Test
+  void logsAreSavedOneByOneWhenBatchInsertFails() {
+    Message first = message("first");
+    Message second = message("second");
+    when(logRepository.saveMultiple(anyList())).thenThrow(new IllegalStateException("insert"));
+    RuntimeException failure = new IllegalStateException("item");
+    doThrow(failure).when(logMessageHandler).handleMessage(second);
+
+    handler.handleMessages(List.of(first, second), onFailure);
+
+    verify(logMessageHandler).handleMessage(first);
+    verify(onFailure).accept(second, failure);
+    verify(onFailure, never()).accept(eq(first), any());
+    verifyNoInteractions(logService);
+  }
+
+  private Message message(String text) {
+    MessageProperties properties = new MessageProperties();
+    properties.setHeader(MessageHeaders.PROJECT_ID, 2L);
+    String body = "{\"left\":{\"launchUuid\":\"launch\",\"time\":\"1700000000000\",\"message\":\""
+        + text + "\",\"level\":\"info\"},\"right\":null}";
+    return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+  }
+}
@@ -23,6 +23,7 @@ import static java.util.stream.Collectors.toMap;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -33,6 +34,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.epam.reportportal.base.core.launch.delete.LaunchDeletionService;
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.Filter;
 import com.epam.reportportal.base.infrastructure.persistence.commons.querygen.FilterCondition;
 import com.epam.reportportal.base.infrastructure.persistence.dao.LaunchRepository;
@@ -66,6 +68,7 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -79,6 +82,9 @@ class LaunchControllerTest extends BaseMvcTest {
   @Autowired
   private LaunchRepository launchRepository;
 
+  @Autowired
+  private LaunchDeletionService launchDeletionService;
+
   @Test
   void happyCreateLaunch() throws Exception {
     String name = "some launch name";
@@ -287,12 +293,29 @@ class LaunchControllerTest extends BaseMvcTest {
     DeleteBulkRQ deleteBulkRQ = new DeleteBulkRQ();
     List<Long> ids = Lists.newArrayList(1L, 2L);
     deleteBulkRQ.setIds(ids);
-    mockMvc.perform(delete(DEFAULT_PROJECT_BASE_URL + "/launch").contentType(APPLICATION_JSON)
-            .with(token(oAuthHelper.getDefaultToken()))
-            .param("ids", "1", "2"))
-        .andExpect(status().is(200));
-    List<Launch> launches = launchRepository.findAllById(ids);
-    assertTrue(launches.isEmpty());
+    MvcResult result = mockMvc.perform(
+            delete(DEFAULT_PROJECT_BASE_URL + "/launch").contentType(APPLICATION_JSON)
+                .with(token(oAuthHelper.getDefaultToken()))
+                .param("ids", "1", "2"))
+        .andExpect(status().is(200))
+        .andExpect(jsonPath("$.accepted", hasSize(2)))
+        .andExpect(jsonPath("$.jobId").exists())
+        .andReturn();
+    String jobId = objectMapper.readTree(result.getResponse().getContentAsString())
+        .get("jobId").asText();
+    assertTrue(launchDeletionService.isDeleting(1L));
+
+    // the job is started after commit, which never happens for the test transaction
+    launchDeletionService.process(jobId);
+    assertTrue(launchRepository.findAllById(ids).isEmpty());
+    assertFalse(launchDeletionService.isDeleting(1L));
+  }
+
+  @Test
+  void getNotExistingDeletionStatus() throws Exception {
+    mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/launch/deletion/not-existing")
+            .with(token(oAuthHelper.getDefaultToken())))
+        .andExpect(status().isNotFound());
   }
 
   @Test
@@ -18,6 +18,10 @@ package com.epam.reportportal.base.ws.rabbit;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -29,6 +33,10 @@ import com.epam.reportportal.base.infrastructure.persistence.dao.ActivityReposit
 import com.epam.reportportal.base.infrastructure.persistence.entity.activity.Activity;
 import com.epam.reportportal.base.infrastructure.persistence.entity.activity.ActivityDetails;
 import com.epam.reportportal.base.ws.rabbit.activity.converter.EventConverterRegistry;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +44,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -49,6 +61,14 @@ class ActivityConsumerTest {
   @Mock
   private EventConverterRegistry converterRegistry;
 
+  @Mock
+  private MessageConverter messageConverter;
+
+  @Mock
+  private Channel channel;
+
+  private long deliveryTag;
+
   @InjectMocks
   private ActivityConsumer activityConsumer;
 
@@ -143,4 +163,104 @@ class ActivityConsumerTest {
     // then
     verifyNoInteractions(activityRepository);
   }
+
+  @Test
+  void onEventsThenSavesBatchBySingleInsert() {
+    // given
+    Activity first = savedActivity(1L);
+    Activity second = savedActivity(2L);
+    ProjectCreatedEvent firstEvent = new ProjectCreatedEvent(1L, "username", 1L, "First", 1L);
+    ProjectCreatedEvent secondEvent = new ProjectCreatedEvent(1L, "username", 2L, "Second", 1L);
+    GenerateWidgetViewEvent skippedEvent = new GenerateWidgetViewEvent(1L);
+    when(converterRegistry.convert(firstEvent)).thenReturn(Optional.of(first));
+    when(converterRegistry.convert(secondEvent)).thenReturn(Optional.of(second));
+    when(converterRegistry.convert(skippedEvent)).thenReturn(Optional.empty());
+
+    // when
+    activityConsumer.onEvents(
+        Arrays.asList(message(firstEvent), message(null), message(skippedEvent),
+            message(secondEvent)), channel);
+
+    // then
+    verify(activityRepository, times(1)).saveMultiple(List.of(first, second));
+    verify(activityRepository, never()).save(any(Activity.class));
+    assertNotNull(first.getDetails());
+    assertNotNull(second.getDetails());
+  }
+
+  @Test
+  void onEventsWhenBatchInsertFailsThenSavesOneByOne() {
+    // given
+    Activity first = savedActivity(1L);
+    Activity second = savedActivity(2L);
+    ProjectCreatedEvent firstEvent = new ProjectCreatedEvent(1L, "username", 1L, "First", 1L);
+    ProjectCreatedEvent secondEvent = new ProjectCreatedEvent(1L, "username", 2L, "Second", 1L);
+    when(converterRegistry.convert(firstEvent)).thenReturn(Optional.of(first));
+    when(converterRegistry.convert(secondEvent)).thenReturn(Optional.of(second));
+    when(activityRepository.saveMultiple(anyList())).thenThrow(new RuntimeException("broken"));
+    when(activityRepository.save(first)).thenThrow(new RuntimeException("broken"));
+
+    // when
+    activityConsumer.onEvents(List.of(message(firstEvent), message(secondEvent)), channel);
+
+    // then
+    verify(activityRepository, times(1)).save(first);
+    verify(activityRepository, times(1)).save(second);
+  }
+
+  @Test
+  void onEventsWhenNothingToSaveThenNoProcessing() {
+    // given
+    GenerateWidgetViewEvent event = new GenerateWidgetViewEvent(1L);
+    when(converterRegistry.convert(event)).thenThrow(new RuntimeException("broken"));
+
+    // when
+    activityConsumer.onEvents(List.of(message(event)), channel);
+
+    // then
+    verifyNoInteractions(activityRepository);
+  }
+
+  @Test
+  void onEventsWhenMessageIsNotConvertedThenRejectsOnlyIt() throws IOException {
+    // given
+    Activity first = savedActivity(1L);
+    Activity second = savedActivity(2L);
+    ProjectCreatedEvent firstEvent = new ProjectCreatedEvent(1L, "username", 1L, "First", 1L);
+    ProjectCreatedEvent secondEvent = new ProjectCreatedEvent(1L, "username", 2L, "Second", 1L);
+    when(converterRegistry.convert(firstEvent)).thenReturn(Optional.of(first));
+    when(converterRegistry.convert(secondEvent)).thenReturn(Optional.of(second));
+    Message firstMessage = message(firstEvent);
+    Message brokenMessage = message(null);
+    Message secondMessage = message(secondEvent);
+    when(messageConverter.fromMessage(brokenMessage)).thenThrow(
+        new MessageConversionException("broken"));
+
+    // when
+    activityConsumer.onEvents(List.of(firstMessage, brokenMessage, secondMessage), channel);
+
+    // then
+    verify(activityRepository, times(1)).saveMultiple(List.of(first, second));
+    verify(channel).basicAck(firstMessage.getMessageProperties().getDeliveryTag(), false);
+    verify(channel).basicReject(brokenMessage.getMessageProperties().getDeliveryTag(), false);
+    verify(channel).basicAck(secondMessage.getMessageProperties().getDeliveryTag(), false);
+  }
+
+  private Message message(Object event) {
+    MessageProperties properties = new MessageProperties();
+    properties.setDeliveryTag(++deliveryTag);
+    Message message = new Message(new byte[0], properties);
+    lenient().when(messageConverter.fromMessage(message)).thenReturn(event);
+    return message;
+  }
+
+  private Activity savedActivity(Long objectId) {
+    Activity activity = new Activity();
+    activity.setSubjectId(1L);
+    activity.setProjectId(2L);
+    activity.setSubjectName("username");
+    activity.setObjectId(objectId);
+    activity.setSavedEvent(true);
+    return activity;
+  }
 }
@@ -0,0 +1,101 @@
+INSERT INTO public.launch (id, uuid, project_id, user_id, name, description, start_time, end_time,
+                           number, last_modified, mode, status, has_retries, rerun,
+                           approximate_duration)
+VALUES (20, 'a1f6bc8e-2bc4-4d3a-a1cf-0d5c35c0c2a1', 1, 1, 'in_progress_launch', null,
+        '2020-02-12 16:17:58.041000', null, 1, '2020-02-12 16:17:58.041000', 'DEFAULT',
+        'IN_PROGRESS', false, false, 0);
+
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (200, 'de927f41-92f1-5bbd-9573-6fa05dca059a', 'item 200', null, 'SUITE', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200', 'auto:de927f4192f15bbd95736fa05dca059a', null, true, false,
+        true, null, null, 20, 200);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (201, '896ac1c7-7b24-540b-8469-410e8f71608c', 'item 201', null, 'TEST', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.201', 'auto:896ac1c77b24540b8469410e8f71608c', null, true, false,
+        true, 200, null, 20, 201);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (202, '0f98813b-d089-58a7-a7d6-eadf505310f3', 'item 202', null, 'STEP', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.201.202', 'auto:0f98813bd08958a7a7d6eadf505310f3', null, false, false,
+        true, 201, null, 20, 202);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (203, '9acc7832-70ea-5be8-a886-29812e3e7d48', 'item 203', null, 'STEP', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.201.203', 'auto:9acc783270ea5be8a88629812e3e7d48', null, false, false,
+        true, 201, null, 20, 203);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (204, 'e731cd9d-be8a-5af7-b146-e46fa0f6cd78', 'item 204', null, 'STEP', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.201.204', 'auto:e731cd9dbe8a5af7b146e46fa0f6cd78', null, false, false,
+        true, 201, null, 20, 204);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (205, '211de0d2-0917-51c4-9e1b-eed137dada13', 'item 205', null, 'TEST', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.205', 'auto:211de0d2091751c49e1beed137dada13', null, true, false,
+        true, 200, null, 20, 205);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (206, '0d850068-631b-5d0b-a9c2-ab4ec68d3133', 'item 206', null, 'STEP', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.205.206', 'auto:0d850068631b5d0ba9c2ab4ec68d3133', null, false, true,
+        true, 205, null, 20, 206);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (207, '0b2e1735-1302-52f6-b7dd-118e19c39f89', 'item 207', null, 'BEFORE_METHOD', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.205.207', 'auto:0b2e1735130252f6b7dd118e19c39f89', null, false, false,
+        true, 205, null, 20, 207);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (208, 'a4955021-2f60-5a3a-a01e-97e09b02f423', 'item 208', null, 'STEP', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.205.208', 'auto:a49550212f605a3aa01e97e09b02f423', null, false, false,
+        false, 205, null, 20, 208);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (209, 'cc87ba9d-f423-5f28-bb9b-1f10f6ce5ac0', 'item 209', null, 'STEP', '2020-02-12 16:17:58.701000', null,
+        '2020-02-12 16:17:58.701000', '200.205.209', 'auto:cc87ba9df4235f28bb9b1f10f6ce5ac0', null, false, false,
+        true, 205, 206, 20, 209);
+
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (200, 'IN_PROGRESS', null, null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (201, 'IN_PROGRESS', null, null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (202, 'IN_PROGRESS', null, null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (203, 'PASSED', '2020-02-12 16:17:59.027000', null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (204, 'IN_PROGRESS', null, null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (205, 'IN_PROGRESS', null, null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (206, 'PASSED', '2020-02-12 16:17:59.027000', null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (207, 'IN_PROGRESS', null, null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (208, 'IN_PROGRESS', null, null);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (209, 'FAILED', '2020-02-12 16:17:59.027000', null);
+
+INSERT INTO public.issue (issue_id, issue_type, issue_description, auto_analyzed, ignore_analyzer)
+VALUES (204, 2, null, false, false);
@@ -0,0 +1,12 @@
+INSERT INTO public.attachment (id, file_id, thumbnail_id, content_type, project_id, launch_id, item_id, file_size,
+                               creation_date, file_name)
+VALUES (3100, 'file-3100', null, 'text/plain', 1, 30, 301, 10, '2020-02-12 10:00:02.000000', 'first.txt');
+INSERT INTO public.attachment (id, file_id, thumbnail_id, content_type, project_id, launch_id, item_id, file_size,
+                               creation_date, file_name)
+VALUES (3101, 'file-3101', null, 'image/png', 1, 30, 301, 20, '2020-02-12 10:00:02.000000', 'second.png');
+INSERT INTO public.attachment (id, file_id, thumbnail_id, content_type, project_id, launch_id, item_id, file_size,
+                               creation_date, file_name)
+VALUES (3102, 'file-3102', null, 'text/plain', 1, 30, 302, 30, '2020-02-12 10:00:04.000000', 'third.txt');
+INSERT INTO public.attachment (id, file_id, thumbnail_id, content_type, project_id, launch_id, item_id, file_size,
+                               creation_date, file_name)
+VALUES (3103, 'file-3103', null, 'text/plain', 1, 30, 300, 40, '2020-02-12 10:00:00.000000', 'step.txt');
@@ -0,0 +1,73 @@
+INSERT INTO public.launch (id, uuid, project_id, user_id, name, description, start_time, end_time,
+                           number, last_modified, mode, status, has_retries, rerun,
+                           approximate_duration)
+VALUES (30, '0f3b1c1e-5d43-4c9b-9a3c-2d1f6c7e8a90', 1, 1, 'nested_steps_tree_launch', null,
+        '2020-02-12 10:00:00.000000', '2020-02-12 10:00:10.000000', 1, '2020-02-12 10:00:10.000000',
+        'DEFAULT', 'FAILED', false, false, 10);
+
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (300, 'd7aaba97-843f-52d9-ac98-3f763943ba68', 'step 300', null, 'STEP', '2020-02-12 10:00:00.000000', null,
+        '2020-02-12 10:00:10.000000', '300', 'auto:d7aaba97843f52d9ac983f763943ba68', null, true, false,
+        true, null, null, 30, 300);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (301, 'bbd71ad7-0e12-5c3e-a150-b209b76eada1', 'step 301', null, 'STEP', '2020-02-12 10:00:01.000000', null,
+        '2020-02-12 10:00:10.000000', '300.301', 'auto:bbd71ad70e125c3ea150b209b76eada1', null, true, false,
+        false, 300, null, 30, 301);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (302, '609207d7-7454-5629-bc3f-75b8d081c220', 'step 302', null, 'STEP', '2020-02-12 10:00:03.000000', null,
+        '2020-02-12 10:00:10.000000', '300.301.302', 'auto:609207d774545629bc3f75b8d081c220', null, false, false,
+        false, 301, null, 30, 302);
+INSERT INTO public.test_item (item_id, uuid, name, code_ref, type, start_time, description,
+                              last_modified, path, unique_id, test_case_id, has_children,
+                              has_retries, has_stats, parent_id, retry_of, launch_id,
+                              test_case_hash)
+VALUES (303, '7946d5f3-2339-5d46-b948-463e1bbdf42e', 'step 303', null, 'STEP', '2020-02-12 10:00:05.000000', null,
+        '2020-02-12 10:00:10.000000', '300.303', 'auto:7946d5f323395d46b948463e1bbdf42e', null, false, false,
+        false, 300, null, 30, 303);
+
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (300, 'FAILED', '2020-02-12 10:00:10.000000', 1);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (301, 'PASSED', '2020-02-12 10:00:10.000000', 1);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (302, 'FAILED', '2020-02-12 10:00:10.000000', 1);
+INSERT INTO public.test_item_results (result_id, status, end_time, duration)
+VALUES (303, 'PASSED', '2020-02-12 10:00:10.000000', 1);
+
+INSERT INTO public.log (id, uuid, log_time, log_message, item_id, launch_id, last_modified,
+                        log_level, attachment_id, project_id)
+VALUES (3000, 'bef23f48-631b-5c41-af32-5aa9dd908711', '2020-02-12 10:00:00.000000', 'log 3000', 300, null,
+        '2020-02-12 10:00:10.000000', 20000, null, 1);
+INSERT INTO public.log (id, uuid, log_time, log_message, item_id, launch_id, last_modified,
+                        log_level, attachment_id, project_id)
+VALUES (3001, '582db280-06a1-5179-b36c-e2bc27a089ce', '2020-02-12 10:00:02.000000', 'log 3001', 300, null,
+        '2020-02-12 10:00:10.000000', 20000, null, 1);
+INSERT INTO public.log (id, uuid, log_time, log_message, item_id, launch_id, last_modified,
+                        log_level, attachment_id, project_id)
+VALUES (3002, '806eee58-5c45-500f-b45f-3b739f08d4c7', '2020-02-12 10:00:04.000000', 'log 3002', 300, null,
+        '2020-02-12 10:00:10.000000', 40000, null, 1);
+INSERT INTO public.log (id, uuid, log_time, log_message, item_id, launch_id, last_modified,
+                        log_level, attachment_id, project_id)
+VALUES (3010, 'e0d90e99-915d-58ad-9e8f-ca92110aa320', '2020-02-12 10:00:02.000000', 'log 3010', 301, null,
+        '2020-02-12 10:00:10.000000', 20000, null, 1);
+INSERT INTO public.log (id, uuid, log_time, log_message, item_id, launch_id, last_modified,
+                        log_level, attachment_id, project_id)
+VALUES (3011, '996422ff-2c48-5a78-80d9-2bf8540608c3', '2020-02-12 10:00:04.000000', 'log 3011', 301, null,
+        '2020-02-12 10:00:10.000000', 20000, null, 1);
+INSERT INTO public.log (id, uuid, log_time, log_message, item_id, launch_id, last_modified,
+                        log_level, attachment_id, project_id)
+VALUES (3012, '75fabef5-df8b-5fc0-82b7-1cb64128172f', '2020-02-12 10:00:06.000000', 'log 3012', 301, null,
+        '2020-02-12 10:00:10.000000', 20000, null, 1);
+INSERT INTO public.log (id, uuid, log_time, log_message, item_id, launch_id, last_modified,
+                        log_level, attachment_id, project_id)
+VALUES (3020, 'c5c0b676-7e11-5654-a18e-572435541284', '2020-02-12 10:00:04.000000', 'log 3020', 302, null,
+        '2020-02-12 10:00:10.000000', 40000, null, 1);
@@ -0,0 +1,29 @@
+CREATE TABLE IF NOT EXISTS launch_deletion_job
+(
+    id              VARCHAR(36) PRIMARY KEY,
+    project_id      BIGINT      NOT NULL,
+    organization_id BIGINT,
+    user_id         BIGINT,
+    user_login      VARCHAR,
+    status          VARCHAR(16) NOT NULL,
+    start_time      TIMESTAMP   NOT NULL,
+    end_time        TIMESTAMP,
+    locked_by       VARCHAR,
+    lock_until      TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS launch_deletion_job_launch
+(
+    id          BIGSERIAL PRIMARY KEY,
+    job_id      VARCHAR(36) NOT NULL REFERENCES launch_deletion_job (id) ON DELETE CASCADE,
+    launch_id   BIGINT      NOT NULL,
+    launch_name VARCHAR,
+    status      VARCHAR(16) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS launch_deletion_job_launch_job_idx
+    ON launch_deletion_job_launch (job_id);
+
+-- a launch can be deleted only by a single job at a time
+CREATE UNIQUE INDEX IF NOT EXISTS launch_deletion_job_launch_deleting_uniq
+    ON launch_deletion_job_launch (launch_id) WHERE status = 'DELETING';
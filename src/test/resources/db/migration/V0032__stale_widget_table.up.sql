@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS stale_widget_table
+(
+    id            BIGSERIAL PRIMARY KEY,
+    name          VARCHAR   NOT NULL,
+    creation_date TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS stale_widget_table_creation_date_idx
+    ON stale_widget_table (creation_date);